@@ -1,63 +1,48 @@
-//package com.spacedlearning.config.cache;
-//
-//import java.time.Duration;
-//import java.util.Arrays;
-//
-//import org.springframework.cache.CacheManager;
-//import org.springframework.cache.annotation.EnableCaching;
-//import org.springframework.cache.caffeine.CaffeineCacheManager;
-//import org.springframework.context.annotation.Bean;
-//import org.springframework.context.annotation.Configuration;
-//import org.springframework.context.annotation.Primary;
-//
-//import com.github.benmanes.caffeine.cache.Caffeine;
-//
-//@Configuration
-//@EnableCaching
-//public class CacheConfig {
-//
-//	private static final String CACHE_MANAGER = "CACHE_MANAGER";
-//	private static final String PUBLIC_MODULES_CACHE_MANAGER = "PUBLIC_MODULES_CACHE_MANAGER";
-//	private static final String RECENT_MODULES_CACHE_MANAGER = "RECENT_MODULES_CACHE_MANAGER";
-//
-//	@Primary
-//	@Bean(name = CACHE_MANAGER)
-//	CacheManager cacheManager() {
-//        final CaffeineCacheManager cacheManager = new CaffeineCacheManager();
-//
-//        // Configure cache names`
-//        cacheManager
-//            .setCacheNames(
-//						Arrays.asList("publicModules", "recentModules", "moduleStatistics", "folders",
-//								"vocabularyCounts", "books", "modules", "bookCategories", "userModuleProgress",
-//								"moduleProgress"));
-//
-//        // Default cache configuration
-//        cacheManager.setCaffeine(caffeineCacheBuilder());
-//
-//        return cacheManager;
-//    }
-//
-//    @Bean
-//	Caffeine<Object, Object> caffeineCacheBuilder() {
-//        return Caffeine.newBuilder().expireAfterWrite(Duration.ofMinutes(30)).maximumSize(1000);
-//    }
-//
-//    /**
-//     * Custom cache configurations can be defined as separate cache managers if
-//     * needed
-//     */
-//	@Bean(name = PUBLIC_MODULES_CACHE_MANAGER)
-//	CacheManager publicModulesCacheManager() {
-//        final CaffeineCacheManager cacheManager = new CaffeineCacheManager("publicModules");
-//        cacheManager.setCaffeine(Caffeine.newBuilder().expireAfterWrite(Duration.ofHours(1)).maximumSize(200));
-//        return cacheManager;
-//    }
-//
-//	@Bean(name = RECENT_MODULES_CACHE_MANAGER)
-//	CacheManager recentModulesCacheManager() {
-//        final CaffeineCacheManager cacheManager = new CaffeineCacheManager("recentModules");
-//        cacheManager.setCaffeine(Caffeine.newBuilder().expireAfterWrite(Duration.ofMinutes(15)).maximumSize(500));
-//        return cacheManager;
-//    }
-//}
\ No newline at end of file
+package com.spacedlearning.config.cache;
+
+import java.time.Duration;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+/**
+ * Node-local Caffeine caches. Entries are evicted across nodes by
+ * {@link CacheInvalidationBus}; the time-to-live only bounds staleness while
+ * a node's invalidation listener is reconnecting.
+ */
+@Configuration
+@EnableCaching
+public class CacheConfig {
+
+    public static final String BOOK_CATEGORIES = "bookCategories";
+    public static final String BOOK_MODULES = "bookModules";
+    public static final String SCHEDULE_PARAMETERS = "scheduleParameters";
+    public static final String USERS = "users";
+
+    private static final String CACHE_MANAGER = "CACHE_MANAGER";
+
+    @Value("${app.cache.ttl-minutes:30}")
+    private long ttlMinutes;
+
+    @Value("${app.cache.maximum-size:1000}")
+    private long maximumSize;
+
+    @Primary
+    @Bean(name = CACHE_MANAGER)
+    CacheManager cacheManager() {
+        final var cacheManager = new CaffeineCacheManager();
+        cacheManager.setCacheNames(List.of(BOOK_CATEGORIES, BOOK_MODULES, SCHEDULE_PARAMETERS, USERS));
+        cacheManager.setCaffeine(Caffeine.newBuilder()
+                .expireAfterWrite(Duration.ofMinutes(this.ttlMinutes))
+                .maximumSize(this.maximumSize));
+        return cacheManager;
+    }
+}
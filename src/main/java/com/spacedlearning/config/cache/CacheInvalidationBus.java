@@ -0,0 +1,313 @@
+package com.spacedlearning.config.cache;
+
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.regex.Pattern;
+
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.spacedlearning.event.CacheInvalidationEvent;
+
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Keeps the node-local caches coherent across API instances through Postgres
+ * LISTEN/NOTIFY.
+ * <p>
+ * Invalidations raised in a transaction are collected and coalesced into one
+ * {@code pg_notify} issued just before commit; Postgres delivers it only if
+ * the transaction commits, together with the data change. The writing node
+ * evicts its own entries after commit. Every node holds one dedicated
+ * connection that LISTENs on the channel and evicts what the other nodes
+ * announce, applying all notifications that arrived together as one batch.
+ * Notifications sent while a node is not listening are lost, so the node
+ * clears all of its caches whenever it (re)connects.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class CacheInvalidationBus {
+
+    private static final Pattern CHANNEL_NAME = Pattern.compile("[a-z_][a-z0-9_]*");
+    // Postgres rejects payloads of 8000 bytes or more
+    private static final int MAX_PAYLOAD_LENGTH = 7900;
+    private static final String WHOLE_CACHE = "*";
+
+    private final CacheManager cacheManager;
+    private final DataSourceProperties dataSourceProperties;
+    private final JdbcTemplate jdbcTemplate;
+
+    private final String nodeId = UUID.randomUUID().toString();
+    private volatile boolean running;
+    private Thread listener;
+
+    @Value("${app.cache.invalidation.enabled:true}")
+    private boolean enabled;
+
+    @Value("${app.cache.invalidation.channel:cache_invalidation}")
+    private String channel;
+
+    @Value("${app.cache.invalidation.max-keys-per-cache:64}")
+    private int maxKeysPerCache;
+
+    @Value("${app.cache.invalidation.poll-timeout-ms:500}")
+    private int pollTimeoutMs;
+
+    @Value("${app.cache.invalidation.keepalive-ms:30000}")
+    private long keepaliveMs;
+
+    @Value("${app.cache.invalidation.reconnect-delay-ms:5000}")
+    private long reconnectDelayMs;
+
+    /**
+     * Collect an invalidation into the current transaction's batch, or apply
+     * and publish it straight away when no transaction is active.
+     */
+    @EventListener
+    public void onInvalidation(CacheInvalidationEvent event) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            final var batch = new Batch();
+            batch.add(event.cacheName(), event.key());
+            evictLocally(batch);
+            try {
+                publish(batch);
+            } catch (final RuntimeException e) {
+                log.warn("Failed to publish cache invalidation for {}: {}", event.cacheName(), e.getMessage());
+            }
+            return;
+        }
+
+        final var synchronization = TransactionSynchronizationManager.getSynchronizations().stream()
+                .filter(BatchSynchronization.class::isInstance)
+                .map(BatchSynchronization.class::cast)
+                .findFirst()
+                .orElseGet(() -> {
+                    final var created = new BatchSynchronization();
+                    TransactionSynchronizationManager.registerSynchronization(created);
+                    return created;
+                });
+        synchronization.batch.add(event.cacheName(), event.key());
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (!this.enabled) {
+            log.info("Cross-node cache invalidation is disabled; caches are evicted on this node only");
+            return;
+        }
+        if (!CHANNEL_NAME.matcher(this.channel).matches()) {
+            throw new IllegalStateException("Invalid cache invalidation channel: " + this.channel);
+        }
+
+        final var threadFactory = new CustomizableThreadFactory("cache-invalidation-");
+        threadFactory.setDaemon(true);
+        this.running = true;
+        this.listener = threadFactory.newThread(this::listen);
+        this.listener.start();
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        this.running = false;
+        if (this.listener != null) {
+            this.listener.interrupt();
+            this.listener.join(this.pollTimeoutMs * 2L);
+        }
+    }
+
+    private void apply(PGNotification[] notifications) {
+        final var batch = new Batch();
+        for (final PGNotification notification : notifications) {
+            final var payload = notification.getParameter();
+            final var separator = payload.indexOf(';');
+            if ((separator < 0) || payload.substring(0, separator).equals(this.nodeId)) {
+                continue;
+            }
+            for (final String entry : payload.substring(separator + 1).split(",")) {
+                final var colon = entry.lastIndexOf(':');
+                if (colon <= 0) {
+                    continue;
+                }
+                final var value = entry.substring(colon + 1);
+                try {
+                    batch.add(entry.substring(0, colon), WHOLE_CACHE.equals(value) ? null : UUID.fromString(value));
+                } catch (final IllegalArgumentException e) {
+                    log.debug("Ignoring malformed cache invalidation entry: {}", entry);
+                }
+            }
+        }
+        evictLocally(batch);
+    }
+
+    private void clearAll() {
+        for (final String name : this.cacheManager.getCacheNames()) {
+            final var cache = this.cacheManager.getCache(name);
+            if (cache != null) {
+                cache.clear();
+            }
+        }
+    }
+
+    private void evictLocally(Batch batch) {
+        for (final String name : batch.wholeCaches) {
+            final var cache = this.cacheManager.getCache(name);
+            if (cache != null) {
+                cache.clear();
+            }
+        }
+        batch.keys.forEach((name, keys) -> {
+            final var cache = this.cacheManager.getCache(name);
+            if ((cache != null) && !batch.wholeCaches.contains(name)) {
+                keys.forEach(cache::evict);
+            }
+        });
+    }
+
+    private void listen() {
+        while (this.running) {
+            try (var connection = DriverManager.getConnection(this.dataSourceProperties.determineUrl(),
+                    this.dataSourceProperties.determineUsername(), this.dataSourceProperties.determinePassword())) {
+                final var pgConnection = connection.unwrap(PGConnection.class);
+                try (var statement = connection.createStatement()) {
+                    statement.execute("LISTEN " + this.channel);
+                }
+                // Whatever was announced while this node was not listening is lost
+                clearAll();
+                log.info("Listening for cache invalidations on channel {}", this.channel);
+
+                var lastActivity = System.currentTimeMillis();
+                while (this.running) {
+                    final var notifications = pgConnection.getNotifications(this.pollTimeoutMs);
+                    final var now = System.currentTimeMillis();
+                    if ((notifications != null) && (notifications.length > 0)) {
+                        apply(notifications);
+                        lastActivity = now;
+                    } else if ((now - lastActivity) >= this.keepaliveMs) {
+                        // A silently dropped socket only shows up once something is sent over it
+                        if (!connection.isValid(5)) {
+                            throw new SQLException("Cache invalidation connection is no longer valid");
+                        }
+                        lastActivity = now;
+                    }
+                }
+            } catch (final SQLException e) {
+                if (!this.running) {
+                    return;
+                }
+                log.warn("Cache invalidation listener disconnected, retrying in {} ms: {}", this.reconnectDelayMs,
+                        e.getMessage());
+                try {
+                    Thread.sleep(this.reconnectDelayMs);
+                } catch (final InterruptedException interrupted) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+    }
+
+    /**
+     * Send a batch to the other nodes. Caches with more keys than the limit
+     * are announced as a whole; entries are split across notifications when
+     * they do not fit one payload.
+     */
+    private void publish(Batch batch) {
+        if (!this.enabled || batch.isEmpty()) {
+            return;
+        }
+
+        final var prefix = this.nodeId + ";";
+        final var payload = new StringBuilder(prefix);
+        for (final String entry : batch.entries(this.maxKeysPerCache)) {
+            if ((payload.length() > prefix.length())
+                    && ((payload.length() + entry.length() + 1) > MAX_PAYLOAD_LENGTH)) {
+                sendNotification(payload.toString());
+                payload.setLength(prefix.length());
+            }
+            if (payload.length() > prefix.length()) {
+                payload.append(',');
+            }
+            payload.append(entry);
+        }
+        sendNotification(payload.toString());
+    }
+
+    private void sendNotification(String payload) {
+        this.jdbcTemplate.queryForList("SELECT pg_notify(?, ?)", this.channel, payload);
+    }
+
+    /**
+     * Invalidations of one transaction, coalesced by cache.
+     */
+    private static final class Batch {
+        private final Map<String, Set<UUID>> keys = new HashMap<>();
+        private final Set<String> wholeCaches = new HashSet<>();
+
+        private void add(String cacheName, UUID key) {
+            if (key == null) {
+                this.wholeCaches.add(cacheName);
+            } else {
+                this.keys.computeIfAbsent(cacheName, name -> new HashSet<>()).add(key);
+            }
+        }
+
+        private List<String> entries(int maxKeysPerCache) {
+            final List<String> entries = new ArrayList<>();
+            final Set<String> whole = new HashSet<>(this.wholeCaches);
+            this.keys.forEach((name, cacheKeys) -> {
+                if (cacheKeys.size() > maxKeysPerCache) {
+                    whole.add(name);
+                }
+            });
+            whole.forEach(name -> entries.add(name + ":" + WHOLE_CACHE));
+            this.keys.forEach((name, cacheKeys) -> {
+                if (!whole.contains(name)) {
+                    cacheKeys.forEach(key -> entries.add(name + ":" + key));
+                }
+            });
+            return entries;
+        }
+
+        private boolean isEmpty() {
+            return this.keys.isEmpty() && this.wholeCaches.isEmpty();
+        }
+    }
+
+    /**
+     * Publishes the batch inside the transaction, so the notification commits
+     * with the data, and evicts this node's entries once it has committed.
+     */
+    private final class BatchSynchronization implements TransactionSynchronization {
+        private final Batch batch = new Batch();
+
+        @Override
+        public void afterCommit() {
+            evictLocally(this.batch);
+        }
+
+        @Override
+        public void beforeCommit(boolean readOnly) {
+            publish(this.batch);
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package com.spacedlearning.config.database;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * Counts the SQL statements Hibernate prepares on the current thread. A
+ * batched insert or update is prepared once per batch, so the count tracks
+ * database round-trips rather than rows.
+ */
+public class StatementCounter implements StatementInspector {
+
+    private static final ThreadLocal<long[]> COUNT = ThreadLocal.withInitial(() -> new long[1]);
+
+    /**
+     * Statements prepared on this thread so far; callers take the difference
+     * between two readings.
+     */
+    public static long current() {
+        return COUNT.get()[0];
+    }
+
+    @Override
+    public String inspect(String sql) {
+        COUNT.get()[0]++;
+        return sql;
+    }
+}
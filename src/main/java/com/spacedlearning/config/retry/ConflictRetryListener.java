@@ -0,0 +1,80 @@
+package com.spacedlearning.config.retry;
+
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.retry.RetryCallback;
+import org.springframework.retry.RetryContext;
+import org.springframework.retry.RetryListener;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Counts calls, optimistic-lock conflicts and their outcome per operation, so
+ * the conflict rate is {@code concurrency.conflicts / concurrency.calls}.
+ */
+@Component(ConflictRetryListener.BEAN_NAME)
+@RequiredArgsConstructor
+@Slf4j
+public class ConflictRetryListener implements RetryListener {
+
+    public static final String BEAN_NAME = "conflictRetryListener";
+
+    private static final String OPERATION_TAG = "operation";
+    private static final String CONFLICTS_ATTRIBUTE = "conflicts";
+
+    private final MeterRegistry meterRegistry;
+
+    /**
+     * Short operation name, e.g. {@code RepetitionServiceImpl.updateCompletion},
+     * from the method signature spring-retry uses as the context name.
+     */
+    private static String operation(RetryContext context) {
+        final var name = String.valueOf(context.getAttribute(RetryContext.NAME));
+        final var paren = name.indexOf('(');
+        final var signature = paren >= 0 ? name.substring(0, paren) : name;
+        final var method = signature.lastIndexOf('.');
+        final var type = method > 0 ? signature.lastIndexOf('.', method - 1) : -1;
+        return signature.substring(type + 1);
+    }
+
+    @Override
+    public <T, E extends Throwable> void close(RetryContext context, RetryCallback<T, E> callback,
+            Throwable throwable) {
+        if (!(context.getAttribute(CONFLICTS_ATTRIBUTE) instanceof final Integer conflicts)) {
+            return;
+        }
+        final String outcome;
+        if (throwable == null) {
+            outcome = "resolved";
+        } else if (throwable instanceof OptimisticLockingFailureException) {
+            outcome = "exhausted";
+            log.warn("Gave up on {} after {} conflicting attempts", operation(context), conflicts);
+        } else {
+            outcome = "failed";
+        }
+        this.meterRegistry.counter("concurrency.conflicts.outcome", OPERATION_TAG, operation(context),
+                "outcome", outcome).increment();
+    }
+
+    @Override
+    public <T, E extends Throwable> void onError(RetryContext context, RetryCallback<T, E> callback,
+            Throwable throwable) {
+        if (!(throwable instanceof OptimisticLockingFailureException)) {
+            return;
+        }
+        final var conflicts = context.getAttribute(CONFLICTS_ATTRIBUTE) instanceof final Integer previous
+                ? previous + 1
+                : 1;
+        context.setAttribute(CONFLICTS_ATTRIBUTE, conflicts);
+        this.meterRegistry.counter("concurrency.conflicts", OPERATION_TAG, operation(context)).increment();
+        log.debug("Optimistic-lock conflict #{} in {}: {}", conflicts, operation(context), throwable.getMessage());
+    }
+
+    @Override
+    public <T, E extends Throwable> boolean open(RetryContext context, RetryCallback<T, E> callback) {
+        this.meterRegistry.counter("concurrency.calls", OPERATION_TAG, operation(context)).increment();
+        return true;
+    }
+}
@@ -0,0 +1,29 @@
+package com.spacedlearning.config.retry;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.retry.annotation.Backoff;
+import org.springframework.retry.annotation.Retryable;
+
+/**
+ * Re-runs a transactional method when it loses an optimistic-lock race. The
+ * retry advice wraps the transaction advice, so every attempt runs in a fresh
+ * transaction against the latest committed state. Backoff is exponential with
+ * random jitter so that colliding callers do not retry in lockstep.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+@Retryable(retryFor = OptimisticLockingFailureException.class,
+        maxAttemptsExpression = "${app.concurrency.retry.max-attempts:4}",
+        backoff = @Backoff(delayExpression = "${app.concurrency.retry.delay-ms:20}",
+                maxDelayExpression = "${app.concurrency.retry.max-delay-ms:250}",
+                multiplier = 2, random = true),
+        listeners = ConflictRetryListener.BEAN_NAME)
+public @interface RetryOnConflict {
+}
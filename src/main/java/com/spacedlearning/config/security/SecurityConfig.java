@@ -2,10 +2,13 @@ package com.spacedlearning.config.security;
 
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.authentication.AuthenticationManager;
+import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
 import org.springframework.security.config.annotation.authentication.configuration.AuthenticationConfiguration;
 import org.springframework.security.config.annotation.method.configuration.EnableMethodSecurity;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
@@ -13,7 +16,9 @@ import org.springframework.security.config.annotation.web.configuration.EnableWe
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
 import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.crypto.password.Pbkdf2PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 import org.springframework.web.cors.CorsConfiguration;
@@ -26,7 +31,12 @@ import com.spacedlearning.security.JwtAuthenticationEntryPoint;
 import com.spacedlearning.security.JwtAuthenticationFilter;
 import com.spacedlearning.security.JwtAuthorizationFilter;
 import com.spacedlearning.security.JwtTokenProvider;
+import com.spacedlearning.security.LoginMetrics;
+import com.spacedlearning.security.LoginVerificationExecutor;
+import com.spacedlearning.security.SessionRevocationFilter;
+import com.spacedlearning.service.RefreshTokenService;
 
+import jakarta.servlet.DispatcherType;
 import lombok.RequiredArgsConstructor;
 
 @Configuration
@@ -34,10 +44,17 @@ import lombok.RequiredArgsConstructor;
 @EnableMethodSecurity
 @RequiredArgsConstructor
 public class SecurityConfig {
+    private static final String BCRYPT_ID = "bcrypt";
+    private static final String PBKDF2_ID = "pbkdf2";
+
     private final CustomUserDetailsService userDetailsService;
     private final JwtAuthenticationEntryPoint unauthorizedHandler;
     private final JwtTokenProvider tokenProvider;
     private final ObjectMapper objectMapper;
+    private final LoginMetrics loginMetrics;
+    private final LoginVerificationExecutor verificationExecutor;
+    private final RefreshTokenService refreshTokenService;
+    private final SessionRevocationFilter revocationFilter;
 
     @Bean
     SecurityFilterChain securityFilterChain(HttpSecurity http, AuthenticationConfiguration authConfig)
@@ -46,11 +63,11 @@ public class SecurityConfig {
         // Tạo bean JwtAuthenticationFilter
         final JwtAuthenticationFilter jwtAuthenticationFilter = new JwtAuthenticationFilter(
                 authenticationManager(authConfig),
-                tokenProvider, objectMapper);
+                refreshTokenService, objectMapper, verificationExecutor);
         jwtAuthenticationFilter.setFilterProcessesUrl("/api/v1/auth/login");
 
         final JwtAuthorizationFilter jwtAuthorizationFilter = new JwtAuthorizationFilter(tokenProvider,
-                userDetailsService, objectMapper);
+                userDetailsService, objectMapper, revocationFilter);
 
         http.csrf(AbstractHttpConfigurer::disable)
                 .cors(cors -> cors.configurationSource(corsConfigurationSource()))
@@ -58,6 +75,8 @@ public class SecurityConfig {
                 .sessionManagement(
                         sessionManagement -> sessionManagement.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
                 .authorizeHttpRequests(authorize -> authorize
+                        // Async dispatches of already-authorized requests (SSE streams)
+                        .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
                         // Public endpoints
                         .requestMatchers("/api/v1/auth/**").permitAll()
                         // Root path for health check
@@ -66,8 +85,10 @@ public class SecurityConfig {
                         .requestMatchers("/swagger-ui/**", "/swagger-ui.html").permitAll()
                         .requestMatchers("/v3/api-docs/**", "/swagger-resources/**").permitAll()
                         .requestMatchers("/webjars/**").permitAll()
-                        // Actuator health endpoint
-                        .requestMatchers("/actuator/health", "/actuator/**", "/health", "/info").permitAll()
+                        // Actuator health and probes; details are only shown to admins
+                        .requestMatchers("/actuator/health", "/actuator/health/**", "/health", "/info").permitAll()
+                        // Other actuator endpoints expose metrics and internals
+                        .requestMatchers("/actuator/**").hasRole("ADMIN")
                         // Error endpoint
                         .requestMatchers("/error").permitAll()
                         // Admin endpoints
@@ -87,9 +108,38 @@ public class SecurityConfig {
         return authConfig.getAuthenticationManager();
     }
 
+    /**
+     * Provider for username/password login. Lookup and hash verification are
+     * timed, and hashes that no longer match the encoder settings are upgraded
+     * after a successful login.
+     */
     @Bean
-    PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    DaoAuthenticationProvider authenticationProvider(PasswordEncoder passwordEncoder) {
+        final DaoAuthenticationProvider provider = new DaoAuthenticationProvider(
+                loginMetrics.timedEncoder(passwordEncoder));
+        provider.setUserDetailsService(loginMetrics.timedLookup(userDetailsService));
+        provider.setUserDetailsPasswordService(userDetailsService);
+        return provider;
+    }
+
+    /**
+     * Encodes with the configured algorithm and cost. Hashes stored without an
+     * {id} prefix are legacy BCrypt hashes and are re-encoded on next login, as
+     * are hashes produced with another algorithm or a lower BCrypt strength.
+     */
+    @Bean
+    PasswordEncoder passwordEncoder(@Value("${app.security.password.encoder:bcrypt}") String encoderId,
+            @Value("${app.security.password.bcrypt-strength:10}") int bcryptStrength) {
+        final Map<String, PasswordEncoder> encoders = Map.of(
+                BCRYPT_ID, new BCryptPasswordEncoder(bcryptStrength),
+                PBKDF2_ID, Pbkdf2PasswordEncoder.defaultsForSpringSecurity_v5_8());
+        if (!encoders.containsKey(encoderId)) {
+            throw new IllegalStateException("Unsupported password encoder: " + encoderId);
+        }
+
+        final DelegatingPasswordEncoder encoder = new DelegatingPasswordEncoder(encoderId, encoders);
+        encoder.setDefaultPasswordEncoderForMatches(new BCryptPasswordEncoder());
+        return encoder;
     }
 
     @Bean
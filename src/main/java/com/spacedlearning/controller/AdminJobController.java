@@ -0,0 +1,59 @@
+package com.spacedlearning.controller;
+
+import java.util.List;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.spacedlearning.dto.common.DataResponse;
+import com.spacedlearning.dto.job.JobStatusResponse;
+import com.spacedlearning.service.BackgroundJobService;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * REST controller for inspecting and triggering background jobs
+ */
+@RestController
+@RequestMapping("/api/v1/admin/jobs")
+@PreAuthorize("hasRole('ADMIN')")
+@RequiredArgsConstructor
+@Slf4j
+@Tag(name = "Background Job API", description = "Endpoints for inspecting and triggering background jobs")
+public class AdminJobController {
+
+    private final BackgroundJobService backgroundJobService;
+
+    @GetMapping
+    @Operation(summary = "List jobs", description = "Gets the last run of every background job")
+    public ResponseEntity<DataResponse<List<JobStatusResponse>>> getAllJobs() {
+        log.debug("REST request to get all background jobs");
+        final List<JobStatusResponse> jobs = backgroundJobService.findAll();
+        return ResponseEntity.ok(DataResponse.of(jobs));
+    }
+
+    @GetMapping("/{name}")
+    @Operation(summary = "Get job", description = "Gets the last run of a background job")
+    public ResponseEntity<DataResponse<JobStatusResponse>> getJob(@PathVariable String name) {
+        log.debug("REST request to get background job: {}", name);
+        final JobStatusResponse job = backgroundJobService.findByName(name);
+        return ResponseEntity.ok(DataResponse.of(job));
+    }
+
+    @PostMapping("/{name}/run")
+    @Operation(summary = "Trigger job", description = "Queues a run of a background job on this node; it is skipped if another node is running the job")
+    public ResponseEntity<DataResponse<JobStatusResponse>> triggerJob(@PathVariable String name) {
+        log.debug("REST request to trigger background job: {}", name);
+        final JobStatusResponse job = backgroundJobService.trigger(name);
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(DataResponse.of(job));
+    }
+}
@@ -40,6 +40,14 @@ public class AuthController {
         return ResponseEntity.ok(DataResponse.of(authResponse));
     }
 
+    @PostMapping("/logout")
+    @Operation(summary = "Logout", description = "Revokes the login session of a refresh token")
+    public ResponseEntity<SuccessResponse> logout(@Valid @RequestBody RefreshTokenRequest request) {
+        log.debug("REST request to logout");
+        authService.logout(request);
+        return ResponseEntity.ok(SuccessResponse.of("Logged out successfully"));
+    }
+
     @PostMapping("/refresh-token")
     @Operation(summary = "Refresh token", description = "Refreshes an authentication token")
     public ResponseEntity<DataResponse<AuthResponse>> refreshToken(@Valid @RequestBody RefreshTokenRequest request) {
@@ -105,6 +105,15 @@ public class BookController {
         return ResponseEntity.ok(DataResponse.of(book));
     }
 
+    @PostMapping("/{id}/restore")
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "Restore book", description = "Restores a soft-deleted book with its modules")
+    public ResponseEntity<DataResponse<BookDetailResponse>> restoreBook(@PathVariable UUID id) {
+        log.debug("REST request to restore book with ID: {}", id);
+        final BookDetailResponse restoredBook = bookService.restore(id);
+        return ResponseEntity.ok(DataResponse.of(restoredBook));
+    }
+
     @GetMapping("/search")
     @Operation(summary = "Search books", description = "Searches books by name")
     public ResponseEntity<PageResponse<BookSummaryResponse>> searchBooks(
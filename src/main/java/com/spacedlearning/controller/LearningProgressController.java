@@ -5,6 +5,7 @@ import java.util.List;
 import java.util.Map;
 
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
@@ -12,11 +13,14 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import com.spacedlearning.dto.common.DataResponse;
 import com.spacedlearning.dto.learning.BookStatsResponse;
 import com.spacedlearning.dto.learning.DashboardStatsResponse;
 import com.spacedlearning.dto.learning.LearningModuleResponse;
+import com.spacedlearning.security.UserSecurity;
+import com.spacedlearning.service.DashboardStreamService;
 import com.spacedlearning.service.LearningProgressService;
 
 import io.swagger.v3.oas.annotations.Operation;
@@ -31,7 +35,9 @@ import lombok.extern.slf4j.Slf4j;
 @Tag(name = "Learning Progress API", description = "Endpoints for learning progress data")
 public class LearningProgressController {
 
+    private final DashboardStreamService dashboardStreamService;
     private final LearningProgressService learningProgressService;
+    private final UserSecurity userSecurity;
 
     @GetMapping("/dashboard-stats")
     @Operation(summary = "Get dashboard stats", description = "Retrieves learning statistics and modules for dashboard")
@@ -40,15 +46,23 @@ public class LearningProgressController {
             @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date) {
 
         log.debug("REST request to get dashboard stats, book filter: {}, date filter: {}", book, date);
-        final DashboardStatsResponse stats = learningProgressService.getDashboardStats(book, date);
+        final DashboardStatsResponse stats = learningProgressService.getDashboardStats(this.userSecurity.getCurrentUserId(), book, date);
         return ResponseEntity.ok(DataResponse.of(stats));
     }
 
+    @GetMapping(value = "/dashboard-stats/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @Operation(summary = "Stream dashboard stats", description = "Pushes unfiltered dashboard stats as server-sent events: a snapshot, then deltas")
+    public SseEmitter streamDashboardStats() {
+        final var userId = this.userSecurity.getCurrentUserId();
+        log.debug("REST request to stream learning dashboard stats for user ID: {}", userId);
+        return dashboardStreamService.subscribe(userId, DashboardStreamService.View.LEARNING);
+    }
+
     @GetMapping("/modules")
     @Operation(summary = "Get all learning modules", description = "Retrieves all learning modules for the current user")
     public ResponseEntity<DataResponse<List<LearningModuleResponse>>> getAllModules() {
         log.debug("REST request to get all learning modules");
-        final List<LearningModuleResponse> modules = learningProgressService.getAllModules();
+        final List<LearningModuleResponse> modules = learningProgressService.getAllModules(this.userSecurity.getCurrentUserId());
         return ResponseEntity.ok(DataResponse.of(modules));
     }
 
@@ -58,7 +72,7 @@ public class LearningProgressController {
             @RequestParam(defaultValue = "7") int daysThreshold) {
 
         log.debug("REST request to get due modules with threshold: {} days", daysThreshold);
-        final List<LearningModuleResponse> modules = learningProgressService.getDueModules(daysThreshold);
+        final List<LearningModuleResponse> modules = learningProgressService.getDueModules(this.userSecurity.getCurrentUserId(), daysThreshold);
         return ResponseEntity.ok(DataResponse.of(modules));
     }
 
@@ -66,7 +80,7 @@ public class LearningProgressController {
     @Operation(summary = "Get completed modules", description = "Retrieves completed learning modules")
     public ResponseEntity<DataResponse<List<LearningModuleResponse>>> getCompletedModules() {
         log.debug("REST request to get completed modules");
-        final List<LearningModuleResponse> modules = learningProgressService.getCompletedModules();
+        final List<LearningModuleResponse> modules = learningProgressService.getCompletedModules(this.userSecurity.getCurrentUserId());
         return ResponseEntity.ok(DataResponse.of(modules));
     }
 
@@ -74,7 +88,7 @@ public class LearningProgressController {
     @Operation(summary = "Get unique books", description = "Retrieves a list of unique books")
     public ResponseEntity<DataResponse<List<String>>> getUniqueBooks() {
         log.debug("REST request to get unique books");
-        final List<String> books = learningProgressService.getUniqueBooks();
+        final List<String> books = learningProgressService.getUniqueBooks(this.userSecurity.getCurrentUserId());
         return ResponseEntity.ok(DataResponse.of(books));
     }
 
@@ -84,7 +98,7 @@ public class LearningProgressController {
             @PathVariable String book) {
 
         log.debug("REST request to get stats for book: {}", book);
-        final BookStatsResponse stats = learningProgressService.getBookStats(book);
+        final BookStatsResponse stats = learningProgressService.getBookStats(this.userSecurity.getCurrentUserId(), book);
         return ResponseEntity.ok(DataResponse.of(stats));
     }
 
@@ -5,6 +5,7 @@ import java.util.UUID;
 
 import org.springframework.context.MessageSource;
 import org.springframework.context.i18n.LocaleContextHolder;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.Authentication;
@@ -14,14 +15,19 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import com.spacedlearning.dto.common.DataResponse;
 import com.spacedlearning.dto.stats.LearningInsightDTO;
 import com.spacedlearning.dto.stats.UserLearningStatsDTO;
+import com.spacedlearning.dto.stats.WorkloadForecastDTO;
 import com.spacedlearning.entity.User;
 import com.spacedlearning.exception.SpacedLearningException;
 import com.spacedlearning.repository.UserRepository;
+import com.spacedlearning.security.UserSecurity;
+import com.spacedlearning.service.DashboardStreamService;
 import com.spacedlearning.service.LearningStatsService;
+import com.spacedlearning.service.WorkloadForecastService;
 
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
@@ -48,6 +54,9 @@ public class LearningStatsController {
     private final LearningStatsService statsService;
     private final UserRepository userRepository;
     private final MessageSource messageSource;
+    private final UserSecurity userSecurity;
+    private final DashboardStreamService dashboardStreamService;
+    private final WorkloadForecastService forecastService;
 
     /**
      * Get dashboard statistics for current user
@@ -89,6 +98,60 @@ public class LearningStatsController {
         return ResponseEntity.ok(DataResponse.of(stats));
     }
 
+    /**
+     * Stream live dashboard statistics for current user. Replaces polling
+     * {@code /dashboard}: the first event is a full snapshot, later events carry
+     * only the fields that changed.
+     *
+     * @return Server-sent event stream
+     */
+    @GetMapping(value = "/dashboard/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @Operation(summary = "Stream dashboard stats", description = "Pushes dashboard statistics for the current user as server-sent events")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Stream opened"),
+            @ApiResponse(responseCode = "401", description = "User not authenticated") })
+    public SseEmitter streamDashboardStats() {
+        final UUID userId = userSecurity.getCurrentUserId();
+        log.debug("REST request to stream dashboard stats for user ID: {}", userId);
+        return dashboardStreamService.subscribe(userId, DashboardStreamService.View.STATS);
+    }
+
+    /**
+     * Get projected daily review load for current user
+     *
+     * @param days Number of days to forecast
+     * @return Workload forecast
+     */
+    @GetMapping("/forecast")
+    @Operation(summary = "Get workload forecast", description = "Projects the current user's daily review load by simulating future cycles")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Successfully computed forecast"),
+            @ApiResponse(responseCode = "401", description = "User not authenticated") })
+    public ResponseEntity<DataResponse<WorkloadForecastDTO>> getWorkloadForecast(
+            @RequestParam(defaultValue = "365") int days) {
+        final UUID userId = userSecurity.getCurrentUserId();
+        log.debug("REST request to forecast workload for user ID: {}, days: {}", userId, days);
+        return ResponseEntity.ok(DataResponse.of(forecastService.forecast(userId, days)));
+    }
+
+    /**
+     * Get projected daily review load across all users (admin only)
+     *
+     * @param days Number of days to forecast
+     * @return Workload forecast
+     */
+    @GetMapping("/forecast/global")
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "Get global workload forecast", description = "Projects the daily review load of all users (admin only)")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Successfully computed forecast"),
+            @ApiResponse(responseCode = "403", description = "Access denied") })
+    public ResponseEntity<DataResponse<WorkloadForecastDTO>> getGlobalWorkloadForecast(
+            @RequestParam(defaultValue = "365") int days) {
+        log.debug("REST request to forecast global workload, days: {}", days);
+        return ResponseEntity.ok(DataResponse.of(forecastService.forecast(null, days)));
+    }
+
     /**
      * Get dashboard statistics for a specific user (admin only)
      *
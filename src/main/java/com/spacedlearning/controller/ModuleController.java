@@ -125,6 +125,15 @@ public class ModuleController {
         return ResponseEntity.ok(DataResponse.of(count));
     }
 
+    @PostMapping("/{id}/restore")
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "Restore module", description = "Restores a soft-deleted module with its content")
+    public ResponseEntity<DataResponse<ModuleDetailResponse>> restoreModule(@PathVariable UUID id) {
+        log.debug("REST request to restore module with ID: {}", id);
+        final var restoredModule = this.moduleService.restore(id);
+        return ResponseEntity.ok(DataResponse.of(restoredModule));
+    }
+
     @PutMapping("/{id}")
     @PreAuthorize("hasRole('ADMIN')")
     @Operation(summary = "Update module", description = "Updates an existing module")
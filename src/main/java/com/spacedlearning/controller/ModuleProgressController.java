@@ -1,6 +1,7 @@
 package com.spacedlearning.controller;
 
 import java.time.LocalDate;
+import java.util.List;
 import java.util.UUID;
 
 import org.springframework.data.domain.Pageable;
@@ -19,6 +20,7 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import com.spacedlearning.dto.common.CursorPageResponse;
 import com.spacedlearning.dto.common.DataResponse;
 import com.spacedlearning.dto.common.PageResponse;
 import com.spacedlearning.dto.common.SuccessResponse;
@@ -26,7 +28,9 @@ import com.spacedlearning.dto.progress.ModuleProgressCreateRequest;
 import com.spacedlearning.dto.progress.ModuleProgressDetailResponse;
 import com.spacedlearning.dto.progress.ModuleProgressSummaryResponse;
 import com.spacedlearning.dto.progress.ModuleProgressUpdateRequest;
+import com.spacedlearning.security.UserSecurity;
 import com.spacedlearning.service.ModuleProgressService;
+import com.spacedlearning.util.CursorUtils;
 import com.spacedlearning.util.PageUtils;
 
 import io.swagger.v3.oas.annotations.Operation;
@@ -46,30 +50,41 @@ import lombok.extern.slf4j.Slf4j;
 public class ModuleProgressController {
 
     private final ModuleProgressService progressService;
+    private final UserSecurity userSecurity;
 
     @PostMapping
-    @Operation(summary = "Create progress", description = "Creates a new progress record")
+    @Operation(summary = "Create progress", description = "Creates a new progress record for the current user")
     public ResponseEntity<DataResponse<ModuleProgressDetailResponse>> createProgress(
             @Valid @RequestBody ModuleProgressCreateRequest request) {
         log.debug("REST request to create progress: {}", request);
-        final var createdProgress = this.progressService.create(request);
+        final var createdProgress = this.progressService.create(request,
+                this.userSecurity.getCurrentUserId());
         return ResponseEntity.status(HttpStatus.CREATED).body(DataResponse.of(createdProgress));
     }
 
     @DeleteMapping("/{id}")
-    @Operation(summary = "Delete progress", description = "Deletes a progress record by ID")
+    @Operation(summary = "Delete progress", description = "Deletes a progress record of the current user by ID")
     public ResponseEntity<SuccessResponse> deleteProgress(@PathVariable UUID id) {
         log.debug("REST request to delete progress with ID: {}", id);
-        this.progressService.delete(id);
+        this.progressService.delete(id, this.userSecurity.getCurrentUserId());
         return ResponseEntity.ok(SuccessResponse.of("Progress deleted successfully"));
     }
 
+    @PostMapping("/book/{bookId}/enroll")
+    @Operation(summary = "Enroll in book", description = "Creates progress records and schedules for every module of a book the current user is not yet enrolled in")
+    public ResponseEntity<DataResponse<List<ModuleProgressSummaryResponse>>> enrollBook(@PathVariable UUID bookId) {
+        log.debug("REST request to enroll in book ID: {}", bookId);
+        final var created = this.progressService.enrollBook(bookId, this.userSecurity.getCurrentUserId());
+        return ResponseEntity.status(HttpStatus.CREATED).body(DataResponse.of(created));
+    }
+
     @GetMapping("/module/{moduleId}/find-or-create")
     @Operation(summary = "Find or create progress for module", description = "Finds existing progress for a module or creates a new one if it doesn't exist")
     public ResponseEntity<DataResponse<ModuleProgressDetailResponse>> findOrCreateProgressForModule(
             @PathVariable UUID moduleId) {
         log.debug("REST request to find or create progress for module ID: {}", moduleId);
-        final var progress = this.progressService.findOrCreateProgressForModule(moduleId);
+        final var progress = this.progressService.findOrCreateProgressForModule(moduleId,
+                this.userSecurity.getCurrentUserId());
         return ResponseEntity.ok(DataResponse.of(progress));
     }
 
@@ -85,37 +100,43 @@ public class ModuleProgressController {
 
     @GetMapping("/due")
     @Operation(summary = "Get due progress records", description = "Retrieves a paginated list of progress records due for study")
-    public ResponseEntity<PageResponse<ModuleProgressDetailResponse>> getDueProgress(
+    public ResponseEntity<CursorPageResponse<ModuleProgressDetailResponse>> getDueProgress(
             @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate studyDate,
-            @PageableDefault(size = 20) Pageable pageable) {
-        log.debug("REST request to get due progress records on date: {}, pageable: {}", studyDate, pageable);
-        final var page = this.progressService.findDueForStudy(studyDate, pageable);
-        return ResponseEntity.ok(PageUtils.createPageResponse(page, pageable));
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "" + CursorUtils.DEFAULT_SIZE) int size) {
+        log.debug("REST request to get due progress records on date: {}, cursor: {}, size: {}", studyDate, cursor,
+                size);
+        final var slice = this.progressService.findDueForStudy(this.userSecurity.getCurrentUserId(), studyDate,
+                cursor, size);
+        return ResponseEntity.ok(PageUtils.createCursorPageResponse(slice,
+                p -> CursorUtils.encode(p.getNextStudyDate(), p.getId())));
     }
 
     @GetMapping("/{id}")
-    @Operation(summary = "Get progress by ID", description = "Retrieves a progress record by its ID with detailed information")
+    @Operation(summary = "Get progress by ID", description = "Retrieves a progress record of the current user by its ID with detailed information")
     public ResponseEntity<DataResponse<ModuleProgressDetailResponse>> getProgress(@PathVariable UUID id) {
         log.debug("REST request to get progress with ID: {}", id);
-        final var progress = this.progressService.findById(id);
+        final var progress = this.progressService.findById(id, this.userSecurity.getCurrentUserId());
         return ResponseEntity.ok(DataResponse.of(progress));
     }
 
     @GetMapping("/book/{bookId}")
-    @Operation(summary = "Get progress by book", description = "Retrieves a paginated list of progress records for a book")
+    @Operation(summary = "Get progress by book", description = "Retrieves a paginated list of the current user's progress records for a book")
     public ResponseEntity<PageResponse<ModuleProgressSummaryResponse>> getProgressByBook(
             @PathVariable UUID bookId, @PageableDefault(size = 20) Pageable pageable) {
         log.debug("REST request to get progress by book ID: {}, pageable: {}", bookId, pageable);
-        final var page = this.progressService.findByBookId(bookId, pageable);
+        final var page = this.progressService.findByBookId(bookId, this.userSecurity.getCurrentUserId(),
+                pageable);
         return ResponseEntity.ok(PageUtils.createPageResponse(page, pageable));
     }
 
     @GetMapping("/module/{moduleId}")
-    @Operation(summary = "Get progress by module ID", description = "Retrieves a paginated list of progress records for a module")
+    @Operation(summary = "Get progress by module ID", description = "Retrieves a paginated list of the current user's progress records for a module")
     public ResponseEntity<PageResponse<ModuleProgressSummaryResponse>> getProgressByModuleId(
             @PathVariable UUID moduleId, @PageableDefault(size = 20) Pageable pageable) {
         log.debug("REST request to get progress by module ID: {}, pageable: {}", moduleId, pageable);
-        final var page = this.progressService.findByModuleId(moduleId, pageable);
+        final var page = this.progressService.findByModuleId(moduleId,
+                this.userSecurity.getCurrentUserId(), pageable);
         return ResponseEntity.ok(PageUtils.createPageResponse(page, pageable));
     }
 
@@ -124,16 +145,18 @@ public class ModuleProgressController {
     public ResponseEntity<DataResponse<ModuleProgressDetailResponse>> getProgressDetailByModule(
             @PathVariable UUID moduleId) {
         log.debug("REST request to get detailed progress for module ID: {}", moduleId);
-        final var progress = this.progressService.findByModuleId(moduleId);
+        final var progress = this.progressService.findByModuleId(moduleId,
+                this.userSecurity.getCurrentUserId());
         return ResponseEntity.ok(DataResponse.of(progress));
     }
 
     @PutMapping("/{id}")
-    @Operation(summary = "Update progress", description = "Updates an existing progress record")
+    @Operation(summary = "Update progress", description = "Updates an existing progress record of the current user")
     public ResponseEntity<DataResponse<ModuleProgressDetailResponse>> updateProgress(@PathVariable UUID id,
             @Valid @RequestBody ModuleProgressUpdateRequest request) {
         log.debug("REST request to update progress with ID: {}, request: {}", id, request);
-        final var updatedProgress = this.progressService.update(id, request);
+        final var updatedProgress = this.progressService.update(id,
+                this.userSecurity.getCurrentUserId(), request);
         return ResponseEntity.ok(DataResponse.of(updatedProgress));
     }
 }
\ No newline at end of file
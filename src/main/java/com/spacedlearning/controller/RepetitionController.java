@@ -1,13 +1,16 @@
 // File: src/main/java/com/spacedlearning/controller/RepetitionController.java
 package com.spacedlearning.controller;
 
+import com.spacedlearning.dto.common.CursorPageResponse;
 import com.spacedlearning.dto.common.DataResponse;
 import com.spacedlearning.dto.common.PageResponse;
 import com.spacedlearning.dto.common.SuccessResponse;
 import com.spacedlearning.dto.repetition.*;
 import com.spacedlearning.entity.enums.RepetitionOrder;
 import com.spacedlearning.entity.enums.RepetitionStatus;
+import com.spacedlearning.security.UserSecurity;
 import com.spacedlearning.service.RepetitionService;
+import com.spacedlearning.util.CursorUtils;
 import com.spacedlearning.util.PageUtils;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -16,6 +19,7 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.web.PageableDefault;
 import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
@@ -37,6 +41,18 @@ import java.util.UUID;
 public class RepetitionController {
 
     private final RepetitionService repetitionService;
+    private final UserSecurity userSecurity;
+
+    @PostMapping("/catch-up")
+    @Operation(summary = "Catch up on overdue reviews", description = "Spreads the current user's overdue repetitions over the coming days under a daily word budget")
+    public ResponseEntity<DataResponse<RepetitionCatchUpResponse>> catchUp(
+            @RequestParam(required = false) Integer days,
+            @RequestParam(required = false) Integer dailyWords) {
+        log.debug("REST request to catch up overdue repetitions over {} days, {} words per day", days, dailyWords);
+        final RepetitionCatchUpResponse result = repetitionService.catchUp(userSecurity.getCurrentUserId(), days,
+                dailyWords);
+        return ResponseEntity.ok(DataResponse.of(result));
+    }
 
     @PostMapping("/progress/{progressId}/schedule")
     @Operation(summary = "Create default schedule", description = "Creates a default repetition schedule for a progress record")
@@ -74,14 +90,17 @@ public class RepetitionController {
 
     @GetMapping("/user/{userId}/due")
     @Operation(summary = "Get due repetitions", description = "Retrieves a paginated list of repetitions due for review")
-    public ResponseEntity<PageResponse<RepetitionResponse>> getDueRepetitions(@PathVariable UUID userId,
-                                                                              @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate reviewDate,
-                                                                              @RequestParam(required = false) RepetitionStatus status, @PageableDefault(size = 20) Pageable pageable) {
-        log.debug("REST request to get due repetitions for user ID: {} on date: {}, status: {}, pageable: {}", userId,
-                reviewDate, status, pageable);
-        final Page<RepetitionResponse> page = repetitionService.findDueRepetitions(userId, reviewDate, status,
-                pageable);
-        return ResponseEntity.ok(PageUtils.createPageResponse(page, pageable));
+    public ResponseEntity<CursorPageResponse<RepetitionResponse>> getDueRepetitions(@PathVariable UUID userId,
+                                                                                    @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate reviewDate,
+                                                                                    @RequestParam(required = false) RepetitionStatus status,
+                                                                                    @RequestParam(required = false) String cursor,
+                                                                                    @RequestParam(defaultValue = "" + CursorUtils.DEFAULT_SIZE) int size) {
+        log.debug("REST request to get due repetitions for user ID: {} on date: {}, status: {}, cursor: {}, size: {}",
+                userId, reviewDate, status, cursor, size);
+        final Slice<RepetitionResponse> slice = repetitionService.findDueRepetitions(userId, reviewDate, status,
+                cursor, size);
+        return ResponseEntity.ok(PageUtils.createCursorPageResponse(slice,
+                r -> CursorUtils.encode(r.getReviewDate(), r.getId())));
     }
 
     @GetMapping("/{id}")
@@ -110,6 +129,24 @@ public class RepetitionController {
         return ResponseEntity.ok(DataResponse.of(repetitions));
     }
 
+    @PostMapping("/pause")
+    @Operation(summary = "Pause schedule", description = "Moves the current user's pending repetitions due in a date range forward by a number of days")
+    public ResponseEntity<DataResponse<RepetitionPauseResponse>> pauseSchedule(
+            @Valid @RequestBody RepetitionPauseRequest request) {
+        log.debug("REST request to pause schedule: {}", request);
+        final RepetitionPauseResponse result = repetitionService.pause(userSecurity.getCurrentUserId(), request);
+        return ResponseEntity.ok(DataResponse.of(result));
+    }
+
+    @PostMapping("/resume")
+    @Operation(summary = "Resume schedule", description = "Moves the current user's pending repetitions that fell due during a break forward by the days paused")
+    public ResponseEntity<DataResponse<RepetitionPauseResponse>> resumeSchedule(
+            @Valid @RequestBody RepetitionResumeRequest request) {
+        log.debug("REST request to resume schedule: {}", request);
+        final RepetitionPauseResponse result = repetitionService.resume(userSecurity.getCurrentUserId(), request);
+        return ResponseEntity.ok(DataResponse.of(result));
+    }
+
     @PutMapping("/{id}")
     @Operation(summary = "Update repetition", description = "Updates an existing repetition (deprecated)")
     public ResponseEntity<DataResponse<RepetitionResponse>> updateRepetition(@PathVariable UUID id,
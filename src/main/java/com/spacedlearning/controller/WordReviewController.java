@@ -0,0 +1,82 @@
+package com.spacedlearning.controller;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.spacedlearning.dto.common.DataResponse;
+import com.spacedlearning.dto.word.DueWordResponse;
+import com.spacedlearning.dto.word.WordReviewSessionRequest;
+import com.spacedlearning.dto.word.WordReviewSummaryResponse;
+import com.spacedlearning.security.UserSecurity;
+import com.spacedlearning.service.WordReviewService;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * REST controller for word-level reviews of the current user
+ */
+@RestController
+@RequestMapping("/api/v1/words")
+@RequiredArgsConstructor
+@Slf4j
+@Tag(name = "Word Review API", description = "Endpoints for scheduling and reviewing individual words")
+public class WordReviewController {
+
+    private final UserSecurity userSecurity;
+    private final WordReviewService wordReviewService;
+
+    @GetMapping("/due")
+    @Operation(summary = "Get due words", description = "Retrieves the current user's words due for review across all modules, earliest first")
+    public ResponseEntity<DataResponse<List<DueWordResponse>>> getDueWords(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date,
+            @RequestParam(defaultValue = "50") int limit) {
+        log.debug("REST request to get due words on date: {}, limit: {}", date, limit);
+        final var words = this.wordReviewService.findDueWords(this.userSecurity.getCurrentUserId(), date, limit);
+        return ResponseEntity.ok(DataResponse.of(words));
+    }
+
+    @GetMapping("/progress/{progressId}/due")
+    @Operation(summary = "Get words to review for a module", description = "Retrieves due words of a progress record, filled up with words not reviewed yet")
+    public ResponseEntity<DataResponse<List<DueWordResponse>>> getDueWordsForProgress(@PathVariable UUID progressId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date,
+            @RequestParam(defaultValue = "50") int limit) {
+        log.debug("REST request to get due words for progress ID: {}, date: {}, limit: {}", progressId, date, limit);
+        final var words = this.wordReviewService.findDueWordsForProgress(progressId,
+                this.userSecurity.getCurrentUserId(), date, limit);
+        return ResponseEntity.ok(DataResponse.of(words));
+    }
+
+    @GetMapping("/progress/{progressId}")
+    @Operation(summary = "Get word review summary", description = "Retrieves the word review state of a progress record")
+    public ResponseEntity<DataResponse<WordReviewSummaryResponse>> getSummary(@PathVariable UUID progressId) {
+        log.debug("REST request to get word review summary for progress ID: {}", progressId);
+        final var summary = this.wordReviewService.getSummary(progressId, this.userSecurity.getCurrentUserId());
+        return ResponseEntity.ok(DataResponse.of(summary));
+    }
+
+    @PostMapping("/progress/{progressId}/reviews")
+    @Operation(summary = "Record a study session", description = "Applies the word reviews of a study session in one batch")
+    public ResponseEntity<DataResponse<WordReviewSummaryResponse>> recordSession(@PathVariable UUID progressId,
+            @Valid @RequestBody WordReviewSessionRequest request) {
+        log.debug("REST request to record {} word reviews for progress ID: {}", request.getReviews().size(),
+                progressId);
+        final var summary = this.wordReviewService.recordSession(progressId, this.userSecurity.getCurrentUserId(),
+                request);
+        return ResponseEntity.ok(DataResponse.of(summary));
+    }
+}
@@ -0,0 +1,23 @@
+package com.spacedlearning.dto.common;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Keyset-paginated response wrapper. Pass {@code nextCursor} back as the
+ * {@code cursor} request parameter to fetch the following page.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CursorPageResponse<T> {
+	private List<T> content;
+	private Integer size;
+	private String nextCursor;
+	private Boolean hasNext;
+}
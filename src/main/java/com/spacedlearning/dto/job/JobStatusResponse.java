@@ -0,0 +1,31 @@
+package com.spacedlearning.dto.job;
+
+import java.time.LocalDateTime;
+
+import com.spacedlearning.entity.enums.JobStatus;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * DTO for the state of a background job; run fields are null for a job that
+ * has never run
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class JobStatusResponse {
+    private String name;
+    private JobStatus status;
+    private boolean queued;
+    private String owner;
+    private String checkpoint;
+    private long processed;
+    private LocalDateTime startedAt;
+    private LocalDateTime finishedAt;
+    private LocalDateTime heartbeatAt;
+    private String lastError;
+}
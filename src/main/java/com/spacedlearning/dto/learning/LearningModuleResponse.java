@@ -30,6 +30,6 @@ public class LearningModuleResponse {
     private Integer progressLatestPercentComplete;
     private Integer progressDueTaskCount;
     private String moduleId;
-    private List<String> studyHistory;
+    private List<LocalDate> studyHistory;
 
 }
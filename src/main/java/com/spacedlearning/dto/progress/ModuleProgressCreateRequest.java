@@ -27,9 +27,6 @@ public class ModuleProgressCreateRequest {
 	@NotNull(message = "Module ID is required")
 	private UUID moduleId;
 
-	@NotNull(message = "User ID is required")
-	private UUID userId;
-
 	private LocalDate firstLearningDate;
 
 	private CycleStudied cyclesStudied;
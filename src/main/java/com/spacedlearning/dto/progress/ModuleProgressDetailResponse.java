@@ -32,6 +32,8 @@ public class ModuleProgressDetailResponse {
     private CycleStudied cyclesStudied;
     private LocalDate nextStudyDate;
     private BigDecimal percentComplete;
+    private Integer archivedReviewCount;
+    private LocalDate lastArchivedReviewDate;
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
     private List<RepetitionResponse> repetitions;
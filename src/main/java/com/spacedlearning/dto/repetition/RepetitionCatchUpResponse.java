@@ -0,0 +1,22 @@
+package com.spacedlearning.dto.repetition;
+
+import java.time.LocalDate;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * DTO for the result of spreading an overdue backlog
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class RepetitionCatchUpResponse {
+    private int overdueRepetitions;
+    private int movedRepetitions;
+    private int updatedProgress;
+    private LocalDate lastDay;
+}
@@ -3,6 +3,7 @@ package com.spacedlearning.dto.repetition;
 import com.spacedlearning.entity.enums.RepetitionStatus;
 import jakarta.validation.constraints.DecimalMax;
 import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotNull;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -25,4 +26,10 @@ public class RepetitionCompletionRequest {
     @DecimalMin(value = "0.0", message = "Score cannot be negative")
     @DecimalMax(value = "100.0", message = "Score cannot exceed 100")
     private BigDecimal score;
+
+    /**
+     * Time the learner spent on the review, recorded in the review log only.
+     */
+    @Min(value = 0, message = "Duration cannot be negative")
+    private Integer durationMs;
 }
\ No newline at end of file
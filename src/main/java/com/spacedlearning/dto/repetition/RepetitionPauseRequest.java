@@ -0,0 +1,31 @@
+package com.spacedlearning.dto.repetition;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+/**
+ * DTO for pausing a learner's schedule: pending repetitions due between the
+ * start and end date move forward by the given number of days
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class RepetitionPauseRequest {
+    @NotNull(message = "Start date is required")
+    private LocalDate startDate;
+
+    @NotNull(message = "End date is required")
+    private LocalDate endDate;
+
+    @Min(value = 1, message = "Days must be at least 1")
+    @Max(value = 365, message = "Days must be at most 365")
+    private int days;
+}
@@ -0,0 +1,18 @@
+package com.spacedlearning.dto.repetition;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * DTO for the result of pausing or resuming a schedule
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class RepetitionPauseResponse {
+    private int shiftedRepetitions;
+    private int updatedProgress;
+}
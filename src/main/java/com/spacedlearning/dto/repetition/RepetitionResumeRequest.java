@@ -0,0 +1,22 @@
+package com.spacedlearning.dto.repetition;
+
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+/**
+ * DTO for resuming a learner's schedule after an open-ended break: pending
+ * repetitions due from the pause date on move forward by the days paused
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class RepetitionResumeRequest {
+    @NotNull(message = "Paused since date is required")
+    private LocalDate pausedSince;
+}
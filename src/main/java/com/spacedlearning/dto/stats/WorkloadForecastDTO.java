@@ -0,0 +1,38 @@
+package com.spacedlearning.dto.stats;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * DTO for the projected daily review load
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class WorkloadForecastDTO {
+
+	@Data
+	@Builder
+	@NoArgsConstructor
+	@AllArgsConstructor
+	public static class DailyLoad {
+		private LocalDate date;
+		private int repetitions;
+		private long words;
+	}
+
+	private LocalDate startDate;
+	private int days;
+	private int moduleProgressCount;
+	private long totalRepetitions;
+	private long totalWords;
+	private LocalDate peakDate;
+	private int peakRepetitions;
+	private List<DailyLoad> daily;
+}
@@ -0,0 +1,27 @@
+package com.spacedlearning.dto.word;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * DTO for a word to review
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class DueWordResponse {
+    private UUID vocabularyId;
+    private UUID moduleProgressId;
+    private String term;
+    private String definition;
+    private LocalDate dueDate;
+    private int intervalDays;
+    private int lapses;
+    private boolean newWord;
+}
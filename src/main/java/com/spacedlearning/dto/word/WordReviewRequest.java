@@ -0,0 +1,28 @@
+package com.spacedlearning.dto.word;
+
+import java.util.UUID;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * DTO for the recall grade of one word
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class WordReviewRequest {
+    @NotNull(message = "Vocabulary ID is required")
+    private UUID vocabularyId;
+
+    @NotNull(message = "Quality is required")
+    @Min(value = 0, message = "Quality cannot be below 0")
+    @Max(value = 5, message = "Quality cannot exceed 5")
+    private Integer quality;
+}
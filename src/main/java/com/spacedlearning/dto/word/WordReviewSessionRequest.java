@@ -0,0 +1,24 @@
+package com.spacedlearning.dto.word;
+
+import java.util.List;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * DTO for the word reviews of one study session, in the order they were made
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class WordReviewSessionRequest {
+    @NotEmpty(message = "Reviews are required")
+    @Size(max = 1000, message = "A session cannot contain more than 1000 reviews")
+    private List<@Valid WordReviewRequest> reviews;
+}
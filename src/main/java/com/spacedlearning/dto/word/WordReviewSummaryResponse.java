@@ -0,0 +1,24 @@
+package com.spacedlearning.dto.word;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * DTO for the word review state of a module progress record
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class WordReviewSummaryResponse {
+    private UUID moduleProgressId;
+    private int totalWords;
+    private int startedWords;
+    private int dueWords;
+    private LocalDate nextDueDate;
+}
@@ -0,0 +1,62 @@
+package com.spacedlearning.entity;
+
+import java.time.LocalDateTime;
+
+import com.spacedlearning.entity.enums.JobStatus;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+
+/**
+ * Last run of a background job, keyed by job name. Only one node runs a job
+ * at a time, so the row is written by the lock holder alone.
+ */
+@Entity
+@Table(name = "background_jobs", schema = "spaced_learning")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@ToString
+public class JobState {
+
+    @Id
+    @Column(name = "name", length = 100, updatable = false)
+    private String name;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", length = 20, nullable = false)
+    private JobStatus status;
+
+    @Column(name = "owner")
+    private String owner;
+
+    @Column(name = "checkpoint")
+    private String checkpoint;
+
+    @Column(name = "processed", nullable = false)
+    private long processed;
+
+    @Column(name = "started_at")
+    private LocalDateTime startedAt;
+
+    @Column(name = "finished_at")
+    private LocalDateTime finishedAt;
+
+    @Column(name = "heartbeat_at")
+    private LocalDateTime heartbeatAt;
+
+    @Column(name = "last_error", length = 1000)
+    private String lastError;
+}
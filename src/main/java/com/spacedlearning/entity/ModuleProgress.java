@@ -1,9 +1,14 @@
 package com.spacedlearning.entity;
 
 import java.math.BigDecimal;
+import java.time.Clock;
 import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.UUID;
+
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
 
 import com.spacedlearning.entity.enums.CycleStudied;
 
@@ -16,7 +21,9 @@ import jakarta.persistence.FetchType;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.OneToMany;
+import jakarta.persistence.PrePersist;
 import jakarta.persistence.Table;
+import jakarta.persistence.Version;
 import jakarta.validation.constraints.DecimalMax;
 import jakarta.validation.constraints.DecimalMin;
 import jakarta.validation.constraints.NotNull;
@@ -35,7 +42,7 @@ import lombok.ToString;
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder(toBuilder = true)
-@ToString(exclude = { "repetitions", "learningCycles" })
+@ToString(exclude = { "user", "repetitions", "learningCycles" })
 @EqualsAndHashCode(callSuper = true)
 public class ModuleProgress extends BaseEntity {
 
@@ -44,6 +51,36 @@ public class ModuleProgress extends BaseEntity {
     @JoinColumn(name = "module_id", nullable = false)
     private Module module;
 
+    /**
+     * The learner who owns this progress record.
+     */
+    @NotNull
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
+    @JoinColumn(name = "user_id", nullable = false)
+    private User user;
+
+    /**
+     * Book of the module, copied on insert so per-user statistics need no join.
+     */
+    @Column(name = "book_id", updatable = false)
+    private UUID bookId;
+
+    /**
+     * Word count of the module, copied on insert and kept in sync by set-based
+     * updates when the module changes.
+     */
+    @Column(name = "word_count", columnDefinition = "integer not null default 0", updatable = false)
+    @Builder.Default
+    private Integer wordCount = 0;
+
+    /**
+     * False once the module or its book is soft-deleted. Maintained by
+     * set-based updates only.
+     */
+    @Column(name = "active", columnDefinition = "boolean not null default true", updatable = false)
+    @Builder.Default
+    private boolean active = true;
+
     @Column(name = "first_learning_date")
     private LocalDate firstLearningDate;
 
@@ -52,6 +89,13 @@ public class ModuleProgress extends BaseEntity {
     @Builder.Default
     private CycleStudied cyclesStudied = CycleStudied.FIRST_TIME;
 
+    /**
+     * Latest start date of the cycle in {@link #cyclesStudied}, kept alongside
+     * the cycle history so scheduling never has to load it.
+     */
+    @Column(name = "current_cycle_start")
+    private LocalDate currentCycleStart;
+
     @Column(name = "next_study_date")
     private LocalDate nextStudyDate;
 
@@ -68,20 +112,57 @@ public class ModuleProgress extends BaseEntity {
     @Builder.Default
     private Integer extendedReviewCount = 0;
 
+    /**
+     * Number of completed repetitions moved to the history tier.
+     */
+    @Column(name = "archived_review_count")
+    @Builder.Default
+    private Integer archivedReviewCount = 0;
+
+    /**
+     * Latest review date among the archived repetitions.
+     */
+    @Column(name = "last_archived_review_date")
+    private LocalDate lastArchivedReviewDate;
+
+    /**
+     * Completed review dates as epoch days, newest first. Appended in SQL when a
+     * repetition is completed, so it is never written through the entity.
+     */
+    @JdbcTypeCode(SqlTypes.ARRAY)
+    @Column(name = "study_history", columnDefinition = "integer[] default '{}'", insertable = false, updatable = false)
+    private int[] studyHistory;
+
+    /**
+     * Optimistic lock version. Bumped on every completion so that two devices
+     * completing reviews of the same progress cannot both advance the cycle.
+     */
+    @Version
+    @Column(name = "version", columnDefinition = "bigint not null default 0")
+    private Long version;
+
     @Builder.Default
     @OneToMany(mappedBy = "moduleProgress", fetch = FetchType.LAZY, cascade = CascadeType.ALL, orphanRemoval = true)
     private List<Repetition> repetitions = new ArrayList<>();
 
+    /**
+     * Full cycle history. New cycles are inserted through the cycle repository
+     * (see {@link #startCycle}), so this collection is not updated in-session.
+     */
     @Builder.Default
     @OneToMany(mappedBy = "moduleProgress", fetch = FetchType.LAZY, cascade = CascadeType.ALL, orphanRemoval = true)
     private List<LearningCycle> learningCycles = new ArrayList<>();
 
-    public void addCycleStart(CycleStudied cycle, LocalDate date) {
-        final var learningCycle = new LearningCycle();
-        learningCycle.setModuleProgress(this);
-        learningCycle.setCycle(cycle);
-        learningCycle.setStartDate(date);
-        this.learningCycles.add(learningCycle);
+    @PrePersist
+    void copyModuleDetails() {
+        if (this.module == null) {
+            return;
+        }
+        if (this.module.getBook() != null) {
+            this.bookId = this.module.getBook().getId();
+        }
+        this.wordCount = this.module.getWordCount() != null ? this.module.getWordCount() : 0;
+        this.active = true;
     }
 
     public Repetition addRepetition(Repetition repetition) {
@@ -90,23 +171,26 @@ public class ModuleProgress extends BaseEntity {
         return repetition;
     }
 
-    public LocalDate findLatestCycleStart(CycleStudied cycle) {
-        return this.learningCycles.stream()
-                .filter(r -> r.getCycle() == cycle)
-                .map(LearningCycle::getStartDate)
-                .max(LocalDate::compareTo)
-                .orElse(null);
-    }
-
-    public LocalDate getEffectiveStartDate() {
-        final var cycleStart = findLatestCycleStart(this.cyclesStudied);
-        if (cycleStart != null) {
-            return cycleStart;
+    /**
+     * Start of the current cycle, else the first learning date, else today.
+     *
+     * @param clock Clock that defines today
+     */
+    public LocalDate getEffectiveStartDate(Clock clock) {
+        if (this.currentCycleStart != null) {
+            return this.currentCycleStart;
         }
         if (this.firstLearningDate != null) {
             return this.firstLearningDate;
         }
-        return LocalDate.now(); // fallback
+        return LocalDate.now(clock);
+    }
+
+    /**
+     * Returns the owner's ID without initializing the lazy user proxy.
+     */
+    public UUID getUserId() {
+        return this.user != null ? this.user.getId() : null;
     }
 
     public boolean removeRepetition(Repetition repetition) {
@@ -116,4 +200,18 @@ public class ModuleProgress extends BaseEntity {
         }
         return removed;
     }
+
+    /**
+     * Make the given cycle current and move the current-cycle pointer, keeping
+     * the later date when the same cycle is started twice. The returned row is
+     * not added to {@link #learningCycles}; callers insert it directly.
+     */
+    public LearningCycle startCycle(CycleStudied cycle, LocalDate date) {
+        final var sameCycle = (cycle == this.cyclesStudied) && (this.currentCycleStart != null);
+        if (!sameCycle || date.isAfter(this.currentCycleStart)) {
+            this.currentCycleStart = date;
+        }
+        this.cyclesStudied = cycle;
+        return LearningCycle.create(this, cycle, date);
+    }
 }
@@ -1,6 +1,7 @@
 package com.spacedlearning.entity;
 
 import java.time.LocalDate;
+import java.util.UUID;
 
 import com.spacedlearning.entity.enums.RepetitionOrder;
 import com.spacedlearning.entity.enums.RepetitionStatus;
@@ -12,7 +13,9 @@ import jakarta.persistence.Enumerated;
 import jakarta.persistence.FetchType;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.PrePersist;
 import jakarta.persistence.Table;
+import jakarta.persistence.Version;
 import jakarta.validation.constraints.NotNull;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -22,6 +25,19 @@ import lombok.NoArgsConstructor;
 import lombok.Setter;
 import lombok.ToString;
 
+/**
+ * Scheduled review of a module progress record.
+ * <p>
+ * The table is hash-partitioned by {@code module_progress_id}, and Postgres
+ * requires the partition key in its primary key, so the key is
+ * {@code (id, module_progress_id)}. The entity is still identified by
+ * {@code id} alone: ids are UUIDv7 values generated by the application, a
+ * repetition never moves to another progress record (the join column is not
+ * updatable), so {@code id} is unique on its own and the extra key column adds
+ * no identity. Lookups by {@code id} alone probe the primary key index of each
+ * partition; the hot paths query by {@code module_progress_id} and are pruned
+ * to a single partition.
+ */
 @Entity
 @Table(name = "repetitions", schema = "spaced_learning")
 @Getter
@@ -35,7 +51,7 @@ public class Repetition extends BaseEntity {
 
     @NotNull
     @ManyToOne(fetch = FetchType.LAZY, optional = false)
-    @JoinColumn(name = "module_progress_id", nullable = false)
+    @JoinColumn(name = "module_progress_id", nullable = false, updatable = false)
     private ModuleProgress moduleProgress;
 
     @NotNull
@@ -50,4 +66,49 @@ public class Repetition extends BaseEntity {
 
     @Column(name = "review_date")
     private LocalDate reviewDate;
+
+    /**
+     * Optimistic lock version.
+     */
+    @Version
+    @Column(name = "version", columnDefinition = "bigint not null default 0")
+    private Long version;
+
+    /**
+     * Owner of the progress record, copied on insert.
+     */
+    @Column(name = "user_id", updatable = false)
+    private UUID userId;
+
+    /**
+     * Book of the module, copied on insert.
+     */
+    @Column(name = "book_id", updatable = false)
+    private UUID bookId;
+
+    /**
+     * Word count of the module, kept in sync by set-based updates.
+     */
+    @Column(name = "word_count", columnDefinition = "integer not null default 0", updatable = false)
+    @Builder.Default
+    private Integer wordCount = 0;
+
+    /**
+     * False once the progress record, module or book is soft-deleted.
+     * Maintained by set-based updates only.
+     */
+    @Column(name = "active", columnDefinition = "boolean not null default true", updatable = false)
+    @Builder.Default
+    private boolean active = true;
+
+    @PrePersist
+    void copyProgressDetails() {
+        if (this.moduleProgress == null) {
+            return;
+        }
+        this.userId = this.moduleProgress.getUserId();
+        this.bookId = this.moduleProgress.getBookId();
+        this.wordCount = this.moduleProgress.getWordCount() != null ? this.moduleProgress.getWordCount() : 0;
+        this.active = this.moduleProgress.isActive();
+    }
 }
@@ -0,0 +1,58 @@
+package com.spacedlearning.entity;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import org.hibernate.annotations.Immutable;
+
+import com.spacedlearning.entity.enums.RepetitionOrder;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+/**
+ * Archived completed repetition. Rows are written only by the history archiver,
+ * which moves them out of the active repetitions table; the table is
+ * range-partitioned by month of review date.
+ */
+@Entity
+@Immutable
+@Table(name = "repetition_history", schema = "spaced_learning", indexes = @Index(name = "idx_repetition_history_progress_date", columnList = "module_progress_id, review_date"))
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@ToString
+public class RepetitionHistory {
+
+    @Id
+    @Column(name = "id", updatable = false)
+    private UUID id;
+
+    @Column(name = "module_progress_id", nullable = false, updatable = false)
+    private UUID moduleProgressId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "repetition_order", length = 20, nullable = false, updatable = false)
+    private RepetitionOrder repetitionOrder;
+
+    @Column(name = "review_date", nullable = false, updatable = false)
+    private LocalDate reviewDate;
+
+    @Column(name = "created_at", updatable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "archived_at", nullable = false, updatable = false)
+    private LocalDateTime archivedAt;
+}
@@ -0,0 +1,79 @@
+package com.spacedlearning.entity;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import org.hibernate.annotations.Immutable;
+
+import com.spacedlearning.entity.enums.CycleStudied;
+import com.spacedlearning.entity.enums.RepetitionOrder;
+import com.spacedlearning.entity.enums.RepetitionStatus;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+/**
+ * Logged repetition completion. Rows are written in batches with COPY by
+ * {@code ReviewLogRepository} and never change; the mapping is read-only.
+ */
+@Entity
+@Immutable
+@Table(name = "review_log", schema = "spaced_learning")
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@ToString
+public class ReviewLog {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "id", updatable = false)
+    private Long id;
+
+    @Column(name = "reviewed_at", nullable = false)
+    private LocalDateTime reviewedAt;
+
+    @Column(name = "user_id", nullable = false)
+    private UUID userId;
+
+    @Column(name = "module_progress_id", nullable = false)
+    private UUID moduleProgressId;
+
+    @Column(name = "repetition_id", nullable = false)
+    private UUID repetitionId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "repetition_order", length = 20, nullable = false)
+    private RepetitionOrder repetitionOrder;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "cycle", length = 30, nullable = false)
+    private CycleStudied cycle;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", length = 20, nullable = false)
+    private RepetitionStatus status;
+
+    @Column(name = "score", precision = 5, scale = 2)
+    private BigDecimal score;
+
+    @Column(name = "scheduled_date")
+    private LocalDate scheduledDate;
+
+    @Column(name = "duration_ms")
+    private Integer durationMs;
+}
@@ -0,0 +1,68 @@
+package com.spacedlearning.entity;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+
+/**
+ * Schedule parameters fitted for one learner. Rows are replaced in batches by
+ * {@code ScheduleFitRepository}; the application only reads them.
+ */
+@Entity
+@Table(name = "user_schedule_parameters", schema = "spaced_learning")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@ToString
+public class UserScheduleParameters {
+
+    @Id
+    @Column(name = "user_id", updatable = false)
+    private UUID userId;
+
+    @JdbcTypeCode(SqlTypes.ARRAY)
+    @Column(name = "multipliers", columnDefinition = "double precision[]", nullable = false)
+    private double[] multipliers;
+
+    @Column(name = "cycle_factor", nullable = false)
+    private double cycleFactor;
+
+    @Column(name = "completion_factor", nullable = false)
+    private double completionFactor;
+
+    @Column(name = "word_factor", nullable = false)
+    private double wordFactor;
+
+    @Column(name = "sample_count", nullable = false)
+    private int sampleCount;
+
+    /**
+     * Mean squared recall error of the fitted parameters.
+     */
+    @Column(name = "loss", nullable = false)
+    private double loss;
+
+    /**
+     * Mean squared recall error of the default parameters on the same samples.
+     */
+    @Column(name = "default_loss", nullable = false)
+    private double defaultLoss;
+
+    @Column(name = "fitted_at", nullable = false)
+    private LocalDateTime fittedAt;
+}
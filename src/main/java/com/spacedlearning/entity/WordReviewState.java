@@ -0,0 +1,68 @@
+package com.spacedlearning.entity;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.persistence.Version;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+
+/**
+ * Per-word review state of one module progress record. The words are packed
+ * into {@link #states} (see
+ * {@code com.spacedlearning.service.impl.word.PackedWordStates}); the other
+ * columns are derived from it on every write so rows can be filtered without
+ * decoding.
+ */
+@Entity
+@Table(name = "word_review_states", schema = "spaced_learning")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@ToString(exclude = "states")
+public class WordReviewState {
+
+    @Id
+    @Column(name = "module_progress_id", updatable = false)
+    private UUID moduleProgressId;
+
+    @Column(name = "user_id", nullable = false, updatable = false)
+    private UUID userId;
+
+    @Column(name = "module_id", nullable = false, updatable = false)
+    private UUID moduleId;
+
+    @Column(name = "word_count", nullable = false)
+    private int wordCount;
+
+    /**
+     * Earliest due date among the packed words as an epoch day, or null when
+     * no word has been reviewed yet.
+     */
+    @Column(name = "next_due_day")
+    private Integer nextDueDay;
+
+    @Column(name = "states", columnDefinition = "bytea", nullable = false)
+    private byte[] states;
+
+    /**
+     * Optimistic lock version, so two study sessions of the same module cannot
+     * overwrite each other's packed state.
+     */
+    @Version
+    @Column(name = "version", columnDefinition = "bigint not null default 0")
+    private Long version;
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+}
@@ -0,0 +1,18 @@
+package com.spacedlearning.entity.enums;
+
+import lombok.Getter;
+
+/**
+ * Enum representing the outcome of a background job run.
+ */
+@Getter
+public enum JobStatus {
+    RUNNING("RUNNING"), COMPLETED("COMPLETED"), FAILED("FAILED");
+
+    private final String value;
+
+    JobStatus(String value) {
+        this.value = value;
+    }
+
+}
@@ -0,0 +1,17 @@
+package com.spacedlearning.entity.id;
+
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.id.IdentifierGenerator;
+
+import com.spacedlearning.util.UuidV7;
+
+/**
+ * Hibernate generator for {@link GeneratedUuidV7} identifiers.
+ */
+public class UuidV7Generator implements IdentifierGenerator {
+
+    @Override
+    public Object generate(SharedSessionContractImplementor session, Object object) {
+        return UuidV7.next();
+    }
+}
@@ -0,0 +1,17 @@
+package com.spacedlearning.event;
+
+import java.util.UUID;
+
+/**
+ * Published when a write makes a cached entry stale. Inside a transaction the
+ * eviction is deferred to commit, on this node and on every other node.
+ *
+ * @param cacheName Cache holding the entry
+ * @param key       Entry key, or {@code null} to clear the whole cache
+ */
+public record CacheInvalidationEvent(String cacheName, UUID key) {
+
+    public static CacheInvalidationEvent all(String cacheName) {
+        return new CacheInvalidationEvent(cacheName, null);
+    }
+}
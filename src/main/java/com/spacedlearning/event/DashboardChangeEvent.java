@@ -0,0 +1,21 @@
+package com.spacedlearning.event;
+
+import java.util.UUID;
+
+/**
+ * Published when a learner's schedule changes in a way that affects their
+ * dashboard. Listeners receive it after the surrounding transaction commits.
+ *
+ * @param userId           Learner whose dashboard changed
+ * @param moduleProgressId Progress record that changed, or {@code null} when
+ *                         a bulk change touched several
+ * @param type             Kind of change
+ */
+public record DashboardChangeEvent(UUID userId, UUID moduleProgressId, Type type) {
+
+    public enum Type {
+        COMPLETED,
+        RESCHEDULED,
+        CYCLE_ADVANCED
+    }
+}
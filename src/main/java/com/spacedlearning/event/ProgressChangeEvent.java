@@ -0,0 +1,24 @@
+package com.spacedlearning.event;
+
+import java.util.UUID;
+
+/**
+ * Outbox payload for a learner's progress records being created, changed or
+ * removed.
+ *
+ * @param userId           Learner who owns the progress
+ * @param moduleProgressId Progress record that changed, or {@code null} when
+ *                         a bulk change touched several
+ * @param type             Kind of change
+ */
+public record ProgressChangeEvent(UUID userId, UUID moduleProgressId, Type type) {
+
+    public static final String OUTBOX_TYPE = "progress.changed";
+
+    public enum Type {
+        CREATED,
+        UPDATED,
+        DELETED,
+        ENROLLED
+    }
+}
@@ -9,6 +9,7 @@ import java.util.stream.Collectors;
 import org.springframework.context.MessageSource;
 import org.springframework.context.i18n.LocaleContextHolder;
 import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.HttpStatusCode;
@@ -25,6 +26,8 @@ import org.springframework.web.context.request.WebRequest;
 import org.springframework.web.method.annotation.MethodArgumentTypeMismatchException;
 import org.springframework.web.servlet.mvc.method.annotation.ResponseEntityExceptionHandler;
 
+import com.spacedlearning.security.LoginThrottledException;
+
 import jakarta.persistence.EntityNotFoundException;
 import jakarta.validation.ConstraintViolation;
 import jakarta.validation.ConstraintViolationException;
@@ -181,6 +184,28 @@ public class GlobalExceptionHandler extends ResponseEntityExceptionHandler {
         return new ResponseEntity<>(apiError, HttpStatus.CONFLICT);
     }
 
+    @ExceptionHandler(OptimisticLockingFailureException.class)
+    public ResponseEntity<ApiError> handleOptimisticLockingFailureException(
+            final OptimisticLockingFailureException ex, final WebRequest request) {
+        log.warn("Concurrent update conflict - Origin: [{}]: {}", getOriginatingClassName(ex), ex.getMessage());
+
+        final var message = this.messageSource.getMessage(
+                "error.database.concurrentUpdate",
+                null,
+                "The record was changed by another request, please retry",
+                LocaleContextHolder.getLocale());
+
+        final var apiError = ApiError.builder()
+                .timestamp(LocalDateTime.now())
+                .status(HttpStatus.CONFLICT.value())
+                .error(HttpStatus.CONFLICT.getReasonPhrase())
+                .message(message)
+                .path(extractPath(request))
+                .build();
+
+        return new ResponseEntity<>(apiError, HttpStatus.CONFLICT);
+    }
+
     @ExceptionHandler(EntityNotFoundException.class)
     public ResponseEntity<ApiError> handleEntityNotFoundException(
             final EntityNotFoundException ex, final WebRequest request) {
@@ -288,6 +313,30 @@ public class GlobalExceptionHandler extends ResponseEntityExceptionHandler {
         return new ResponseEntity<>(apiError, HttpStatus.BAD_REQUEST);
     }
 
+    @ExceptionHandler(LoginThrottledException.class)
+    public ResponseEntity<ApiError> handleLoginThrottledException(final LoginThrottledException ex,
+            final WebRequest request) {
+        log.warn("Login throttled - retry after {}s", ex.getRetryAfterSeconds());
+
+        final var message = this.messageSource.getMessage(
+                "error.auth.tooManyLogins",
+                new Object[] { ex.getRetryAfterSeconds() },
+                ex.getMessage(),
+                LocaleContextHolder.getLocale());
+
+        final var apiError = ApiError.builder()
+                .timestamp(LocalDateTime.now())
+                .status(HttpStatus.TOO_MANY_REQUESTS.value())
+                .error(HttpStatus.TOO_MANY_REQUESTS.getReasonPhrase())
+                .message(message)
+                .path(extractPath(request))
+                .build();
+
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(ex.getRetryAfterSeconds()))
+                .body(apiError);
+    }
+
     @ExceptionHandler(SpacedLearningException.class)
     public ResponseEntity<ApiError> handleSpacedLearningException(
             final SpacedLearningException ex, final WebRequest request) {
@@ -13,6 +13,7 @@ import com.spacedlearning.dto.progress.ModuleProgressSummaryResponse;
 import com.spacedlearning.dto.progress.ModuleProgressUpdateRequest;
 import com.spacedlearning.entity.Module;
 import com.spacedlearning.entity.ModuleProgress;
+import com.spacedlearning.entity.User;
 
 import lombok.RequiredArgsConstructor;
 
@@ -57,12 +58,14 @@ public class ModuleProgressMapper extends AbstractGenericMapper<ModuleProgress,
                 .moduleId(entity.getModule().getId())
                 .moduleTitle(entity.getModule().getTitle())
                 .moduleUrl(entity.getModule().getUrl()) // Mapping URL từ Module entity
-                .userId(null) // Giữ là null vì đã bỏ userId ở ModuleProgress
-                .userName(null) // Giữ là null vì đã bỏ userName ở ModuleProgress
+                .userId(entity.getUserId())
+                .userName(entity.getUser() != null ? entity.getUser().getName() : null)
                 .firstLearningDate(entity.getFirstLearningDate())
                 .cyclesStudied(entity.getCyclesStudied())
                 .nextStudyDate(entity.getNextStudyDate())
                 .percentComplete(entity.getPercentComplete())
+                .archivedReviewCount(entity.getArchivedReviewCount())
+                .lastArchivedReviewDate(entity.getLastArchivedReviewDate())
                 .createdAt(entity.getCreatedAt())
                 .updatedAt(entity.getUpdatedAt())
                 .repetitions(repetitions)
@@ -85,7 +88,7 @@ public class ModuleProgressMapper extends AbstractGenericMapper<ModuleProgress,
         return progress;
     }
 
-    public ModuleProgress toEntity(final ModuleProgressCreateRequest request, final Module module) {
+    public ModuleProgress toEntity(final ModuleProgressCreateRequest request, final Module module, final User user) {
         if (request == null) {
             return null;
         }
@@ -93,6 +96,7 @@ public class ModuleProgressMapper extends AbstractGenericMapper<ModuleProgress,
 
         final var progress = new ModuleProgress();
         progress.setModule(module);
+        progress.setUser(user);
         progress.setFirstLearningDate(request.getFirstLearningDate());
         progress.setCyclesStudied(request.getCyclesStudied());
         progress.setNextStudyDate(request.getNextStudyDate());
@@ -110,6 +114,7 @@ public class ModuleProgressMapper extends AbstractGenericMapper<ModuleProgress,
         return ModuleProgressSummaryResponse.builder()
                 .id(entity.getId())
                 .moduleId(entity.getModule().getId())
+                .userId(entity.getUserId())
                 .firstLearningDate(entity.getFirstLearningDate())
                 .cyclesStudied(entity.getCyclesStudied())
                 .nextStudyDate(entity.getNextStudyDate())
@@ -131,6 +136,12 @@ public class ModuleProgressMapper extends AbstractGenericMapper<ModuleProgress,
                 .toList();
     }
 
+    /**
+     * Copy the plain fields of an update request. A cycle change is left to the
+     * service, which has to start the cycle through
+     * {@link ModuleProgress#startCycle} so the current-cycle pointer and the
+     * cycle history move with it.
+     */
     public ModuleProgress updateFromDto(final ModuleProgressUpdateRequest request, final ModuleProgress entity) {
         if ((request == null) || (entity == null)) {
             return entity;
@@ -139,9 +150,6 @@ public class ModuleProgressMapper extends AbstractGenericMapper<ModuleProgress,
         if (request.getFirstLearningDate() != null) {
             entity.setFirstLearningDate(request.getFirstLearningDate());
         }
-        if (request.getCyclesStudied() != null) {
-            entity.setCyclesStudied(request.getCyclesStudied());
-        }
         if (request.getNextStudyDate() != null) {
             entity.setNextStudyDate(request.getNextStudyDate());
         }
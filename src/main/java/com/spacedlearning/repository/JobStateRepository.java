@@ -0,0 +1,54 @@
+package com.spacedlearning.repository;
+
+import java.time.LocalDateTime;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.spacedlearning.entity.JobState;
+import com.spacedlearning.entity.enums.JobStatus;
+
+/**
+ * Repository for background job state
+ */
+@Repository
+public interface JobStateRepository extends JpaRepository<JobState, String> {
+
+    /**
+     * Record the progress of a running job and refresh its heartbeat
+     *
+     * @param name       Job name
+     * @param checkpoint Position reached
+     * @param processed  Items processed so far in this run
+     * @param now        Current time
+     * @return Number of rows updated
+     */
+    @Modifying
+    @Transactional
+    @Query("UPDATE JobState j SET j.checkpoint = :checkpoint, j.processed = :processed, j.heartbeatAt = :now "
+            + "WHERE j.name = :name")
+    int updateCheckpoint(@Param("name") String name, @Param("checkpoint") String checkpoint,
+            @Param("processed") long processed, @Param("now") LocalDateTime now);
+
+    /**
+     * Record the end of a run
+     *
+     * @param name       Job name
+     * @param status     Final status
+     * @param checkpoint Checkpoint to resume from, or null when the run completed
+     * @param processed  Items processed in this run
+     * @param error      Failure message, or null
+     * @param now        Current time
+     * @return Number of rows updated
+     */
+    @Modifying
+    @Transactional
+    @Query("UPDATE JobState j SET j.status = :status, j.checkpoint = :checkpoint, j.processed = :processed, "
+            + "j.lastError = :error, j.finishedAt = :now, j.heartbeatAt = :now WHERE j.name = :name")
+    int finish(@Param("name") String name, @Param("status") JobStatus status, @Param("checkpoint") String checkpoint,
+            @Param("processed") long processed, @Param("error") String error, @Param("now") LocalDateTime now);
+}
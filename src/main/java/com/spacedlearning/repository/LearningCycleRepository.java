@@ -0,0 +1,34 @@
+package com.spacedlearning.repository;
+
+import java.time.LocalDate;
+import java.util.Optional;
+import java.util.UUID;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.spacedlearning.entity.LearningCycle;
+import com.spacedlearning.entity.enums.CycleStudied;
+
+/**
+ * Repository for LearningCycle entity. Cycles are appended through here rather
+ * than through the progress's collection, so the history is never loaded.
+ */
+@Repository
+public interface LearningCycleRepository extends JpaRepository<LearningCycle, UUID> {
+
+    /**
+     * Find the latest start date of a cycle for a progress record, answered
+     * from the (module_progress_id, cycles_studied, start_date DESC) index
+     *
+     * @param progressId Module progress ID
+     * @param cycle      Cycle
+     * @return Latest start date, if the cycle was ever started
+     */
+    @Query("SELECT MAX(c.startDate) FROM LearningCycle c "
+            + "WHERE c.moduleProgress.id = :progressId AND c.cycle = :cycle")
+    Optional<LocalDate> findLatestStartDate(@Param("progressId") UUID progressId,
+            @Param("cycle") CycleStudied cycle);
+}
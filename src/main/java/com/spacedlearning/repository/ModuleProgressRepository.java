@@ -2,18 +2,24 @@ package com.spacedlearning.repository;
 
 import java.time.LocalDate;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import com.spacedlearning.entity.ModuleProgress;
 
+import jakarta.persistence.LockModeType;
+
 /**
  * Repository for ModuleProgress entity
  */
@@ -21,57 +27,170 @@ import com.spacedlearning.entity.ModuleProgress;
 public interface ModuleProgressRepository extends JpaRepository<ModuleProgress, UUID> {
 
     /**
-     * Check if progress exists for module
+     * Count progress records of a book
+     *
+     * @param bookId Book ID
+     * @return Number of progress records
+     */
+    long countByBookId(UUID bookId);
+
+    /**
+     * Check if a user already has progress for a module
      *
      * @param moduleId Module ID
+     * @param userId   User ID
      * @return true if exists, false otherwise
      */
-    boolean existsByModuleId(UUID moduleId);
+    boolean existsByModuleIdAndUserId(UUID moduleId, UUID userId);
+
+    /**
+     * Find the modules of a book a user already has progress for
+     *
+     * @param userId User ID
+     * @param bookId Book ID
+     * @return Module IDs
+     */
+    @Query("SELECT mp.module.id FROM ModuleProgress mp WHERE mp.user.id = :userId AND mp.bookId = :bookId")
+    Set<UUID> findModuleIdsByUserIdAndBookId(@Param("userId") UUID userId, @Param("bookId") UUID bookId);
 
     /**
-     * Find progress records by book
+     * Find a user's progress records of a book
      *
      * @param bookId   Book ID
+     * @param userId   User ID
      * @param pageable Pagination information
      * @return Page of progress records
      */
-    @Query("SELECT mp FROM ModuleProgress mp WHERE mp.module.book.id = :bookId ORDER BY mp.module.moduleNo ASC")
-    Page<ModuleProgress> findByBookId(@Param("bookId") UUID bookId, Pageable pageable);
+    @Query("SELECT mp FROM ModuleProgress mp WHERE mp.user.id = :userId AND mp.bookId = :bookId "
+            + "ORDER BY mp.module.moduleNo ASC")
+    Page<ModuleProgress> findByBookIdAndUserId(@Param("bookId") UUID bookId, @Param("userId") UUID userId,
+            Pageable pageable);
+
+    /**
+     * Find a user's progress record by ID
+     *
+     * @param id     Progress ID
+     * @param userId User ID
+     * @return Optional containing the progress record, empty if another user owns it
+     */
+    Optional<ModuleProgress> findByIdAndUserId(UUID id, UUID userId);
 
     /**
-     * Find progress by module ID
+     * Find a user's progress for a module
      *
      * @param moduleId Module ID
+     * @param userId   User ID
      * @return Optional containing progress record
      */
-    Optional<ModuleProgress> findByModuleId(UUID moduleId);
+    Optional<ModuleProgress> findByModuleIdAndUserId(UUID moduleId, UUID userId);
 
     /**
-     * Find progress by module ID
+     * Find a user's progress by module ID
      *
      * @param moduleId Module ID
+     * @param userId   User ID
      * @param pageable Pagination information
      * @return Page of progress records
      */
-    Page<ModuleProgress> findByModuleId(UUID moduleId, Pageable pageable);
+    Page<ModuleProgress> findByModuleIdAndUserId(UUID moduleId, UUID userId, Pageable pageable);
 
     /**
-     * Find progress records due for study on or before a specific date
+     * Load a progress record and force its version to be bumped at flush, so
+     * that concurrent writers to the same progress conflict even when only
+     * its repetitions change
      *
-     * @param studyDate Study date
-     * @param pageable  Pagination information
-     * @return Page of progress records
+     * @param id Progress ID
+     * @return Optional containing the progress record
      */
-    @Query("SELECT mp FROM ModuleProgress mp WHERE mp.nextStudyDate <= :studyDate ORDER BY mp.nextStudyDate ASC")
-    Page<ModuleProgress> findByNextStudyDateLessThanEqual(@Param("studyDate") LocalDate studyDate, Pageable pageable);
+    @Lock(LockModeType.OPTIMISTIC_FORCE_INCREMENT)
+    @Query("SELECT mp FROM ModuleProgress mp WHERE mp.id = :id")
+    Optional<ModuleProgress> findForWriteById(@Param("id") UUID id);
 
     /**
-     * Find progress by ID with repetitions eagerly loaded
+     * Find a user's progress by ID with repetitions eagerly loaded
      *
-     * @param id Progress ID
-     * @return Optional containing progress with repetitions
+     * @param id     Progress ID
+     * @param userId User ID
+     * @return Optional containing progress with repetitions, empty if another
+     *         user owns it
      */
     @EntityGraph(attributePaths = { "repetitions" })
-    Optional<ModuleProgress> findWithRepetitionsById(UUID id);
+    Optional<ModuleProgress> findWithRepetitionsByIdAndUserId(UUID id, UUID userId);
 
-}
\ No newline at end of file
+    /**
+     * Keyset page of a user's progress records due for study, ordered by (next
+     * study date, ID) and starting after the given position
+     *
+     * @param userId    User ID
+     * @param studyDate Date to study on or before
+     * @param afterDate Next study date of the last row already returned
+     * @param afterId   ID of the last row already returned
+     * @param pageable  Page size (page number is always 0)
+     * @return Slice of module progress
+     */
+    @Query("SELECT mp FROM ModuleProgress mp WHERE mp.user.id = :userId AND mp.nextStudyDate <= :studyDate "
+            + "AND (mp.nextStudyDate > :afterDate OR (mp.nextStudyDate = :afterDate AND mp.id > :afterId)) "
+            + "ORDER BY mp.nextStudyDate ASC, mp.id ASC")
+    Slice<ModuleProgress> findDueForStudyAfter(@Param("userId") UUID userId,
+            @Param("studyDate") LocalDate studyDate, @Param("afterDate") LocalDate afterDate,
+            @Param("afterId") UUID afterId, Pageable pageable);
+
+    /**
+     * Add a completed review date to the progress study history, keeping it
+     * sorted newest first
+     *
+     * @param progressId Module progress ID
+     * @param epochDay   Review date as days since 1970-01-01
+     * @return Number of rows updated
+     */
+    @Modifying
+    @Query(value = """
+            UPDATE spaced_learning.module_progress
+            SET study_history = ARRAY(
+                SELECT d FROM unnest(array_append(COALESCE(study_history, '{}'), :epochDay)) AS d
+                ORDER BY d DESC)
+            WHERE id = :progressId
+            """, nativeQuery = true)
+    int appendStudyHistory(@Param("progressId") UUID progressId, @Param("epochDay") int epochDay);
+
+    /**
+     * Recompute the progress study history from its completed repetitions in
+     * both tiers, after a completed review was undone, redated or deleted. A
+     * soft-deleted progress keeps no history. Pending changes are flushed
+     * first so the recount sees them.
+     *
+     * @param progressId Module progress ID
+     * @return Number of rows updated
+     */
+    @Modifying(flushAutomatically = true)
+    @Query(value = """
+            UPDATE spaced_learning.module_progress mp
+            SET study_history = CASE WHEN mp.deleted_at IS NOT NULL THEN '{}'::integer[] ELSE ARRAY(
+                SELECT r.review_date - DATE '1970-01-01'
+                FROM spaced_learning.repetitions r
+                WHERE r.module_progress_id = mp.id AND r.status = 'COMPLETED'
+                    AND r.review_date IS NOT NULL AND r.deleted_at IS NULL
+                UNION ALL
+                SELECT h.review_date - DATE '1970-01-01'
+                FROM spaced_learning.repetition_history h
+                WHERE h.module_progress_id = mp.id
+                ORDER BY 1 DESC) END
+            WHERE mp.id = :progressId
+            """, nativeQuery = true)
+    int rebuildStudyHistory(@Param("progressId") UUID progressId);
+
+    /**
+     * Copy a changed module word count onto its progress records
+     *
+     * @param moduleId  Module ID
+     * @param wordCount New word count
+     * @return Number of rows updated
+     */
+    @Modifying
+    @Query(value = """
+            UPDATE spaced_learning.module_progress
+            SET word_count = :wordCount
+            WHERE module_id = :moduleId AND word_count <> :wordCount
+            """, nativeQuery = true)
+    int updateWordCountByModuleId(@Param("moduleId") UUID moduleId, @Param("wordCount") int wordCount);
+}
@@ -19,133 +19,114 @@ public interface ModuleRepository extends JpaRepository<Module, UUID> {
 
     // Statistic: Modules completed today
     @Query(value = """
-            SELECT COUNT(DISTINCT mp.module_id)
-            FROM spaced_learning.module_progress mp
-            JOIN spaced_learning.repetitions r ON r.module_progress_id = mp.id
-            JOIN spaced_learning.modules m ON mp.module_id = m.id
-            JOIN spaced_learning.books b ON m.book_id = b.id
-            WHERE r.review_date = CURRENT_DATE
+            SELECT COUNT(DISTINCT r.module_progress_id)
+            FROM spaced_learning.repetitions r
+            WHERE r.user_id = :userId
+              AND r.review_date = CURRENT_DATE
               AND r.status = 'COMPLETED'
-              AND mp.deleted_at IS NULL
-              AND m.deleted_at IS NULL
-              AND b.deleted_at IS NULL
+              AND r.active AND r.deleted_at IS NULL
             """, nativeQuery = true)
-    int countCompletedToday();
+    int countCompletedToday(@Param("userId") UUID userId);
 
     // Statistic: Modules due this month
     @Query(value = """
-            SELECT COUNT(DISTINCT mp.module_id)
-            FROM spaced_learning.module_progress mp
-            JOIN spaced_learning.repetitions r ON r.module_progress_id = mp.id
-            JOIN spaced_learning.modules m ON mp.module_id = m.id
-            JOIN spaced_learning.books b ON m.book_id = b.id
-            WHERE r.review_date <= DATE_TRUNC('month', CURRENT_DATE) + INTERVAL '1 month' - INTERVAL '1 day'
-              AND mp.deleted_at IS NULL
-              AND m.deleted_at IS NULL
-              AND b.deleted_at IS NULL
+            SELECT COUNT(DISTINCT r.module_progress_id)
+            FROM spaced_learning.repetitions r
+            WHERE r.user_id = :userId
+              AND r.review_date <= DATE_TRUNC('month', CURRENT_DATE) + INTERVAL '1 month' - INTERVAL '1 day'
+              AND r.active AND r.deleted_at IS NULL
             """, nativeQuery = true)
-    int countDueThisMonth();
+    int countDueThisMonth(@Param("userId") UUID userId);
 
     // Statistic: Modules due this week
     @Query(value = """
-            SELECT COUNT(DISTINCT mp.module_id)
-            FROM spaced_learning.module_progress mp
-            JOIN spaced_learning.repetitions r ON r.module_progress_id = mp.id
-            JOIN spaced_learning.modules m ON mp.module_id = m.id
-            JOIN spaced_learning.books b ON m.book_id = b.id
-            WHERE r.review_date <= DATE_TRUNC('week', CURRENT_DATE) + INTERVAL '6 days'
-              AND mp.deleted_at IS NULL
-              AND m.deleted_at IS NULL
-              AND b.deleted_at IS NULL
+            SELECT COUNT(DISTINCT r.module_progress_id)
+            FROM spaced_learning.repetitions r
+            WHERE r.user_id = :userId
+              AND r.review_date <= DATE_TRUNC('week', CURRENT_DATE) + INTERVAL '6 days'
+              AND r.active AND r.deleted_at IS NULL
             """, nativeQuery = true)
-    int countDueThisWeek();
+    int countDueThisWeek(@Param("userId") UUID userId);
 
     // Statistic: Modules due today
     @Query(value = """
-            SELECT COUNT(DISTINCT mp.module_id)
-            FROM spaced_learning.module_progress mp
-            JOIN spaced_learning.repetitions r ON r.module_progress_id = mp.id
-            JOIN spaced_learning.modules m ON mp.module_id = m.id
-            JOIN spaced_learning.books b ON m.book_id = b.id
-            WHERE r.review_date <= CURRENT_DATE
-              AND mp.deleted_at IS NULL
-              AND m.deleted_at IS NULL
-              AND b.deleted_at IS NULL
+            SELECT COUNT(DISTINCT r.module_progress_id)
+            FROM spaced_learning.repetitions r
+            WHERE r.user_id = :userId
+              AND r.review_date <= CURRENT_DATE
+              AND r.active AND r.deleted_at IS NULL
             """, nativeQuery = true)
-    int countDueToday();
+    int countDueToday(@Param("userId") UUID userId);
 
     // Statistic: Learned word count
     @Query(value = """
-            SELECT COALESCE(SUM(m.word_count), 0)
+            SELECT COALESCE(SUM(mp.word_count), 0)
             FROM spaced_learning.module_progress mp
-            JOIN spaced_learning.modules m ON mp.module_id = m.id
-            JOIN spaced_learning.books b ON m.book_id = b.id
-            WHERE mp.first_learning_date IS NOT NULL
-              AND mp.deleted_at IS NULL
-              AND m.deleted_at IS NULL
-              AND b.deleted_at IS NULL
+            WHERE mp.user_id = :userId
+              AND mp.first_learning_date IS NOT NULL
+              AND mp.active AND mp.deleted_at IS NULL
             """, nativeQuery = true)
-    int countLearnedVocabularyWords();
+    int countLearnedVocabularyWords(@Param("userId") UUID userId);
 
+    // Statistic: Modules available to a user, from books shared with them or already enrolled in
     @Query(value = """
             SELECT COUNT(*)
             FROM spaced_learning.modules m
-            LEFT JOIN spaced_learning.books b ON m.book_id = b.id
-            WHERE m.deleted_at IS NULL AND b.deleted_at IS NULL
+            WHERE m.deleted_at IS NULL
+              AND (EXISTS (SELECT 1 FROM spaced_learning.user_books ub
+                           WHERE ub.user_id = :userId AND ub.book_id = m.book_id)
+                OR EXISTS (SELECT 1 FROM spaced_learning.module_progress mp
+                           WHERE mp.user_id = :userId AND mp.module_id = m.id AND mp.deleted_at IS NULL))
             """, nativeQuery = true)
-    int countTotalModules();
+    int countTotalModules(@Param("userId") UUID userId);
 
+    // Statistic: Words in the modules available to a user
     @Query(value = """
             SELECT COALESCE(SUM(m.word_count), 0)
             FROM spaced_learning.modules m
-            JOIN spaced_learning.books b ON m.book_id = b.id
-            WHERE m.deleted_at IS NULL AND b.deleted_at IS NULL
+            WHERE m.deleted_at IS NULL
+              AND (EXISTS (SELECT 1 FROM spaced_learning.user_books ub
+                           WHERE ub.user_id = :userId AND ub.book_id = m.book_id)
+                OR EXISTS (SELECT 1 FROM spaced_learning.module_progress mp
+                           WHERE mp.user_id = :userId AND mp.module_id = m.id AND mp.deleted_at IS NULL))
             """, nativeQuery = true)
-    int countTotalVocabularyWords();
+    int countTotalVocabularyWords(@Param("userId") UUID userId);
 
     @Query(value = """
-            SELECT COALESCE(SUM(m.word_count), 0)
-            FROM spaced_learning.module_progress mp
-            JOIN spaced_learning.repetitions r ON r.module_progress_id = mp.id
-            JOIN spaced_learning.modules m ON mp.module_id = m.id
-            JOIN spaced_learning.books b ON m.book_id = b.id
-            WHERE r.review_date = CURRENT_DATE AND r.status = 'COMPLETED'
-              AND mp.deleted_at IS NULL AND m.deleted_at IS NULL AND b.deleted_at IS NULL
+            SELECT COALESCE(SUM(r.word_count), 0)
+            FROM spaced_learning.repetitions r
+            WHERE r.user_id = :userId
+              AND r.review_date = CURRENT_DATE AND r.status = 'COMPLETED'
+              AND r.active AND r.deleted_at IS NULL
             """, nativeQuery = true)
-    int countWordsCompletedToday();
+    int countWordsCompletedToday(@Param("userId") UUID userId);
 
     @Query(value = """
-            SELECT COALESCE(SUM(m.word_count), 0)
-            FROM spaced_learning.module_progress mp
-            JOIN spaced_learning.modules m ON mp.module_id = m.id
-            JOIN spaced_learning.books b ON m.book_id = b.id
-            JOIN spaced_learning.repetitions r ON r.module_progress_id = mp.id
-            WHERE r.review_date <= DATE_TRUNC('month', CURRENT_DATE) + INTERVAL '1 month' - INTERVAL '1 day'
-              AND mp.deleted_at IS NULL AND m.deleted_at IS NULL AND b.deleted_at IS NULL
+            SELECT COALESCE(SUM(r.word_count), 0)
+            FROM spaced_learning.repetitions r
+            WHERE r.user_id = :userId
+              AND r.review_date <= DATE_TRUNC('month', CURRENT_DATE) + INTERVAL '1 month' - INTERVAL '1 day'
+              AND r.active AND r.deleted_at IS NULL
             """, nativeQuery = true)
-    int countWordsDueThisMonth();
+    int countWordsDueThisMonth(@Param("userId") UUID userId);
 
     @Query(value = """
-            SELECT COALESCE(SUM(m.word_count), 0)
-            FROM spaced_learning.module_progress mp
-            JOIN spaced_learning.modules m ON mp.module_id = m.id
-            JOIN spaced_learning.books b ON m.book_id = b.id
-            JOIN spaced_learning.repetitions r ON r.module_progress_id = mp.id
-            WHERE r.review_date <= DATE_TRUNC('week', CURRENT_DATE) + INTERVAL '6 days'
-              AND mp.deleted_at IS NULL AND m.deleted_at IS NULL AND b.deleted_at IS NULL
+            SELECT COALESCE(SUM(r.word_count), 0)
+            FROM spaced_learning.repetitions r
+            WHERE r.user_id = :userId
+              AND r.review_date <= DATE_TRUNC('week', CURRENT_DATE) + INTERVAL '6 days'
+              AND r.active AND r.deleted_at IS NULL
             """, nativeQuery = true)
-    int countWordsDueThisWeek();
+    int countWordsDueThisWeek(@Param("userId") UUID userId);
 
     @Query(value = """
-            SELECT COALESCE(SUM(m.word_count), 0)
-            FROM spaced_learning.module_progress mp
-            JOIN spaced_learning.repetitions r ON r.module_progress_id = mp.id
-            JOIN spaced_learning.modules m ON mp.module_id = m.id
-            JOIN spaced_learning.books b ON m.book_id = b.id
-            WHERE r.review_date = CURRENT_DATE
-              AND mp.deleted_at IS NULL AND m.deleted_at IS NULL AND b.deleted_at IS NULL
+            SELECT COALESCE(SUM(r.word_count), 0)
+            FROM spaced_learning.repetitions r
+            WHERE r.user_id = :userId
+              AND r.review_date = CURRENT_DATE
+              AND r.active AND r.deleted_at IS NULL
             """, nativeQuery = true)
-    int countWordsDueToday();
+    int countWordsDueToday(@Param("userId") UUID userId);
 
     // Business logic queries
     boolean existsByBookIdAndModuleNo(UUID bookId, Integer moduleNo);
@@ -163,15 +144,15 @@ public interface ModuleRepository extends JpaRepository<Module, UUID> {
     @Query(value = """
             SELECT COALESCE(SUM(
                 CASE
-                    WHEN mp.percent_complete = 100 THEN m.word_count
-                    ELSE CAST((m.word_count * mp.percent_complete / 100) AS INT)
+                    WHEN mp.percent_complete = 100 THEN mp.word_count
+                    ELSE CAST((mp.word_count * mp.percent_complete / 100) AS INT)
                 END
             ), 0)
-            FROM spaced_learning.modules m
-            JOIN spaced_learning.module_progress mp ON m.id = mp.module_id
-            WHERE m.deleted_at IS NULL AND mp.deleted_at IS NULL
+            FROM spaced_learning.module_progress mp
+            WHERE mp.user_id = :userId
+              AND mp.active AND mp.deleted_at IS NULL
             """, nativeQuery = true)
-    int getLearnedWordCount();
+    int getLearnedWordCount(@Param("userId") UUID userId);
 
     @Query(value = """
             WITH cycle_types AS (
@@ -186,15 +167,11 @@ public interface ModuleRepository extends JpaRepository<Module, UUID> {
                 COALESCE(COUNT(mp.cycles_studied), 0) AS cycle_count
             FROM
                 cycle_types ct
-            LEFT JOIN (
-                spaced_learning.module_progress mp
-                INNER JOIN spaced_learning.modules m
-                    ON m.id = mp.module_id
-                INNER JOIN spaced_learning.books b
-                    ON m.book_id = b.id
-                    AND b.deleted_at IS NULL
-                    AND m.deleted_at IS NULL
-            ) ON ct.cycle_name = mp.cycles_studied
+            LEFT JOIN spaced_learning.module_progress mp
+                ON ct.cycle_name = mp.cycles_studied
+                AND mp.user_id = :userId
+                AND mp.active
+                AND mp.deleted_at IS NULL
             GROUP BY
                 ct.cycle_name
             ORDER BY
@@ -206,13 +183,13 @@ public interface ModuleRepository extends JpaRepository<Module, UUID> {
                     WHEN 'MORE_THAN_THREE_REVIEWS' THEN 5
                 END
             """, nativeQuery = true)
-    List<Object[]> getModuleCycleStudiedStats();
+    List<Object[]> getModuleCycleStudiedStats(@Param("userId") UUID userId);
 
     @Query(value = """
-            SELECT COALESCE(SUM(m.word_count), 0)
-            FROM spaced_learning.modules m
-            JOIN spaced_learning.module_progress mp ON m.id = mp.module_id
-            WHERE m.deleted_at IS NULL AND mp.deleted_at IS NULL
+            SELECT COALESCE(SUM(mp.word_count), 0)
+            FROM spaced_learning.module_progress mp
+            WHERE mp.user_id = :userId
+              AND mp.active AND mp.deleted_at IS NULL
             """, nativeQuery = true)
-    int getTotalWordCount();
+    int getTotalWordCount(@Param("userId") UUID userId);
 }
@@ -0,0 +1,71 @@
+package com.spacedlearning.repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.spacedlearning.entity.RefreshToken;
+
+/**
+ * Repository for issued refresh tokens
+ */
+@Repository
+public interface RefreshTokenRepository extends JpaRepository<RefreshToken, String> {
+
+    /**
+     * Delete tokens that expired before the cutoff
+     *
+     * @param cutoff Expiry cutoff
+     * @return Number of rows deleted
+     */
+    @Modifying
+    @Query("DELETE FROM RefreshToken t WHERE t.expiresAt < :cutoff")
+    int deleteExpiredBefore(@Param("cutoff") LocalDateTime cutoff);
+
+    /**
+     * Check whether a session has been revoked
+     *
+     * @param sessionId Session ID
+     * @return true if any token of the session is revoked
+     */
+    boolean existsBySessionIdAndRevokedAtIsNotNull(UUID sessionId);
+
+    /**
+     * Find revoked sessions that still have unexpired tokens
+     *
+     * @param now Current time
+     * @return Session IDs
+     */
+    @Query("SELECT DISTINCT t.sessionId FROM RefreshToken t WHERE t.revokedAt IS NOT NULL AND t.expiresAt > :now")
+    List<UUID> findRevokedSessionIds(@Param("now") LocalDateTime now);
+
+    /**
+     * Mark a token as exchanged if it is still usable. A result of zero means the
+     * token is unknown, expired, revoked or was already used.
+     *
+     * @param jti Token ID
+     * @param now Current time
+     * @return Number of rows updated
+     */
+    @Modifying
+    @Query("UPDATE RefreshToken t SET t.usedAt = :now "
+            + "WHERE t.jti = :jti AND t.usedAt IS NULL AND t.revokedAt IS NULL AND t.expiresAt > :now")
+    int markUsed(@Param("jti") String jti, @Param("now") LocalDateTime now);
+
+    /**
+     * Revoke every token of a session
+     *
+     * @param sessionId Session ID
+     * @param now       Current time
+     * @return Number of rows updated
+     */
+    @Modifying
+    @Query("UPDATE RefreshToken t SET t.revokedAt = :now WHERE t.sessionId = :sessionId AND t.revokedAt IS NULL")
+    int revokeSession(@Param("sessionId") UUID sessionId, @Param("now") LocalDateTime now);
+}
@@ -5,10 +5,14 @@ import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
@@ -16,6 +20,8 @@ import com.spacedlearning.entity.Repetition;
 import com.spacedlearning.entity.enums.RepetitionOrder;
 import com.spacedlearning.entity.enums.RepetitionStatus;
 
+import jakarta.persistence.QueryHint;
+
 /**
  * Repository for Repetition entity with optimized query methods for statistics.
  */
@@ -84,6 +90,35 @@ public interface RepetitionRepository extends JpaRepository<Repetition, UUID> {
     Page<Repetition> findDueRepetitions(@Param("reviewDate") LocalDate reviewDate,
             @Param("status") RepetitionStatus status, Pageable pageable);
 
+    /**
+     * Keyset page of a user's due repetitions ordered by (review date, ID),
+     * starting after the given position. Returns a Slice so no count query
+     * runs, and the cost does not grow with page depth.
+     *
+     * @param userId     User ID
+     * @param reviewDate Review date
+     * @param status     Status to filter by
+     * @param afterDate  Review date of the last row already returned
+     * @param afterId    ID of the last row already returned
+     * @param pageable   Page size (page number is always 0)
+     * @return Slice of repetitions
+     */
+    @Query("SELECT r FROM Repetition r JOIN r.moduleProgress mp WHERE mp.user.id = :userId "
+            + "AND r.reviewDate <= :reviewDate AND r.status = :status "
+            + "AND (r.reviewDate > :afterDate OR (r.reviewDate = :afterDate AND r.id > :afterId)) "
+            + "ORDER BY r.reviewDate ASC, r.id ASC")
+    Slice<Repetition> findDueRepetitionsByUserAfter(@Param("userId") UUID userId,
+            @Param("reviewDate") LocalDate reviewDate, @Param("status") RepetitionStatus status,
+            @Param("afterDate") LocalDate afterDate, @Param("afterId") UUID afterId, Pageable pageable);
+
+    /**
+     * Find a page of repetitions without running a count query
+     *
+     * @param pageable Pagination information
+     * @return Slice of repetitions
+     */
+    Slice<Repetition> findAllBy(Pageable pageable);
+
     /**
      * Find repetitions due for review for a specific book
      *
@@ -130,6 +165,7 @@ public interface RepetitionRepository extends JpaRepository<Repetition, UUID> {
     List<Repetition> findByModuleProgressIdAndStatusOrderByRepetitionOrder(
             @Param("progressId") UUID progressId, @Param("status") RepetitionStatus status);
 
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FLUSH_MODE, value = "COMMIT"))
     @Query("SELECT r.reviewDate, COUNT(r) " +
             "FROM Repetition r " +
             "WHERE r.reviewDate BETWEEN :startDate AND :endDate " +
@@ -139,4 +175,80 @@ public interface RepetitionRepository extends JpaRepository<Repetition, UUID> {
             @Param("startDate") LocalDate startDate,
             @Param("endDate") LocalDate endDate);
 
+    /**
+     * Count one user's repetitions per review date in a date range. Drives from the user's
+     * progress rows so each repetition partition is probed by module_progress_id. Reads the
+     * committed load without flushing, so a scheduling operation's pending changes stay
+     * queued for its single flush.
+     *
+     * @param userId    User ID
+     * @param startDate Start of the range (inclusive)
+     * @param endDate   End of the range (inclusive)
+     * @return Rows of [review date, count]
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FLUSH_MODE, value = "COMMIT"))
+    @Query("SELECT r.reviewDate, COUNT(r) " +
+            "FROM Repetition r JOIN r.moduleProgress mp " +
+            "WHERE mp.user.id = :userId " +
+            "AND r.reviewDate BETWEEN :startDate AND :endDate " +
+            "AND r.deletedAt IS NULL " +
+            "GROUP BY r.reviewDate")
+    List<Object[]> countReviewDatesBetweenForUser(
+            @Param("userId") UUID userId,
+            @Param("startDate") LocalDate startDate,
+            @Param("endDate") LocalDate endDate);
+
+    /**
+     * Load the inputs of the workload forecast for every pending repetition.
+     *
+     * @return Rows of [progress ID, cycles studied, percent complete, module word count,
+     *         review date, user ID]
+     */
+    @Query("SELECT mp.id, mp.cyclesStudied, mp.percentComplete, m.wordCount, r.reviewDate, mp.user.id "
+            + "FROM Repetition r JOIN r.moduleProgress mp JOIN mp.module m "
+            + "WHERE r.status = 'NOT_STARTED' AND r.reviewDate IS NOT NULL")
+    List<Object[]> findForecastInputs();
+
+    /**
+     * Load the inputs of the workload forecast for one user's pending repetitions.
+     *
+     * @param userId User ID
+     * @return Rows as in {@link #findForecastInputs()}
+     */
+    @Query("SELECT mp.id, mp.cyclesStudied, mp.percentComplete, m.wordCount, r.reviewDate, mp.user.id "
+            + "FROM Repetition r JOIN r.moduleProgress mp JOIN mp.module m "
+            + "WHERE mp.user.id = :userId AND r.status = 'NOT_STARTED' AND r.reviewDate IS NOT NULL")
+    List<Object[]> findForecastInputsForUser(@Param("userId") UUID userId);
+
+    /**
+     * Mark the repetitions of a progress record inactive after the record is
+     * soft-deleted
+     *
+     * @param progressId Module progress ID
+     * @return Number of rows updated
+     */
+    @Modifying
+    @Query(value = """
+            UPDATE spaced_learning.repetitions
+            SET active = FALSE
+            WHERE module_progress_id = :progressId AND active
+            """, nativeQuery = true)
+    int deactivateByModuleProgressId(@Param("progressId") UUID progressId);
+
+    /**
+     * Copy a changed module word count onto its repetitions
+     *
+     * @param moduleId  Module ID
+     * @param wordCount New word count
+     * @return Number of rows updated
+     */
+    @Modifying
+    @Query(value = """
+            UPDATE spaced_learning.repetitions
+            SET word_count = :wordCount
+            WHERE module_progress_id IN (
+                SELECT id FROM spaced_learning.module_progress WHERE module_id = :moduleId)
+              AND word_count <> :wordCount
+            """, nativeQuery = true)
+    int updateWordCountByModuleId(@Param("moduleId") UUID moduleId, @Param("wordCount") int wordCount);
 }
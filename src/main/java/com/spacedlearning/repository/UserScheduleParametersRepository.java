@@ -0,0 +1,15 @@
+package com.spacedlearning.repository;
+
+import java.util.UUID;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import com.spacedlearning.entity.UserScheduleParameters;
+
+/**
+ * Repository for fitted per-learner schedule parameters
+ */
+@Repository
+public interface UserScheduleParametersRepository extends JpaRepository<UserScheduleParameters, UUID> {
+}
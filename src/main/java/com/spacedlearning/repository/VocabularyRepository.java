@@ -9,6 +9,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 
@@ -24,4 +25,10 @@ public interface VocabularyRepository extends JpaRepository<Vocabulary, UUID> {
 
     @Query("SELECT COUNT(v) FROM Vocabulary v WHERE v.module.id = :moduleId AND v.deletedAt IS NULL")
     int countByModuleId(@Param("moduleId") UUID moduleId);
+
+    @Query("SELECT v.id FROM Vocabulary v WHERE v.module.id = :moduleId AND v.deletedAt IS NULL")
+    List<UUID> findIdsByModuleId(@Param("moduleId") UUID moduleId);
+
+    @Query("SELECT v.id FROM Vocabulary v WHERE v.module.id IN :moduleIds AND v.deletedAt IS NULL")
+    List<UUID> findIdsByModuleIdIn(@Param("moduleIds") Collection<UUID> moduleIds);
 }
\ No newline at end of file
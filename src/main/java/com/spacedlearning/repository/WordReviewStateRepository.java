@@ -0,0 +1,50 @@
+package com.spacedlearning.repository;
+
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.spacedlearning.entity.WordReviewState;
+
+/**
+ * Repository for packed per-word review state
+ */
+@Repository
+public interface WordReviewStateRepository extends JpaRepository<WordReviewState, UUID> {
+
+    /**
+     * Insert an empty state row unless one exists, so concurrent first
+     * sessions of a module meet on the same row and its version
+     *
+     * @param moduleProgressId Progress record
+     * @param userId           Owner of the progress
+     * @param moduleId         Module of the progress
+     * @param states           Encoded empty state
+     * @return Number of rows inserted
+     */
+    @Modifying
+    @Query(value = "INSERT INTO spaced_learning.word_review_states "
+            + "(module_progress_id, user_id, module_id, word_count, states, version) "
+            + "VALUES (:moduleProgressId, :userId, :moduleId, 0, :states, 0) "
+            + "ON CONFLICT (module_progress_id) DO NOTHING", nativeQuery = true)
+    int createIfAbsent(@Param("moduleProgressId") UUID moduleProgressId, @Param("userId") UUID userId,
+            @Param("moduleId") UUID moduleId, @Param("states") byte[] states);
+
+    /**
+     * Find a learner's states with a word due on or before the given day,
+     * skipping progress records that are deleted or inactive
+     *
+     * @param userId Learner ID
+     * @param day    Epoch day
+     * @return States ordered by their earliest due day
+     */
+    @Query("SELECT s FROM WordReviewState s WHERE s.userId = :userId AND s.nextDueDay <= :day "
+            + "AND EXISTS (SELECT 1 FROM ModuleProgress p WHERE p.id = s.moduleProgressId "
+            + "AND p.active = true AND p.deletedAt IS NULL) ORDER BY s.nextDueDay")
+    List<WordReviewState> findDueByUserId(@Param("userId") UUID userId, @Param("day") int day);
+}
@@ -1,9 +1,10 @@
 package com.spacedlearning.repository.custom;
 
 import java.util.List;
+import java.util.UUID;
 
 import com.spacedlearning.dto.learning.LearningModuleResponse;
 
 public interface LearningModuleRepository {
-    List<LearningModuleResponse> findModuleStudyProgress(int offset, int limit);
+    List<LearningModuleResponse> findModuleStudyProgress(UUID userId, int offset, int limit);
 }
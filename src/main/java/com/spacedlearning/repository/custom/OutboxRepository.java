@@ -0,0 +1,83 @@
+package com.spacedlearning.repository.custom;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Set-based access to the transactional outbox.
+ */
+public interface OutboxRepository {
+
+    /**
+     * Append an event in the caller's transaction.
+     *
+     * @param type    Event type
+     * @param key     Coalescing key, or null
+     * @param payload JSON payload
+     * @param now     Current time
+     */
+    void append(String type, String key, String payload, LocalDateTime now);
+
+    /**
+     * Claim up to {@code limit} pending events, oldest first. Rows locked by
+     * another dispatcher are skipped; claimed rows are leased until
+     * {@code leaseUntil} and their attempt count is incremented. Runs in its
+     * own transaction.
+     *
+     * @param limit      Maximum events to claim
+     * @param now        Current time
+     * @param leaseUntil Time at which unacknowledged events become claimable again
+     * @return Claimed events ordered by ID
+     */
+    List<ClaimedEvent> claim(int limit, LocalDateTime now, LocalDateTime leaseUntil);
+
+    /**
+     * Delete events delivered before the cutoff, oldest first. Dead-lettered
+     * events are never delivered and so are kept.
+     *
+     * @param cutoff Delivery cutoff
+     * @param limit  Maximum events to delete
+     * @return Number of events deleted
+     */
+    int deleteDeliveredBefore(LocalDateTime cutoff, int limit);
+
+    /**
+     * Mark events as delivered.
+     *
+     * @param ids Event IDs
+     * @param now Current time
+     * @return Number of events updated
+     */
+    int markDelivered(List<Long> ids, LocalDateTime now);
+
+    /**
+     * Give up on an event after its last attempt failed. The row is kept as a
+     * dead letter with the error; it is neither claimed again nor cleaned up.
+     *
+     * @param id    Event ID
+     * @param now   Current time
+     * @param error Failure message
+     */
+    void markFailed(long id, LocalDateTime now, String error);
+
+    /**
+     * Release a failed event for another attempt.
+     *
+     * @param id          Event ID
+     * @param availableAt Earliest time of the next attempt
+     * @param error       Failure message
+     */
+    void retryLater(long id, LocalDateTime availableAt, String error);
+
+    /**
+     * Outbox row claimed for delivery.
+     *
+     * @param id       Event ID
+     * @param type     Event type
+     * @param key      Coalescing key, or null
+     * @param payload  JSON payload
+     * @param attempts Attempts including the current one
+     */
+    record ClaimedEvent(long id, String type, String key, String payload, int attempts) {
+    }
+}
@@ -0,0 +1,38 @@
+package com.spacedlearning.repository.custom;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.Optional;
+
+/**
+ * Moves completed repetitions from the active table into the
+ * range-partitioned history table.
+ */
+public interface RepetitionArchiveRepository {
+
+    /**
+     * Archive the completed repetitions of up to {@code progressBatchSize}
+     * progress records, keeping the newest {@code keepPerProgress} completed
+     * repetitions of each record in the active table. Runs in its own
+     * transaction.
+     *
+     * @param keepPerProgress   Completed repetitions to keep per progress record
+     * @param progressBatchSize Maximum progress records handled by this batch
+     * @return Number of repetitions moved
+     */
+    int archiveBatch(int keepPerProgress, int progressBatchSize);
+
+    /**
+     * Create the monthly history partition for the given month if missing.
+     *
+     * @param month Month to cover
+     */
+    void ensurePartition(YearMonth month);
+
+    /**
+     * Range of review dates among completed active repetitions.
+     *
+     * @return [min, max] review dates, or empty if there are none
+     */
+    Optional<LocalDate[]> findCompletedReviewDateRange();
+}
@@ -0,0 +1,80 @@
+package com.spacedlearning.repository.custom;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.UUID;
+
+import com.spacedlearning.entity.enums.CycleStudied;
+import com.spacedlearning.entity.enums.RepetitionOrder;
+import com.spacedlearning.entity.enums.RepetitionStatus;
+
+/**
+ * Batched writes to the append-only review log and management of its monthly
+ * partitions.
+ */
+public interface ReviewLogRepository {
+
+    /**
+     * Append entries with a single COPY. Joins the caller's transaction when
+     * there is one.
+     *
+     * @param entries Entries to write
+     * @return Number of rows written
+     */
+    long append(List<Entry> entries);
+
+    /**
+     * Create the partition of a month unless it exists. Rows of that month
+     * already in the default partition are moved into it. Runs in its own
+     * transaction.
+     *
+     * @param month Month to create
+     * @return Whether a partition was created
+     */
+    boolean createPartition(YearMonth month);
+
+    /**
+     * Drop a month's partition and every row in it.
+     *
+     * @param month Month to drop
+     * @return Whether a partition was dropped
+     */
+    boolean dropPartition(YearMonth month);
+
+    /**
+     * Find the months that have a partition.
+     *
+     * @return Months in ascending order
+     */
+    List<YearMonth> findPartitionMonths();
+
+    /**
+     * Whether the log table is partitioned. It is not when the schema was
+     * generated from the entity mappings rather than by the migrations.
+     *
+     * @return Whether monthly partitions can be managed
+     */
+    boolean isPartitioned();
+
+    /**
+     * One logged completion.
+     *
+     * @param reviewedAt       Completion time
+     * @param userId           Learner
+     * @param moduleProgressId Progress record
+     * @param repetitionId     Completed repetition
+     * @param repetitionOrder  Order of the repetition in its cycle
+     * @param cycle            Cycle the repetition belonged to
+     * @param status           Status set by the completion
+     * @param score            Score reported, or null
+     * @param scheduledDate    Review date the repetition was scheduled for
+     * @param durationMs       Time spent on the review, or null
+     */
+    record Entry(LocalDateTime reviewedAt, UUID userId, UUID moduleProgressId, UUID repetitionId,
+            RepetitionOrder repetitionOrder, CycleStudied cycle, RepetitionStatus status, BigDecimal score,
+            LocalDate scheduledDate, Integer durationMs) {
+    }
+}
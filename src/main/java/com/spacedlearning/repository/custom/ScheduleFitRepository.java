@@ -0,0 +1,45 @@
+package com.spacedlearning.repository.custom;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+import com.spacedlearning.entity.UserScheduleParameters;
+import com.spacedlearning.entity.enums.CycleStudied;
+import com.spacedlearning.entity.enums.RepetitionOrder;
+
+/**
+ * Bulk reads of review history and bulk writes of fitted schedule parameters
+ * for the schedule fitting job.
+ */
+public interface ScheduleFitRepository {
+
+    /**
+     * Stream scored completions from the review log, ordered by learner, then
+     * progress, then time, reading from the database in chunks of
+     * {@code fetchSize} rows so the history is never held in memory.
+     *
+     * @param since     Earliest completion time to read
+     * @param afterUser Only read learners ordered after this ID, or all when null
+     * @param fetchSize Rows fetched per round trip
+     * @param consumer  Receives each completion on the calling thread, outside any transaction of the read
+     * @return Number of completions read
+     */
+    long streamCompletions(LocalDateTime since, UUID afterUser, int fetchSize, Consumer<Completion> consumer);
+
+    /**
+     * Insert or replace fitted parameters in one batch.
+     *
+     * @param parameters Fitted parameters, one per learner
+     * @return Number of rows written
+     */
+    int upsert(List<UserScheduleParameters> parameters);
+
+    /**
+     * One scored completion from the review log.
+     */
+    record Completion(UUID userId, UUID moduleProgressId, LocalDateTime reviewedAt, RepetitionOrder repetitionOrder,
+            CycleStudied cycle, double score, int wordCount) {
+    }
+}
@@ -0,0 +1,87 @@
+package com.spacedlearning.repository.custom;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Set-based moves of a learner's pending repetitions, used to pause or resume
+ * a schedule or spread an overdue backlog without rescheduling repetitions one
+ * by one.
+ */
+public interface ScheduleShiftRepository {
+
+    /**
+     * Write new review dates for a set of pending repetitions as one JDBC
+     * batch. Rows completed in the meantime are left alone.
+     *
+     * @param ids         Repetition IDs
+     * @param progressIds Progress IDs, aligned with {@code ids}
+     * @param reviewDates New review dates, aligned with {@code ids}
+     * @return Number of repetitions updated
+     */
+    int applyReviewDates(UUID[] ids, UUID[] progressIds, LocalDate[] reviewDates);
+
+    /**
+     * Words a learner has scheduled per day, leaving out progress records that
+     * have an overdue repetition.
+     *
+     * @param userId Learner ID
+     * @param from   First day; anything due on or before it counts as overdue
+     * @param days   Number of days
+     * @return Words per day, indexed by days after {@code from}
+     */
+    int[] findDailyWordsWithoutBacklog(UUID userId, LocalDate from, int days);
+
+    /**
+     * Every pending repetition of the learner's progress records that have a
+     * repetition due on or before the given day.
+     *
+     * @param userId Learner ID
+     * @param today  Current day
+     * @return Pending repetitions of those progress records
+     */
+    List<PendingRepetition> findPendingWithBacklog(UUID userId, LocalDate today);
+
+    /**
+     * Recompute {@code next_study_date} of every progress record of a learner
+     * from their pending repetitions.
+     *
+     * @param userId Learner ID
+     * @return Number of progress records whose date changed
+     */
+    int refreshNextStudyDates(UUID userId);
+
+    /**
+     * Shift a learner's pending repetitions out of a date range. Every progress
+     * with a pending repetition in the range moves that repetition and all its
+     * later pending ones by the same amount, so the gaps between them are kept.
+     * That amount is {@code days} plus a per-progress delay that spreads
+     * progresses landing on an already full day over the following days.
+     * Repetitions are moved rather than re-dated, so the gaps the learner's
+     * own schedule parameters produced are kept as they are.
+     *
+     * @param userId    Learner ID
+     * @param from      First day of the range (inclusive)
+     * @param to        Last day of the range (inclusive)
+     * @param days      Days to shift by
+     * @param capacity  Reviews per day before later days are used
+     * @param maxDelay  Largest extra delay in days
+     * @return Number of repetitions moved
+     */
+    int shiftPending(UUID userId, LocalDate from, LocalDate to, int days, int capacity, int maxDelay);
+
+    /**
+     * A pending repetition as the catch-up planner needs it.
+     *
+     * @param id          Repetition ID
+     * @param progressId  Progress ID
+     * @param orderIndex  Zero-based repetition order
+     * @param reviewDate  Current review date
+     * @param wordCount   Word count of the module
+     * @param cycleIndex  Zero-based cycle of the progress
+     */
+    record PendingRepetition(UUID id, UUID progressId, int orderIndex, LocalDate reviewDate, int wordCount,
+            int cycleIndex) {
+    }
+}
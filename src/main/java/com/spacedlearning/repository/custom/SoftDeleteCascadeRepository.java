@@ -0,0 +1,103 @@
+package com.spacedlearning.repository.custom;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Soft-deletes and restores books and modules together with their subtree
+ * (module progress, repetitions, learning cycles, vocabularies, grammars)
+ * using set-based updates only.
+ * <p>
+ * Every row marked by one cascade carries the same {@code deleted_at} stamp,
+ * so a restore brings back exactly those rows and leaves anything that was
+ * deleted on its own before untouched.
+ */
+public interface SoftDeleteCascadeRepository {
+
+    /**
+     * Soft-deleted books that still have live modules, i.e. cascades that were
+     * interrupted or books deleted before the cascade existed.
+     *
+     * @param limit Maximum books returned
+     * @return Book IDs
+     */
+    List<UUID> findBooksPendingCascade(int limit);
+
+    /**
+     * Deletion stamp of a soft-deleted book.
+     *
+     * @param bookId Book ID
+     * @return The stamp, or empty if the book does not exist or is live
+     */
+    Optional<LocalDateTime> findBookDeletedAt(UUID bookId);
+
+    /**
+     * Deletion stamp of a soft-deleted module.
+     *
+     * @param moduleId Module ID
+     * @return The stamp, or empty if the module does not exist or is live
+     */
+    Optional<LocalDateTime> findModuleDeletedAt(UUID moduleId);
+
+    /**
+     * Restore a soft-deleted book row. Its subtree is restored separately.
+     *
+     * @param bookId    Book ID
+     * @param deletedAt Stamp the book was deleted with
+     * @return Number of rows restored (0 or 1)
+     */
+    int restoreBook(UUID bookId, LocalDateTime deletedAt);
+
+    /**
+     * Restore up to {@code limit} modules of a book deleted with the given
+     * stamp, with their subtree.
+     *
+     * @param bookId    Book ID
+     * @param deletedAt Stamp the cascade used
+     * @param limit     Maximum modules handled
+     * @return Number of modules restored
+     */
+    int restoreBookModules(UUID bookId, LocalDateTime deletedAt, int limit);
+
+    /**
+     * Restore a module and its subtree, provided its book is live.
+     *
+     * @param moduleId  Module ID
+     * @param deletedAt Stamp the module was deleted with
+     * @return Number of modules restored (0 or 1)
+     */
+    int restoreModule(UUID moduleId, LocalDateTime deletedAt);
+
+    /**
+     * Soft-delete a live book row. Its subtree is handled separately.
+     *
+     * @param bookId    Book ID
+     * @param deletedAt Deletion stamp
+     * @return Number of rows marked (0 or 1)
+     */
+    int softDeleteBook(UUID bookId, LocalDateTime deletedAt);
+
+    /**
+     * Soft-delete up to {@code limit} live modules of a book with their
+     * subtree. Matches nothing once the book no longer carries
+     * {@code deletedAt}, for instance after a restore. Runs in its own
+     * transaction unless one is already active.
+     *
+     * @param bookId    Book ID
+     * @param deletedAt Deletion stamp
+     * @param limit     Maximum modules handled
+     * @return Number of modules marked
+     */
+    int softDeleteBookModules(UUID bookId, LocalDateTime deletedAt, int limit);
+
+    /**
+     * Soft-delete a live module with its subtree.
+     *
+     * @param moduleId  Module ID
+     * @param deletedAt Deletion stamp
+     * @return Number of modules marked (0 or 1)
+     */
+    int softDeleteModule(UUID moduleId, LocalDateTime deletedAt);
+}
@@ -0,0 +1,39 @@
+package com.spacedlearning.repository.custom;
+
+import java.time.LocalDateTime;
+
+/**
+ * Hard-deletes rows that have been soft-deleted for longer than the retention
+ * period, together with everything that hangs off them.
+ */
+public interface SoftDeletePurgeRepository {
+
+    /**
+     * Soft-deletable tables in purge order. Parents come first so that their
+     * batches take the whole subtree with them; the child levels then only
+     * pick up rows that were soft-deleted on their own.
+     */
+    enum Level {
+        USERS,
+        BOOKS,
+        MODULES,
+        MODULE_PROGRESS,
+        REPETITIONS,
+        LEARNING_CYCLES,
+        VOCABULARIES,
+        GRAMMARS,
+        USER_STATISTICS
+    }
+
+    /**
+     * Purge up to {@code batchSize} rows of the given level soft-deleted before
+     * {@code cutoff}, oldest first, cascading to their dependent rows. Runs in
+     * its own transaction.
+     *
+     * @param level     Table to purge
+     * @param cutoff    Rows soft-deleted before this instant are purged
+     * @param batchSize Maximum rows of the level handled by this batch
+     * @return Number of rows of the level removed
+     */
+    int purgeBatch(Level level, LocalDateTime cutoff, int batchSize);
+}
@@ -0,0 +1,17 @@
+package com.spacedlearning.repository.custom;
+
+/**
+ * Cheap row-count estimates from the Postgres planner statistics, used instead
+ * of COUNT(*) where an exact total is not needed.
+ */
+public interface TableStatisticsRepository {
+
+    /**
+     * Estimated number of rows in a table of the spaced_learning schema. For
+     * partitioned tables the estimates of all partitions are summed.
+     *
+     * @param tableName Unqualified table name
+     * @return Estimated row count, 0 if the table has never been analyzed
+     */
+    long estimateRowCount(String tableName);
+}
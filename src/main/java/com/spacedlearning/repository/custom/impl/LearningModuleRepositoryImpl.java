@@ -1,16 +1,15 @@
 package com.spacedlearning.repository.custom.impl;
 
 import java.sql.Date;
-import java.util.Arrays;
 import java.util.List;
 import java.util.Objects;
 import java.util.UUID;
 
-import org.apache.commons.lang3.StringUtils;
 import org.springframework.stereotype.Repository;
 
 import com.spacedlearning.dto.learning.LearningModuleResponse;
 import com.spacedlearning.repository.custom.LearningModuleRepository;
+import com.spacedlearning.util.EpochDayList;
 
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.PersistenceContext;
@@ -30,12 +29,12 @@ public class LearningModuleRepositoryImpl implements LearningModuleRepository {
     private static final int IDX_PERCENT_COMPLETE = 8;
     private static final int IDX_DUE_TASK_COUNT = 9;
     private static final int IDX_MODULE_ID = 10;
-    private static final int IDX_REVIEW_DATES = 11;
+    private static final int IDX_STUDY_HISTORY = 11;
     @PersistenceContext
     private EntityManager entityManager;
 
     @Override
-    public List<LearningModuleResponse> findModuleStudyProgress(int offset, int limit) {
+    public List<LearningModuleResponse> findModuleStudyProgress(UUID userId, int offset, int limit) {
         final var sql = """
                 SELECT
                     b."name" AS book_name,
@@ -49,25 +48,20 @@ public class LearningModuleRepositoryImpl implements LearningModuleRepository {
                     mp.percent_complete AS progress_latest_percent_complete,
                     msd.modules_on_same_day AS progress_due_task_count,
                     m.id AS module_id,
-                    STRING_AGG(TO_CHAR(r.review_date, 'YYYY-MM-DD'), ', ' ORDER BY r.review_date DESC) AS review_dates
+                    mp.study_history AS study_history
                 FROM spaced_learning.modules m
                 INNER JOIN spaced_learning.books b ON b.id = m.book_id
-                LEFT JOIN spaced_learning.module_progress mp ON mp.module_id = m.id AND mp.deleted_at IS NULL
+                LEFT JOIN spaced_learning.module_progress mp ON mp.module_id = m.id
+                    AND mp.user_id = :userId AND mp.deleted_at IS NULL
                 LEFT JOIN (
                     SELECT
                         next_study_date::date AS study_date,
                         COUNT(*) AS modules_on_same_day
                     FROM spaced_learning.module_progress
-                    WHERE next_study_date IS NOT NULL AND deleted_at IS NULL
+                    WHERE user_id = :userId AND next_study_date IS NOT NULL AND deleted_at IS NULL
                     GROUP BY next_study_date::date
                 ) msd ON msd.study_date = mp.next_study_date::date
-                LEFT JOIN spaced_learning.repetitions r ON r.module_progress_id = mp.id
-                    AND r.status = 'COMPLETED' AND r.review_date IS NOT NULL
                 WHERE b.deleted_at IS NULL AND m.deleted_at IS NULL
-                GROUP BY
-                    b."name", b.book_no, m.title, m.module_no, m.word_count,
-                    mp.cycles_studied, mp.next_study_date, mp.first_learning_date,
-                    mp.percent_complete, msd.modules_on_same_day, m.id
                 ORDER BY
                     mp.next_study_date NULLS LAST,
                     mp.percent_complete,
@@ -77,6 +71,7 @@ public class LearningModuleRepositoryImpl implements LearningModuleRepository {
                 """;
 
         final var query = this.entityManager.createNativeQuery(sql);
+        query.setParameter("userId", userId);
         query.setFirstResult(offset);
         query.setMaxResults(limit);
 
@@ -101,17 +96,10 @@ public class LearningModuleRepositoryImpl implements LearningModuleRepository {
                 .progressLatestPercentComplete(toInt(row[IDX_PERCENT_COMPLETE]))
                 .progressDueTaskCount(toInt(row[IDX_DUE_TASK_COUNT], 0))
                 .moduleId(toUUIDString(row[IDX_MODULE_ID]))
-                .studyHistory(parseReviewDates(row[IDX_REVIEW_DATES]))
+                .studyHistory(EpochDayList.decode(row[IDX_STUDY_HISTORY]))
                 .build();
     }
 
-    private List<String> parseReviewDates(Object obj) {
-        if (obj == null) {
-            return List.of();
-        }
-        return Arrays.asList(StringUtils.split(obj.toString(), ", "));
-    }
-
     private Integer toInt(Object obj) {
         return obj != null ? ((Number) obj).intValue() : null;
     }
@@ -0,0 +1,139 @@
+package com.spacedlearning.repository.custom.impl;
+
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.List;
+
+import org.hibernate.query.NativeQuery;
+import org.hibernate.query.TypedParameterValue;
+import org.hibernate.type.StandardBasicTypes;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.spacedlearning.entity.OutboxEvent;
+import com.spacedlearning.repository.custom.OutboxRepository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+
+/**
+ * Claims take a batch in one UPDATE ... RETURNING whose subquery locks the
+ * oldest claimable rows with FOR UPDATE SKIP LOCKED, so concurrent
+ * dispatchers on several nodes take disjoint batches without waiting on each
+ * other.
+ */
+@Repository
+public class OutboxRepositoryImpl implements OutboxRepository {
+
+    private static final String APPEND_SQL = """
+            INSERT INTO spaced_learning.outbox_events (event_type, event_key, payload, created_at, available_at)
+            VALUES (:type, :key, :payload, :now, :now)
+            """;
+
+    private static final String CLAIM_SQL = """
+            UPDATE spaced_learning.outbox_events o
+            SET available_at = :leaseUntil, attempts = o.attempts + 1
+            WHERE o.id IN (
+                SELECT c.id FROM spaced_learning.outbox_events c
+                WHERE c.delivered_at IS NULL AND c.failed_at IS NULL AND c.available_at <= :now
+                ORDER BY c.id
+                LIMIT :limit
+                FOR UPDATE SKIP LOCKED
+            )
+            RETURNING o.id, o.event_type, o.event_key, o.payload, o.attempts
+            """;
+
+    private static final String DELETE_DELIVERED_SQL = """
+            DELETE FROM spaced_learning.outbox_events o
+            WHERE o.id IN (
+                SELECT d.id FROM spaced_learning.outbox_events d
+                WHERE d.delivered_at < :cutoff
+                ORDER BY d.delivered_at
+                LIMIT :limit
+            )
+            """;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public void append(String type, String key, String payload, LocalDateTime now) {
+        // Synchronizing on the outbox table alone keeps this insert from flushing the caller's session;
+        // the key is typed because a bare null cannot be bound to a native parameter
+        this.entityManager.createNativeQuery(APPEND_SQL)
+                .unwrap(NativeQuery.class)
+                .addSynchronizedEntityClass(OutboxEvent.class)
+                .setParameter("type", type)
+                .setParameter("key", new TypedParameterValue<>(StandardBasicTypes.STRING, key))
+                .setParameter("payload", payload)
+                .setParameter("now", now)
+                .executeUpdate();
+    }
+
+    @Override
+    @Transactional
+    public List<ClaimedEvent> claim(int limit, LocalDateTime now, LocalDateTime leaseUntil) {
+        final List<?> rows = this.entityManager.createNativeQuery(CLAIM_SQL)
+                .setParameter("limit", limit)
+                .setParameter("now", now)
+                .setParameter("leaseUntil", leaseUntil)
+                .getResultList();
+
+        return rows.stream()
+                .map(Object[].class::cast)
+                .map(row -> new ClaimedEvent(((Number) row[0]).longValue(), (String) row[1], (String) row[2],
+                        (String) row[3], ((Number) row[4]).intValue()))
+                .sorted(Comparator.comparingLong(ClaimedEvent::id))
+                .toList();
+    }
+
+    @Override
+    @Transactional
+    public int deleteDeliveredBefore(LocalDateTime cutoff, int limit) {
+        return this.entityManager.createNativeQuery(DELETE_DELIVERED_SQL)
+                .setParameter("cutoff", cutoff)
+                .setParameter("limit", limit)
+                .executeUpdate();
+    }
+
+    @Override
+    @Transactional
+    public int markDelivered(List<Long> ids, LocalDateTime now) {
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        return this.entityManager.createNativeQuery("""
+                UPDATE spaced_learning.outbox_events SET delivered_at = :now, last_error = NULL
+                WHERE id IN (:ids)
+                """)
+                .setParameter("now", now)
+                .setParameter("ids", ids)
+                .executeUpdate();
+    }
+
+    @Override
+    @Transactional
+    public void markFailed(long id, LocalDateTime now, String error) {
+        this.entityManager.createNativeQuery("""
+                UPDATE spaced_learning.outbox_events SET failed_at = :now, last_error = :error
+                WHERE id = :id
+                """)
+                .setParameter("now", now)
+                .setParameter("error", error)
+                .setParameter("id", id)
+                .executeUpdate();
+    }
+
+    @Override
+    @Transactional
+    public void retryLater(long id, LocalDateTime availableAt, String error) {
+        this.entityManager.createNativeQuery("""
+                UPDATE spaced_learning.outbox_events SET available_at = :availableAt, last_error = :error
+                WHERE id = :id
+                """)
+                .setParameter("availableAt", availableAt)
+                .setParameter("error", error)
+                .setParameter("id", id)
+                .executeUpdate();
+    }
+}
@@ -0,0 +1,108 @@
+package com.spacedlearning.repository.custom.impl;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.Optional;
+
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.spacedlearning.repository.custom.RepetitionArchiveRepository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+
+@Repository
+public class RepetitionArchiveRepositoryImpl implements RepetitionArchiveRepository {
+
+    /**
+     * Picks progress records with more completed repetitions than we keep,
+     * deletes everything past the newest {@code :keep} from the active table,
+     * copies the deleted rows into history and folds them into the summary
+     * columns on module_progress - all in a single statement.
+     */
+    private static final String ARCHIVE_BATCH_SQL = """
+            WITH targets AS (
+                SELECT r.module_progress_id
+                FROM spaced_learning.repetitions r
+                WHERE r.status = 'COMPLETED' AND r.review_date IS NOT NULL AND r.deleted_at IS NULL
+                GROUP BY r.module_progress_id
+                HAVING COUNT(*) > :keep
+                LIMIT :batchSize
+            ),
+            ranked AS (
+                SELECT r.id, r.module_progress_id,
+                    ROW_NUMBER() OVER (PARTITION BY r.module_progress_id
+                        ORDER BY r.review_date DESC, r.id) AS rn
+                FROM spaced_learning.repetitions r
+                JOIN targets t ON t.module_progress_id = r.module_progress_id
+                WHERE r.status = 'COMPLETED' AND r.review_date IS NOT NULL AND r.deleted_at IS NULL
+            ),
+            moved AS (
+                DELETE FROM spaced_learning.repetitions r
+                USING ranked k
+                WHERE r.id = k.id AND r.module_progress_id = k.module_progress_id AND k.rn > :keep
+                RETURNING r.id, r.module_progress_id, r.repetition_order, r.review_date, r.created_at
+            ),
+            archived AS (
+                INSERT INTO spaced_learning.repetition_history
+                    (id, module_progress_id, repetition_order, review_date, created_at, archived_at)
+                SELECT id, module_progress_id, repetition_order, review_date, created_at, CURRENT_TIMESTAMP
+                FROM moved
+                RETURNING module_progress_id, review_date
+            ),
+            summary AS (
+                UPDATE spaced_learning.module_progress mp
+                SET archived_review_count = COALESCE(mp.archived_review_count, 0) + a.moved_count,
+                    last_archived_review_date = GREATEST(mp.last_archived_review_date, a.last_date)
+                FROM (
+                    SELECT module_progress_id, COUNT(*) AS moved_count, MAX(review_date) AS last_date
+                    FROM archived
+                    GROUP BY module_progress_id
+                ) a
+                WHERE mp.id = a.module_progress_id
+                RETURNING a.moved_count
+            )
+            SELECT COALESCE(SUM(moved_count), 0) FROM summary
+            """;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    @Transactional
+    public int archiveBatch(int keepPerProgress, int progressBatchSize) {
+        final var result = this.entityManager.createNativeQuery(ARCHIVE_BATCH_SQL)
+                .setParameter("keep", keepPerProgress)
+                .setParameter("batchSize", progressBatchSize)
+                .getSingleResult();
+        return ((Number) result).intValue();
+    }
+
+    @Override
+    @Transactional
+    public void ensurePartition(YearMonth month) {
+        final var from = month.atDay(1);
+        final var to = month.plusMonths(1).atDay(1);
+        final var sql = String.format(
+                "CREATE TABLE IF NOT EXISTS spaced_learning.repetition_history_y%04dm%02d "
+                        + "PARTITION OF spaced_learning.repetition_history FOR VALUES FROM ('%s') TO ('%s')",
+                month.getYear(), month.getMonthValue(), from, to);
+        this.entityManager.createNativeQuery(sql).executeUpdate();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<LocalDate[]> findCompletedReviewDateRange() {
+        final var row = (Object[]) this.entityManager.createNativeQuery("""
+                SELECT MIN(review_date), MAX(review_date)
+                FROM spaced_learning.repetitions
+                WHERE status = 'COMPLETED' AND review_date IS NOT NULL AND deleted_at IS NULL
+                """).getSingleResult();
+        if (!(row[0] instanceof final Date min) || !(row[1] instanceof final Date max)) {
+            return Optional.empty();
+        }
+        return Optional.of(new LocalDate[] { min.toLocalDate(), max.toLocalDate() });
+    }
+}
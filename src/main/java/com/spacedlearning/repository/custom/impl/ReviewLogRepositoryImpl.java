@@ -0,0 +1,173 @@
+package com.spacedlearning.repository.custom.impl;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Pattern;
+
+import org.postgresql.PGConnection;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.spacedlearning.repository.custom.ReviewLogRepository;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Appends go through {@code COPY ... FROM STDIN} on the current connection,
+ * which Postgres routes to the monthly partitions. Partition DDL takes its
+ * bounds from {@link YearMonth} values only, never from caller text.
+ */
+@Repository
+@RequiredArgsConstructor
+public class ReviewLogRepositoryImpl implements ReviewLogRepository {
+
+    private static final String SCHEMA = "spaced_learning";
+    private static final String PARENT = SCHEMA + ".review_log";
+    private static final String DEFAULT_PARTITION = SCHEMA + ".review_log_default";
+    private static final DateTimeFormatter SUFFIX = DateTimeFormatter.ofPattern("yyyy_MM");
+    private static final Pattern PARTITION_NAME = Pattern.compile("review_log_(\\d{4})_(\\d{2})");
+
+    private static final String COPY_SQL = """
+            COPY spaced_learning.review_log (reviewed_at, user_id, module_progress_id, repetition_id,
+                repetition_order, cycle, status, score, scheduled_date, duration_ms)
+            FROM STDIN WITH (FORMAT csv)
+            """;
+
+    private static final String PARTITIONS_SQL = """
+            SELECT c.relname
+            FROM pg_inherits i
+            JOIN pg_class c ON c.oid = i.inhrelid
+            WHERE i.inhparent = to_regclass('spaced_learning.review_log')
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private static void appendField(StringBuilder csv, Object value) {
+        if (value != null) {
+            csv.append(value);
+        }
+    }
+
+    private static String partitionName(YearMonth month) {
+        return "review_log_" + month.format(SUFFIX);
+    }
+
+    @Override
+    public long append(List<Entry> entries) {
+        if (entries.isEmpty()) {
+            return 0;
+        }
+
+        // Every field is a timestamp, UUID, enum name or number, so none needs quoting
+        final var csv = new StringBuilder(entries.size() * 160);
+        for (final Entry entry : entries) {
+            appendField(csv, entry.reviewedAt());
+            csv.append(',');
+            appendField(csv, entry.userId());
+            csv.append(',');
+            appendField(csv, entry.moduleProgressId());
+            csv.append(',');
+            appendField(csv, entry.repetitionId());
+            csv.append(',');
+            appendField(csv, entry.repetitionOrder() != null ? entry.repetitionOrder().name() : null);
+            csv.append(',');
+            appendField(csv, entry.cycle() != null ? entry.cycle().name() : null);
+            csv.append(',');
+            appendField(csv, entry.status() != null ? entry.status().name() : null);
+            csv.append(',');
+            appendField(csv, entry.score() != null ? entry.score().toPlainString() : null);
+            csv.append(',');
+            appendField(csv, entry.scheduledDate());
+            csv.append(',');
+            appendField(csv, entry.durationMs());
+            csv.append('\n');
+        }
+
+        final Long rows = this.jdbcTemplate.execute((ConnectionCallback<Long>) connection -> {
+            try {
+                return connection.unwrap(PGConnection.class).getCopyAPI()
+                        .copyIn(COPY_SQL, new StringReader(csv.toString()));
+            } catch (final IOException e) {
+                throw new SQLException("Review log COPY failed", e);
+            }
+        });
+        return rows != null ? rows : 0;
+    }
+
+    @Override
+    @Transactional
+    public boolean createPartition(YearMonth month) {
+        final var name = partitionName(month);
+        if (exists(name)) {
+            return false;
+        }
+        final var from = month.atDay(1);
+        final var to = month.plusMonths(1).atDay(1);
+        final var bounds = "FOR VALUES FROM ('" + from + "') TO ('" + to + "')";
+
+        if (!hasDefaultRows(from, to)) {
+            this.jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS " + SCHEMA + "." + name + " PARTITION OF "
+                    + PARENT + " " + bounds);
+            return true;
+        }
+
+        // A new partition may not overlap rows held by the default partition: move them first
+        final var table = SCHEMA + "." + name;
+        this.jdbcTemplate.execute("CREATE TABLE " + table + " (LIKE " + PARENT + " INCLUDING DEFAULTS)");
+        this.jdbcTemplate.update("INSERT INTO " + table + " SELECT * FROM " + DEFAULT_PARTITION
+                + " WHERE reviewed_at >= ? AND reviewed_at < ?", from, to);
+        this.jdbcTemplate.update("DELETE FROM " + DEFAULT_PARTITION + " WHERE reviewed_at >= ? AND reviewed_at < ?",
+                from, to);
+        this.jdbcTemplate.execute("ALTER TABLE " + PARENT + " ATTACH PARTITION " + table + " " + bounds);
+        return true;
+    }
+
+    @Override
+    @Transactional
+    public boolean dropPartition(YearMonth month) {
+        final var name = partitionName(month);
+        if (!exists(name)) {
+            return false;
+        }
+        this.jdbcTemplate.execute("DROP TABLE " + SCHEMA + "." + name);
+        return true;
+    }
+
+    private boolean exists(String name) {
+        return Boolean.TRUE.equals(this.jdbcTemplate.queryForObject("SELECT to_regclass(?) IS NOT NULL",
+                Boolean.class, SCHEMA + "." + name));
+    }
+
+    @Override
+    public List<YearMonth> findPartitionMonths() {
+        final List<YearMonth> months = new ArrayList<>();
+        for (final String name : this.jdbcTemplate.queryForList(PARTITIONS_SQL, String.class)) {
+            final var matcher = PARTITION_NAME.matcher(name);
+            if (matcher.matches()) {
+                months.add(YearMonth.of(Integer.parseInt(matcher.group(1)), Integer.parseInt(matcher.group(2))));
+            }
+        }
+        months.sort(null);
+        return months;
+    }
+
+    private boolean hasDefaultRows(LocalDate from, LocalDate to) {
+        return Boolean.TRUE.equals(this.jdbcTemplate.queryForObject("SELECT EXISTS (SELECT 1 FROM "
+                + DEFAULT_PARTITION + " WHERE reviewed_at >= ? AND reviewed_at < ?)", Boolean.class, from, to));
+    }
+
+    @Override
+    public boolean isPartitioned() {
+        return Boolean.TRUE.equals(this.jdbcTemplate.queryForObject(
+                "SELECT EXISTS (SELECT 1 FROM pg_partitioned_table WHERE partrelid = to_regclass(?))", Boolean.class,
+                PARENT));
+    }
+}
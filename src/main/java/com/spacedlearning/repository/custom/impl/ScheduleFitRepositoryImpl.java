@@ -0,0 +1,143 @@
+package com.spacedlearning.repository.custom.impl;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.spacedlearning.entity.UserScheduleParameters;
+import com.spacedlearning.entity.enums.CycleStudied;
+import com.spacedlearning.entity.enums.RepetitionOrder;
+import com.spacedlearning.entity.enums.RepetitionStatus;
+import com.spacedlearning.repository.custom.ScheduleFitRepository;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Completions are read through a server-side cursor on a connection of their
+ * own: outside a caller's transaction the read does not bind its connection to
+ * the thread, so the consumer can save results and job checkpoints, each in
+ * its own transaction, while the cursor is still open.
+ */
+@Repository
+@RequiredArgsConstructor
+public class ScheduleFitRepositoryImpl implements ScheduleFitRepository {
+
+    private static final String COMPLETIONS_SQL = """
+            SELECT rl.user_id, rl.module_progress_id, rl.reviewed_at, rl.repetition_order, rl.cycle, rl.score,
+                mp.word_count
+            FROM spaced_learning.review_log rl
+            JOIN spaced_learning.module_progress mp ON mp.id = rl.module_progress_id
+            WHERE rl.reviewed_at >= ?
+              AND rl.user_id > ?
+              AND rl.status = ?
+              AND rl.score IS NOT NULL
+            ORDER BY rl.user_id, rl.module_progress_id, rl.reviewed_at
+            """;
+
+    private static final String UPSERT_SQL = """
+            INSERT INTO spaced_learning.user_schedule_parameters (user_id, multipliers, cycle_factor,
+                completion_factor, word_factor, sample_count, loss, default_loss, fitted_at)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)
+            ON CONFLICT (user_id) DO UPDATE SET
+                multipliers = EXCLUDED.multipliers,
+                cycle_factor = EXCLUDED.cycle_factor,
+                completion_factor = EXCLUDED.completion_factor,
+                word_factor = EXCLUDED.word_factor,
+                sample_count = EXCLUDED.sample_count,
+                loss = EXCLUDED.loss,
+                default_loss = EXCLUDED.default_loss,
+                fitted_at = EXCLUDED.fitted_at
+            """;
+
+    /**
+     * Smallest UUID, so that reading after it reads every learner.
+     */
+    private static final UUID NIL = new UUID(0, 0);
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private static Completion toCompletion(ResultSet rs) throws SQLException {
+        return new Completion(
+                rs.getObject(1, UUID.class),
+                rs.getObject(2, UUID.class),
+                rs.getTimestamp(3).toLocalDateTime(),
+                RepetitionOrder.valueOf(rs.getString(4)),
+                CycleStudied.valueOf(rs.getString(5)),
+                rs.getDouble(6),
+                rs.getInt(7));
+    }
+
+    @Override
+    public long streamCompletions(LocalDateTime since, UUID afterUser, int fetchSize, Consumer<Completion> consumer) {
+        final Long count = this.jdbcTemplate.execute((ConnectionCallback<Long>) connection -> {
+            // The driver only fetches in chunks with auto-commit off; restore it for the pool afterwards
+            final var autoCommit = connection.getAutoCommit();
+            if (autoCommit) {
+                connection.setAutoCommit(false);
+            }
+            try (var statement = connection.prepareStatement(COMPLETIONS_SQL)) {
+                statement.setFetchSize(fetchSize);
+                statement.setTimestamp(1, Timestamp.valueOf(since));
+                statement.setObject(2, afterUser != null ? afterUser : NIL);
+                statement.setString(3, RepetitionStatus.COMPLETED.name());
+                var read = 0L;
+                try (var rs = statement.executeQuery()) {
+                    while (rs.next()) {
+                        consumer.accept(toCompletion(rs));
+                        read++;
+                    }
+                }
+                return read;
+            } finally {
+                if (autoCommit) {
+                    connection.rollback();
+                    connection.setAutoCommit(true);
+                }
+            }
+        });
+        return count != null ? count : 0;
+    }
+
+    @Override
+    @Transactional
+    public int upsert(List<UserScheduleParameters> parameters) {
+        if (parameters.isEmpty()) {
+            return 0;
+        }
+        this.jdbcTemplate.batchUpdate(UPSERT_SQL, new BatchPreparedStatementSetter() {
+            @Override
+            public int getBatchSize() {
+                return parameters.size();
+            }
+
+            @Override
+            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                final var row = parameters.get(i);
+                ps.setObject(1, row.getUserId());
+                ps.setArray(2, ps.getConnection().createArrayOf("float8",
+                        Arrays.stream(row.getMultipliers()).boxed().toArray()));
+                ps.setDouble(3, row.getCycleFactor());
+                ps.setDouble(4, row.getCompletionFactor());
+                ps.setDouble(5, row.getWordFactor());
+                ps.setInt(6, row.getSampleCount());
+                ps.setDouble(7, row.getLoss());
+                ps.setDouble(8, row.getDefaultLoss());
+                ps.setTimestamp(9, Timestamp.valueOf(row.getFittedAt()));
+            }
+        });
+        // Every row is inserted or updated; batched drivers may not report per-row counts
+        return parameters.size();
+    }
+}
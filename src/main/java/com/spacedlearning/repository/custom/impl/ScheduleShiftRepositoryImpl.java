@@ -0,0 +1,194 @@
+package com.spacedlearning.repository.custom.impl;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+import org.hibernate.Session;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.spacedlearning.entity.enums.CycleStudied;
+import com.spacedlearning.entity.enums.RepetitionOrder;
+import com.spacedlearning.repository.custom.ScheduleShiftRepository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+
+/**
+ * Both statements drive from the learner's live-repetition index on
+ * (user_id, review_date) and touch each affected row once. Rows written here
+ * get their version bumped so in-flight entity updates conflict.
+ */
+@Repository
+public class ScheduleShiftRepositoryImpl implements ScheduleShiftRepository {
+
+    private static final String APPLY_SQL = """
+            UPDATE spaced_learning.repetitions
+            SET review_date = ?, version = version + 1, updated_at = CURRENT_TIMESTAMP
+            WHERE id = ? AND module_progress_id = ? AND status = 'NOT_STARTED' AND deleted_at IS NULL
+            """;
+
+    /**
+     * Progress records of the learner with a pending repetition due on or before :today.
+     */
+    private static final String BACKLOG_PROGRESS_SQL = """
+            SELECT o.module_progress_id FROM spaced_learning.repetitions o
+            WHERE o.user_id = :userId AND o.active AND o.deleted_at IS NULL
+              AND o.status = 'NOT_STARTED' AND o.review_date <= :today""";
+
+    private static final String SHIFT_SQL = """
+            WITH pending AS (
+                SELECT r.id, r.module_progress_id, r.review_date
+                FROM spaced_learning.repetitions r
+                WHERE r.user_id = :userId AND r.active AND r.deleted_at IS NULL
+                  AND r.status = 'NOT_STARTED' AND r.review_date >= :fromDate
+            ),
+            heads AS (
+                SELECT p.module_progress_id, MIN(p.review_date) AS head_date
+                FROM pending p
+                WHERE p.review_date <= :toDate
+                GROUP BY p.module_progress_id
+            ),
+            staying AS (
+                SELECT p.review_date, COUNT(*) AS cnt
+                FROM pending p
+                WHERE NOT EXISTS (SELECT 1 FROM heads h WHERE h.module_progress_id = p.module_progress_id)
+                GROUP BY p.review_date
+            ),
+            delays AS (
+                SELECT h.module_progress_id,
+                       LEAST((COALESCE(s.cnt, 0) + ROW_NUMBER() OVER (
+                               PARTITION BY h.head_date ORDER BY h.module_progress_id) - 1) / :capacity,
+                             :maxDelay)::int AS delay
+                FROM heads h
+                LEFT JOIN staying s ON s.review_date = h.head_date + :days
+            )
+            UPDATE spaced_learning.repetitions r
+            SET review_date = r.review_date + :days + d.delay,
+                version = r.version + 1,
+                updated_at = CURRENT_TIMESTAMP
+            FROM pending p
+            JOIN delays d ON d.module_progress_id = p.module_progress_id
+            WHERE r.id = p.id AND r.module_progress_id = p.module_progress_id
+            """;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private static LocalDate toLocalDate(Object value) {
+        return value instanceof final Date date ? date.toLocalDate() : (LocalDate) value;
+    }
+
+    @Override
+    @Transactional
+    public int applyReviewDates(UUID[] ids, UUID[] progressIds, LocalDate[] reviewDates) {
+        if (ids.length == 0) {
+            return 0;
+        }
+        return this.entityManager.unwrap(Session.class).doReturningWork(connection -> {
+            try (var statement = connection.prepareStatement(APPLY_SQL)) {
+                for (var i = 0; i < ids.length; i++) {
+                    statement.setObject(1, reviewDates[i]);
+                    statement.setObject(2, ids[i]);
+                    statement.setObject(3, progressIds[i]);
+                    statement.addBatch();
+                }
+                var updated = 0;
+                for (final int count : statement.executeBatch()) {
+                    updated += Math.max(count, 0);
+                }
+                return updated;
+            }
+        });
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public int[] findDailyWordsWithoutBacklog(UUID userId, LocalDate from, int days) {
+        final List<?> rows = this.entityManager.createNativeQuery("""
+                SELECT r.review_date - CAST(:today AS date), SUM(r.word_count)
+                FROM spaced_learning.repetitions r
+                WHERE r.user_id = :userId AND r.active AND r.deleted_at IS NULL
+                  AND r.status = 'NOT_STARTED'
+                  AND r.review_date > :today AND r.review_date < CAST(:today AS date) + :days
+                  AND r.module_progress_id NOT IN (%s)
+                GROUP BY r.review_date
+                """.formatted(BACKLOG_PROGRESS_SQL))
+                .setParameter("userId", userId)
+                .setParameter("today", from)
+                .setParameter("days", days)
+                .getResultList();
+
+        final var words = new int[days];
+        for (final Object row : rows) {
+            final var columns = (Object[]) row;
+            words[((Number) columns[0]).intValue()] = ((Number) columns[1]).intValue();
+        }
+        return words;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<PendingRepetition> findPendingWithBacklog(UUID userId, LocalDate today) {
+        final List<?> rows = this.entityManager.createNativeQuery("""
+                SELECT r.id, r.module_progress_id, r.repetition_order, r.review_date, r.word_count,
+                       mp.cycles_studied
+                FROM spaced_learning.repetitions r
+                JOIN spaced_learning.module_progress mp ON mp.id = r.module_progress_id
+                WHERE r.user_id = :userId AND r.active AND r.deleted_at IS NULL
+                  AND r.status = 'NOT_STARTED'
+                  AND r.module_progress_id IN (%s)
+                """.formatted(BACKLOG_PROGRESS_SQL))
+                .setParameter("userId", userId)
+                .setParameter("today", today)
+                .getResultList();
+
+        return rows.stream()
+                .map(row -> (Object[]) row)
+                .map(columns -> new PendingRepetition(
+                        (UUID) columns[0],
+                        (UUID) columns[1],
+                        RepetitionOrder.valueOf((String) columns[2]).ordinal(),
+                        toLocalDate(columns[3]),
+                        ((Number) columns[4]).intValue(),
+                        CycleStudied.valueOf((String) columns[5]).ordinal()))
+                .toList();
+    }
+
+    @Override
+    @Transactional
+    public int refreshNextStudyDates(UUID userId) {
+        return this.entityManager.createNativeQuery("""
+                UPDATE spaced_learning.module_progress mp
+                SET next_study_date = nxt.next_date, version = mp.version + 1
+                FROM (
+                    SELECT mp2.id, MIN(r.review_date) AS next_date
+                    FROM spaced_learning.module_progress mp2
+                    LEFT JOIN spaced_learning.repetitions r
+                        ON r.module_progress_id = mp2.id AND r.user_id = :userId
+                       AND r.status = 'NOT_STARTED' AND r.deleted_at IS NULL
+                    WHERE mp2.user_id = :userId AND mp2.active AND mp2.deleted_at IS NULL
+                    GROUP BY mp2.id
+                ) nxt
+                WHERE mp.id = nxt.id
+                  AND mp.next_study_date IS DISTINCT FROM nxt.next_date
+                """)
+                .setParameter("userId", userId)
+                .executeUpdate();
+    }
+
+    @Override
+    @Transactional
+    public int shiftPending(UUID userId, LocalDate from, LocalDate to, int days, int capacity, int maxDelay) {
+        return this.entityManager.createNativeQuery(SHIFT_SQL)
+                .setParameter("userId", userId)
+                .setParameter("fromDate", from)
+                .setParameter("toDate", to)
+                .setParameter("days", days)
+                .setParameter("capacity", capacity)
+                .setParameter("maxDelay", maxDelay)
+                .executeUpdate();
+    }
+}
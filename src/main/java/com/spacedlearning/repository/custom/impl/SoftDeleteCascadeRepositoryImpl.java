@@ -0,0 +1,247 @@
+package com.spacedlearning.repository.custom.impl;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.spacedlearning.repository.custom.SoftDeleteCascadeRepository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+
+/**
+ * Each cascade is a single statement: the first CTE picks the modules and the
+ * others mark every table of their subtree. Progress records and repetitions
+ * also get their {@code active} flag updated so the per-user statistics follow.
+ */
+@Repository
+public class SoftDeleteCascadeRepositoryImpl implements SoftDeleteCascadeRepository {
+
+    private static final String DELETE_SUBTREE_SQL = """
+            WITH targets AS (
+                %s
+            ),
+            modules_hit AS (
+                UPDATE spaced_learning.modules m
+                SET deleted_at = :deletedAt
+                FROM targets t WHERE m.id = t.id
+                RETURNING m.id
+            ),
+            progress AS (
+                SELECT mp.id FROM spaced_learning.module_progress mp
+                JOIN targets t ON t.id = mp.module_id
+            ),
+            progress_hit AS (
+                UPDATE spaced_learning.module_progress mp
+                SET deleted_at = COALESCE(mp.deleted_at, :deletedAt), active = FALSE, version = mp.version + 1
+                FROM progress p WHERE mp.id = p.id
+            ),
+            reps AS (
+                UPDATE spaced_learning.repetitions r
+                SET deleted_at = COALESCE(r.deleted_at, :deletedAt), active = FALSE, version = r.version + 1
+                FROM progress p WHERE r.module_progress_id = p.id
+            ),
+            cycles AS (
+                UPDATE spaced_learning.learning_cycles c
+                SET deleted_at = :deletedAt
+                FROM progress p WHERE c.module_progress_id = p.id AND c.deleted_at IS NULL
+            ),
+            vocabularies_hit AS (
+                UPDATE spaced_learning.vocabularies v
+                SET deleted_at = :deletedAt
+                FROM targets t WHERE v.module_id = t.id AND v.deleted_at IS NULL
+            ),
+            grammars_hit AS (
+                UPDATE spaced_learning.grammars g
+                SET deleted_at = :deletedAt
+                FROM targets t WHERE g.module_id = t.id AND g.deleted_at IS NULL
+            )
+            SELECT COUNT(*) FROM modules_hit
+            """;
+
+    private static final String RESTORE_SUBTREE_SQL = """
+            WITH targets AS (
+                %s
+            ),
+            modules_hit AS (
+                UPDATE spaced_learning.modules m
+                SET deleted_at = NULL
+                FROM targets t WHERE m.id = t.id
+                RETURNING m.id
+            ),
+            progress AS (
+                SELECT mp.id, (mp.deleted_at IS NULL OR mp.deleted_at = :deletedAt) AS live
+                FROM spaced_learning.module_progress mp
+                JOIN targets t ON t.id = mp.module_id
+            ),
+            progress_hit AS (
+                UPDATE spaced_learning.module_progress mp
+                SET deleted_at = CASE WHEN mp.deleted_at = :deletedAt THEN NULL ELSE mp.deleted_at END,
+                    active = p.live, version = mp.version + 1
+                FROM progress p WHERE mp.id = p.id
+            ),
+            reps AS (
+                UPDATE spaced_learning.repetitions r
+                SET deleted_at = CASE WHEN r.deleted_at = :deletedAt THEN NULL ELSE r.deleted_at END,
+                    active = p.live, version = r.version + 1
+                FROM progress p WHERE r.module_progress_id = p.id
+            ),
+            cycles AS (
+                UPDATE spaced_learning.learning_cycles c
+                SET deleted_at = NULL
+                FROM progress p WHERE c.module_progress_id = p.id AND c.deleted_at = :deletedAt
+            ),
+            vocabularies_hit AS (
+                UPDATE spaced_learning.vocabularies v
+                SET deleted_at = NULL
+                FROM targets t WHERE v.module_id = t.id AND v.deleted_at = :deletedAt
+            ),
+            grammars_hit AS (
+                UPDATE spaced_learning.grammars g
+                SET deleted_at = NULL
+                FROM targets t WHERE g.module_id = t.id AND g.deleted_at = :deletedAt
+            )
+            SELECT COUNT(*) FROM modules_hit
+            """;
+
+    /**
+     * Live modules of a book that is still deleted with the cascade's stamp,
+     * so a batch after a concurrent restore matches nothing.
+     */
+    private static final String LIVE_BOOK_MODULES = """
+            SELECT m.id FROM spaced_learning.modules m
+                JOIN spaced_learning.books b ON b.id = m.book_id AND b.deleted_at = :deletedAt
+                WHERE m.book_id = :ownerId AND m.deleted_at IS NULL
+                ORDER BY m.id
+                LIMIT :batchSize""";
+
+    private static final String LIVE_MODULE = """
+            SELECT id FROM spaced_learning.modules
+                WHERE id = :ownerId AND deleted_at IS NULL""";
+
+    private static final String STAMPED_BOOK_MODULES = """
+            SELECT id FROM spaced_learning.modules
+                WHERE book_id = :ownerId AND deleted_at = :deletedAt
+                ORDER BY id
+                LIMIT :batchSize""";
+
+    private static final String STAMPED_MODULE_OF_LIVE_BOOK = """
+            SELECT m.id FROM spaced_learning.modules m
+                JOIN spaced_learning.books b ON b.id = m.book_id AND b.deleted_at IS NULL
+                WHERE m.id = :ownerId AND m.deleted_at = :deletedAt""";
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private static Optional<LocalDateTime> toLocalDateTime(List<?> rows) {
+        if (rows.isEmpty()) {
+            return Optional.empty();
+        }
+        final var value = rows.get(0);
+        if (value instanceof final Timestamp timestamp) {
+            return Optional.of(timestamp.toLocalDateTime());
+        }
+        return Optional.ofNullable((LocalDateTime) value);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<UUID> findBooksPendingCascade(int limit) {
+        return this.entityManager.createNativeQuery("""
+                SELECT b.id FROM spaced_learning.books b
+                WHERE b.deleted_at IS NOT NULL
+                  AND EXISTS (
+                    SELECT 1 FROM spaced_learning.modules m
+                    WHERE m.book_id = b.id AND m.deleted_at IS NULL)
+                ORDER BY b.deleted_at
+                LIMIT :batchSize
+                """, UUID.class)
+                .setParameter("batchSize", limit)
+                .getResultList();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<LocalDateTime> findBookDeletedAt(UUID bookId) {
+        return toLocalDateTime(this.entityManager.createNativeQuery("""
+                SELECT deleted_at FROM spaced_learning.books
+                WHERE id = :id AND deleted_at IS NOT NULL
+                """)
+                .setParameter("id", bookId)
+                .getResultList());
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<LocalDateTime> findModuleDeletedAt(UUID moduleId) {
+        return toLocalDateTime(this.entityManager.createNativeQuery("""
+                SELECT deleted_at FROM spaced_learning.modules
+                WHERE id = :id AND deleted_at IS NOT NULL
+                """)
+                .setParameter("id", moduleId)
+                .getResultList());
+    }
+
+    @Override
+    @Transactional
+    public int restoreBook(UUID bookId, LocalDateTime deletedAt) {
+        return this.entityManager.createNativeQuery("""
+                UPDATE spaced_learning.books SET deleted_at = NULL
+                WHERE id = :id AND deleted_at = :deletedAt
+                """)
+                .setParameter("id", bookId)
+                .setParameter("deletedAt", deletedAt)
+                .executeUpdate();
+    }
+
+    @Override
+    @Transactional
+    public int restoreBookModules(UUID bookId, LocalDateTime deletedAt, int limit) {
+        return runSubtree(RESTORE_SUBTREE_SQL.formatted(STAMPED_BOOK_MODULES), bookId, deletedAt, limit);
+    }
+
+    @Override
+    @Transactional
+    public int restoreModule(UUID moduleId, LocalDateTime deletedAt) {
+        return runSubtree(RESTORE_SUBTREE_SQL.formatted(STAMPED_MODULE_OF_LIVE_BOOK), moduleId, deletedAt, null);
+    }
+
+    private int runSubtree(String sql, UUID ownerId, LocalDateTime deletedAt, Integer limit) {
+        final var query = this.entityManager.createNativeQuery(sql)
+                .setParameter("ownerId", ownerId)
+                .setParameter("deletedAt", deletedAt);
+        if (limit != null) {
+            query.setParameter("batchSize", limit);
+        }
+        return ((Number) query.getSingleResult()).intValue();
+    }
+
+    @Override
+    @Transactional
+    public int softDeleteBook(UUID bookId, LocalDateTime deletedAt) {
+        return this.entityManager.createNativeQuery("""
+                UPDATE spaced_learning.books SET deleted_at = :deletedAt
+                WHERE id = :id AND deleted_at IS NULL
+                """)
+                .setParameter("id", bookId)
+                .setParameter("deletedAt", deletedAt)
+                .executeUpdate();
+    }
+
+    @Override
+    @Transactional
+    public int softDeleteBookModules(UUID bookId, LocalDateTime deletedAt, int limit) {
+        return runSubtree(DELETE_SUBTREE_SQL.formatted(LIVE_BOOK_MODULES), bookId, deletedAt, limit);
+    }
+
+    @Override
+    @Transactional
+    public int softDeleteModule(UUID moduleId, LocalDateTime deletedAt) {
+        return runSubtree(DELETE_SUBTREE_SQL.formatted(LIVE_MODULE), moduleId, deletedAt, null);
+    }
+}
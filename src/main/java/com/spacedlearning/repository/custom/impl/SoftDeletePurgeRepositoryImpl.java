@@ -0,0 +1,200 @@
+package com.spacedlearning.repository.custom.impl;
+
+import java.time.LocalDateTime;
+
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.spacedlearning.repository.custom.SoftDeletePurgeRepository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+
+/**
+ * Each level is purged by a single statement: the expired rows are picked in
+ * the first CTE and every dependent table is cleared in the same statement.
+ * Foreign keys are checked at the end of the statement, so children and their
+ * parent can be removed together without ordering the CTEs.
+ */
+@Repository
+public class SoftDeletePurgeRepositoryImpl implements SoftDeletePurgeRepository {
+
+    private static final String PROGRESS_SUBTREE_SQL = """
+            reps AS (
+                DELETE FROM spaced_learning.repetitions r
+                USING progress p WHERE r.module_progress_id = p.id
+            ),
+            cycles AS (
+                DELETE FROM spaced_learning.learning_cycles c
+                USING progress p WHERE c.module_progress_id = p.id
+            ),
+            history AS (
+                DELETE FROM spaced_learning.repetition_history h
+                USING progress p WHERE h.module_progress_id = p.id
+            ),
+            progress_purged AS (
+                DELETE FROM spaced_learning.module_progress mp
+                USING progress p WHERE mp.id = p.id
+            ),
+            """;
+
+    private static final String MODULE_SUBTREE_SQL = """
+            progress AS (
+                SELECT mp.id FROM spaced_learning.module_progress mp
+                JOIN modules_gone m ON m.id = mp.module_id
+            ),
+            """ + PROGRESS_SUBTREE_SQL + """
+            vocabularies_purged AS (
+                DELETE FROM spaced_learning.vocabularies v
+                USING modules_gone m WHERE v.module_id = m.id
+            ),
+            grammars_purged AS (
+                DELETE FROM spaced_learning.grammars g
+                USING modules_gone m WHERE g.module_id = m.id
+            ),
+            modules_purged AS (
+                DELETE FROM spaced_learning.modules mo
+                USING modules_gone m WHERE mo.id = m.id
+            ),
+            """;
+
+    private static final String USERS_SQL = """
+            WITH targets AS (
+                SELECT id FROM spaced_learning.users
+                WHERE deleted_at IS NOT NULL AND deleted_at < :cutoff
+                ORDER BY deleted_at
+                LIMIT :batchSize
+            ),
+            progress AS (
+                SELECT mp.id FROM spaced_learning.module_progress mp
+                JOIN targets t ON t.id = mp.user_id
+            ),
+            """ + PROGRESS_SUBTREE_SQL + """
+            roles AS (
+                DELETE FROM spaced_learning.user_roles ur USING targets t WHERE ur.user_id = t.id
+            ),
+            shelves AS (
+                DELETE FROM spaced_learning.user_books ub USING targets t WHERE ub.user_id = t.id
+            ),
+            stats AS (
+                DELETE FROM spaced_learning.user_statistics us USING targets t WHERE us.user_id = t.id
+            ),
+            tokens AS (
+                DELETE FROM spaced_learning.refresh_tokens rt USING targets t WHERE rt.user_id = t.id
+            ),
+            purged AS (
+                DELETE FROM spaced_learning.users u USING targets t WHERE u.id = t.id
+                RETURNING u.id
+            )
+            SELECT COUNT(*) FROM purged
+            """;
+
+    private static final String BOOKS_SQL = """
+            WITH targets AS (
+                SELECT id FROM spaced_learning.books
+                WHERE deleted_at IS NOT NULL AND deleted_at < :cutoff
+                ORDER BY deleted_at
+                LIMIT :batchSize
+            ),
+            modules_gone AS (
+                SELECT m.id FROM spaced_learning.modules m
+                JOIN targets t ON t.id = m.book_id
+            ),
+            """ + MODULE_SUBTREE_SQL + """
+            shelves AS (
+                DELETE FROM spaced_learning.user_books ub USING targets t WHERE ub.book_id = t.id
+            ),
+            purged AS (
+                DELETE FROM spaced_learning.books b USING targets t WHERE b.id = t.id
+                RETURNING b.id
+            )
+            SELECT COUNT(*) FROM purged
+            """;
+
+    private static final String MODULES_SQL = """
+            WITH modules_gone AS (
+                SELECT id FROM spaced_learning.modules
+                WHERE deleted_at IS NOT NULL AND deleted_at < :cutoff
+                ORDER BY deleted_at
+                LIMIT :batchSize
+            ),
+            """ + MODULE_SUBTREE_SQL + """
+            purged AS (
+                SELECT id FROM modules_gone
+            )
+            SELECT COUNT(*) FROM purged
+            """;
+
+    private static final String MODULE_PROGRESS_SQL = """
+            WITH progress AS (
+                SELECT id FROM spaced_learning.module_progress
+                WHERE deleted_at IS NOT NULL AND deleted_at < :cutoff
+                ORDER BY deleted_at
+                LIMIT :batchSize
+            ),
+            """ + PROGRESS_SUBTREE_SQL + """
+            purged AS (
+                SELECT id FROM progress
+            )
+            SELECT COUNT(*) FROM purged
+            """;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    /**
+     * Purge statement for tables nothing else references.
+     */
+    private static String leafSql(String table) {
+        return """
+                WITH targets AS (
+                    SELECT id FROM spaced_learning.%1$s
+                    WHERE deleted_at IS NOT NULL AND deleted_at < :cutoff
+                    ORDER BY deleted_at
+                    LIMIT :batchSize
+                ),
+                purged AS (
+                    DELETE FROM spaced_learning.%1$s x USING targets t WHERE x.id = t.id
+                    RETURNING 1
+                )
+                SELECT COUNT(*) FROM purged
+                """.formatted(table);
+    }
+
+    private static String sqlFor(Level level) {
+        return switch (level) {
+        case USERS -> USERS_SQL;
+        case BOOKS -> BOOKS_SQL;
+        case MODULES -> MODULES_SQL;
+        case MODULE_PROGRESS -> MODULE_PROGRESS_SQL;
+        case REPETITIONS -> """
+                WITH targets AS (
+                    SELECT id, module_progress_id FROM spaced_learning.repetitions
+                    WHERE deleted_at IS NOT NULL AND deleted_at < :cutoff
+                    ORDER BY deleted_at
+                    LIMIT :batchSize
+                ),
+                purged AS (
+                    DELETE FROM spaced_learning.repetitions r USING targets t
+                    WHERE r.id = t.id AND r.module_progress_id = t.module_progress_id
+                    RETURNING 1
+                )
+                SELECT COUNT(*) FROM purged
+                """;
+        case LEARNING_CYCLES -> leafSql("learning_cycles");
+        case VOCABULARIES -> leafSql("vocabularies");
+        case GRAMMARS -> leafSql("grammars");
+        case USER_STATISTICS -> leafSql("user_statistics");
+        };
+    }
+
+    @Override
+    @Transactional
+    public int purgeBatch(Level level, LocalDateTime cutoff, int batchSize) {
+        final var result = this.entityManager.createNativeQuery(sqlFor(level))
+                .setParameter("cutoff", cutoff)
+                .setParameter("batchSize", batchSize)
+                .getSingleResult();
+        return ((Number) result).intValue();
+    }
+}
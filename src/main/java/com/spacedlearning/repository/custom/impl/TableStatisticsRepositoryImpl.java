@@ -0,0 +1,38 @@
+package com.spacedlearning.repository.custom.impl;
+
+import org.springframework.stereotype.Repository;
+
+import com.spacedlearning.repository.custom.TableStatisticsRepository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+
+@Repository
+public class TableStatisticsRepositoryImpl implements TableStatisticsRepository {
+
+    private static final String ESTIMATE_SQL = """
+            SELECT COALESCE(SUM(GREATEST(c.reltuples, 0)), 0)
+            FROM pg_catalog.pg_class c
+            JOIN pg_catalog.pg_namespace n ON n.oid = c.relnamespace
+            WHERE n.nspname = 'spaced_learning'
+              AND c.relkind = 'r'
+              AND (c.relname = :tableName
+                   OR c.oid IN (
+                       SELECT i.inhrelid
+                       FROM pg_catalog.pg_inherits i
+                       JOIN pg_catalog.pg_class p ON p.oid = i.inhparent
+                       JOIN pg_catalog.pg_namespace pn ON pn.oid = p.relnamespace
+                       WHERE pn.nspname = 'spaced_learning' AND p.relname = :tableName))
+            """;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public long estimateRowCount(String tableName) {
+        final var result = this.entityManager.createNativeQuery(ESTIMATE_SQL)
+                .setParameter("tableName", tableName)
+                .getSingleResult();
+        return ((Number) result).longValue();
+    }
+}
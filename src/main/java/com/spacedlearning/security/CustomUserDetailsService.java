@@ -4,29 +4,35 @@ import java.util.Collection;
 import java.util.stream.Collectors;
 
 import org.apache.commons.lang3.StringUtils;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.spacedlearning.config.cache.CacheConfig;
 import com.spacedlearning.entity.User;
+import com.spacedlearning.event.CacheInvalidationEvent;
 import com.spacedlearning.repository.UserRepository;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
 /**
- * Custom implementation of Spring Security's UserDetailsService
+ * Custom implementation of Spring Security's UserDetailsService. Also persists
+ * password hashes that were upgraded on login.
  */
 @Service
 @RequiredArgsConstructor
 @Slf4j
-public class CustomUserDetailsService implements UserDetailsService {
+public class CustomUserDetailsService implements UserDetailsService, UserDetailsPasswordService {
 
     private final UserRepository userRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Override
     @Transactional(readOnly = true)
@@ -43,6 +49,22 @@ public class CustomUserDetailsService implements UserDetailsService {
         return buildUserDetails(user);
     }
 
+    /**
+     * Store a password hash re-encoded with the current encoder settings after a
+     * successful login with an outdated hash.
+     */
+    @Override
+    @Transactional
+    public UserDetails updatePassword(UserDetails userDetails, String newPassword) {
+        final User user = ((CustomUserDetails) userDetails).getUser();
+        userRepository.updatePassword(user.getId(), newPassword);
+        user.setPassword(newPassword);
+        eventPublisher.publishEvent(new CacheInvalidationEvent(CacheConfig.USERS, user.getId()));
+
+        log.info("Upgraded password hash for user: {}", user.getUsername());
+        return new CustomUserDetails(user, userDetails.getAuthorities());
+    }
+
     /**
      * Build UserDetails from User entity
      *
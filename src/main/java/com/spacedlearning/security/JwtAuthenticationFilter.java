@@ -3,6 +3,7 @@ package com.spacedlearning.security;
 import java.io.IOException;
 import java.time.LocalDateTime;
 
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.security.authentication.AuthenticationManager;
@@ -20,6 +21,7 @@ import com.spacedlearning.dto.common.DataResponse;
 import com.spacedlearning.dto.user.UserResponse;
 import com.spacedlearning.entity.User;
 import com.spacedlearning.exception.ApiError;
+import com.spacedlearning.service.RefreshTokenService;
 
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
@@ -29,19 +31,23 @@ import lombok.extern.slf4j.Slf4j;
 
 /**
  * Filter for JWT authentication. Processes login requests and generates JWT
- * tokens upon successful authentication.
+ * tokens upon successful authentication. Concurrent credential checks are
+ * bounded by the {@link LoginVerificationExecutor}.
  */
 @Slf4j
 public class JwtAuthenticationFilter extends UsernamePasswordAuthenticationFilter {
     private final AuthenticationManager authenticationManager;
-    private final JwtTokenProvider tokenProvider;
+    private final RefreshTokenService refreshTokenService;
     private final ObjectMapper objectMapper;
+    private final LoginVerificationExecutor verificationExecutor;
 
-    public JwtAuthenticationFilter(AuthenticationManager authenticationManager, JwtTokenProvider tokenProvider,
-            ObjectMapper objectMapper) {
+    public JwtAuthenticationFilter(AuthenticationManager authenticationManager,
+            RefreshTokenService refreshTokenService, ObjectMapper objectMapper,
+            LoginVerificationExecutor verificationExecutor) {
         this.authenticationManager = authenticationManager;
-        this.tokenProvider = tokenProvider;
+        this.refreshTokenService = refreshTokenService;
         this.objectMapper = objectMapper;
+        this.verificationExecutor = verificationExecutor;
         setFilterProcessesUrl("/api/v1/auth/login");
     }
 
@@ -81,7 +87,7 @@ public class JwtAuthenticationFilter extends UsernamePasswordAuthenticationFilte
     private Authentication preAuthenticate(final AuthRequest authRequest,
             final UsernamePasswordAuthenticationToken authToken) {
         try {
-            return authenticationManager.authenticate(authToken);
+            return verificationExecutor.authenticate(authenticationManager, authToken);
         } catch (final BadCredentialsException e) {
             log.error("Bad credentials for user: {}", authRequest.getUsernameOrEmail());
             throw e;
@@ -97,8 +103,7 @@ public class JwtAuthenticationFilter extends UsernamePasswordAuthenticationFilte
 
         log.info("Authentication successful for user: {}", userDetails.getUsername());
 
-        final String token = tokenProvider.generateToken(authResult);
-        final String refreshToken = tokenProvider.generateRefreshToken(authResult);
+        final RefreshTokenService.IssuedTokens tokens = refreshTokenService.issue(authResult);
 
         // Create user response
         final UserResponse userResponse = UserResponse.builder().id(user.getId()).username(user.getUsername())
@@ -106,7 +111,7 @@ public class JwtAuthenticationFilter extends UsernamePasswordAuthenticationFilte
                         .map(auth -> auth.getAuthority().replace("ROLE_", "")).toList())
                 .build();
 
-        final AuthResponse authResponse = AuthResponse.builder().token(token).refreshToken(refreshToken)
+        final AuthResponse authResponse = AuthResponse.builder().token(tokens.accessToken()).refreshToken(tokens.refreshToken())
                 .user(userResponse).build();
 
         // Wrap in DataResponse to match the controller response format
@@ -123,6 +128,18 @@ public class JwtAuthenticationFilter extends UsernamePasswordAuthenticationFilte
 
         log.warn("Authentication failed: {}", failed.getMessage());
 
+        if (failed instanceof final LoginThrottledException throttled) {
+            final ApiError errorResponse = ApiError.builder().timestamp(LocalDateTime.now())
+                    .status(HttpStatus.TOO_MANY_REQUESTS.value()).error(HttpStatus.TOO_MANY_REQUESTS.getReasonPhrase())
+                    .message(failed.getMessage()).path(request.getRequestURI()).build();
+
+            response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+            response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(throttled.getRetryAfterSeconds()));
+            response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+            objectMapper.writeValue(response.getOutputStream(), errorResponse);
+            return;
+        }
+
         final ApiError errorResponse = ApiError.builder().timestamp(LocalDateTime.now())
                 .status(HttpStatus.UNAUTHORIZED.value()).error(HttpStatus.UNAUTHORIZED.getReasonPhrase())
                 .message("Authentication failed: " + failed.getMessage()).path(request.getRequestURI()).build();
@@ -2,6 +2,7 @@ package com.spacedlearning.security;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.spacedlearning.exception.ApiError;
+import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
 import io.jsonwebtoken.JwtException;
 import io.jsonwebtoken.MalformedJwtException;
@@ -44,6 +45,7 @@ public class JwtAuthorizationFilter extends OncePerRequestFilter {
     private final JwtTokenProvider tokenProvider;
     private final UserDetailsService userDetailsService;
     private final ObjectMapper objectMapper;
+    private final SessionRevocationFilter revocationFilter;
 
     // Paths that should be excluded from JWT validation
     private final RequestMatcher publicPaths = new OrRequestMatcher(
@@ -52,6 +54,7 @@ public class JwtAuthorizationFilter extends OncePerRequestFilter {
             new AntPathRequestMatcher("/api/v1/auth/register"),
             new AntPathRequestMatcher("/api/v1/auth/validate"),
             new AntPathRequestMatcher("/api/v1/auth/refresh-token"),
+            new AntPathRequestMatcher("/api/v1/auth/logout"),
             new AntPathRequestMatcher("/swagger-ui/**"),
             new AntPathRequestMatcher("/v3/api-docs/**"),
             new AntPathRequestMatcher("/swagger-resources/**"),
@@ -122,14 +125,18 @@ public class JwtAuthorizationFilter extends OncePerRequestFilter {
      */
     private void processToken(String token, HttpServletResponse response) throws IOException {
         try {
-            // Validate token
-            if (!tokenProvider.validateToken(token)) {
-                sendErrorResponse(response, "Invalid token", HttpStatus.UNAUTHORIZED);
+            // Verify signature and expiry once
+            final Claims claims = tokenProvider.parseClaims(token);
+
+            // Reject tokens of revoked sessions without a database lookup
+            final String sessionId = tokenProvider.getSessionId(claims);
+            if (sessionId != null && revocationFilter.isRevoked(sessionId)) {
+                sendErrorResponse(response, "Session has been revoked", HttpStatus.UNAUTHORIZED);
                 return;
             }
 
             // Extract username and set authentication
-            final String username = tokenProvider.getUsernameFromToken(token);
+            final String username = claims.getSubject();
 
             // Load user details
             final UserDetails userDetails = userDetailsService.loadUserByUsername(username);
@@ -37,6 +37,7 @@ public class JwtTokenProvider {
     private static final String TOKEN_TYPE_ACCESS = "access";
     private static final String TOKEN_TYPE_REFRESH = "refresh";
     private static final String TOKEN_ID_KEY = "jti";
+    private static final String SESSION_ID_KEY = "sid";
     private static final SecureRandom secureRandom = new SecureRandom();
     @Value("${spring.jwt.secret}")
     private String jwtSecret;
@@ -51,14 +52,17 @@ public class JwtTokenProvider {
      * Generates a refresh token for the given authentication.
      *
      * @param authentication The authentication object
+     * @param tokenId        The token ID, persisted by the caller
+     * @param sessionId      The login session the token belongs to
      * @return A refresh token
      */
-    public String generateRefreshToken(Authentication authentication) {
+    public String generateRefreshToken(Authentication authentication, String tokenId, String sessionId) {
         final var userDetails = (UserDetails) authentication.getPrincipal();
 
         final Map<String, Object> claims = new HashMap<>();
         claims.put(TOKEN_TYPE_KEY, TOKEN_TYPE_REFRESH);
-        claims.put(TOKEN_ID_KEY, generateTokenId());
+        claims.put(TOKEN_ID_KEY, tokenId);
+        claims.put(SESSION_ID_KEY, sessionId);
 
         return generateRefreshToken(claims, userDetails);
     }
@@ -91,9 +95,10 @@ public class JwtTokenProvider {
      * Generates a JWT token for the given authentication.
      *
      * @param authentication The authentication object
+     * @param sessionId      The login session the token belongs to
      * @return A JWT token
      */
-    public String generateToken(Authentication authentication) {
+    public String generateToken(Authentication authentication, String sessionId) {
         final var userDetails = (UserDetails) authentication.getPrincipal();
 
         // Extract authorities as a comma-separated string, safely handling null
@@ -106,6 +111,7 @@ public class JwtTokenProvider {
         claims.put(AUTHORITIES_KEY, authorities);
         claims.put(TOKEN_TYPE_KEY, TOKEN_TYPE_ACCESS);
         claims.put(TOKEN_ID_KEY, generateTokenId());
+        claims.put(SESSION_ID_KEY, sessionId);
 
         return generateToken(claims, userDetails);
     }
@@ -139,7 +145,7 @@ public class JwtTokenProvider {
      *
      * @return A random string to use as token ID
      */
-    private String generateTokenId() {
+    public String generateTokenId() {
         final var randomBytes = new byte[32];
         secureRandom.nextBytes(randomBytes);
         return Base64.getUrlEncoder().withoutPadding().encodeToString(randomBytes);
@@ -166,6 +172,25 @@ public class JwtTokenProvider {
         return claims.get(AUTHORITIES_KEY, String.class);
     }
 
+    /**
+     * Gets the lifetime of refresh tokens.
+     *
+     * @return The lifetime in milliseconds
+     */
+    public long getRefreshTokenExpiration() {
+        return this.refreshTokenExpiration;
+    }
+
+    /**
+     * Extracts the login session ID from parsed claims.
+     *
+     * @param claims The token claims
+     * @return The session ID, or null for tokens issued without one
+     */
+    public String getSessionId(Claims claims) {
+        return claims.get(SESSION_ID_KEY, String.class);
+    }
+
     /**
      * Gets the signing key for JWT token generation and validation.
      *
@@ -193,10 +218,35 @@ public class JwtTokenProvider {
      * @return true if it's a refresh token, false otherwise
      */
     public boolean isRefreshToken(String token) {
-        final var claims = getAllClaimsFromToken(token);
+        return isRefreshToken(getAllClaimsFromToken(token));
+    }
+
+    /**
+     * Checks if parsed claims belong to a refresh token.
+     *
+     * @param claims The token claims
+     * @return true if it's a refresh token, false otherwise
+     */
+    public boolean isRefreshToken(Claims claims) {
         return TOKEN_TYPE_REFRESH.equals(claims.get(TOKEN_TYPE_KEY));
     }
 
+    /**
+     * Parses and verifies a token once so callers can read several claims without
+     * re-verifying the signature. Expired tokens are rejected by the parser.
+     *
+     * @param token The JWT token
+     * @return The claims
+     * @throws JwtException if the token is invalid or expired
+     */
+    public Claims parseClaims(String token) {
+        try {
+            return getAllClaimsFromToken(token);
+        } catch (final IllegalArgumentException e) {
+            throw new JwtException("Invalid JWT token", e);
+        }
+    }
+
     /**
      * Validates a JWT token.
      *
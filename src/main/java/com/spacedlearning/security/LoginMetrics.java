@@ -0,0 +1,90 @@
+package com.spacedlearning.security;
+
+import java.util.concurrent.Semaphore;
+import java.util.function.Supplier;
+
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * Per-phase timers for the login path: user lookup, hash verification,
+ * rehash and token signing.
+ */
+@Component
+public class LoginMetrics {
+
+    private static final String PHASE_TIMER = "auth.login.phase";
+
+    private final MeterRegistry meterRegistry;
+    private final Timer lookupTimer;
+    private final Timer verifyTimer;
+    private final Timer rehashTimer;
+    private final Timer signTimer;
+    private final Counter rejectedCounter;
+
+    public LoginMetrics(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+        this.lookupTimer = phaseTimer("lookup");
+        this.verifyTimer = phaseTimer("verify");
+        this.rehashTimer = phaseTimer("rehash");
+        this.signTimer = phaseTimer("sign");
+        this.rejectedCounter = Counter.builder("auth.login.rejected")
+                .description("Login attempts shed because every verification slot was busy")
+                .register(meterRegistry);
+    }
+
+    public void bindPermits(Semaphore permits, int concurrency) {
+        Gauge.builder("auth.login.active", permits, p -> concurrency - p.availablePermits())
+                .register(this.meterRegistry);
+    }
+
+    private Timer phaseTimer(String phase) {
+        return Timer.builder(PHASE_TIMER)
+                .tag("phase", phase)
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(this.meterRegistry);
+    }
+
+    public void recordRejection() {
+        this.rejectedCounter.increment();
+    }
+
+    public <T> T recordSigning(Supplier<T> signer) {
+        return this.signTimer.record(signer);
+    }
+
+    /**
+     * Wrap a password encoder so that verification and rehashing are timed.
+     */
+    public PasswordEncoder timedEncoder(PasswordEncoder delegate) {
+        return new PasswordEncoder() {
+            @Override
+            public String encode(CharSequence rawPassword) {
+                return LoginMetrics.this.rehashTimer.record(() -> delegate.encode(rawPassword));
+            }
+
+            @Override
+            public boolean matches(CharSequence rawPassword, String encodedPassword) {
+                return LoginMetrics.this.verifyTimer.record(() -> delegate.matches(rawPassword, encodedPassword));
+            }
+
+            @Override
+            public boolean upgradeEncoding(String encodedPassword) {
+                return delegate.upgradeEncoding(encodedPassword);
+            }
+        };
+    }
+
+    /**
+     * Wrap a user details service so that the lookup is timed.
+     */
+    public UserDetailsService timedLookup(UserDetailsService delegate) {
+        return username -> this.lookupTimer.record(() -> delegate.loadUserByUsername(username));
+    }
+}
@@ -0,0 +1,22 @@
+package com.spacedlearning.security;
+
+import org.springframework.security.authentication.AuthenticationServiceException;
+
+import lombok.Getter;
+
+/**
+ * Raised when every password verification slot is busy and a login attempt
+ * is shed instead of waiting.
+ */
+@Getter
+public class LoginThrottledException extends AuthenticationServiceException {
+
+    private static final long serialVersionUID = 4262418305526914277L;
+
+    private final long retryAfterSeconds;
+
+    public LoginThrottledException(long retryAfterSeconds) {
+        super("Too many concurrent login attempts, retry after " + retryAfterSeconds + "s");
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+}
@@ -0,0 +1,74 @@
+package com.spacedlearning.security;
+
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.authentication.AuthenticationManager;
+import org.springframework.security.core.Authentication;
+import org.springframework.stereotype.Component;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Bounds how many credential verifications run at once so that CPU-bound
+ * password hashing cannot occupy every request thread during a login spike.
+ * Verification runs on the calling thread once it holds a permit; when none is
+ * free the attempt is rejected at once with a retry hint, so no request thread
+ * ever waits for another login to finish.
+ */
+@Component
+@Slf4j
+public class LoginVerificationExecutor {
+
+    private static final double AVERAGE_WEIGHT = 0.2;
+
+    private final LoginMetrics loginMetrics;
+    private final Semaphore permits;
+    private volatile double averageVerifyNanos = TimeUnit.MILLISECONDS.toNanos(100);
+
+    public LoginVerificationExecutor(LoginMetrics loginMetrics,
+            @Value("${app.security.login.verify-threads:0}") int verifyThreads) {
+        final var concurrency = verifyThreads > 0 ? verifyThreads : Runtime.getRuntime().availableProcessors();
+        this.loginMetrics = loginMetrics;
+        this.permits = new Semaphore(concurrency);
+        loginMetrics.bindPermits(this.permits, concurrency);
+    }
+
+    /**
+     * Authenticate on the calling thread if a verification slot is free.
+     *
+     * @throws LoginThrottledException when every slot is taken
+     */
+    public Authentication authenticate(AuthenticationManager authenticationManager, Authentication request) {
+        if (!this.permits.tryAcquire()) {
+            throw reject();
+        }
+        final var startedAt = System.nanoTime();
+        try {
+            return authenticationManager.authenticate(request);
+        } finally {
+            recordDuration(System.nanoTime() - startedAt);
+            this.permits.release();
+        }
+    }
+
+    private void recordDuration(long nanos) {
+        this.averageVerifyNanos = (AVERAGE_WEIGHT * nanos) + ((1 - AVERAGE_WEIGHT) * this.averageVerifyNanos);
+    }
+
+    private LoginThrottledException reject() {
+        this.loginMetrics.recordRejection();
+        final var retryAfter = retryAfterSeconds();
+        log.warn("Rejected login attempt, all verification slots busy, retry after {}s", retryAfter);
+        return new LoginThrottledException(retryAfter);
+    }
+
+    /**
+     * Time for the verifications in progress to finish at the observed rate,
+     * at least one second.
+     */
+    private long retryAfterSeconds() {
+        return Math.max(1L, (long) Math.ceil(this.averageVerifyNanos / TimeUnit.SECONDS.toNanos(1)));
+    }
+}
@@ -0,0 +1,87 @@
+package com.spacedlearning.security;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.spacedlearning.repository.RefreshTokenRepository;
+import com.spacedlearning.util.BloomFilter;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * In-memory view of revoked login sessions, checked for every token without a
+ * database round trip. Sessions revoked by this instance go into a small exact
+ * set; all revoked sessions are periodically loaded into a Bloom filter, which
+ * also picks up revocations made by other instances. Only a Bloom filter hit
+ * that is not in the exact set is confirmed against the database, and that
+ * answer is cached until the next rebuild.
+ */
+@Component
+@Slf4j
+public class SessionRevocationFilter {
+
+    private final Clock clock;
+    private final RefreshTokenRepository refreshTokenRepository;
+    private final Set<String> recentlyRevoked = ConcurrentHashMap.newKeySet();
+    private final Cache<String, Boolean> confirmed;
+    private final int expectedRevocations;
+    private final double falsePositiveRate;
+    private volatile BloomFilter revoked;
+
+    public SessionRevocationFilter(Clock clock, RefreshTokenRepository refreshTokenRepository,
+            @Value("${app.security.revocation.expected-sessions:100000}") int expectedRevocations,
+            @Value("${app.security.revocation.false-positive-rate:0.01}") double falsePositiveRate) {
+        this.clock = clock;
+        this.refreshTokenRepository = refreshTokenRepository;
+        this.expectedRevocations = expectedRevocations;
+        this.falsePositiveRate = falsePositiveRate;
+        this.revoked = BloomFilter.create(expectedRevocations, falsePositiveRate);
+        this.confirmed = Caffeine.newBuilder()
+                .maximumSize(10_000)
+                .expireAfterWrite(Duration.ofMinutes(10))
+                .build();
+    }
+
+    public boolean isRevoked(String sessionId) {
+        if (this.recentlyRevoked.contains(sessionId)) {
+            return true;
+        }
+        if (!this.revoked.mightContain(sessionId)) {
+            return false;
+        }
+        return this.confirmed.get(sessionId,
+                id -> this.refreshTokenRepository.existsBySessionIdAndRevokedAtIsNotNull(UUID.fromString(id)));
+    }
+
+    /**
+     * Reload all revoked, unexpired sessions into a fresh Bloom filter and drop
+     * exact entries that the filter now covers.
+     */
+    @Scheduled(fixedDelayString = "${app.security.revocation.rebuild-ms:60000}")
+    public void rebuild() {
+        final var sessionIds = this.refreshTokenRepository.findRevokedSessionIds(LocalDateTime.now(this.clock));
+        final var filter = BloomFilter.create(Math.max(this.expectedRevocations, sessionIds.size()),
+                this.falsePositiveRate);
+        sessionIds.forEach(id -> filter.put(id.toString()));
+
+        this.revoked = filter;
+        this.confirmed.invalidateAll();
+        sessionIds.forEach(id -> this.recentlyRevoked.remove(id.toString()));
+        log.debug("Rebuilt session revocation filter with {} sessions, {} pending exact entries",
+                sessionIds.size(), this.recentlyRevoked.size());
+    }
+
+    public void revoke(String sessionId) {
+        this.recentlyRevoked.add(sessionId);
+    }
+}
@@ -8,6 +8,8 @@ import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Component;
 
+import com.spacedlearning.exception.SpacedLearningException;
+
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
@@ -50,4 +52,19 @@ public class UserSecurity {
 
 		return false;
 	}
-}
\ No newline at end of file
+
+	/**
+	 * Resolves the ID of the currently authenticated user
+	 *
+	 * @return ID of the current user
+	 * @throws SpacedLearningException if no authenticated user is present
+	 */
+	public UUID getCurrentUserId() {
+		final Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+		if (authentication != null && authentication.isAuthenticated()
+				&& authentication.getPrincipal() instanceof final CustomUserDetails userDetails) {
+			return userDetails.getUser().getId();
+		}
+		throw SpacedLearningException.unauthorized("No authenticated user");
+	}
+}
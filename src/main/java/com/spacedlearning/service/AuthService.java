@@ -27,6 +27,13 @@ public interface AuthService {
 	 */
 	String getUsernameFromToken(String token);
 
+	/**
+	 * Log out by revoking the login session of a refresh token
+	 * 
+	 * @param request Refresh token request
+	 */
+	void logout(RefreshTokenRequest request);
+
 	/**
 	 * Refresh an authentication token
 	 * 
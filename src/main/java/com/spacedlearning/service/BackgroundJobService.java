@@ -0,0 +1,35 @@
+package com.spacedlearning.service;
+
+import java.util.List;
+
+import com.spacedlearning.dto.job.JobStatusResponse;
+
+/**
+ * Service for inspecting and triggering background jobs
+ */
+public interface BackgroundJobService {
+
+    /**
+     * Get the state of every registered job
+     *
+     * @return Job states ordered by name
+     */
+    List<JobStatusResponse> findAll();
+
+    /**
+     * Get the state of a job
+     *
+     * @param name Job name
+     * @return Job state
+     */
+    JobStatusResponse findByName(String name);
+
+    /**
+     * Queue a run of a job on this node. The run is skipped if another node
+     * is running the job when it starts.
+     *
+     * @param name Job name
+     * @return Job state at the time it was queued
+     */
+    JobStatusResponse trigger(String name);
+}
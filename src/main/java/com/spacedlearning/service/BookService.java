@@ -67,6 +67,15 @@ public interface BookService {
      */
     List<String> getAllCategories();
 
+    /**
+     * Restore a soft-deleted book together with the modules, progress and
+     * content removed by the same delete
+     *
+     * @param id Book ID
+     * @return Restored book detail
+     */
+    BookDetailResponse restore(UUID id);
+
     /**
      * Search books by name
      *
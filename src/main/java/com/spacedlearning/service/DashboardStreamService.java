@@ -0,0 +1,40 @@
+package com.spacedlearning.service;
+
+import java.util.UUID;
+
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * Service pushing live dashboard statistics to connected clients
+ */
+public interface DashboardStreamService {
+
+    /**
+     * Dashboard a stream mirrors.
+     */
+    enum View {
+        /** Statistics served by {@code GET /api/v1/stats/dashboard} */
+        STATS,
+        /** Unfiltered module summary served by {@code GET /api/v1/learning/dashboard-stats} */
+        LEARNING
+    }
+
+    /**
+     * Open a dashboard stream for a user. The first event is a full
+     * {@code snapshot}; later events are {@code delta}s holding only the fields
+     * that changed.
+     *
+     * @param userId User ID
+     * @param view   Dashboard to stream
+     * @return Emitter bound to the current request
+     */
+    SseEmitter subscribe(UUID userId, View view);
+
+    /**
+     * Recompute a user's streams at the next flush. Does nothing when the user
+     * has no stream open on this node.
+     *
+     * @param userId User ID
+     */
+    void refresh(UUID userId);
+}
@@ -3,6 +3,7 @@ package com.spacedlearning.service;
 import java.time.LocalDate;
 import java.util.List;
 import java.util.Map;
+import java.util.UUID;
 
 import com.spacedlearning.dto.learning.BookStatsResponse;
 import com.spacedlearning.dto.learning.DashboardStatsResponse;
@@ -16,48 +17,54 @@ public interface LearningProgressService {
     /**
      * Get dashboard statistics including modules
      *
+     * @param userId Learner ID
      * @param book Optional book filter
      * @param date Optional date filter
      * @return Dashboard statistics response
      */
-    DashboardStatsResponse getDashboardStats(String book, LocalDate date);
+    DashboardStatsResponse getDashboardStats(UUID userId, String book, LocalDate date);
 
     /**
      * Get all learning modules for current user
      *
+     * @param userId Learner ID
      * @return List of learning modules
      */
-    List<LearningModuleResponse> getAllModules();
+    List<LearningModuleResponse> getAllModules(UUID userId);
 
     /**
      * Get modules due for review within threshold
      *
+     * @param userId Learner ID
      * @param daysThreshold Number of days threshold
      * @return List of due modules
      */
-    List<LearningModuleResponse> getDueModules(int daysThreshold);
+    List<LearningModuleResponse> getDueModules(UUID userId, int daysThreshold);
 
     /**
      * Get completed modules
      *
+     * @param userId Learner ID
      * @return List of completed modules
      */
-    List<LearningModuleResponse> getCompletedModules();
+    List<LearningModuleResponse> getCompletedModules(UUID userId);
 
     /**
      * Get list of unique books
      *
+     * @param userId Learner ID
      * @return List of unique book names
      */
-    List<String> getUniqueBooks();
+    List<String> getUniqueBooks(UUID userId);
 
     /**
      * Get statistics for a specific book
      *
+     * @param userId Learner ID
      * @param book Book name
      * @return Book statistics
      */
-    BookStatsResponse getBookStats(String book);
+    BookStatsResponse getBookStats(UUID userId, String book);
 
     /**
      * Export learning data
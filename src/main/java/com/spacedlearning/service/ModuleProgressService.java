@@ -1,10 +1,12 @@
 package com.spacedlearning.service;
 
 import java.time.LocalDate;
+import java.util.List;
 import java.util.UUID;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 
 import com.spacedlearning.dto.progress.ModuleProgressCreateRequest;
 import com.spacedlearning.dto.progress.ModuleProgressDetailResponse;
@@ -17,19 +19,32 @@ import com.spacedlearning.dto.progress.ModuleProgressUpdateRequest;
 public interface ModuleProgressService {
 
     /**
-     * Create a new progress record
+     * Create a new progress record owned by a learner
      *
      * @param request Progress creation request
+     * @param userId  Learner ID
      * @return Created progress detail response
      */
-    ModuleProgressDetailResponse create(ModuleProgressCreateRequest request);
+    ModuleProgressDetailResponse create(ModuleProgressCreateRequest request, UUID userId);
 
     /**
-     * Delete a progress record
+     * Delete a learner's progress record
      *
-     * @param id Progress ID
+     * @param id     Progress ID
+     * @param userId Learner ID
      */
-    void delete(UUID id);
+    void delete(UUID id, UUID userId);
+
+    /**
+     * Enroll a learner in every module of a book, creating the progress records
+     * and their first-cycle schedules in one transaction. Modules the learner
+     * already has progress for are left untouched.
+     *
+     * @param bookId Book ID
+     * @param userId Learner ID
+     * @return Summaries of the progress records created
+     */
+    List<ModuleProgressSummaryResponse> enrollBook(UUID bookId, UUID userId);
 
     /**
      * Find all progress records with pagination
@@ -40,62 +55,72 @@ public interface ModuleProgressService {
     Page<ModuleProgressSummaryResponse> findAll(Pageable pageable);
 
     /**
-     * Find progress by book ID
+     * Find a learner's progress by book ID
      *
      * @param bookId   Book ID
+     * @param userId   Learner ID
      * @param pageable Pagination information
      * @return Page of progress summaries
      */
-    Page<ModuleProgressSummaryResponse> findByBookId(UUID bookId, Pageable pageable);
+    Page<ModuleProgressSummaryResponse> findByBookId(UUID bookId, UUID userId, Pageable pageable);
 
     /**
-     * Find progress by ID
+     * Find a learner's progress by ID
      *
-     * @param id Progress ID
+     * @param id     Progress ID
+     * @param userId Learner ID
      * @return Progress detail response
      */
-    ModuleProgressDetailResponse findById(UUID id);
+    ModuleProgressDetailResponse findById(UUID id, UUID userId);
 
     /**
-     * Find progress by module ID
+     * Find a learner's progress by module ID
      *
      * @param moduleId Module ID
+     * @param userId   Learner ID
      * @return Progress detail response
      */
-    ModuleProgressDetailResponse findByModuleId(UUID moduleId);
+    ModuleProgressDetailResponse findByModuleId(UUID moduleId, UUID userId);
 
     /**
-     * Find progress by module ID
+     * Find a learner's progress by module ID
      *
      * @param moduleId Module ID
+     * @param userId   Learner ID
      * @param pageable Pagination information
      * @return Page of progress summaries
      */
-    Page<ModuleProgressSummaryResponse> findByModuleId(UUID moduleId, Pageable pageable);
+    Page<ModuleProgressSummaryResponse> findByModuleId(UUID moduleId, UUID userId, Pageable pageable);
 
     /**
-     * Find progress records due for study
+     * Find a learner's progress records due for study, one keyset page at a
+     * time
      *
+     * @param userId    Learner ID
      * @param studyDate Date to study on or before
-     * @param pageable  Pagination information
-     * @return Page of progress summaries
+     * @param cursor    Cursor returned with the previous page, null for the first
+     * @param size      Page size
+     * @return Slice of progress details
      */
-    Page<ModuleProgressDetailResponse> findDueForStudy(LocalDate studyDate, Pageable pageable);
+    Slice<ModuleProgressDetailResponse> findDueForStudy(UUID userId, LocalDate studyDate, String cursor, int size);
 
     /**
-     * Find progress for a module or create a new one if it doesn't exist
+     * Find a learner's progress for a module or create a new one if it doesn't
+     * exist
      *
      * @param moduleId Module ID
+     * @param userId   Learner ID
      * @return Progress detail response
      */
-    ModuleProgressDetailResponse findOrCreateProgressForModule(UUID moduleId);
+    ModuleProgressDetailResponse findOrCreateProgressForModule(UUID moduleId, UUID userId);
 
     /**
-     * Update a progress record
+     * Update a learner's progress record
      *
      * @param id      Progress ID
+     * @param userId  Learner ID
      * @param request Progress update request
      * @return Updated progress detail response
      */
-    ModuleProgressDetailResponse update(UUID id, ModuleProgressUpdateRequest request);
+    ModuleProgressDetailResponse update(UUID id, UUID userId, ModuleProgressUpdateRequest request);
 }
\ No newline at end of file
@@ -72,6 +72,15 @@ public interface ModuleService {
      */
     Integer getNextModuleNumber(UUID bookId);
 
+    /**
+     * Restore a soft-deleted module together with the progress and content
+     * removed by the same delete
+     *
+     * @param id Module ID
+     * @return Restored module detail
+     */
+    ModuleDetailResponse restore(UUID id);
+
     /**
      * Update a module
      *
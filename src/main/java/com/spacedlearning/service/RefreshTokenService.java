@@ -0,0 +1,63 @@
+package com.spacedlearning.service;
+
+import java.util.UUID;
+
+import org.springframework.security.core.Authentication;
+
+import io.jsonwebtoken.Claims;
+
+/**
+ * Service for issuing, rotating and revoking refresh tokens
+ */
+public interface RefreshTokenService {
+
+    /**
+     * Access and refresh token issued together
+     *
+     * @param accessToken  Signed access token
+     * @param refreshToken Signed refresh token
+     */
+    record IssuedTokens(String accessToken, String refreshToken) {
+    }
+
+    /**
+     * Exchange a refresh token: mark it as used and return its session. Presenting
+     * a token that was already used revokes the whole session.
+     *
+     * @param claims Verified claims of the presented refresh token
+     * @return Session ID to issue the next token pair in
+     */
+    UUID consume(Claims claims);
+
+    /**
+     * Start a new login session and issue its first token pair
+     *
+     * @param authentication Authenticated user
+     * @return Issued tokens
+     */
+    IssuedTokens issue(Authentication authentication);
+
+    /**
+     * Issue a token pair in an existing login session
+     *
+     * @param authentication Authenticated user
+     * @param sessionId      Session ID
+     * @return Issued tokens
+     */
+    IssuedTokens issue(Authentication authentication, UUID sessionId);
+
+    /**
+     * Delete expired refresh tokens
+     *
+     * @return Number of tokens deleted
+     */
+    int purgeExpired();
+
+    /**
+     * Revoke every refresh token of a session. Access tokens of the session are
+     * rejected from then on as well.
+     *
+     * @param sessionId Session ID
+     */
+    void revokeSession(UUID sessionId);
+}
@@ -6,6 +6,7 @@ import com.spacedlearning.entity.enums.RepetitionOrder;
 import com.spacedlearning.entity.enums.RepetitionStatus;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 
 import java.time.LocalDate;
 import java.util.List;
@@ -16,6 +17,17 @@ import java.util.UUID;
  */
 public interface RepetitionService {
 
+    /**
+     * Spread a learner's overdue repetitions over the coming days under a
+     * daily word budget, keeping the order and gaps within each progress record
+     *
+     * @param userId     Learner ID
+     * @param days       Days to spread over, or null for the configured default
+     * @param dailyWords Daily word budget, or null for the configured default
+     * @return Summary of the plan that was applied
+     */
+    RepetitionCatchUpResponse catchUp(UUID userId, Integer days, Integer dailyWords);
+
     /**
      * Create a new repetition
      *
@@ -40,7 +52,8 @@ public interface RepetitionService {
     void delete(UUID id);
 
     /**
-     * Find all repetitions with pagination
+     * Find all repetitions with pagination. The total is a planner estimate
+     * rather than an exact count.
      *
      * @param pageable Pagination information
      * @return Page of repetition responses
@@ -73,16 +86,38 @@ public interface RepetitionService {
     RepetitionResponse findByModuleProgressIdAndOrder(UUID moduleProgressId, RepetitionOrder repetitionOrder);
 
     /**
-     * Find repetitions due for review
+     * Find a user's repetitions due for review, one keyset page at a time
      *
      * @param userId     User ID
      * @param reviewDate Date to review on or before
      * @param status     Status to filter by
-     * @param pageable   Pagination information
-     * @return Page of repetition responses
+     * @param cursor     Cursor returned with the previous page, null for the first
+     * @param size       Page size
+     * @return Slice of repetition responses
+     */
+    Slice<RepetitionResponse> findDueRepetitions(UUID userId, LocalDate reviewDate, RepetitionStatus status,
+                                                 String cursor, int size);
+
+    /**
+     * Pause a learner's schedule by moving their pending repetitions due in a
+     * date range forward, keeping the gaps within each progress record
+     *
+     * @param userId  Learner ID
+     * @param request Pause request
+     * @return Number of repetitions and progress records changed
+     */
+    RepetitionPauseResponse pause(UUID userId, RepetitionPauseRequest request);
+
+    /**
+     * Resume a learner's schedule after a break that started on a past day.
+     * Every progress record with a pending repetition that fell due during the
+     * break moves it and its later pending ones forward by the days paused
+     *
+     * @param userId  Learner ID
+     * @param request Resume request
+     * @return Number of repetitions and progress records changed
      */
-    Page<RepetitionResponse> findDueRepetitions(UUID userId, LocalDate reviewDate, RepetitionStatus status,
-                                                Pageable pageable);
+    RepetitionPauseResponse resume(UUID userId, RepetitionResumeRequest request);
 
     /**
      * Update a repetition (deprecated, use updateCompletion or reschedule instead)
@@ -0,0 +1,57 @@
+package com.spacedlearning.service;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+import com.spacedlearning.dto.word.DueWordResponse;
+import com.spacedlearning.dto.word.WordReviewSessionRequest;
+import com.spacedlearning.dto.word.WordReviewSummaryResponse;
+
+/**
+ * Service for scheduling individual words of a learner's modules
+ */
+public interface WordReviewService {
+
+    /**
+     * Find a learner's words due across all active modules. Words never
+     * reviewed are introduced per module and are not included.
+     *
+     * @param userId Learner ID
+     * @param date   Date to check, today when null
+     * @param limit  Maximum number of words
+     * @return Due words, earliest first
+     */
+    List<DueWordResponse> findDueWords(UUID userId, LocalDate date, int limit);
+
+    /**
+     * Find the words of one progress record to review: due words first, then
+     * words never reviewed to fill the limit.
+     *
+     * @param moduleProgressId Progress record ID
+     * @param userId           Learner ID, who must own the progress
+     * @param date             Date to check, today when null
+     * @param limit            Maximum number of words
+     * @return Words to review
+     */
+    List<DueWordResponse> findDueWordsForProgress(UUID moduleProgressId, UUID userId, LocalDate date, int limit);
+
+    /**
+     * Get the word review state of a progress record
+     *
+     * @param moduleProgressId Progress record ID
+     * @param userId           Learner ID, who must own the progress
+     * @return Summary of the state
+     */
+    WordReviewSummaryResponse getSummary(UUID moduleProgressId, UUID userId);
+
+    /**
+     * Apply the reviews of a study session as one batch update
+     *
+     * @param moduleProgressId Progress record ID
+     * @param userId           Learner ID, who must own the progress
+     * @param request          Reviews in the order they were made
+     * @return Summary of the state after the session
+     */
+    WordReviewSummaryResponse recordSession(UUID moduleProgressId, UUID userId, WordReviewSessionRequest request);
+}
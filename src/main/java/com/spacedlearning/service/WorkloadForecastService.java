@@ -0,0 +1,20 @@
+package com.spacedlearning.service;
+
+import java.util.UUID;
+
+import com.spacedlearning.dto.stats.WorkloadForecastDTO;
+
+/**
+ * Service for projecting future review load
+ */
+public interface WorkloadForecastService {
+
+    /**
+     * Forecast the daily review load starting today
+     *
+     * @param userId User ID, or null for all users
+     * @param days   Number of days to forecast
+     * @return Projected daily load
+     */
+    WorkloadForecastDTO forecast(UUID userId, int days);
+}
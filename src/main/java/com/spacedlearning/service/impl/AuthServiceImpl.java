@@ -1,6 +1,7 @@
 package com.spacedlearning.service.impl;
 
 import java.util.Objects;
+import java.util.UUID;
 
 import org.apache.commons.lang3.StringUtils;
 import org.springframework.context.MessageSource;
@@ -11,7 +12,7 @@ import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -29,8 +30,11 @@ import com.spacedlearning.repository.UserRepository;
 import com.spacedlearning.security.CustomUserDetails;
 import com.spacedlearning.security.CustomUserDetailsService;
 import com.spacedlearning.security.JwtTokenProvider;
+import com.spacedlearning.security.LoginVerificationExecutor;
 import com.spacedlearning.service.AuthService;
+import com.spacedlearning.service.RefreshTokenService;
 
+import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.JwtException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -52,9 +56,11 @@ public class AuthServiceImpl implements AuthService {
 	private final JwtTokenProvider tokenProvider;
 	private final MessageSource messageSource;
 	private final CustomUserDetailsService userDetailsService;
+	private final LoginVerificationExecutor verificationExecutor;
+	private final RefreshTokenService refreshTokenService;
 
 	@Override
-	@Transactional(readOnly = true)
+	@Transactional
 	public AuthResponse authenticate(final AuthRequest request) {
 		Objects.requireNonNull(request, "Auth request must not be null");
 		Objects.requireNonNull(request.getUsernameOrEmail(), "Username or email must not be null");
@@ -63,15 +69,14 @@ public class AuthServiceImpl implements AuthService {
 		log.debug("Authenticating user with username or email: {}", request.getUsernameOrEmail());
 
 		try {
-			// Authenticate user
-			final Authentication authentication = authenticationManager.authenticate(
+			// Authenticate user within the bounded verification slots
+			final Authentication authentication = verificationExecutor.authenticate(authenticationManager,
 					new UsernamePasswordAuthenticationToken(request.getUsernameOrEmail(), request.getPassword()));
 
 			SecurityContextHolder.getContext().setAuthentication(authentication);
 
-			// Generate tokens
-			final String accessToken = tokenProvider.generateToken(authentication);
-			final String refreshToken = tokenProvider.generateRefreshToken(authentication);
+			// Generate tokens for a new login session
+			final RefreshTokenService.IssuedTokens tokens = refreshTokenService.issue(authentication);
 
 			// Get user details from the authentication principal
 			final CustomUserDetails userDetails = (CustomUserDetails) authentication.getPrincipal();
@@ -80,7 +85,8 @@ public class AuthServiceImpl implements AuthService {
 			final UserResponse userResponse = userMapper.toDto(user);
 
 			log.info("User authenticated successfully: {}", authentication.getName());
-			return AuthResponse.builder().token(accessToken).refreshToken(refreshToken).user(userResponse).build();
+			return AuthResponse.builder().token(tokens.accessToken()).refreshToken(tokens.refreshToken())
+					.user(userResponse).build();
 		} catch (final Exception e) {
 			log.error("Authentication failed for user {}: {}", request.getUsernameOrEmail(), e.getMessage());
 			throw e;
@@ -103,65 +109,76 @@ public class AuthServiceImpl implements AuthService {
 	}
 
 	@Override
-    @Transactional(readOnly = true)
-    public AuthResponse refreshToken(final RefreshTokenRequest request) {
-        Objects.requireNonNull(request, "Refresh token request must not be null");
-        Objects.requireNonNull(request.getRefreshToken(), "Refresh token must not be null");
+	@Transactional
+	public void logout(final RefreshTokenRequest request) {
+		Objects.requireNonNull(request, "Refresh token request must not be null");
 
-        log.debug("Refreshing token");
+		final Claims claims = parseRefreshClaims(request.getRefreshToken());
+		final String sessionId = tokenProvider.getSessionId(claims);
+		if (sessionId == null) {
+			throw SpacedLearningException.forbidden(messageSource, "error.auth.invalidToken");
+		}
 
-        try {
-            // Validate refresh token
-            if (!tokenProvider.validateToken(request.getRefreshToken())
-                    || !tokenProvider.isRefreshToken(request.getRefreshToken())) {
-                throw SpacedLearningException.forbidden(messageSource, "error.auth.invalidToken");
-            }
+		refreshTokenService.revokeSession(UUID.fromString(sessionId));
+		log.info("User logged out: {}", claims.getSubject());
+	}
 
-            // Extract username and load user
-            final String usernameOrEmail = tokenProvider.getUsernameFromToken(request.getRefreshToken());
-
-            // Verify user exists in database
-            final User user = userRepository.findByUsernameOrEmailWithRoles(usernameOrEmail)
-                .orElseThrow(() -> SpacedLearningException.resourceNotFound(
-                    messageSource, "resource.user", usernameOrEmail));
-
-            try {
-                // Load user details with proper exception handling
-                final UserDetails userDetails = userDetailsService.loadUserByUsername(usernameOrEmail);
-
-                // Ensure userDetails is not null before proceeding
-                if (userDetails == null) {
-                    log.error("UserDetails is null for username: {}", usernameOrEmail);
-                    throw SpacedLearningException.resourceNotFound(
-                        messageSource, "resource.user.details", usernameOrEmail);
-                }
-
-                final Authentication authentication = new UsernamePasswordAuthenticationToken(
-                    userDetails, null, userDetails.getAuthorities());
-
-                // Generate new tokens
-                final String accessToken = tokenProvider.generateToken(authentication);
-                final String refreshToken = tokenProvider.generateRefreshToken(authentication);
-
-                final UserResponse userResponse = userMapper.toDto(user);
-
-                log.info("Token refreshed successfully for user: {}", usernameOrEmail);
-                return AuthResponse.builder()
-                    .token(accessToken)
-                    .refreshToken(refreshToken)
-                    .user(userResponse)
-                    .build();
-            } catch (final Exception e) {
-                log.error("Error creating authentication during token refresh for user: {}, Error: {}",
-                    usernameOrEmail, e.getMessage());
-                throw SpacedLearningException.forbidden(messageSource, "error.auth.failedAuthentication");
-            }
+	/**
+	 * Verify a refresh token once and return its claims
+	 *
+	 * @param token Refresh token
+	 * @return Verified claims
+	 * @throws SpacedLearningException if the token is invalid, expired or not a
+	 *                                 refresh token
+	 */
+	private Claims parseRefreshClaims(final String token) {
+		if (StringUtils.isBlank(token)) {
+			throw SpacedLearningException.forbidden(messageSource, "error.auth.invalidToken");
+		}
 
-        } catch (final JwtException e) {
-            log.error("Failed to refresh token: {}", e.getMessage());
-            throw SpacedLearningException.forbidden(messageSource, "error.auth.invalidToken");
-        }
-    }
+		try {
+			final Claims claims = tokenProvider.parseClaims(token);
+			if (!tokenProvider.isRefreshToken(claims)) {
+				throw SpacedLearningException.forbidden(messageSource, "error.auth.invalidToken");
+			}
+			return claims;
+		} catch (final JwtException e) {
+			log.error("Invalid refresh token: {}", e.getMessage());
+			throw SpacedLearningException.forbidden(messageSource, "error.auth.invalidToken");
+		}
+	}
+
+	@Override
+	@Transactional(noRollbackFor = SpacedLearningException.class)
+	public AuthResponse refreshToken(final RefreshTokenRequest request) {
+		Objects.requireNonNull(request, "Refresh token request must not be null");
+		Objects.requireNonNull(request.getRefreshToken(), "Refresh token must not be null");
+
+		log.debug("Refreshing token");
+
+		// Single parse, then rotate before touching the user
+		final Claims claims = parseRefreshClaims(request.getRefreshToken());
+		final UUID sessionId = refreshTokenService.consume(claims);
+
+		final String usernameOrEmail = claims.getSubject();
+		final CustomUserDetails userDetails;
+		try {
+			userDetails = (CustomUserDetails) userDetailsService.loadUserByUsername(usernameOrEmail);
+		} catch (final UsernameNotFoundException e) {
+			throw SpacedLearningException.resourceNotFound(messageSource, "resource.user", usernameOrEmail);
+		}
+
+		final Authentication authentication = new UsernamePasswordAuthenticationToken(userDetails, null,
+				userDetails.getAuthorities());
+		final RefreshTokenService.IssuedTokens tokens = refreshTokenService.issue(authentication, sessionId);
+
+		log.info("Token refreshed successfully for user: {}", usernameOrEmail);
+		return AuthResponse.builder()
+				.token(tokens.accessToken())
+				.refreshToken(tokens.refreshToken())
+				.user(userMapper.toDto(userDetails.getUser()))
+				.build();
+	}
 
 	@Override
     @Transactional
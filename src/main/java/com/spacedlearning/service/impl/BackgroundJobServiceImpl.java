@@ -0,0 +1,131 @@
+package com.spacedlearning.service.impl;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.MessageSource;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+
+import com.spacedlearning.dto.job.JobStatusResponse;
+import com.spacedlearning.entity.JobState;
+import com.spacedlearning.exception.SpacedLearningException;
+import com.spacedlearning.repository.JobStateRepository;
+import com.spacedlearning.service.BackgroundJobService;
+import com.spacedlearning.service.impl.job.BackgroundJob;
+import com.spacedlearning.service.impl.job.JobRunner;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Manual triggers run on a single local worker so that an admin request
+ * returns immediately; the run still goes through {@link JobRunner} and its
+ * lock, so it never overlaps a scheduled run on another node.
+ */
+@Service
+@Slf4j
+public class BackgroundJobServiceImpl implements BackgroundJobService {
+
+    private static final String RESOURCE_JOB = "resource.job";
+
+    private final Map<String, BackgroundJob> jobs = new TreeMap<>();
+    private final JobRunner jobRunner;
+    private final JobStateRepository stateRepository;
+    private final MessageSource messageSource;
+    private final Set<String> queued = ConcurrentHashMap.newKeySet();
+    private final ThreadPoolExecutor executor;
+
+    public BackgroundJobServiceImpl(List<BackgroundJob> jobs, JobRunner jobRunner,
+            JobStateRepository stateRepository, MessageSource messageSource,
+            @Value("${app.jobs.trigger-queue-capacity:8}") int queueCapacity) {
+        jobs.forEach(job -> this.jobs.put(job.name(), job));
+        this.jobRunner = jobRunner;
+        this.stateRepository = stateRepository;
+        this.messageSource = messageSource;
+        this.executor = new ThreadPoolExecutor(1, 1, 60L, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), new CustomizableThreadFactory("job-trigger-"),
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    @Override
+    public List<JobStatusResponse> findAll() {
+        final var states = this.stateRepository.findAllById(this.jobs.keySet()).stream()
+                .collect(Collectors.toMap(JobState::getName, Function.identity()));
+        return this.jobs.keySet().stream()
+                .map(name -> toResponse(name, states.get(name)))
+                .toList();
+    }
+
+    @Override
+    public JobStatusResponse findByName(String name) {
+        requireJob(name);
+        return toResponse(name, this.stateRepository.findById(name).orElse(null));
+    }
+
+    private BackgroundJob requireJob(String name) {
+        final var job = this.jobs.get(name);
+        if (job == null) {
+            throw SpacedLearningException.resourceNotFound(this.messageSource, RESOURCE_JOB, name);
+        }
+        return job;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        this.executor.shutdownNow();
+    }
+
+    private JobStatusResponse toResponse(String name, JobState state) {
+        final var response = JobStatusResponse.builder()
+                .name(name)
+                .queued(this.queued.contains(name));
+        if (state != null) {
+            response.status(state.getStatus())
+                    .owner(state.getOwner())
+                    .checkpoint(state.getCheckpoint())
+                    .processed(state.getProcessed())
+                    .startedAt(state.getStartedAt())
+                    .finishedAt(state.getFinishedAt())
+                    .heartbeatAt(state.getHeartbeatAt())
+                    .lastError(state.getLastError());
+        }
+        return response.build();
+    }
+
+    @Override
+    public JobStatusResponse trigger(String name) {
+        final var job = requireJob(name);
+        if (!this.queued.add(name)) {
+            throw SpacedLearningException.validationError(this.messageSource, "error.job.alreadyQueued", name);
+        }
+
+        try {
+            this.executor.execute(() -> {
+                try {
+                    if (!this.jobRunner.run(job)) {
+                        log.info("Triggered run of job {} was skipped", name);
+                    }
+                } finally {
+                    this.queued.remove(name);
+                }
+            });
+        } catch (final RejectedExecutionException e) {
+            this.queued.remove(name);
+            throw SpacedLearningException.validationError(this.messageSource, "error.job.queueFull", name);
+        }
+
+        log.info("Queued a run of job {}", name);
+        return findByName(name);
+    }
+}
@@ -5,6 +5,8 @@ import java.util.Objects;
 import java.util.UUID;
 
 import org.apache.commons.lang3.StringUtils;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.context.MessageSource;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
@@ -13,6 +15,7 @@ import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.spacedlearning.config.cache.CacheConfig;
 import com.spacedlearning.dto.book.BookCreateRequest;
 import com.spacedlearning.dto.book.BookDetailResponse;
 import com.spacedlearning.dto.book.BookSummaryResponse;
@@ -20,11 +23,14 @@ import com.spacedlearning.dto.book.BookUpdateRequest;
 import com.spacedlearning.entity.User;
 import com.spacedlearning.entity.enums.BookStatus;
 import com.spacedlearning.entity.enums.DifficultyLevel;
+import com.spacedlearning.event.CacheInvalidationEvent;
 import com.spacedlearning.exception.SpacedLearningException;
 import com.spacedlearning.mapper.BookMapper;
 import com.spacedlearning.repository.BookRepository;
 import com.spacedlearning.repository.UserRepository;
+import com.spacedlearning.repository.custom.SoftDeleteCascadeRepository;
 import com.spacedlearning.service.BookService;
+import com.spacedlearning.service.impl.maintenance.SoftDeleteCascader;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -42,8 +48,11 @@ public class BookServiceImpl implements BookService {
     public static final String PAGEABLE_MUST_NOT_BE_NULL = "Pageable must not be null";
     private final BookRepository bookRepository;
     private final UserRepository userRepository;
+    private final SoftDeleteCascadeRepository cascadeRepository;
+    private final SoftDeleteCascader softDeleteCascader;
     private final BookMapper bookMapper;
     private final MessageSource messageSource;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Override
     @Transactional
@@ -54,6 +63,7 @@ public class BookServiceImpl implements BookService {
         log.debug("Creating new book: {}", request);
         final var book = this.bookMapper.toEntity(request);
         final var savedBook = this.bookRepository.save(book);
+        this.eventPublisher.publishEvent(CacheInvalidationEvent.all(CacheConfig.BOOK_CATEGORIES));
 
         log.info("Book created successfully with ID: {}", savedBook.getId());
         return this.bookMapper.toDto(savedBook);
@@ -65,11 +75,11 @@ public class BookServiceImpl implements BookService {
         Objects.requireNonNull(id, BOOK_ID_MUST_NOT_BE_NULL);
         log.debug("Deleting book with ID: {}", id);
 
-        final var book = this.bookRepository.findById(id)
-                .orElseThrow(() -> SpacedLearningException.resourceNotFound(this.messageSource, RESOURCE_BOOK, id));
-
-        book.softDelete(); // Use soft delete
-        this.bookRepository.save(book);
+        // Marks the book and its whole subtree with set-based updates
+        if (!this.softDeleteCascader.deleteBook(id)) {
+            throw SpacedLearningException.resourceNotFound(this.messageSource, RESOURCE_BOOK, id);
+        }
+        publishBookInvalidation(id);
 
         log.info("Book soft deleted successfully with ID: {}", id);
     }
@@ -117,6 +127,7 @@ public class BookServiceImpl implements BookService {
 
     @Override
     @Transactional(readOnly = true)
+    @Cacheable(CacheConfig.BOOK_CATEGORIES)
     public List<String> getAllCategories() {
         log.debug("Getting all book categories");
         return this.bookRepository.findAllCategories();
@@ -136,6 +147,38 @@ public class BookServiceImpl implements BookService {
                 .toList();
     }
 
+    /**
+     * Evict the categories and the book's module list once the change commits.
+     */
+    private void publishBookInvalidation(UUID bookId) {
+        this.eventPublisher.publishEvent(CacheInvalidationEvent.all(CacheConfig.BOOK_CATEGORIES));
+        this.eventPublisher.publishEvent(new CacheInvalidationEvent(CacheConfig.BOOK_MODULES, bookId));
+    }
+
+    @Override
+    @Transactional
+    public BookDetailResponse restore(final UUID id) {
+        Objects.requireNonNull(id, BOOK_ID_MUST_NOT_BE_NULL);
+        log.debug("Restoring book with ID: {}", id);
+
+        if (this.bookRepository.existsById(id)) {
+            log.info("Book with ID: {} is not marked as deleted. Skip restore.", id);
+            return findById(id);
+        }
+
+        final var deletedAt = this.cascadeRepository.findBookDeletedAt(id)
+                .orElseThrow(() -> SpacedLearningException.resourceNotFound(this.messageSource, RESOURCE_BOOK, id));
+        if (this.softDeleteCascader.isCascading(id)) {
+            throw SpacedLearningException.validationError(this.messageSource, "error.book.deleteInProgress", id);
+        }
+
+        final var modules = this.softDeleteCascader.restoreBook(id, deletedAt);
+        publishBookInvalidation(id);
+
+        log.info("Book restored successfully with ID: {} and {} modules", id, modules);
+        return findById(id);
+    }
+
     @Override
     @Transactional(readOnly = true)
     public Page<BookSummaryResponse> searchByName(final String searchTerm, final Pageable pageable) {
@@ -171,6 +214,7 @@ public class BookServiceImpl implements BookService {
         for (final User user : users) {
             if (!user.getBooks().contains(book)) {
                 user.addBook(book);
+                this.eventPublisher.publishEvent(new CacheInvalidationEvent(CacheConfig.USERS, user.getId()));
                 sharedCount++;
             }
         }
@@ -203,6 +247,7 @@ public class BookServiceImpl implements BookService {
         var unsharedCount = 0;
         for (final User user : users) {
             if (user.removeBook(book)) {
+                this.eventPublisher.publishEvent(new CacheInvalidationEvent(CacheConfig.USERS, user.getId()));
                 unsharedCount++;
             }
         }
@@ -227,6 +272,7 @@ public class BookServiceImpl implements BookService {
 
         this.bookMapper.updateFromDto(request, book);
         final var updatedBook = this.bookRepository.save(book);
+        this.eventPublisher.publishEvent(CacheInvalidationEvent.all(CacheConfig.BOOK_CATEGORIES));
 
         log.info("Book updated successfully with ID: {}", updatedBook.getId());
         return this.bookMapper.toDto(updatedBook);
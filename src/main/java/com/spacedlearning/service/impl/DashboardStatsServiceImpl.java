@@ -2,6 +2,7 @@ package com.spacedlearning.service.impl;
 
 import java.math.BigDecimal;
 import java.math.RoundingMode;
+import java.time.Clock;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.HashMap;
@@ -41,6 +42,7 @@ public class DashboardStatsServiceImpl implements DashboardStatsService {
 
     private static final int MAX_BUSINESS_DAYS_PER_WEEK = 5;
     private static final int MAX_LEARNING_DAYS_PER_MONTH = 20;
+    private final Clock clock;
     private final UserRepository userRepository;
     private final UserStatisticsRepository statsRepository;
 
@@ -56,11 +58,11 @@ public class DashboardStatsServiceImpl implements DashboardStatsService {
                 .longestStreakDays(stats.getLongestStreakDays());
     }
 
-    private UserLearningStatsDTO.UserLearningStatsDTOBuilder buildStatsFromScratch() {
-        final var vocabularyStats = calculateVocabularyStats();
+    private UserLearningStatsDTO.UserLearningStatsDTOBuilder buildStatsFromScratch(final UUID userId) {
+        final var vocabularyStats = calculateVocabularyStats(userId);
 
         return UserLearningStatsDTO.builder()
-                .lastUpdated(LocalDateTime.now())
+                .lastUpdated(LocalDateTime.now(this.clock))
                 .streakDays(0)
                 .streakWeeks(0)
                 .longestStreakDays(0)
@@ -73,13 +75,13 @@ public class DashboardStatsServiceImpl implements DashboardStatsService {
                 .totalInProgressModules(0);
     }
 
-    private StatsPeriod calculateCompletedStats() {
-        final var today = this.moduleRepository.countCompletedToday();
+    private StatsPeriod calculateCompletedStats(final UUID userId) {
+        final var today = this.moduleRepository.countCompletedToday(userId);
         return new StatsPeriod(today, estimateThisWeek(today), estimateThisMonth(today));
     }
 
-    private Map<String, Integer> calculateCycleStats() {
-        final var stats = this.moduleRepository.getModuleCycleStudiedStats();
+    private Map<String, Integer> calculateCycleStats(final UUID userId) {
+        final var stats = this.moduleRepository.getModuleCycleStudiedStats(userId);
         final Map<String, Integer> result = new HashMap<>();
         var totalStudied = 0;
 
@@ -90,26 +92,27 @@ public class DashboardStatsServiceImpl implements DashboardStatsService {
             totalStudied += count;
         }
 
-        final var totalModules = this.moduleRepository.countTotalModules();
+        final var totalModules = this.moduleRepository.countTotalModules(userId);
         result.put("NOT_STUDIED", Math.max(0, totalModules - totalStudied));
         return result;
     }
 
-    private StatsPeriod calculateDueStats() {
+    private StatsPeriod calculateDueStats(final UUID userId) {
         return new StatsPeriod(
-                this.moduleRepository.countDueToday(),
-                this.moduleRepository.countDueThisWeek(),
-                this.moduleRepository.countDueThisMonth());
+                this.moduleRepository.countDueToday(userId),
+                this.moduleRepository.countDueThisWeek(userId),
+                this.moduleRepository.countDueThisMonth(userId));
     }
 
-    private UserLearningStatsDTO calculateDynamicStats(final UserLearningStatsDTO.UserLearningStatsDTOBuilder builder) {
-        final var totalModules = this.moduleRepository.countTotalModules();
-        final var cycleStats = calculateCycleStats();
-        final var dueStats = calculateDueStats();
-        final var wordsDueStats = calculateWordsDueStats();
-        final var completedStats = calculateCompletedStats();
-        final var wordsCompletedStats = calculateWordsCompletedStats();
-        final var vocabularyStats = calculateVocabularyStats();
+    private UserLearningStatsDTO calculateDynamicStats(final UUID userId,
+            final UserLearningStatsDTO.UserLearningStatsDTOBuilder builder) {
+        final var totalModules = this.moduleRepository.countTotalModules(userId);
+        final var cycleStats = calculateCycleStats(userId);
+        final var dueStats = calculateDueStats(userId);
+        final var wordsDueStats = calculateWordsDueStats(userId);
+        final var completedStats = calculateCompletedStats(userId);
+        final var wordsCompletedStats = calculateWordsCompletedStats(userId);
+        final var vocabularyStats = calculateVocabularyStats(userId);
 
         return builder.totalModules(totalModules)
                 .cycleStats(cycleStats)
@@ -142,33 +145,33 @@ public class DashboardStatsServiceImpl implements DashboardStatsService {
                 .multiply(ONE_HUNDRED);
     }
 
-    private VocabularyStats calculateVocabularyStats() {
-        final var total = this.moduleRepository.countTotalVocabularyWords();
-        final var learned = this.moduleRepository.countLearnedVocabularyWords();
+    private VocabularyStats calculateVocabularyStats(final UUID userId) {
+        final var total = this.moduleRepository.countTotalVocabularyWords(userId);
+        final var learned = this.moduleRepository.countLearnedVocabularyWords(userId);
         final var pending = Math.max(0, total - learned);
         final var rate = calculateVocabularyCompletionRate(total, learned);
         return new VocabularyStats(total, learned, pending, rate);
     }
 
-    private StatsPeriod calculateWordsCompletedStats() {
-        final var today = this.moduleRepository.countWordsCompletedToday();
+    private StatsPeriod calculateWordsCompletedStats(final UUID userId) {
+        final var today = this.moduleRepository.countWordsCompletedToday(userId);
         return new StatsPeriod(today, estimateThisWeek(today), estimateThisMonth(today));
     }
 
-    private StatsPeriod calculateWordsDueStats() {
+    private StatsPeriod calculateWordsDueStats(final UUID userId) {
         return new StatsPeriod(
-                this.moduleRepository.countWordsDueToday(),
-                this.moduleRepository.countWordsDueThisWeek(),
-                this.moduleRepository.countWordsDueThisMonth());
+                this.moduleRepository.countWordsDueToday(userId),
+                this.moduleRepository.countWordsDueThisWeek(userId),
+                this.moduleRepository.countWordsDueThisMonth(userId));
     }
 
     private int estimateThisMonth(final int todayCount) {
-        final var dayOfMonth = LocalDate.now().getDayOfMonth();
+        final var dayOfMonth = LocalDate.now(this.clock).getDayOfMonth();
         return todayCount * Math.min(dayOfMonth, MAX_LEARNING_DAYS_PER_MONTH);
     }
 
     private int estimateThisWeek(final int todayCount) {
-        final var dayOfWeek = LocalDate.now().getDayOfWeek().getValue();
+        final var dayOfWeek = LocalDate.now(this.clock).getDayOfWeek().getValue();
         return todayCount * Math.min(dayOfWeek, MAX_BUSINESS_DAYS_PER_WEEK);
     }
 
@@ -181,9 +184,9 @@ public class DashboardStatsServiceImpl implements DashboardStatsService {
 
         final var statsOpt = this.statsRepository.findByUserId(userId);
         final var builder = statsOpt.map(this::buildStatsFromExisting)
-                .orElseGet(this::buildStatsFromScratch);
+                .orElseGet(() -> buildStatsFromScratch(userId));
 
-        return calculateDynamicStats(builder);
+        return calculateDynamicStats(userId, builder);
     }
 
     private void validateUserId(final UUID userId) {
@@ -0,0 +1,232 @@
+package com.spacedlearning.service.impl;
+
+import java.io.IOException;
+import java.util.EnumSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.spacedlearning.event.DashboardChangeEvent;
+import com.spacedlearning.service.DashboardStatsService;
+import com.spacedlearning.service.DashboardStreamService;
+import com.spacedlearning.service.LearningProgressService;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Fans dashboard changes out to SSE clients. Change events only mark a user
+ * dirty; a periodic flush recomputes each dirty user's stats once, however
+ * many changes arrived or devices are connected, and pushes the difference
+ * from the last snapshot. Only the views that user's clients subscribed to
+ * are recomputed. Recomputation runs on a small bounded pool: when it is
+ * saturated the user simply stays dirty until the next flush.
+ */
+@Service
+@Slf4j
+public class DashboardStreamServiceImpl implements DashboardStreamService {
+
+    private static final class Subscriber {
+        private final SseEmitter emitter;
+        private final View view;
+        private volatile boolean primed;
+
+        private Subscriber(SseEmitter emitter, View view) {
+            this.emitter = emitter;
+            this.view = view;
+        }
+    }
+
+    private static final String EVENT_SNAPSHOT = "snapshot";
+    private static final String EVENT_DELTA = "delta";
+
+    private final DashboardStatsService dashboardStatsService;
+    private final LearningProgressService learningProgressService;
+    private final ObjectMapper objectMapper;
+
+    private final Map<UUID, List<Subscriber>> subscribers = new ConcurrentHashMap<>();
+    private final Map<UUID, Map<View, Map<String, Object>>> lastSnapshots = new ConcurrentHashMap<>();
+    private final Set<UUID> dirtyUsers = ConcurrentHashMap.newKeySet();
+    private final Set<UUID> inFlight = ConcurrentHashMap.newKeySet();
+    private final ThreadPoolExecutor executor;
+
+    @Value("${app.dashboard.stream.timeout-ms:1800000}")
+    private long timeoutMs;
+
+    @Value("${app.dashboard.stream.max-connections-per-user:5}")
+    private int maxConnectionsPerUser;
+
+    public DashboardStreamServiceImpl(DashboardStatsService dashboardStatsService,
+            LearningProgressService learningProgressService, ObjectMapper objectMapper,
+            @Value("${app.dashboard.stream.workers:4}") int workers,
+            @Value("${app.dashboard.stream.queue-capacity:256}") int queueCapacity) {
+        this.dashboardStatsService = dashboardStatsService;
+        this.learningProgressService = learningProgressService;
+        this.objectMapper = objectMapper;
+        this.executor = new ThreadPoolExecutor(workers, workers, 60L, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), new CustomizableThreadFactory("dashboard-stream-"),
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    @Override
+    public SseEmitter subscribe(UUID userId, View view) {
+        Objects.requireNonNull(userId, "User ID must not be null");
+        Objects.requireNonNull(view, "View must not be null");
+        log.debug("Opening {} dashboard stream for user ID: {}", view, userId);
+
+        final var emitter = new SseEmitter(this.timeoutMs);
+        final var subscriber = new Subscriber(emitter, view);
+        final var userSubscribers = this.subscribers.computeIfAbsent(userId, id -> new CopyOnWriteArrayList<>());
+
+        userSubscribers.add(subscriber);
+        while (userSubscribers.size() > this.maxConnectionsPerUser) {
+            userSubscribers.remove(0).emitter.complete();
+        }
+
+        emitter.onCompletion(() -> remove(userId, subscriber));
+        emitter.onTimeout(() -> remove(userId, subscriber));
+        emitter.onError(e -> remove(userId, subscriber));
+
+        this.dirtyUsers.add(userId);
+        return emitter;
+    }
+
+    @Override
+    public void refresh(UUID userId) {
+        if (this.subscribers.containsKey(userId)) {
+            this.dirtyUsers.add(userId);
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onDashboardChange(DashboardChangeEvent event) {
+        log.debug("Dashboard change {} for user ID: {}", event.type(), event.userId());
+        refresh(event.userId());
+    }
+
+    @Scheduled(fixedDelayString = "${app.dashboard.stream.flush-interval-ms:1000}")
+    public void flush() {
+        for (final UUID userId : this.dirtyUsers) {
+            if (!this.inFlight.add(userId)) {
+                continue;
+            }
+            this.dirtyUsers.remove(userId);
+            try {
+                this.executor.execute(() -> push(userId));
+            } catch (final RejectedExecutionException e) {
+                this.inFlight.remove(userId);
+                this.dirtyUsers.add(userId);
+                log.debug("Dashboard stream workers saturated, deferring user ID: {}", userId);
+                return;
+            }
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.dashboard.stream.heartbeat-interval-ms:25000}")
+    public void heartbeat() {
+        this.subscribers.forEach((userId, userSubscribers) -> userSubscribers
+                .forEach(subscriber -> send(userId, subscriber, SseEmitter.event().comment("ping"))));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        this.executor.shutdownNow();
+        this.subscribers.values().forEach(list -> list.forEach(subscriber -> subscriber.emitter.complete()));
+        this.subscribers.clear();
+    }
+
+    private Map<String, Object> diff(Map<String, Object> previous, Map<String, Object> current) {
+        final Map<String, Object> delta = new LinkedHashMap<>();
+        current.forEach((key, value) -> {
+            if (!Objects.equals(previous.get(key), value)) {
+                delta.put(key, value);
+            }
+        });
+        return delta;
+    }
+
+    private Object load(UUID userId, View view) {
+        return switch (view) {
+            case STATS -> this.dashboardStatsService.getDashboardStats(userId);
+            case LEARNING -> this.learningProgressService.getDashboardStats(userId, null, null);
+        };
+    }
+
+    private void push(UUID userId) {
+        try {
+            final var userSubscribers = this.subscribers.get(userId);
+            if ((userSubscribers == null) || userSubscribers.isEmpty()) {
+                return;
+            }
+
+            final Set<View> views = EnumSet.noneOf(View.class);
+            userSubscribers.forEach(subscriber -> views.add(subscriber.view));
+            final var snapshots = this.lastSnapshots.computeIfAbsent(userId, id -> new ConcurrentHashMap<>());
+            for (final View view : views) {
+                final Map<String, Object> current = this.objectMapper.convertValue(load(userId, view),
+                        new TypeReference<Map<String, Object>>() {
+                        });
+                final var previous = snapshots.put(view, current);
+                push(userId, userSubscribers, view, current, previous != null ? diff(previous, current) : current);
+            }
+        } catch (final RuntimeException e) {
+            log.warn("Failed to push dashboard stats for user ID: {}", userId, e);
+        } finally {
+            this.inFlight.remove(userId);
+        }
+    }
+
+    private void push(UUID userId, List<Subscriber> userSubscribers, View view, Map<String, Object> current,
+            Map<String, Object> delta) {
+        for (final Subscriber subscriber : userSubscribers) {
+            if (subscriber.view != view) {
+                continue;
+            }
+            if (!subscriber.primed) {
+                subscriber.primed = send(userId, subscriber, SseEmitter.event().name(EVENT_SNAPSHOT).data(current));
+            } else if (!delta.isEmpty()) {
+                send(userId, subscriber, SseEmitter.event().name(EVENT_DELTA).data(delta));
+            }
+        }
+    }
+
+    private void remove(UUID userId, Subscriber subscriber) {
+        this.subscribers.computeIfPresent(userId, (id, list) -> {
+            list.remove(subscriber);
+            if (list.isEmpty()) {
+                this.lastSnapshots.remove(id);
+                return null;
+            }
+            return list;
+        });
+    }
+
+    private boolean send(UUID userId, Subscriber subscriber, SseEmitter.SseEventBuilder event) {
+        try {
+            subscriber.emitter.send(event);
+            return true;
+        } catch (final IOException | IllegalStateException e) {
+            log.debug("Dropping dashboard stream for user ID: {}", userId);
+            remove(userId, subscriber);
+            return false;
+        }
+    }
+}
@@ -1,9 +1,11 @@
 // GrammarServiceImpl.java
 package com.spacedlearning.service.impl;
 
+import com.spacedlearning.config.cache.CacheConfig;
 import com.spacedlearning.dto.grammar.GrammarCreateRequest;
 import com.spacedlearning.dto.grammar.GrammarResponse;
 import com.spacedlearning.dto.grammar.GrammarUpdateRequest;
+import com.spacedlearning.event.CacheInvalidationEvent;
 import com.spacedlearning.exception.SpacedLearningException;
 import com.spacedlearning.mapper.GrammarMapper;
 import com.spacedlearning.repository.GrammarRepository;
@@ -11,6 +13,7 @@ import com.spacedlearning.repository.ModuleRepository;
 import com.spacedlearning.service.GrammarService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.context.MessageSource;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -35,6 +38,7 @@ public class GrammarServiceImpl implements GrammarService {
     private final ModuleRepository moduleRepository;
     private final GrammarMapper grammarMapper;
     private final MessageSource messageSource;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Override
     @Transactional
@@ -49,6 +53,9 @@ public class GrammarServiceImpl implements GrammarService {
 
         final var grammar = this.grammarMapper.toEntity(request, module);
         final var savedGrammar = this.grammarRepository.save(grammar);
+        // Module lists carry grammar counts
+        this.eventPublisher.publishEvent(new CacheInvalidationEvent(CacheConfig.BOOK_MODULES,
+                module.getBook().getId()));
 
         log.info("Grammar created successfully with ID: {}", savedGrammar.getId());
         return this.grammarMapper.toDto(savedGrammar);
@@ -66,6 +73,8 @@ public class GrammarServiceImpl implements GrammarService {
 
         grammar.softDelete();
         this.grammarRepository.save(grammar);
+        this.eventPublisher.publishEvent(new CacheInvalidationEvent(CacheConfig.BOOK_MODULES,
+                grammar.getModule().getBook().getId()));
 
         log.info("Grammar soft deleted successfully with ID: {}", id);
     }
@@ -144,6 +153,8 @@ public class GrammarServiceImpl implements GrammarService {
 
         this.grammarMapper.updateFromDto(request, grammar);
         final var updatedGrammar = this.grammarRepository.save(grammar);
+        this.eventPublisher.publishEvent(new CacheInvalidationEvent(CacheConfig.BOOK_MODULES,
+                grammar.getModule().getBook().getId()));
 
         log.info("Grammar updated successfully with ID: {}", updatedGrammar.getId());
         return this.grammarMapper.toDto(updatedGrammar);
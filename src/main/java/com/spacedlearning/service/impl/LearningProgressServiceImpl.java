@@ -2,12 +2,14 @@ package com.spacedlearning.service.impl;
 
 import java.math.BigDecimal;
 import java.math.RoundingMode;
+import java.time.Clock;
 import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.UUID;
 
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
@@ -32,6 +34,7 @@ public class LearningProgressServiceImpl implements LearningProgressService {
     private static final int DEFAULT_PAGE_SIZE = 100;
 
     private final BookRepository bookRepository;
+    private final Clock clock;
     private final LearningModuleRepository learningModuleRepository;
 
     private int countDueModules(List<LearningModuleResponse> modules, LocalDate start, LocalDate end) {
@@ -45,7 +48,7 @@ public class LearningProgressServiceImpl implements LearningProgressService {
     public Map<String, String> exportData() {
         try {
             final Map<String, String> result = new HashMap<>();
-            result.put("filePath", "/downloads/learning_progress_export_" + LocalDate.now() + ".csv");
+            result.put("filePath", "/downloads/learning_progress_export_" + LocalDate.now(this.clock) + ".csv");
             result.put("message", "Data exported successfully");
             return result;
         } catch (final Exception e) {
@@ -56,22 +59,21 @@ public class LearningProgressServiceImpl implements LearningProgressService {
 
     @Override
     @Transactional(readOnly = true)
-    public List<LearningModuleResponse> getAllModules() {
+    public List<LearningModuleResponse> getAllModules(UUID userId) {
         log.info("Fetching all learning modules");
-        return this.learningModuleRepository.findModuleStudyProgress(0, DEFAULT_PAGE_SIZE);
+        return this.learningModuleRepository.findModuleStudyProgress(userId, 0, DEFAULT_PAGE_SIZE);
     }
 
     @Override
     @Transactional(readOnly = true)
-    public BookStatsResponse getBookStats(String bookName) {
+    public BookStatsResponse getBookStats(UUID userId, String bookName) {
         log.info("Fetching stats for book: {}", bookName);
         Objects.requireNonNull(bookName, "Book name must not be null");
 
         this.bookRepository.findByName(bookName)
                 .orElseThrow(() -> SpacedLearningException.resourceNotFound("Book", bookName));
 
-        final var bookModules = this.learningModuleRepository.findModuleStudyProgress(0,
-                DEFAULT_PAGE_SIZE).stream()
+        final var bookModules = this.learningModuleRepository.findModuleStudyProgress(userId, 0, DEFAULT_PAGE_SIZE).stream()
                 .filter(module -> bookName.equals(module.getBookName()))
                 .toList();
 
@@ -118,9 +120,9 @@ public class LearningProgressServiceImpl implements LearningProgressService {
 
     @Override
     @Transactional(readOnly = true)
-    public List<LearningModuleResponse> getCompletedModules() {
+    public List<LearningModuleResponse> getCompletedModules(UUID userId) {
         log.info("Fetching completed modules");
-        return this.learningModuleRepository.findModuleStudyProgress(0, DEFAULT_PAGE_SIZE).stream()
+        return this.learningModuleRepository.findModuleStudyProgress(userId, 0, DEFAULT_PAGE_SIZE).stream()
                 .filter(module -> (module.getProgressLatestPercentComplete() != null)
                         && (module.getProgressLatestPercentComplete() > 0))
                 .toList();
@@ -128,11 +130,10 @@ public class LearningProgressServiceImpl implements LearningProgressService {
 
     @Override
     @Transactional(readOnly = true)
-    public DashboardStatsResponse getDashboardStats(String bookFilter, LocalDate dateFilter) {
+    public DashboardStatsResponse getDashboardStats(UUID userId, String bookFilter, LocalDate dateFilter) {
         log.info("Fetching dashboard stats with bookFilter: {}, dateFilter: {}", bookFilter, dateFilter);
 
-        final var allModules = this.learningModuleRepository.findModuleStudyProgress(0,
-                DEFAULT_PAGE_SIZE);
+        final var allModules = this.learningModuleRepository.findModuleStudyProgress(userId, 0, DEFAULT_PAGE_SIZE);
 
         var filteredModules = allModules;
 
@@ -155,7 +156,7 @@ public class LearningProgressServiceImpl implements LearningProgressService {
                 .count();
         final var activeModules = totalModules - completedModules;
 
-        final var today = LocalDate.now();
+        final var today = LocalDate.now(this.clock);
         final var dueTodayCount = countDueModules(filteredModules, today, today.plusDays(1));
         final var dueThisWeekCount = countDueModules(filteredModules, today, today.plusDays(7));
         final var dueThisMonthCount = countDueModules(filteredModules, today, today.plusMonths(1));
@@ -174,22 +175,22 @@ public class LearningProgressServiceImpl implements LearningProgressService {
 
     @Override
     @Transactional(readOnly = true)
-    public List<LearningModuleResponse> getDueModules(int daysThreshold) {
+    public List<LearningModuleResponse> getDueModules(UUID userId, int daysThreshold) {
         log.info("Fetching modules due within {} days", daysThreshold);
-        final var today = LocalDate.now();
+        final var today = LocalDate.now(this.clock);
         final var thresholdDate = today.plusDays(daysThreshold);
 
-        return this.learningModuleRepository.findModuleStudyProgress(0, DEFAULT_PAGE_SIZE).stream()
+        return this.learningModuleRepository.findModuleStudyProgress(userId, 0, DEFAULT_PAGE_SIZE).stream()
                 .filter(module -> isModuleDue(module, today, thresholdDate))
                 .toList();
     }
 
     @Override
     @Transactional(readOnly = true)
-    public List<String> getUniqueBooks() {
+    public List<String> getUniqueBooks(UUID userId) {
         log.info("Fetching unique book names");
 
-        final var books = this.learningModuleRepository.findModuleStudyProgress(0, DEFAULT_PAGE_SIZE).stream()
+        final var books = this.learningModuleRepository.findModuleStudyProgress(userId, 0, DEFAULT_PAGE_SIZE).stream()
                 .map(LearningModuleResponse::getBookName)
                 .filter(Objects::nonNull)
                 .distinct()
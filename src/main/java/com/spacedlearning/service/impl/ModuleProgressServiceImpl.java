@@ -1,11 +1,15 @@
 package com.spacedlearning.service.impl;
 
+import java.time.Clock;
 import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Objects;
 import java.util.UUID;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -13,13 +17,24 @@ import com.spacedlearning.dto.progress.ModuleProgressCreateRequest;
 import com.spacedlearning.dto.progress.ModuleProgressDetailResponse;
 import com.spacedlearning.dto.progress.ModuleProgressSummaryResponse;
 import com.spacedlearning.dto.progress.ModuleProgressUpdateRequest;
+import com.spacedlearning.entity.LearningCycle;
+import com.spacedlearning.entity.Module;
+import com.spacedlearning.entity.ModuleProgress;
 import com.spacedlearning.entity.enums.CycleStudied;
+import com.spacedlearning.event.ProgressChangeEvent;
 import com.spacedlearning.exception.SpacedLearningException;
 import com.spacedlearning.mapper.ModuleProgressMapper;
+import com.spacedlearning.repository.BookRepository;
+import com.spacedlearning.repository.LearningCycleRepository;
 import com.spacedlearning.repository.ModuleProgressRepository;
 import com.spacedlearning.repository.ModuleRepository;
+import com.spacedlearning.repository.RepetitionRepository;
+import com.spacedlearning.repository.UserRepository;
 import com.spacedlearning.service.ModuleProgressService;
 import com.spacedlearning.service.RepetitionService;
+import com.spacedlearning.service.impl.outbox.OutboxPublisher;
+import com.spacedlearning.service.impl.repetition.RepetitionScheduleManager;
+import com.spacedlearning.util.CursorUtils;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -29,53 +44,116 @@ import lombok.extern.slf4j.Slf4j;
 @Slf4j
 public class ModuleProgressServiceImpl implements ModuleProgressService {
 
+    private static final String BOOK = "Book";
     private static final String MODULE = "Module";
     private static final String MODULE_PROGRESS = "ModuleProgress";
+    private static final String USER = "User";
 
+    private final BookRepository bookRepository;
+    private final Clock clock;
+    private final LearningCycleRepository cycleRepository;
     private final ModuleProgressRepository progressRepository;
     private final ModuleRepository moduleRepository;
+    private final RepetitionRepository repetitionRepository;
+    private final UserRepository userRepository;
     private final ModuleProgressMapper progressMapper;
+    private final OutboxPublisher outboxPublisher;
     private final RepetitionService repetitionService;
+    private final RepetitionScheduleManager scheduleManager;
 
     @Override
     @Transactional
-    public ModuleProgressDetailResponse create(ModuleProgressCreateRequest request) {
-        log.debug("Creating new module progress: {}", request);
+    public ModuleProgressDetailResponse create(ModuleProgressCreateRequest request, UUID userId) {
+        log.debug("Creating new module progress for user ID: {}: {}", userId, request);
         Objects.requireNonNull(request, "ModuleProgressCreateRequest must not be null");
+        Objects.requireNonNull(userId, "User ID must not be null");
 
         final var module = this.moduleRepository.findById(request.getModuleId())
                 .orElseThrow(() -> SpacedLearningException.resourceNotFound(MODULE, request.getModuleId()));
 
-        if (this.progressRepository.existsByModuleId(request.getModuleId())) {
+        final var user = this.userRepository.findById(userId)
+                .orElseThrow(() -> SpacedLearningException.resourceNotFound(USER, userId));
+
+        if (this.progressRepository.existsByModuleIdAndUserId(request.getModuleId(), userId)) {
             throw SpacedLearningException.resourceAlreadyExists(
                     MODULE_PROGRESS, "module_id", request.getModuleId().toString());
         }
 
-        final var progress = this.progressMapper.toEntity(request, module);
+        final var progress = this.progressMapper.toEntity(request, module, user);
         progress.setCyclesStudied(CycleStudied.FIRST_TIME);
         final var savedProgress = this.progressRepository.save(progress);
 
         log.info("Module progress created with ID: {}", savedProgress.getId());
 
         this.repetitionService.createDefaultSchedule(savedProgress.getId());
+        publishProgressChange(userId, savedProgress.getId(), ProgressChangeEvent.Type.CREATED);
 
         return this.progressMapper.toDto(savedProgress);
     }
 
     @Override
     @Transactional
-    public void delete(UUID id) {
-        log.debug("Deleting module progress with ID: {}", id);
+    public void delete(UUID id, UUID userId) {
+        log.debug("Deleting module progress with ID: {}, user ID: {}", id, userId);
 
-        final var progress = this.progressRepository.findById(id)
-                .orElseThrow(() -> SpacedLearningException.resourceNotFound(MODULE_PROGRESS, id));
+        final var progress = findOwned(id, userId);
 
         progress.softDelete();
         this.progressRepository.save(progress);
+        this.repetitionRepository.deactivateByModuleProgressId(id);
+        this.progressRepository.rebuildStudyHistory(id);
+        publishProgressChange(progress.getUserId(), id, ProgressChangeEvent.Type.DELETED);
 
         log.info("Module progress soft deleted with ID: {}", id);
     }
 
+    @Override
+    @Transactional
+    public List<ModuleProgressSummaryResponse> enrollBook(UUID bookId, UUID userId) {
+        Objects.requireNonNull(bookId, "Book ID must not be null");
+        Objects.requireNonNull(userId, "User ID must not be null");
+        log.debug("Enrolling user ID: {} in book ID: {}", userId, bookId);
+
+        final var modules = this.moduleRepository.findByBookIdOrderByModuleNo(bookId);
+        if (modules.isEmpty() && !this.bookRepository.existsById(bookId)) {
+            throw SpacedLearningException.resourceNotFound(BOOK, bookId);
+        }
+
+        final var enrolled = this.progressRepository.findModuleIdsByUserIdAndBookId(userId, bookId);
+        final var user = this.userRepository.getReferenceById(userId);
+        final var today = LocalDate.now(this.clock);
+
+        final List<ModuleProgress> progresses = new ArrayList<>(modules.size());
+        final List<LearningCycle> cycles = new ArrayList<>(modules.size());
+        for (final Module module : modules) {
+            if (enrolled.contains(module.getId())) {
+                continue;
+            }
+            final var progress = ModuleProgress.builder()
+                    .module(module)
+                    .user(user)
+                    .firstLearningDate(today)
+                    .build();
+            cycles.add(progress.startCycle(CycleStudied.FIRST_TIME, today));
+            progresses.add(progress);
+        }
+        if (progresses.isEmpty()) {
+            log.info("User ID: {} is already enrolled in every module of book ID: {}", userId, bookId);
+            return List.of();
+        }
+
+        // One load read for the whole book; rows go out as batched inserts on flush
+        final var repetitions = this.scheduleManager.createRepetitionsForEnrollment(userId, progresses, today);
+        this.progressRepository.saveAll(progresses);
+        this.cycleRepository.saveAll(cycles);
+        this.repetitionRepository.saveAll(repetitions);
+        publishProgressChange(userId, null, ProgressChangeEvent.Type.ENROLLED);
+
+        log.info("Enrolled user ID: {} in {} modules of book ID: {} ({} already enrolled)", userId,
+                progresses.size(), bookId, enrolled.size());
+        return this.progressMapper.toSummaryDtoList(progresses);
+    }
+
     @Override
     @Transactional(readOnly = true)
     public Page<ModuleProgressSummaryResponse> findAll(Pageable pageable) {
@@ -86,26 +164,28 @@ public class ModuleProgressServiceImpl implements ModuleProgressService {
 
     @Override
     @Transactional(readOnly = true)
-    public Page<ModuleProgressSummaryResponse> findByBookId(UUID bookId, Pageable pageable) {
-        log.debug("Fetching module progress by book ID: {}, pageable: {}", bookId, pageable);
-        return this.progressRepository.findByBookId(bookId, pageable)
+    public Page<ModuleProgressSummaryResponse> findByBookId(UUID bookId, UUID userId, Pageable pageable) {
+        log.debug("Fetching module progress by book ID: {}, user ID: {}, pageable: {}", bookId, userId, pageable);
+        Objects.requireNonNull(userId, "User ID must not be null");
+        return this.progressRepository.findByBookIdAndUserId(bookId, userId, pageable)
                 .map(this.progressMapper::toSummaryDto);
     }
 
     @Override
     @Transactional(readOnly = true)
-    public ModuleProgressDetailResponse findById(UUID id) {
-        log.debug("Fetching module progress by ID: {}", id);
-        final var progress = this.progressRepository.findWithRepetitionsById(id)
+    public ModuleProgressDetailResponse findById(UUID id, UUID userId) {
+        log.debug("Fetching module progress by ID: {}, user ID: {}", id, userId);
+        Objects.requireNonNull(userId, "User ID must not be null");
+        final var progress = this.progressRepository.findWithRepetitionsByIdAndUserId(id, userId)
                 .orElseThrow(() -> SpacedLearningException.resourceNotFound(MODULE_PROGRESS, id));
         return this.progressMapper.toDto(progress);
     }
 
     @Override
     @Transactional(readOnly = true)
-    public ModuleProgressDetailResponse findByModuleId(UUID moduleId) {
-        log.debug("Fetching module progress by module ID: {}", moduleId);
-        final var progress = this.progressRepository.findByModuleId(moduleId)
+    public ModuleProgressDetailResponse findByModuleId(UUID moduleId, UUID userId) {
+        log.debug("Fetching module progress by module ID: {}, user ID: {}", moduleId, userId);
+        final var progress = this.progressRepository.findByModuleIdAndUserId(moduleId, userId)
                 .orElseThrow(() -> SpacedLearningException.resourceNotFound(
                         "ModuleProgress for Module " + moduleId, null));
         return this.progressMapper.toDto(progress);
@@ -113,68 +193,97 @@ public class ModuleProgressServiceImpl implements ModuleProgressService {
 
     @Override
     @Transactional(readOnly = true)
-    public Page<ModuleProgressSummaryResponse> findByModuleId(UUID moduleId, Pageable pageable) {
-        log.debug("Fetching module progress by module ID: {}, pageable: {}", moduleId, pageable);
+    public Page<ModuleProgressSummaryResponse> findByModuleId(UUID moduleId, UUID userId, Pageable pageable) {
+        log.debug("Fetching module progress by module ID: {}, user ID: {}, pageable: {}", moduleId, userId,
+                pageable);
+        Objects.requireNonNull(userId, "User ID must not be null");
         if (!this.moduleRepository.existsById(moduleId)) {
             throw SpacedLearningException.resourceNotFound(MODULE, moduleId);
         }
-        return this.progressRepository.findByModuleId(moduleId, pageable)
+        return this.progressRepository.findByModuleIdAndUserId(moduleId, userId, pageable)
                 .map(this.progressMapper::toSummaryDto);
     }
 
     @Override
     @Transactional(readOnly = true)
-    public Page<ModuleProgressDetailResponse> findDueForStudy(LocalDate studyDate, Pageable pageable) {
-        final var date = studyDate != null ? studyDate : LocalDate.now();
-        log.debug("Fetching module progress due for study on or before: {}, pageable: {}", date, pageable);
-        return this.progressRepository.findByNextStudyDateLessThanEqual(date, pageable)
+    public Slice<ModuleProgressDetailResponse> findDueForStudy(UUID userId, LocalDate studyDate, String cursor,
+            int size) {
+        final var date = studyDate != null ? studyDate : LocalDate.now(this.clock);
+        final var after = CursorUtils.decodeDateCursor(cursor);
+        log.debug("Fetching module progress for user ID: {} due for study on or before: {}, after: {}, size: {}",
+                userId, date, after, size);
+        return this.progressRepository.findDueForStudyAfter(userId, date, after.date(), after.id(),
+                CursorUtils.slice(size))
                 .map(this.progressMapper::toDto);
     }
 
     @Override
-    @Transactional(readOnly = true)
-    public ModuleProgressDetailResponse findOrCreateProgressForModule(UUID moduleId) {
-        log.debug("Finding or creating module progress for module ID: {}", moduleId);
+    @Transactional
+    public ModuleProgressDetailResponse findOrCreateProgressForModule(UUID moduleId, UUID userId) {
+        log.debug("Finding or creating module progress for module ID: {}, user ID: {}", moduleId, userId);
 
-        final var existing = this.progressRepository.findByModuleId(moduleId);
+        final var existing = this.progressRepository.findByModuleIdAndUserId(moduleId, userId);
         if (existing.isPresent()) {
             return this.progressMapper.toDto(existing.get());
         }
 
-        this.moduleRepository.findById(moduleId)
+        // Calling repository directly avoids self-injection or transactional loss
+        final var module = this.moduleRepository.findById(moduleId)
                 .orElseThrow(() -> SpacedLearningException.resourceNotFound(MODULE, moduleId));
+        final var user = this.userRepository.findById(userId)
+                .orElseThrow(() -> SpacedLearningException.resourceNotFound(USER, userId));
 
         final var request = ModuleProgressCreateRequest.builder()
                 .moduleId(moduleId)
                 .build();
 
-        // Calling repository directly avoids self-injection or transactional loss
-        final var module = this.moduleRepository.findById(request.getModuleId())
-                .orElseThrow(() -> SpacedLearningException.resourceNotFound(MODULE, request.getModuleId()));
-
-        if (this.progressRepository.existsByModuleId(request.getModuleId())) {
-            throw SpacedLearningException.resourceAlreadyExists(
-                    MODULE_PROGRESS, "module_id", request.getModuleId().toString());
-        }
-
-        final var progress = this.progressMapper.toEntity(request, module);
+        final var progress = this.progressMapper.toEntity(request, module, user);
         final var saved = this.progressRepository.save(progress);
 
         this.repetitionService.createDefaultSchedule(saved.getId());
+        publishProgressChange(userId, saved.getId(), ProgressChangeEvent.Type.CREATED);
         return this.progressMapper.toDto(saved);
     }
 
+    /**
+     * Load a progress record owned by the given learner. Records of other
+     * learners are reported as not found, so their IDs are not disclosed.
+     */
+    private ModuleProgress findOwned(UUID id, UUID userId) {
+        Objects.requireNonNull(userId, "User ID must not be null");
+        return this.progressRepository.findByIdAndUserId(id, userId)
+                .orElseThrow(() -> SpacedLearningException.resourceNotFound(MODULE_PROGRESS, id));
+    }
+
+    /**
+     * Record the change in the outbox, keyed by learner so consumers rebuild a
+     * learner's views once per dispatched batch.
+     */
+    private void publishProgressChange(UUID userId, UUID moduleProgressId, ProgressChangeEvent.Type type) {
+        this.outboxPublisher.publish(ProgressChangeEvent.OUTBOX_TYPE, userId,
+                new ProgressChangeEvent(userId, moduleProgressId, type));
+    }
+
     @Override
     @Transactional
-    public ModuleProgressDetailResponse update(UUID id, ModuleProgressUpdateRequest request) {
-        log.debug("Updating module progress with ID: {}, request: {}", id, request);
+    public ModuleProgressDetailResponse update(UUID id, UUID userId, ModuleProgressUpdateRequest request) {
+        log.debug("Updating module progress with ID: {}, user ID: {}, request: {}", id, userId, request);
         Objects.requireNonNull(request, "ModuleProgressUpdateRequest must not be null");
 
-        final var progress = this.progressRepository.findById(id)
-                .orElseThrow(() -> SpacedLearningException.resourceNotFound(MODULE_PROGRESS, id));
+        final var progress = findOwned(id, userId);
 
         this.progressMapper.updateFromDto(request, progress);
+        final var cycle = request.getCyclesStudied();
+        if ((cycle != null) && (cycle != progress.getCyclesStudied())) {
+            // Moves the current-cycle pointer with the cycle; a cycle already started today keeps its row
+            final var today = LocalDate.now(this.clock);
+            final var started = progress.startCycle(cycle, today);
+            if (!today.equals(this.cycleRepository.findLatestStartDate(id, cycle).orElse(null))) {
+                this.cycleRepository.save(started);
+            }
+        }
         final var updatedProgress = this.progressRepository.save(progress);
+        publishProgressChange(updatedProgress.getUserId(), id, ProgressChangeEvent.Type.UPDATED);
 
         log.info("Module progress updated with ID: {}", updatedProgress.getId());
         return this.progressMapper.toDto(updatedProgress);
@@ -4,6 +4,8 @@ import java.util.List;
 import java.util.Objects;
 import java.util.UUID;
 
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.context.MessageSource;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
@@ -12,17 +14,23 @@ import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.spacedlearning.config.cache.CacheConfig;
 import com.spacedlearning.dto.module.ModuleCreateRequest;
 import com.spacedlearning.dto.module.ModuleDetailResponse;
 import com.spacedlearning.dto.module.ModuleSummaryResponse;
 import com.spacedlearning.dto.module.ModuleUpdateRequest;
+import com.spacedlearning.event.CacheInvalidationEvent;
 import com.spacedlearning.exception.SpacedLearningException;
 import com.spacedlearning.mapper.ModuleMapper;
 import com.spacedlearning.repository.BookRepository;
 import com.spacedlearning.repository.GrammarRepository;
+import com.spacedlearning.repository.ModuleProgressRepository;
 import com.spacedlearning.repository.ModuleRepository;
+import com.spacedlearning.repository.RepetitionRepository;
 import com.spacedlearning.repository.VocabularyRepository;
+import com.spacedlearning.repository.custom.SoftDeleteCascadeRepository;
 import com.spacedlearning.service.ModuleService;
+import com.spacedlearning.service.impl.maintenance.SoftDeleteCascader;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -41,12 +49,16 @@ public class ModuleServiceImpl implements ModuleService {
     private final BookRepository bookRepository;
     private final VocabularyRepository vocabularyRepository;
     private final GrammarRepository grammarRepository;
+    private final ModuleProgressRepository progressRepository;
+    private final RepetitionRepository repetitionRepository;
+    private final SoftDeleteCascadeRepository cascadeRepository;
+    private final SoftDeleteCascader softDeleteCascader;
     private final ModuleMapper moduleMapper;
     private final MessageSource messageSource;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Override
     @Transactional
-    // @CacheEvict(value = "bookModules", key = "#result.bookId")
     public ModuleDetailResponse create(ModuleCreateRequest request) {
         Objects.requireNonNull(request, "Module create request must not be null");
         log.debug("Creating new module: {}", request);
@@ -62,6 +74,7 @@ public class ModuleServiceImpl implements ModuleService {
 
         final var module = this.moduleMapper.toEntity(request, book);
         final var savedModule = this.moduleRepository.save(module);
+        this.eventPublisher.publishEvent(new CacheInvalidationEvent(CacheConfig.BOOK_MODULES, book.getId()));
 
         log.info("Module created successfully with ID: {}", savedModule.getId());
         return this.moduleMapper.toDto(savedModule);
@@ -69,16 +82,16 @@ public class ModuleServiceImpl implements ModuleService {
 
     @Override
     @Transactional
-    // @CacheEvict(value = { "modules", "bookModules" }, allEntries = true)
     public void delete(UUID id) {
         Objects.requireNonNull(id, MODULE_ID_MUST_NOT_BE_NULL);
         log.debug("Deleting module with ID: {}", id);
 
-        final var module = this.moduleRepository.findById(id)
-                .orElseThrow(() -> SpacedLearningException.resourceNotFound(this.messageSource, RESOURCE_MODULE, id));
-
-        module.softDelete();
-        this.moduleRepository.save(module);
+        // Marks the module and its whole subtree with set-based updates
+        if (!this.softDeleteCascader.deleteModule(id)) {
+            throw SpacedLearningException.resourceNotFound(this.messageSource, RESOURCE_MODULE, id);
+        }
+        // Module deletes are rare; clearing every list saves looking up the book
+        this.eventPublisher.publishEvent(CacheInvalidationEvent.all(CacheConfig.BOOK_MODULES));
 
         log.info("Module soft deleted successfully with ID: {}", id);
     }
@@ -94,7 +107,7 @@ public class ModuleServiceImpl implements ModuleService {
 
     @Override
     @Transactional(readOnly = true)
-    // @Cacheable(value = "bookModules", key = "#bookId")
+    @Cacheable(value = CacheConfig.BOOK_MODULES, key = "#bookId")
     public List<ModuleSummaryResponse> findAllByBookId(UUID bookId) {
         Objects.requireNonNull(bookId, BOOK_ID_MUST_NOT_BE_NULL);
         log.debug("Retrieving all modules by book ID: {}", bookId);
@@ -132,7 +145,6 @@ public class ModuleServiceImpl implements ModuleService {
 
     @Override
     @Transactional(readOnly = true)
-    // @Cacheable(value = "modules", key = "#id")
     public ModuleDetailResponse findById(UUID id) {
         Objects.requireNonNull(id, MODULE_ID_MUST_NOT_BE_NULL);
         log.debug("Retrieving module by ID: {}", id);
@@ -184,7 +196,28 @@ public class ModuleServiceImpl implements ModuleService {
 
     @Override
     @Transactional
-    // @CacheEvict(value = { "modules", "bookModules" }, allEntries = true)
+    public ModuleDetailResponse restore(UUID id) {
+        Objects.requireNonNull(id, MODULE_ID_MUST_NOT_BE_NULL);
+        log.debug("Restoring module with ID: {}", id);
+
+        if (this.moduleRepository.existsById(id)) {
+            log.info("Module with ID: {} is not marked as deleted. Skip restore.", id);
+            return findById(id);
+        }
+
+        final var deletedAt = this.cascadeRepository.findModuleDeletedAt(id)
+                .orElseThrow(() -> SpacedLearningException.resourceNotFound(this.messageSource, RESOURCE_MODULE, id));
+        if (!this.softDeleteCascader.restoreModule(id, deletedAt)) {
+            throw SpacedLearningException.validationError(this.messageSource, "error.module.bookDeleted", id);
+        }
+        this.eventPublisher.publishEvent(CacheInvalidationEvent.all(CacheConfig.BOOK_MODULES));
+
+        log.info("Module restored successfully with ID: {}", id);
+        return findById(id);
+    }
+
+    @Override
+    @Transactional
     public ModuleDetailResponse update(UUID id, ModuleUpdateRequest request) {
         Objects.requireNonNull(id, MODULE_ID_MUST_NOT_BE_NULL);
         Objects.requireNonNull(request, "Module update request must not be null");
@@ -202,8 +235,16 @@ public class ModuleServiceImpl implements ModuleService {
                     .getModuleNo());
         }
 
+        final var previousWordCount = module.getWordCount();
         this.moduleMapper.updateFromDto(request, module);
         final var updatedModule = this.moduleRepository.save(module);
+        this.eventPublisher.publishEvent(new CacheInvalidationEvent(CacheConfig.BOOK_MODULES,
+                updatedModule.getBook().getId()));
+
+        if (!Objects.equals(previousWordCount, updatedModule.getWordCount())) {
+            this.progressRepository.updateWordCountByModuleId(id, updatedModule.getWordCount());
+            this.repetitionRepository.updateWordCountByModuleId(id, updatedModule.getWordCount());
+        }
 
         log.info("Module updated successfully with ID: {}", updatedModule.getId());
         return this.moduleMapper.toDto(updatedModule);
@@ -0,0 +1,114 @@
+package com.spacedlearning.service.impl;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import org.springframework.context.MessageSource;
+import org.springframework.security.core.Authentication;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.spacedlearning.entity.RefreshToken;
+import com.spacedlearning.exception.SpacedLearningException;
+import com.spacedlearning.repository.RefreshTokenRepository;
+import com.spacedlearning.security.CustomUserDetails;
+import com.spacedlearning.security.JwtTokenProvider;
+import com.spacedlearning.security.LoginMetrics;
+import com.spacedlearning.security.SessionRevocationFilter;
+import com.spacedlearning.service.RefreshTokenService;
+
+import io.jsonwebtoken.Claims;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Implementation of RefreshTokenService
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class RefreshTokenServiceImpl implements RefreshTokenService {
+
+    private final Clock clock;
+    private final RefreshTokenRepository refreshTokenRepository;
+    private final JwtTokenProvider tokenProvider;
+    private final SessionRevocationFilter revocationFilter;
+    private final LoginMetrics loginMetrics;
+    private final MessageSource messageSource;
+
+    @Override
+    @Transactional(noRollbackFor = SpacedLearningException.class)
+    public UUID consume(Claims claims) {
+        final var tokenId = claims.getId();
+        final var sessionId = this.tokenProvider.getSessionId(claims);
+        if ((tokenId == null) || (sessionId == null)) {
+            log.debug("Rejected refresh token issued without a session");
+            throw SpacedLearningException.forbidden(this.messageSource, "error.auth.invalidToken");
+        }
+
+        if (this.revocationFilter.isRevoked(sessionId)) {
+            log.debug("Rejected refresh token of revoked session: {}", sessionId);
+            throw SpacedLearningException.forbidden(this.messageSource, "error.auth.invalidToken");
+        }
+
+        if (this.refreshTokenRepository.markUsed(tokenId, LocalDateTime.now(this.clock)) == 1) {
+            return UUID.fromString(sessionId);
+        }
+
+        this.refreshTokenRepository.findById(tokenId)
+                .filter(token -> (token.getUsedAt() != null) && (token.getRevokedAt() == null))
+                .ifPresent(token -> {
+                    log.warn("Refresh token reuse detected, revoking session {} of user {}", token.getSessionId(),
+                            token.getUserId());
+                    revokeSession(token.getSessionId());
+                });
+        throw SpacedLearningException.forbidden(this.messageSource, "error.auth.invalidToken");
+    }
+
+    @Override
+    @Transactional
+    public IssuedTokens issue(Authentication authentication) {
+        return issue(authentication, UUID.randomUUID());
+    }
+
+    @Override
+    @Transactional
+    public IssuedTokens issue(Authentication authentication, UUID sessionId) {
+        final var userDetails = (CustomUserDetails) authentication.getPrincipal();
+        final var tokenId = this.tokenProvider.generateTokenId();
+        final var session = sessionId.toString();
+        final var now = LocalDateTime.now(this.clock);
+
+        final var accessToken = this.loginMetrics.recordSigning(
+                () -> this.tokenProvider.generateToken(authentication, session));
+        final var refreshToken = this.loginMetrics.recordSigning(
+                () -> this.tokenProvider.generateRefreshToken(authentication, tokenId, session));
+
+        this.refreshTokenRepository.save(RefreshToken.builder()
+                .jti(tokenId)
+                .sessionId(sessionId)
+                .userId(userDetails.getUser().getId())
+                .issuedAt(now)
+                .expiresAt(now.plus(Duration.ofMillis(this.tokenProvider.getRefreshTokenExpiration())))
+                .build());
+        return new IssuedTokens(accessToken, refreshToken);
+    }
+
+    @Override
+    @Transactional
+    public int purgeExpired() {
+        final var deleted = this.refreshTokenRepository.deleteExpiredBefore(LocalDateTime.now(this.clock));
+        log.info("Purged {} expired refresh tokens", deleted);
+        return deleted;
+    }
+
+    @Override
+    @Transactional
+    public void revokeSession(UUID sessionId) {
+        final var revoked = this.refreshTokenRepository.revokeSession(sessionId, LocalDateTime.now(this.clock));
+        this.revocationFilter.revoke(sessionId.toString());
+        log.info("Revoked session {} ({} refresh tokens)", sessionId, revoked);
+    }
+}
@@ -3,33 +3,60 @@ package com.spacedlearning.service.impl;
 import static java.util.Objects.requireNonNull;
 
 import java.math.BigDecimal;
+import java.time.Clock;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
 import java.util.List;
+import java.util.Objects;
 import java.util.UUID;
 
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.context.MessageSource;
 import org.springframework.context.i18n.LocaleContextHolder;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.spacedlearning.config.database.StatementCounter;
+import com.spacedlearning.config.retry.RetryOnConflict;
+import com.spacedlearning.dto.repetition.RepetitionCatchUpResponse;
 import com.spacedlearning.dto.repetition.RepetitionCompletionRequest;
 import com.spacedlearning.dto.repetition.RepetitionCreateRequest;
+import com.spacedlearning.dto.repetition.RepetitionPauseRequest;
+import com.spacedlearning.dto.repetition.RepetitionPauseResponse;
 import com.spacedlearning.dto.repetition.RepetitionRescheduleRequest;
 import com.spacedlearning.dto.repetition.RepetitionResponse;
+import com.spacedlearning.dto.repetition.RepetitionResumeRequest;
 import com.spacedlearning.dto.repetition.RepetitionUpdateRequest;
+import com.spacedlearning.entity.ModuleProgress;
 import com.spacedlearning.entity.Repetition;
 import com.spacedlearning.entity.enums.RepetitionOrder;
 import com.spacedlearning.entity.enums.RepetitionStatus;
+import com.spacedlearning.event.DashboardChangeEvent;
 import com.spacedlearning.exception.SpacedLearningException;
 import com.spacedlearning.mapper.RepetitionMapper;
+import com.spacedlearning.repository.ModuleProgressRepository;
 import com.spacedlearning.repository.RepetitionRepository;
+import com.spacedlearning.repository.custom.ReviewLogRepository;
+import com.spacedlearning.repository.custom.ScheduleShiftRepository;
+import com.spacedlearning.repository.custom.TableStatisticsRepository;
 import com.spacedlearning.service.RepetitionService;
+import com.spacedlearning.service.impl.repetition.CatchUpPlanner;
 import com.spacedlearning.service.impl.repetition.LearningCycleManager;
+import com.spacedlearning.service.impl.repetition.RepetitionDateOptimizer;
 import com.spacedlearning.service.impl.repetition.RepetitionRescheduler;
 import com.spacedlearning.service.impl.repetition.RepetitionScheduleManager;
 import com.spacedlearning.service.impl.repetition.RepetitionValidator;
+import com.spacedlearning.service.impl.repetition.ScheduleParametersResolver;
+import com.spacedlearning.service.impl.repetition.SchedulingContext;
+import com.spacedlearning.service.impl.repetition.SchedulingMetrics;
+import com.spacedlearning.service.impl.reviewlog.ReviewLogWriter;
+import com.spacedlearning.util.CursorUtils;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -42,13 +69,82 @@ public class RepetitionServiceImpl implements RepetitionService {
     public static final String MODULE_PROGRESS_ID_MUST_NOT_BE_NULL = "Module progress ID must not be null";
     public static final String REPETITION_ID_MUST_NOT_BE_NULL = "Repetition ID must not be null";
 
+    private static final int MAX_PAUSE_DAYS = 365;
+    private static final String REPETITIONS_TABLE = "repetitions";
+
+    private final CatchUpPlanner catchUpPlanner;
+    private final Clock clock;
+    private final ApplicationEventPublisher eventPublisher;
     private final LearningCycleManager learningCycleManager;
     private final MessageSource messageSource;
+    private final RepetitionDateOptimizer optimizer;
+    private final ScheduleParametersResolver parametersResolver;
+    private final ModuleProgressRepository progressRepository;
     private final RepetitionMapper repetitionMapper;
     private final RepetitionRepository repetitionRepository;
     private final RepetitionRescheduler rescheduler;
+    private final ReviewLogWriter reviewLogWriter;
     private final RepetitionScheduleManager scheduleManager;
+    private final ScheduleShiftRepository scheduleShiftRepository;
     private final RepetitionValidator validator;
+    private final SchedulingMetrics schedulingMetrics;
+    private final TableStatisticsRepository tableStatisticsRepository;
+
+    @Value("${app.catch-up.days:14}")
+    private int catchUpDays;
+
+    @Value("${app.catch-up.daily-words:150}")
+    private int catchUpDailyWords;
+
+    @Value("${app.catch-up.max-days:60}")
+    private int catchUpMaxDays;
+
+    @Override
+    @Transactional
+    public RepetitionCatchUpResponse catchUp(UUID userId, Integer days, Integer dailyWords) {
+        requireNonNull(userId, "User ID must not be null");
+        final var window = Math.max(1, Math.min(days != null ? days : this.catchUpDays, this.catchUpMaxDays));
+        final var budget = Math.max(1, dailyWords != null ? dailyWords : this.catchUpDailyWords);
+        final var today = LocalDate.now(this.clock);
+        log.debug("Planning catch-up for user ID: {} over {} days, {} words per day", userId, window, budget);
+
+        final var pending = this.scheduleShiftRepository.findPendingWithBacklog(userId, today);
+        final var dailyLoad = this.scheduleShiftRepository.findDailyWordsWithoutBacklog(userId, today, window);
+        final var plan = this.catchUpPlanner.plan(pending, dailyLoad, today, budget,
+                this.parametersResolver.resolve(userId));
+
+        var updated = 0;
+        var moved = 0;
+        if (plan.moved() > 0) {
+            moved = this.scheduleShiftRepository.applyReviewDates(plan.ids(), plan.progressIds(), plan.reviewDates());
+            updated = this.scheduleShiftRepository.refreshNextStudyDates(userId);
+            publishScheduleChange(new DashboardChangeEvent(userId, null, DashboardChangeEvent.Type.RESCHEDULED));
+        }
+
+        log.info("Catch-up for user ID: {}: {} overdue, {} repetitions moved, {} progress records updated", userId,
+                plan.overdue(), moved, updated);
+        return RepetitionCatchUpResponse.builder()
+                .overdueRepetitions(plan.overdue())
+                .movedRepetitions(moved)
+                .updatedProgress(updated)
+                .lastDay(today.plusDays(window - 1L))
+                .build();
+    }
+
+    private void completeRepetition(SchedulingContext context, Repetition repetition) {
+        final var progress = context.progress();
+        final var cycleBefore = progress.getCyclesStudied();
+        final var extendedBefore = progress.getExtendedReviewCount();
+
+        this.scheduleManager.recordStudyHistory(context, repetition);
+        this.rescheduler.updateFollowingAfterCompletion(context, repetition);
+        this.learningCycleManager.checkAndAdvanceCycle(context);
+
+        final var advanced = (progress.getCyclesStudied() != cycleBefore)
+                || !Objects.equals(progress.getExtendedReviewCount(), extendedBefore);
+        publishDashboardChange(progress,
+                advanced ? DashboardChangeEvent.Type.CYCLE_ADVANCED : DashboardChangeEvent.Type.COMPLETED);
+    }
 
     @Override
     @Transactional
@@ -103,6 +199,9 @@ public class RepetitionServiceImpl implements RepetitionService {
 
         repetition.softDelete();
         this.repetitionRepository.save(repetition);
+        if (repetition.getStatus() == RepetitionStatus.COMPLETED) {
+            this.progressRepository.rebuildStudyHistory(progress.getId());
+        }
 
         this.scheduleManager.updateNextStudyDate(progress);
         log.info("Repetition soft deleted successfully with ID: {}", id);
@@ -113,7 +212,12 @@ public class RepetitionServiceImpl implements RepetitionService {
     public Page<RepetitionResponse> findAll(Pageable pageable) {
         requireNonNull(pageable, "Pageable must not be null");
         log.debug("Finding all repetitions with pagination: {}", pageable);
-        return this.repetitionRepository.findAll(pageable).map(this.repetitionMapper::toDto);
+        final var slice = this.repetitionRepository.findAllBy(pageable).map(this.repetitionMapper::toDto);
+        final var seen = pageable.getOffset() + slice.getNumberOfElements();
+        final var total = slice.hasNext()
+                ? Math.max(this.tableStatisticsRepository.estimateRowCount(REPETITIONS_TABLE), seen + 1)
+                : seen;
+        return new PageImpl<>(slice.getContent(), pageable, total);
     }
 
     @Override
@@ -154,45 +258,136 @@ public class RepetitionServiceImpl implements RepetitionService {
 
     @Override
     @Transactional(readOnly = true)
-    public Page<RepetitionResponse> findDueRepetitions(UUID userId, LocalDate reviewDate, RepetitionStatus status,
-            Pageable pageable) {
+    public Slice<RepetitionResponse> findDueRepetitions(UUID userId, LocalDate reviewDate, RepetitionStatus status,
+            String cursor, int size) {
         requireNonNull(userId, "User ID must not be null");
-        requireNonNull(pageable, "Pageable must not be null");
-
-        log.debug("Finding due repetitions for user ID: {} on or before date: {}, status: {}, pageable: {}",
-                userId, reviewDate, status, pageable);
 
-        final var targetDate = reviewDate != null ? reviewDate : LocalDate.now();
+        final var targetDate = reviewDate != null ? reviewDate : LocalDate.now(this.clock);
         final var targetStatus = status != null ? status : RepetitionStatus.NOT_STARTED;
+        final var after = CursorUtils.decodeDateCursor(cursor);
 
-        return this.repetitionRepository.findDueRepetitions(targetDate, targetStatus, pageable)
+        log.debug("Finding due repetitions for user ID: {} on or before date: {}, status: {}, after: {}, size: {}",
+                userId, targetDate, targetStatus, after, size);
+
+        return this.repetitionRepository.findDueRepetitionsByUserAfter(userId, targetDate, targetStatus,
+                after.date(), after.id(), CursorUtils.slice(size))
                 .map(this.repetitionMapper::toDto);
     }
 
+    /**
+     * Load the repetition's progress with a forced version bump, so concurrent
+     * writers to the same progress conflict at commit and are retried instead
+     * of both advancing the cycle.
+     */
+    private ModuleProgress loadProgressForWrite(Repetition repetition) {
+        final var progressId = repetition.getModuleProgress().getId();
+        return this.progressRepository.findForWriteById(progressId)
+                .orElseThrow(() -> SpacedLearningException.resourceNotFound(this.messageSource,
+                        "resource.moduleProgress", progressId));
+    }
+
+    @Override
+    @Transactional
+    public RepetitionPauseResponse pause(UUID userId, RepetitionPauseRequest request) {
+        requireNonNull(userId, "User ID must not be null");
+        requireNonNull(request, "Repetition pause request must not be null");
+        if (request.getEndDate().isBefore(request.getStartDate())) {
+            throw SpacedLearningException.validationError(this.messageSource, "error.repetition.invalidPauseRange",
+                    request.getStartDate(), request.getEndDate());
+        }
+
+        log.debug("Pausing schedule of user ID: {}, request: {}", userId, request);
+        final var shifted = this.scheduleShiftRepository.shiftPending(userId, request.getStartDate(),
+                request.getEndDate(), request.getDays(), this.optimizer.dailyCapacity(),
+                this.optimizer.searchWindowDays());
+        final var updated = shifted > 0 ? this.scheduleShiftRepository.refreshNextStudyDates(userId) : 0;
+
+        if (shifted > 0) {
+            publishScheduleChange(new DashboardChangeEvent(userId, null, DashboardChangeEvent.Type.RESCHEDULED));
+        }
+        log.info("Paused schedule of user ID: {}: {} repetitions moved, {} progress records updated", userId,
+                shifted, updated);
+        return RepetitionPauseResponse.builder()
+                .shiftedRepetitions(shifted)
+                .updatedProgress(updated)
+                .build();
+    }
+
     @Override
     @Transactional
+    public RepetitionPauseResponse resume(UUID userId, RepetitionResumeRequest request) {
+        requireNonNull(userId, "User ID must not be null");
+        requireNonNull(request, "Repetition resume request must not be null");
+        final var today = LocalDate.now(this.clock);
+        final var days = ChronoUnit.DAYS.between(request.getPausedSince(), today);
+        if ((days < 1) || (days > MAX_PAUSE_DAYS)) {
+            throw SpacedLearningException.validationError(this.messageSource, "error.repetition.invalidResumeDate",
+                    request.getPausedSince(), today, MAX_PAUSE_DAYS);
+        }
+
+        // Reviews that fell due while away are the heads; they and their followers move by the days paused
+        log.debug("Resuming schedule of user ID: {} paused since {}", userId, request.getPausedSince());
+        final var shifted = this.scheduleShiftRepository.shiftPending(userId, request.getPausedSince(),
+                today.minusDays(1), (int) days, this.optimizer.dailyCapacity(), this.optimizer.searchWindowDays());
+        final var updated = shifted > 0 ? this.scheduleShiftRepository.refreshNextStudyDates(userId) : 0;
+
+        if (shifted > 0) {
+            publishScheduleChange(new DashboardChangeEvent(userId, null, DashboardChangeEvent.Type.RESCHEDULED));
+        }
+        log.info("Resumed schedule of user ID: {} after {} days: {} repetitions moved, {} progress records updated",
+                userId, days, shifted, updated);
+        return RepetitionPauseResponse.builder()
+                .shiftedRepetitions(shifted)
+                .updatedProgress(updated)
+                .build();
+    }
+
+    private void publishDashboardChange(ModuleProgress progress, DashboardChangeEvent.Type type) {
+        final var userId = progress.getUserId();
+        if (userId != null) {
+            publishScheduleChange(new DashboardChangeEvent(userId, progress.getId(), type));
+        }
+    }
+
+    /**
+     * Notify local dashboard streams once the change commits.
+     */
+    private void publishScheduleChange(DashboardChangeEvent event) {
+        this.eventPublisher.publishEvent(event);
+    }
+
+    @Override
+    @RetryOnConflict
+    @Transactional
     public RepetitionResponse reschedule(UUID id, RepetitionRescheduleRequest request) {
         requireNonNull(id, REPETITION_ID_MUST_NOT_BE_NULL);
         requireNonNull(request, "Repetition reschedule request must not be null");
         requireNonNull(request.getReviewDate(), "Review date must not be null");
 
         log.debug("Rescheduling repetition with ID: {}, request: {}", id, request);
+        final var statementsBefore = StatementCounter.current();
         final var repetition = this.validator.findRepetition(id);
-        final var progress = repetition.getModuleProgress();
+        final var progress = loadProgressForWrite(repetition);
+        final var context = this.scheduleManager.openContext(progress);
+        final var previousDate = repetition.getReviewDate();
 
         repetition.setReviewDate(request.getReviewDate());
+        context.markChanged(repetition);
+        this.scheduleManager.correctStudyHistory(context, repetition, repetition.getStatus(), previousDate);
         if (request.isRescheduleFollowing()) {
-            this.rescheduler.rescheduleFutureRepetitions(progress, repetition.getRepetitionOrder(), request
+            this.rescheduler.rescheduleFutureRepetitions(context, repetition.getRepetitionOrder(), request
                     .getReviewDate());
         }
 
-        final var updated = this.repetitionRepository.save(repetition);
-        this.scheduleManager.updateNextStudyDate(progress);
-        log.info("Repetition rescheduled successfully with ID: {}", updated.getId());
-        return this.repetitionMapper.toDto(updated);
+        this.scheduleManager.flush(context);
+        this.schedulingMetrics.recordStatements("reschedule", StatementCounter.current() - statementsBefore);
+        publishDashboardChange(progress, DashboardChangeEvent.Type.RESCHEDULED);
+        log.info("Repetition rescheduled successfully with ID: {}", repetition.getId());
+        return this.repetitionMapper.toDto(repetition);
     }
 
     @Override
+    @RetryOnConflict
     @Transactional
     public RepetitionResponse update(UUID id, RepetitionUpdateRequest request) {
         requireNonNull(id, REPETITION_ID_MUST_NOT_BE_NULL);
@@ -202,28 +397,39 @@ public class RepetitionServiceImpl implements RepetitionService {
         log.warn(
                 "This method is deprecated and will be removed in a future version. Use updateCompletion or reschedule instead.");
 
+        final var statementsBefore = StatementCounter.current();
         final var repetition = this.validator.findRepetition(id);
-        final var progress = repetition.getModuleProgress();
+        final var progress = loadProgressForWrite(repetition);
+        final var context = this.scheduleManager.openContext(progress);
         final var previousStatus = repetition.getStatus();
+        final var previousDate = repetition.getReviewDate();
 
         this.repetitionMapper.updateFromDto(request, repetition);
+        context.markChanged(repetition);
         final var newStatus = repetition.getStatus();
+        this.scheduleManager.correctStudyHistory(context, repetition, previousStatus, previousDate);
 
+        var completed = false;
         if (request.isRescheduleFollowing() && (request.getReviewDate() != null)) {
-            this.rescheduler.rescheduleFutureRepetitions(progress, repetition.getRepetitionOrder(), request
+            this.rescheduler.rescheduleFutureRepetitions(context, repetition.getRepetitionOrder(), request
                     .getReviewDate());
         } else if ((previousStatus != RepetitionStatus.COMPLETED) && (newStatus == RepetitionStatus.COMPLETED)) {
-            this.rescheduler.updateFollowingAfterCompletion(progress, repetition);
-            this.learningCycleManager.checkAndAdvanceCycle(progress);
+            completeRepetition(context, repetition);
+            completed = true;
         }
 
-        final var updated = this.repetitionRepository.save(repetition);
-        this.scheduleManager.updateNextStudyDate(progress);
-        log.info("Repetition updated successfully with ID: {}", updated.getId());
-        return this.repetitionMapper.toDto(updated);
+        this.scheduleManager.flush(context);
+        this.schedulingMetrics.recordStatements("update", StatementCounter.current() - statementsBefore);
+        // A completion already published its own event
+        if (!completed && !Objects.equals(previousDate, repetition.getReviewDate())) {
+            publishDashboardChange(progress, DashboardChangeEvent.Type.RESCHEDULED);
+        }
+        log.info("Repetition updated successfully with ID: {}", repetition.getId());
+        return this.repetitionMapper.toDto(repetition);
     }
 
     @Override
+    @RetryOnConflict
     @Transactional
     public RepetitionResponse updateCompletion(UUID id, RepetitionCompletionRequest request) {
         requireNonNull(id, REPETITION_ID_MUST_NOT_BE_NULL);
@@ -242,22 +448,30 @@ public class RepetitionServiceImpl implements RepetitionService {
         }
 
         log.debug("Updating completion for repetition with ID: {}, request: {}", id, request);
+        final var statementsBefore = StatementCounter.current();
         final var repetition = this.validator.findRepetition(id);
-        final var progress = repetition.getModuleProgress();
+        final var progress = loadProgressForWrite(repetition);
+        final var context = this.scheduleManager.openContext(progress);
 
         final var previousStatus = repetition.getStatus();
+        final var logEntry = new ReviewLogRepository.Entry(LocalDateTime.now(this.clock), progress.getUserId(),
+                progress.getId(), repetition.getId(), repetition.getRepetitionOrder(), progress.getCyclesStudied(),
+                request.getStatus(), request.getScore(), repetition.getReviewDate(), request.getDurationMs());
         repetition.setStatus(request.getStatus());
         progress.setPercentComplete(request.getScore());
+        context.markChanged(repetition);
+        context.markProgressChanged();
+        this.scheduleManager.correctStudyHistory(context, repetition, previousStatus, repetition.getReviewDate());
 
         final var newStatus = repetition.getStatus();
         if ((previousStatus != RepetitionStatus.COMPLETED) && (newStatus == RepetitionStatus.COMPLETED)) {
-            this.rescheduler.updateFollowingAfterCompletion(progress, repetition);
-            this.learningCycleManager.checkAndAdvanceCycle(progress);
+            completeRepetition(context, repetition);
         }
 
-        final var updated = this.repetitionRepository.save(repetition);
-        this.scheduleManager.updateNextStudyDate(progress);
-        log.info("Repetition completion updated successfully with ID: {}", updated.getId());
-        return this.repetitionMapper.toDto(updated);
+        this.scheduleManager.flush(context);
+        this.schedulingMetrics.recordStatements("completion", StatementCounter.current() - statementsBefore);
+        this.reviewLogWriter.append(logEntry);
+        log.info("Repetition completion updated successfully with ID: {}", repetition.getId());
+        return this.repetitionMapper.toDto(repetition);
     }
 }
@@ -3,6 +3,8 @@ package com.spacedlearning.service.impl;
 import java.util.Optional;
 import java.util.UUID;
 
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.security.core.Authentication;
@@ -10,9 +12,11 @@ import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.spacedlearning.config.cache.CacheConfig;
 import com.spacedlearning.dto.user.UserDetailedResponse;
 import com.spacedlearning.dto.user.UserResponse;
 import com.spacedlearning.dto.user.UserUpdateRequest;
+import com.spacedlearning.event.CacheInvalidationEvent;
 import com.spacedlearning.exception.SpacedLearningException;
 import com.spacedlearning.mapper.UserMapper;
 import com.spacedlearning.repository.UserRepository;
@@ -28,6 +32,7 @@ public class UserServiceImpl implements UserService {
 
     private final UserRepository userRepository;
     private final UserMapper userMapper;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Override
     @Transactional
@@ -39,6 +44,7 @@ public class UserServiceImpl implements UserService {
 
         user.softDelete();
         this.userRepository.save(user);
+        this.eventPublisher.publishEvent(new CacheInvalidationEvent(CacheConfig.USERS, id));
 
         log.info("User soft deleted successfully with ID: {}", id);
     }
@@ -59,6 +65,7 @@ public class UserServiceImpl implements UserService {
 
     @Override
     @Transactional(readOnly = true)
+    @Cacheable(value = CacheConfig.USERS, key = "#id")
     public UserDetailedResponse findById(UUID id) {
         log.debug("Finding user by ID: {}", id);
 
@@ -109,6 +116,7 @@ public class UserServiceImpl implements UserService {
 
         user.restore();
         final var restoredUser = this.userRepository.save(user);
+        this.eventPublisher.publishEvent(new CacheInvalidationEvent(CacheConfig.USERS, id));
 
         log.info("User restored successfully with ID: {}", restoredUser.getId());
         return this.userMapper.toDto(restoredUser);
@@ -124,6 +132,7 @@ public class UserServiceImpl implements UserService {
 
         this.userMapper.updateFromDto(request, user);
         final var updatedUser = this.userRepository.save(user);
+        this.eventPublisher.publishEvent(new CacheInvalidationEvent(CacheConfig.USERS, id));
 
         log.info("User updated successfully with ID: {}", updatedUser.getId());
         return this.userMapper.toDto(updatedUser);
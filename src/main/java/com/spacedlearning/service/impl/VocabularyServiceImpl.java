@@ -1,9 +1,11 @@
 // VocabularyServiceImpl.java
 package com.spacedlearning.service.impl;
 
+import com.spacedlearning.config.cache.CacheConfig;
 import com.spacedlearning.dto.vocabulary.VocabularyCreateRequest;
 import com.spacedlearning.dto.vocabulary.VocabularyResponse;
 import com.spacedlearning.dto.vocabulary.VocabularyUpdateRequest;
+import com.spacedlearning.event.CacheInvalidationEvent;
 import com.spacedlearning.exception.SpacedLearningException;
 import com.spacedlearning.mapper.VocabularyMapper;
 import com.spacedlearning.repository.ModuleRepository;
@@ -11,6 +13,7 @@ import com.spacedlearning.repository.VocabularyRepository;
 import com.spacedlearning.service.VocabularyService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.context.MessageSource;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -35,6 +38,7 @@ public class VocabularyServiceImpl implements VocabularyService {
     private final ModuleRepository moduleRepository;
     private final VocabularyMapper vocabularyMapper;
     private final MessageSource messageSource;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Override
     @Transactional
@@ -49,6 +53,9 @@ public class VocabularyServiceImpl implements VocabularyService {
 
         final var vocabulary = this.vocabularyMapper.toEntity(request, module);
         final var savedVocabulary = this.vocabularyRepository.save(vocabulary);
+        // Module lists carry vocabulary counts
+        this.eventPublisher.publishEvent(new CacheInvalidationEvent(CacheConfig.BOOK_MODULES,
+                module.getBook().getId()));
 
         log.info("Vocabulary created successfully with ID: {}", savedVocabulary.getId());
         return this.vocabularyMapper.toDto(savedVocabulary);
@@ -66,6 +73,8 @@ public class VocabularyServiceImpl implements VocabularyService {
 
         vocabulary.softDelete();
         this.vocabularyRepository.save(vocabulary);
+        this.eventPublisher.publishEvent(new CacheInvalidationEvent(CacheConfig.BOOK_MODULES,
+                vocabulary.getModule().getBook().getId()));
 
         log.info("Vocabulary soft deleted successfully with ID: {}", id);
     }
@@ -144,6 +153,8 @@ public class VocabularyServiceImpl implements VocabularyService {
 
         this.vocabularyMapper.updateFromDto(request, vocabulary);
         final var updatedVocabulary = this.vocabularyRepository.save(vocabulary);
+        this.eventPublisher.publishEvent(new CacheInvalidationEvent(CacheConfig.BOOK_MODULES,
+                vocabulary.getModule().getBook().getId()));
 
         log.info("Vocabulary updated successfully with ID: {}", updatedVocabulary.getId());
         return this.vocabularyMapper.toDto(updatedVocabulary);
@@ -0,0 +1,252 @@
+package com.spacedlearning.service.impl;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.MessageSource;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.spacedlearning.config.retry.RetryOnConflict;
+import com.spacedlearning.dto.word.DueWordResponse;
+import com.spacedlearning.dto.word.WordReviewRequest;
+import com.spacedlearning.dto.word.WordReviewSessionRequest;
+import com.spacedlearning.dto.word.WordReviewSummaryResponse;
+import com.spacedlearning.entity.ModuleProgress;
+import com.spacedlearning.entity.Vocabulary;
+import com.spacedlearning.entity.WordReviewState;
+import com.spacedlearning.exception.SpacedLearningException;
+import com.spacedlearning.repository.ModuleProgressRepository;
+import com.spacedlearning.repository.VocabularyRepository;
+import com.spacedlearning.repository.WordReviewStateRepository;
+import com.spacedlearning.service.WordReviewService;
+import com.spacedlearning.service.impl.word.PackedWordStates;
+import com.spacedlearning.service.impl.word.WordReviewScheduler;
+import com.spacedlearning.service.impl.word.WordState;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Word-level scheduling on top of module progress. The state of all reviewed
+ * words of a progress record lives in one packed row; reads decode only the
+ * columns they need and a study session is applied as a single merge.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class WordReviewServiceImpl implements WordReviewService {
+
+    private static final String RESOURCE_MODULE_PROGRESS = "resource.moduleProgress";
+
+    private final Clock clock;
+    private final MessageSource messageSource;
+    private final ModuleProgressRepository progressRepository;
+    private final WordReviewScheduler scheduler;
+    private final WordReviewStateRepository stateRepository;
+    private final VocabularyRepository vocabularyRepository;
+
+    @Value("${app.words.max-due-limit:200}")
+    private int maxDueLimit;
+
+    private int clampLimit(int limit) {
+        return Math.max(1, Math.min(limit, this.maxDueLimit));
+    }
+
+    private static void describe(DueWordResponse response, Vocabulary vocabulary) {
+        if (vocabulary != null) {
+            response.setTerm(vocabulary.getTerm());
+            response.setDefinition(vocabulary.getDefinition());
+        }
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<DueWordResponse> findDueWords(UUID userId, LocalDate date, int limit) {
+        Objects.requireNonNull(userId, "User ID must not be null");
+        final var day = resolveDate(date).toEpochDay();
+        final var max = clampLimit(limit);
+        log.debug("Finding due words for user ID: {} on day: {}, limit: {}", userId, day, max);
+
+        final var rows = this.stateRepository.findDueByUserId(userId, (int) day);
+        if (rows.isEmpty()) {
+            return List.of();
+        }
+        final var current = new HashSet<>(this.vocabularyRepository.findIdsByModuleIdIn(
+                rows.stream().map(WordReviewState::getModuleId).collect(Collectors.toSet())));
+
+        final List<DueWordResponse> due = new ArrayList<>();
+        for (final WordReviewState row : rows) {
+            final var states = PackedWordStates.decode(row.getStates());
+            for (final int index : states.dueIndexes((int) day)) {
+                final var vocabularyId = states.vocabularyId(index);
+                if (current.contains(vocabularyId)) {
+                    due.add(toResponse(row.getModuleProgressId(), vocabularyId, states.state(index), null));
+                }
+            }
+        }
+        due.sort(Comparator.comparing(DueWordResponse::getDueDate)
+                .thenComparing(DueWordResponse::getModuleProgressId));
+        final var selected = due.subList(0, Math.min(max, due.size()));
+
+        final var vocabularies = this.vocabularyRepository
+                .findAllById(selected.stream().map(DueWordResponse::getVocabularyId).toList()).stream()
+                .collect(Collectors.toMap(Vocabulary::getId, Function.identity()));
+        selected.forEach(word -> describe(word, vocabularies.get(word.getVocabularyId())));
+        return List.copyOf(selected);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<DueWordResponse> findDueWordsForProgress(UUID moduleProgressId, UUID userId, LocalDate date,
+            int limit) {
+        final var progress = findOwnedProgress(moduleProgressId, userId);
+        final var day = (int) resolveDate(date).toEpochDay();
+        final var max = clampLimit(limit);
+        log.debug("Finding due words for progress ID: {} on day: {}, limit: {}", moduleProgressId, day, max);
+
+        final var vocabularies = this.vocabularyRepository
+                .findByModuleIdOrderByTermAsc(progress.getModule().getId());
+        final Map<UUID, Vocabulary> byId = new HashMap<>();
+        vocabularies.forEach(vocabulary -> byId.put(vocabulary.getId(), vocabulary));
+        final var states = loadStates(moduleProgressId);
+
+        final List<DueWordResponse> words = new ArrayList<>(max);
+        for (final int index : states.dueIndexes(day)) {
+            if (words.size() >= max) {
+                return words;
+            }
+            final var vocabulary = byId.get(states.vocabularyId(index));
+            if (vocabulary != null) {
+                words.add(toResponse(moduleProgressId, vocabulary.getId(), states.state(index), vocabulary));
+            }
+        }
+        for (final Vocabulary vocabulary : vocabularies) {
+            if (words.size() >= max) {
+                break;
+            }
+            if (states.indexOf(vocabulary.getId()) < 0) {
+                final var word = toResponse(moduleProgressId, vocabulary.getId(), this.scheduler.initial(day),
+                        vocabulary);
+                word.setNewWord(true);
+                words.add(word);
+            }
+        }
+        return words;
+    }
+
+    private ModuleProgress findOwnedProgress(UUID moduleProgressId, UUID userId) {
+        Objects.requireNonNull(moduleProgressId, "Module progress ID must not be null");
+        Objects.requireNonNull(userId, "User ID must not be null");
+        return this.progressRepository.findById(moduleProgressId)
+                .filter(progress -> userId.equals(progress.getUserId()))
+                .orElseThrow(() -> SpacedLearningException.resourceNotFound(this.messageSource,
+                        RESOURCE_MODULE_PROGRESS, moduleProgressId));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public WordReviewSummaryResponse getSummary(UUID moduleProgressId, UUID userId) {
+        final var progress = findOwnedProgress(moduleProgressId, userId);
+        final var totalWords = this.vocabularyRepository.countByModuleId(progress.getModule().getId());
+        return toSummary(moduleProgressId, totalWords, loadStates(moduleProgressId));
+    }
+
+    private PackedWordStates loadStates(UUID moduleProgressId) {
+        return this.stateRepository.findById(moduleProgressId)
+                .map(state -> PackedWordStates.decode(state.getStates()))
+                .orElse(PackedWordStates.empty());
+    }
+
+    @Override
+    @RetryOnConflict
+    @Transactional
+    public WordReviewSummaryResponse recordSession(UUID moduleProgressId, UUID userId,
+            WordReviewSessionRequest request) {
+        Objects.requireNonNull(request, "Word review session request must not be null");
+        final var progress = findOwnedProgress(moduleProgressId, userId);
+        final var moduleId = progress.getModule().getId();
+        final var today = (int) LocalDate.now(this.clock).toEpochDay();
+        log.debug("Recording {} word reviews for progress ID: {}", request.getReviews().size(), moduleProgressId);
+
+        final var current = new HashSet<>(this.vocabularyRepository.findIdsByModuleId(moduleId));
+        for (final WordReviewRequest review : request.getReviews()) {
+            if (!current.contains(review.getVocabularyId())) {
+                throw SpacedLearningException.validationError(this.messageSource, "error.word.notInModule",
+                        review.getVocabularyId(), moduleId);
+            }
+        }
+
+        // Concurrent first sessions of a module must meet on one row and its version
+        this.stateRepository.createIfAbsent(moduleProgressId, userId, moduleId, PackedWordStates.empty().toBytes());
+        final var row = this.stateRepository.findById(moduleProgressId)
+                .orElseThrow(() -> SpacedLearningException.resourceNotFound(this.messageSource,
+                        RESOURCE_MODULE_PROGRESS, moduleProgressId));
+        final var states = PackedWordStates.decode(row.getStates());
+
+        // Reviews apply in order, so a word failed and relearned in one session ends relearned
+        final var updates = new TreeMap<UUID, WordState>();
+        for (final WordReviewRequest review : request.getReviews()) {
+            final var id = review.getVocabularyId();
+            var state = updates.get(id);
+            if (state == null) {
+                final var index = states.indexOf(id);
+                state = index >= 0 ? states.state(index) : this.scheduler.initial(today);
+            }
+            updates.put(id, this.scheduler.review(state, review.getQuality(), today));
+        }
+
+        final var merged = states.merge(updates, current::contains);
+        row.setStates(merged.toBytes());
+        row.setWordCount(merged.size());
+        row.setNextDueDay(merged.nextDueDay());
+        row.setUpdatedAt(LocalDateTime.now(this.clock));
+        this.stateRepository.save(row);
+
+        log.info("Recorded {} word reviews for progress ID: {}, {} words tracked", request.getReviews().size(),
+                moduleProgressId, merged.size());
+        return toSummary(moduleProgressId, current.size(), merged);
+    }
+
+    private LocalDate resolveDate(LocalDate date) {
+        return date != null ? date : LocalDate.now(this.clock);
+    }
+
+    private DueWordResponse toResponse(UUID moduleProgressId, UUID vocabularyId, WordState state,
+            Vocabulary vocabulary) {
+        final var response = DueWordResponse.builder()
+                .vocabularyId(vocabularyId)
+                .moduleProgressId(moduleProgressId)
+                .dueDate(LocalDate.ofEpochDay(state.dueDay()))
+                .intervalDays(state.intervalDays())
+                .lapses(state.lapses())
+                .build();
+        describe(response, vocabulary);
+        return response;
+    }
+
+    private WordReviewSummaryResponse toSummary(UUID moduleProgressId, int totalWords, PackedWordStates states) {
+        final var today = (int) LocalDate.now(this.clock).toEpochDay();
+        final var nextDueDay = states.nextDueDay();
+        return WordReviewSummaryResponse.builder()
+                .moduleProgressId(moduleProgressId)
+                .totalWords(totalWords)
+                .startedWords(states.size())
+                .dueWords(states.countDue(today))
+                .nextDueDate(nextDueDay != null ? LocalDate.ofEpochDay(nextDueDay) : null)
+                .build();
+    }
+}
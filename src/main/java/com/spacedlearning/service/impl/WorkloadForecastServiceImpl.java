@@ -0,0 +1,125 @@
+package com.spacedlearning.service.impl;
+
+import java.math.BigDecimal;
+import java.time.Clock;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.spacedlearning.dto.stats.WorkloadForecastDTO;
+import com.spacedlearning.entity.enums.CycleStudied;
+import com.spacedlearning.repository.RepetitionRepository;
+import com.spacedlearning.service.WorkloadForecastService;
+import com.spacedlearning.service.impl.repetition.ScheduleParameters;
+import com.spacedlearning.service.impl.repetition.ScheduleParametersResolver;
+import com.spacedlearning.service.impl.repetition.WorkloadForecastEngine;
+import com.spacedlearning.service.impl.repetition.WorkloadForecastEngine.ProgressState;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class WorkloadForecastServiceImpl implements WorkloadForecastService {
+
+    private static final int MAX_DAYS = 730;
+
+    private static final int IDX_PROGRESS_ID = 0;
+    private static final int IDX_CYCLES_STUDIED = 1;
+    private static final int IDX_PERCENT_COMPLETE = 2;
+    private static final int IDX_WORD_COUNT = 3;
+    private static final int IDX_REVIEW_DATE = 4;
+    private static final int IDX_USER_ID = 5;
+
+    private final Clock clock;
+    private final ScheduleParametersResolver parametersResolver;
+    private final RepetitionRepository repetitionRepository;
+    private final WorkloadForecastEngine forecastEngine;
+
+    @Override
+    @Transactional(readOnly = true)
+    public WorkloadForecastDTO forecast(UUID userId, int days) {
+        final var horizon = Math.min(Math.max(days, 1), MAX_DAYS);
+        final var today = LocalDate.now(this.clock);
+        log.debug("Forecasting review load for user ID: {} over {} days", userId, horizon);
+
+        final var rows = userId != null
+                ? this.repetitionRepository.findForecastInputsForUser(userId)
+                : this.repetitionRepository.findForecastInputs();
+        final var states = toProgressStates(rows);
+
+        final var started = System.nanoTime();
+        final var forecast = this.forecastEngine.forecast(states, today, horizon);
+        log.debug("Simulated {} progress records in {} ms", states.size(), (System.nanoTime() - started) / 1_000_000);
+
+        final List<WorkloadForecastDTO.DailyLoad> daily = new ArrayList<>(horizon);
+        var totalRepetitions = 0L;
+        var totalWords = 0L;
+        var peakIndex = 0;
+        for (var i = 0; i < horizon; i++) {
+            final var repetitions = forecast.repetitions()[i];
+            daily.add(WorkloadForecastDTO.DailyLoad.builder()
+                    .date(today.plusDays(i))
+                    .repetitions(repetitions)
+                    .words(forecast.words()[i])
+                    .build());
+            totalRepetitions += repetitions;
+            totalWords += forecast.words()[i];
+            if (repetitions > forecast.repetitions()[peakIndex]) {
+                peakIndex = i;
+            }
+        }
+
+        return WorkloadForecastDTO.builder()
+                .startDate(today)
+                .days(horizon)
+                .moduleProgressCount(states.size())
+                .totalRepetitions(totalRepetitions)
+                .totalWords(totalWords)
+                .peakDate(today.plusDays(peakIndex))
+                .peakRepetitions(forecast.repetitions()[peakIndex])
+                .daily(daily)
+                .build();
+    }
+
+    /**
+     * Group rows by progress record. Each learner's parameters are resolved
+     * once, however many progress records they own.
+     */
+    private List<ProgressState> toProgressStates(List<Object[]> rows) {
+        final Map<UUID, ScheduleParameters> parameters = new HashMap<>();
+        final Map<UUID, Object[]> inputs = new HashMap<>();
+        final Map<UUID, int[]> pending = new HashMap<>();
+
+        for (final Object[] row : rows) {
+            final var progressId = (UUID) row[IDX_PROGRESS_ID];
+            final var epochDay = (int) ((LocalDate) row[IDX_REVIEW_DATE]).toEpochDay();
+            inputs.putIfAbsent(progressId, row);
+            pending.merge(progressId, new int[] { epochDay }, (existing, added) -> {
+                final var merged = Arrays.copyOf(existing, existing.length + 1);
+                merged[existing.length] = added[0];
+                return merged;
+            });
+        }
+
+        final List<ProgressState> states = new ArrayList<>(inputs.size());
+        inputs.forEach((progressId, row) -> {
+            final var wordCount = row[IDX_WORD_COUNT] != null ? ((Number) row[IDX_WORD_COUNT]).intValue() : 0;
+            final var percent = row[IDX_PERCENT_COMPLETE] != null
+                    ? ((BigDecimal) row[IDX_PERCENT_COMPLETE]).doubleValue()
+                    : 0.0;
+            final var userId = (UUID) row[IDX_USER_ID];
+            states.add(new ProgressState(wordCount, percent, (CycleStudied) row[IDX_CYCLES_STUDIED],
+                    pending.get(progressId), parameters.computeIfAbsent(userId, this.parametersResolver::resolve)));
+        });
+        return states;
+    }
+}
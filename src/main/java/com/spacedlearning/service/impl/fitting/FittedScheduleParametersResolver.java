@@ -0,0 +1,49 @@
+package com.spacedlearning.service.impl.fitting;
+
+import java.util.UUID;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.stereotype.Component;
+
+import com.spacedlearning.config.cache.CacheConfig;
+import com.spacedlearning.entity.UserScheduleParameters;
+import com.spacedlearning.repository.UserScheduleParametersRepository;
+import com.spacedlearning.service.impl.repetition.ScheduleParameters;
+import com.spacedlearning.service.impl.repetition.ScheduleParametersResolver;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Resolves the parameters stored by {@link ScheduleParameterFitJob}. Results,
+ * defaults included, are cached per learner; the job clears the cache on every
+ * node once a run has saved new parameters.
+ */
+@Component
+@RequiredArgsConstructor
+public class FittedScheduleParametersResolver implements ScheduleParametersResolver {
+
+    private final UserScheduleParametersRepository parametersRepository;
+
+    @Value("${app.schedule-fitting.apply:true}")
+    private boolean apply;
+
+    @Override
+    @Cacheable(value = CacheConfig.SCHEDULE_PARAMETERS, key = "#userId")
+    public ScheduleParameters resolve(UUID userId) {
+        if (!this.apply) {
+            return ScheduleParameters.DEFAULT;
+        }
+        return this.parametersRepository.findById(userId)
+                .map(FittedScheduleParametersResolver::toParameters)
+                .orElse(ScheduleParameters.DEFAULT);
+    }
+
+    private static ScheduleParameters toParameters(UserScheduleParameters row) {
+        if (row.getMultipliers().length != ScheduleParameters.DEFAULT.size()) {
+            return ScheduleParameters.DEFAULT;
+        }
+        return new ScheduleParameters(row.getMultipliers(), row.getCycleFactor(), row.getCompletionFactor(),
+                row.getWordFactor());
+    }
+}
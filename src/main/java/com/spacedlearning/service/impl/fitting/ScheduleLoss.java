@@ -0,0 +1,114 @@
+package com.spacedlearning.service.impl.fitting;
+
+import com.spacedlearning.service.impl.repetition.RepetitionDateCalculator;
+import com.spacedlearning.service.impl.repetition.ScheduleParameters;
+
+/**
+ * Squared recall error of a parameter vector over a range of samples, together
+ * with its gradient. This is the inner loop of the fit and allocates nothing.
+ * <p>
+ * A sample scheduled with interval {@code G = m[index] * F} and reviewed after
+ * {@code t} days is predicted to recall {@code exp(ln(R) * t / G)}, where
+ * {@code R} is the target retention: exactly {@code R} when the review is on
+ * schedule, more when early and less when late. The error is the difference
+ * to the recorded score.
+ * <p>
+ * Parameter vectors are laid out as the multipliers in repetition order
+ * followed by the cycle, completion and word factors.
+ */
+public final class ScheduleLoss {
+
+    public static final int MULTIPLIERS = ScheduleParameters.DEFAULT.size();
+    public static final int CYCLE = MULTIPLIERS;
+    public static final int COMPLETION = MULTIPLIERS + 1;
+    public static final int WORD = MULTIPLIERS + 2;
+    public static final int PARAMETERS = MULTIPLIERS + 3;
+
+    /**
+     * Slot after the gradient in an accumulator array that holds the summed
+     * squared error.
+     */
+    public static final int ERROR = PARAMETERS;
+
+    private final double decay;
+
+    /**
+     * @param targetRetention Recall expected at the scheduled date, between 0 and 1
+     */
+    public ScheduleLoss(double targetRetention) {
+        if ((targetRetention <= 0) || (targetRetention >= 1)) {
+            throw new IllegalArgumentException("Target retention must be between 0 and 1.");
+        }
+        this.decay = -Math.log(targetRetention);
+    }
+
+    public static double[] toVector(ScheduleParameters parameters) {
+        final var theta = new double[PARAMETERS];
+        for (var i = 0; i < MULTIPLIERS; i++) {
+            theta[i] = parameters.multiplier(i);
+        }
+        theta[CYCLE] = parameters.cycleFactor();
+        theta[COMPLETION] = parameters.completionFactor();
+        theta[WORD] = parameters.wordFactor();
+        return theta;
+    }
+
+    public static ScheduleParameters toParameters(double[] theta) {
+        final var multipliers = new double[MULTIPLIERS];
+        System.arraycopy(theta, 0, multipliers, 0, MULTIPLIERS);
+        return new ScheduleParameters(multipliers, theta[CYCLE], theta[COMPLETION], theta[WORD]);
+    }
+
+    /**
+     * Add the squared error of samples {@code [from, to)} to
+     * {@code out[ERROR]} and its gradient with respect to {@code theta} to
+     * {@code out[0..PARAMETERS)}.
+     */
+    public void accumulate(ScheduleSamples samples, double[] theta, int from, int to, double[] out) {
+        final var indexes = samples.indexes();
+        final var cycleTerms = samples.cycleTerms();
+        final var completionTerms = samples.completionTerms();
+        final var wordTerms = samples.wordTerms();
+        final var elapsedDays = samples.elapsedDays();
+        final var recalls = samples.recalls();
+        final var cycleFactor = theta[CYCLE];
+        final var completionFactor = theta[COMPLETION];
+        final var wordFactor = theta[WORD];
+
+        var error = 0.0;
+        var cycleGradient = 0.0;
+        var completionGradient = 0.0;
+        var wordGradient = 0.0;
+        for (var i = from; i < to; i++) {
+            final int index = indexes[i];
+            final double cycleTerm = cycleTerms[i];
+            final double completionTerm = completionTerms[i];
+            final double wordTerm = wordTerms[i];
+            final var rawFactor = 1.0 + (cycleTerm * cycleFactor) + (completionTerm * completionFactor)
+                    + (wordTerm * wordFactor);
+            final var clamped = rawFactor < RepetitionDateCalculator.MIN_ADJUSTMENT;
+            final var factor = clamped ? RepetitionDateCalculator.MIN_ADJUSTMENT : rawFactor;
+            final var multiplier = theta[index];
+            final var interval = multiplier * factor;
+
+            final var exponent = (this.decay * elapsedDays[i]) / interval;
+            final var predicted = Math.exp(-exponent);
+            final var residual = predicted - recalls[i];
+            error += residual * residual;
+
+            // dE/dG = 2 * residual * dp/dG, with dp/dG = p * decay * t / G^2
+            final var intervalGradient = (2.0 * residual * predicted * exponent) / interval;
+            out[index] += intervalGradient * factor;
+            if (!clamped) {
+                final var factorGradient = intervalGradient * multiplier;
+                cycleGradient += factorGradient * cycleTerm;
+                completionGradient += factorGradient * completionTerm;
+                wordGradient += factorGradient * wordTerm;
+            }
+        }
+        out[CYCLE] += cycleGradient;
+        out[COMPLETION] += completionGradient;
+        out[WORD] += wordGradient;
+        out[ERROR] += error;
+    }
+}
@@ -0,0 +1,196 @@
+package com.spacedlearning.service.impl.fitting;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.spacedlearning.config.cache.CacheConfig;
+import com.spacedlearning.entity.UserScheduleParameters;
+import com.spacedlearning.event.CacheInvalidationEvent;
+import com.spacedlearning.repository.custom.ScheduleFitRepository;
+import com.spacedlearning.service.impl.job.BackgroundJob;
+import com.spacedlearning.service.impl.job.JobContext;
+import com.spacedlearning.service.impl.job.JobRunner;
+import com.spacedlearning.service.impl.repetition.RepetitionDateCalculator;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Fits schedule parameters for every learner with enough review history.
+ * <p>
+ * The review log is streamed once, ordered by learner, so only the learner
+ * being read and the fits in flight are held in memory. Each learner's fit is
+ * submitted to a fork/join pool sized to the configured parallelism; large
+ * histories additionally split their gradients across the same pool. Reading
+ * pauses while the number of fits in flight is at its limit, and results are
+ * saved in submission order, so the checkpoint is simply the last learner
+ * saved and an interrupted run resumes after it. The parameter cache is
+ * cleared on every node once results have been saved.
+ */
+@Component
+@ConditionalOnProperty(name = "app.schedule-fitting.enabled", havingValue = "true", matchIfMissing = true)
+@RequiredArgsConstructor
+@Slf4j
+public class ScheduleParameterFitJob implements BackgroundJob {
+
+    private static final int IN_FLIGHT_PER_THREAD = 4;
+
+    private final Clock clock;
+    private final JobRunner jobRunner;
+    private final RepetitionDateCalculator calculator;
+    private final ScheduleFitRepository fitRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Value("${app.schedule-fitting.history-months:12}")
+    private int historyMonths;
+
+    @Value("${app.schedule-fitting.min-samples:30}")
+    private int minSamples;
+
+    @Value("${app.schedule-fitting.parallelism:0}")
+    private int parallelism;
+
+    @Value("${app.schedule-fitting.target-retention:0.9}")
+    private double targetRetention;
+
+    @Value("${app.schedule-fitting.regularization:0.5}")
+    private double regularization;
+
+    @Value("${app.schedule-fitting.max-iterations:100}")
+    private int maxIterations;
+
+    @Value("${app.schedule-fitting.split-threshold:16384}")
+    private int splitThreshold;
+
+    @Value("${app.schedule-fitting.fetch-size:10000}")
+    private int fetchSize;
+
+    @Value("${app.schedule-fitting.batch-size:500}")
+    private int batchSize;
+
+    @Override
+    public long execute(JobContext context) {
+        final var since = LocalDateTime.now(this.clock).minusMonths(this.historyMonths);
+        final var afterUser = context.resumeFrom().map(UUID::fromString).orElse(null);
+        final var threads = this.parallelism > 0 ? this.parallelism : Runtime.getRuntime().availableProcessors();
+        final var optimizer = new ScheduleParameterOptimizer(new ScheduleParameterOptimizer.Settings(
+                this.targetRetention, this.regularization, this.maxIterations, this.splitThreshold));
+
+        final var pool = new ForkJoinPool(threads);
+        final var run = new Run(context, optimizer, pool, threads * IN_FLIGHT_PER_THREAD);
+        try {
+            final var collector = new ScheduleSampleCollector(this.calculator, run::submit);
+            final var read = this.fitRepository.streamCompletions(since, afterUser, this.fetchSize, collector);
+            collector.finish();
+            run.drain(0);
+            run.save();
+            log.info("Fitted schedule parameters for {} learners from {} completions on {} threads, "
+                    + "skipped {} with fewer than {} samples", run.saved, read, threads, run.skipped,
+                    this.minSamples);
+            return run.saved;
+        } finally {
+            pool.shutdownNow();
+            if (run.saved > 0) {
+                this.eventPublisher.publishEvent(CacheInvalidationEvent.all(CacheConfig.SCHEDULE_PARAMETERS));
+            }
+        }
+    }
+
+    @Scheduled(cron = "${app.schedule-fitting.cron:0 0 4 * * SUN}")
+    public void fit() {
+        this.jobRunner.run(this);
+    }
+
+    @Override
+    public String name() {
+        return "schedule-parameter-fit";
+    }
+
+    /**
+     * State of one run. Only touched by the thread reading the review log;
+     * the pool only runs the fits.
+     */
+    private final class Run {
+
+        private final JobContext context;
+        private final ScheduleParameterOptimizer optimizer;
+        private final ForkJoinPool pool;
+        private final int maxInFlight;
+        private final LocalDateTime fittedAt;
+        private final Deque<PendingFit> pending = new ArrayDeque<>();
+        private List<UserScheduleParameters> batch = new ArrayList<>();
+        private UUID lastUserId;
+        private long saved;
+        private long skipped;
+
+        Run(JobContext context, ScheduleParameterOptimizer optimizer, ForkJoinPool pool, int maxInFlight) {
+            this.context = context;
+            this.optimizer = optimizer;
+            this.pool = pool;
+            this.maxInFlight = maxInFlight;
+            this.fittedAt = LocalDateTime.now(ScheduleParameterFitJob.this.clock);
+        }
+
+        /**
+         * Collect finished fits in submission order, waiting on the oldest
+         * while more than {@code limit} are in flight.
+         */
+        void drain(int limit) {
+            while (!this.pending.isEmpty()
+                    && ((this.pending.size() > limit) || this.pending.peekFirst().task().isDone())) {
+                final var next = this.pending.pollFirst();
+                final var fit = next.task().join();
+                this.batch.add(UserScheduleParameters.builder()
+                        .userId(next.userId())
+                        .multipliers(fit.parameters().multipliers())
+                        .cycleFactor(fit.parameters().cycleFactor())
+                        .completionFactor(fit.parameters().completionFactor())
+                        .wordFactor(fit.parameters().wordFactor())
+                        .sampleCount(fit.samples())
+                        .loss(fit.loss())
+                        .defaultLoss(fit.defaultLoss())
+                        .fittedAt(this.fittedAt)
+                        .build());
+                this.lastUserId = next.userId();
+                if (this.batch.size() >= ScheduleParameterFitJob.this.batchSize) {
+                    save();
+                }
+            }
+        }
+
+        void save() {
+            if (this.batch.isEmpty()) {
+                return;
+            }
+            final var written = ScheduleParameterFitJob.this.fitRepository.upsert(this.batch);
+            this.saved += written;
+            this.context.checkpoint(this.lastUserId.toString(), written);
+            this.batch = new ArrayList<>();
+        }
+
+        void submit(UUID userId, ScheduleSamples samples) {
+            if (samples.size() < ScheduleParameterFitJob.this.minSamples) {
+                this.skipped++;
+                return;
+            }
+            this.pending.addLast(new PendingFit(userId, this.pool.submit(() -> this.optimizer.fit(samples))));
+            drain(this.maxInFlight);
+        }
+    }
+
+    private record PendingFit(UUID userId, ForkJoinTask<ScheduleParameterOptimizer.Fit> task) {
+    }
+}
@@ -0,0 +1,252 @@
+package com.spacedlearning.service.impl.fitting;
+
+import java.util.Arrays;
+import java.util.concurrent.RecursiveTask;
+
+import com.spacedlearning.service.impl.repetition.ScheduleParameters;
+
+/**
+ * Fits one learner's schedule parameters by spectral projected gradient
+ * descent (Barzilai-Borwein steps with backtracking) on the mean {@link ScheduleLoss} plus a penalty that pulls
+ * every parameter towards its default, so sparse histories stay close to the
+ * hand-set schedule.
+ * <p>
+ * Parameters are optimized relative to their defaults, which puts multipliers
+ * of a few days and factors of a few tenths on the same scale. Each step is
+ * projected back onto valid schedules: multipliers strictly increase by at
+ * least a day and factors stay within {@code [0, MAX_FACTOR]}.
+ * <p>
+ * A gradient over more than {@link Settings#splitThreshold()} samples is
+ * evaluated as a fork/join task, so a single large history uses the whole
+ * pool the fit runs in while many small histories are fitted side by side.
+ * Instances are immutable and may be shared across threads.
+ */
+public final class ScheduleParameterOptimizer {
+
+    public static final double MAX_FACTOR = 2.0;
+    public static final double MAX_MULTIPLIER = 365.0;
+
+    private static final double ARMIJO = 1e-4;
+    private static final double MAX_STEP = 1e6;
+    private static final double MIN_STEP = 1e-10;
+    private static final double TOLERANCE = 1e-7;
+
+    private final Settings settings;
+    private final ScheduleLoss loss;
+    private final double[] defaults;
+
+    /**
+     * @param targetRetention Recall expected at the scheduled date
+     * @param regularization  Weight of the pull towards the default parameters, in samples
+     * @param maxIterations   Upper bound on accepted descent steps per fit
+     * @param splitThreshold  Samples above which a gradient is split into fork/join subtasks
+     */
+    public record Settings(double targetRetention, double regularization, int maxIterations, int splitThreshold) {
+    }
+
+    /**
+     * Outcome of a fit. Losses are mean squared recall errors without the
+     * regularization penalty.
+     */
+    public record Fit(ScheduleParameters parameters, int samples, double loss, double defaultLoss, int iterations) {
+    }
+
+    /**
+     * Objective value and gradient at one point, both in relative
+     * coordinates.
+     */
+    private record Evaluation(double[] point, double objective, double meanError, double[] gradient) {
+    }
+
+    public ScheduleParameterOptimizer(Settings settings) {
+        this.settings = settings;
+        this.loss = new ScheduleLoss(settings.targetRetention());
+        this.defaults = ScheduleLoss.toVector(ScheduleParameters.DEFAULT);
+    }
+
+    /**
+     * Summed squared error and gradient over all samples, split across the
+     * current fork/join pool when the history is large.
+     */
+    public double[] accumulate(ScheduleSamples samples, double[] theta) {
+        if (samples.size() <= this.settings.splitThreshold()) {
+            final var out = new double[ScheduleLoss.PARAMETERS + 1];
+            this.loss.accumulate(samples, theta, 0, samples.size(), out);
+            return out;
+        }
+        return new GradientTask(samples, theta, 0, samples.size()).invoke();
+    }
+
+    private Evaluation evaluate(ScheduleSamples samples, double[] point) {
+        final var theta = new double[point.length];
+        for (var j = 0; j < point.length; j++) {
+            theta[j] = point[j] * this.defaults[j];
+        }
+        final var sums = accumulate(samples, theta);
+        final var count = samples.size();
+
+        // The penalty is worth a fixed number of samples, so it fades as the history grows
+        final var weight = this.settings.regularization() / count;
+        final var gradient = new double[point.length];
+        var penalty = 0.0;
+        for (var j = 0; j < point.length; j++) {
+            final var offset = point[j] - 1.0;
+            penalty += offset * offset;
+            gradient[j] = ((sums[j] / count) * this.defaults[j]) + (2.0 * weight * offset);
+        }
+        final var meanError = sums[ScheduleLoss.ERROR] / count;
+        return new Evaluation(point, meanError + (weight * penalty), meanError, gradient);
+    }
+
+    /**
+     * Fit parameters to a learner's samples, starting from the defaults.
+     */
+    public Fit fit(ScheduleSamples samples) {
+        if (samples.isEmpty()) {
+            throw new IllegalArgumentException("Cannot fit schedule parameters without samples.");
+        }
+
+        final var start = new double[ScheduleLoss.PARAMETERS];
+        Arrays.fill(start, 1.0);
+        var current = evaluate(samples, start);
+        final var defaultLoss = current.meanError();
+
+        var step = 1.0;
+        var iterations = 0;
+        while (iterations < this.settings.maxIterations()) {
+            Evaluation next = null;
+            while (step >= MIN_STEP) {
+                final var candidate = project(current.point(), current.gradient(), step);
+                var decrease = 0.0;
+                for (var j = 0; j < candidate.length; j++) {
+                    decrease += current.gradient()[j] * (current.point()[j] - candidate[j]);
+                }
+                if (decrease <= 0) {
+                    break;
+                }
+                final var trial = evaluate(samples, candidate);
+                if (trial.objective() <= (current.objective() - (ARMIJO * decrease))) {
+                    next = trial;
+                    break;
+                }
+                step *= 0.5;
+            }
+            if (next == null) {
+                break;
+            }
+
+            step = spectralStep(current, next);
+            current = next;
+            iterations++;
+            if (isStationary(current)) {
+                break;
+            }
+        }
+
+        final var theta = new double[ScheduleLoss.PARAMETERS];
+        for (var j = 0; j < theta.length; j++) {
+            theta[j] = current.point()[j] * this.defaults[j];
+        }
+        return new Fit(ScheduleLoss.toParameters(theta), samples.size(), current.meanError(), defaultLoss,
+                iterations);
+    }
+
+    /**
+     * Whether a unit projected gradient step would move no parameter by more
+     * than the tolerance, relative to its default.
+     */
+    private boolean isStationary(Evaluation evaluation) {
+        final var projected = project(evaluation.point(), evaluation.gradient(), 1.0);
+        for (var j = 0; j < projected.length; j++) {
+            if (Math.abs(projected[j] - evaluation.point()[j]) > TOLERANCE) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Take a gradient step from {@code point} and project the result onto
+     * valid schedules, in relative coordinates.
+     */
+    private double[] project(double[] point, double[] gradient, double step) {
+        final var theta = new double[point.length];
+        for (var j = 0; j < point.length; j++) {
+            theta[j] = (point[j] - (step * gradient[j])) * this.defaults[j];
+        }
+
+        // Each multiplier stays a day past the previous one and leaves room for the ones after it
+        var floor = 1.0;
+        for (var j = 0; j < ScheduleLoss.MULTIPLIERS; j++) {
+            final var ceiling = MAX_MULTIPLIER - (ScheduleLoss.MULTIPLIERS - 1 - j);
+            theta[j] = Math.min(Math.max(theta[j], floor), ceiling);
+            floor = theta[j] + 1.0;
+        }
+        for (var j = ScheduleLoss.MULTIPLIERS; j < ScheduleLoss.PARAMETERS; j++) {
+            theta[j] = Math.min(Math.max(theta[j], 0.0), MAX_FACTOR);
+        }
+
+        for (var j = 0; j < theta.length; j++) {
+            theta[j] /= this.defaults[j];
+        }
+        return theta;
+    }
+
+    /**
+     * Barzilai-Borwein step length from the last move, which adapts to the
+     * curvature along it; falls back to a unit step when the curvature is not
+     * positive.
+     */
+    private static double spectralStep(Evaluation previous, Evaluation next) {
+        var moved = 0.0;
+        var curvature = 0.0;
+        for (var j = 0; j < next.point().length; j++) {
+            final var delta = next.point()[j] - previous.point()[j];
+            moved += delta * delta;
+            curvature += delta * (next.gradient()[j] - previous.gradient()[j]);
+        }
+        if (curvature <= 0) {
+            return 1.0;
+        }
+        return Math.min(Math.max(moved / curvature, MIN_STEP), MAX_STEP);
+    }
+
+    /**
+     * Gradient over a sample range, halved until a range is small enough to
+     * scan directly.
+     */
+    private final class GradientTask extends RecursiveTask<double[]> {
+
+        private static final long serialVersionUID = 1L;
+
+        private final transient ScheduleSamples samples;
+        private final double[] theta;
+        private final int from;
+        private final int to;
+
+        GradientTask(ScheduleSamples samples, double[] theta, int from, int to) {
+            this.samples = samples;
+            this.theta = theta;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected double[] compute() {
+            if ((this.to - this.from) <= ScheduleParameterOptimizer.this.settings.splitThreshold()) {
+                final var out = new double[ScheduleLoss.PARAMETERS + 1];
+                ScheduleParameterOptimizer.this.loss.accumulate(this.samples, this.theta, this.from, this.to, out);
+                return out;
+            }
+            final var middle = (this.from + this.to) >>> 1;
+            final var left = new GradientTask(this.samples, this.theta, this.from, middle);
+            left.fork();
+            final var out = new GradientTask(this.samples, this.theta, middle, this.to).compute();
+            final var other = left.join();
+            for (var j = 0; j < out.length; j++) {
+                out[j] += other[j];
+            }
+            return out;
+        }
+    }
+}
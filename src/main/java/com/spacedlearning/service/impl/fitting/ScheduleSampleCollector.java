@@ -0,0 +1,72 @@
+package com.spacedlearning.service.impl.fitting;
+
+import java.time.Duration;
+import java.util.UUID;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+
+import com.spacedlearning.repository.custom.ScheduleFitRepository.Completion;
+import com.spacedlearning.service.impl.repetition.RepetitionDateCalculator;
+
+/**
+ * Turns completions ordered by learner, progress and time into one
+ * {@link ScheduleSamples} per learner. Each completion after the first of a
+ * progress becomes a sample: the interval since the previous completion, with
+ * the previous score as the completion term the repetition was scheduled with.
+ * A learner's samples are handed on as soon as the next learner starts, so
+ * only one history is held at a time.
+ */
+public final class ScheduleSampleCollector implements Consumer<Completion> {
+
+    private static final double MILLIS_PER_DAY = Duration.ofDays(1).toMillis();
+
+    private final RepetitionDateCalculator calculator;
+    private final BiConsumer<UUID, ScheduleSamples> sink;
+    private UUID userId;
+    private ScheduleSamples samples;
+    private Completion previous;
+
+    public ScheduleSampleCollector(RepetitionDateCalculator calculator, BiConsumer<UUID, ScheduleSamples> sink) {
+        this.calculator = calculator;
+        this.sink = sink;
+    }
+
+    @Override
+    public void accept(Completion completion) {
+        if (!completion.userId().equals(this.userId)) {
+            finish();
+            this.userId = completion.userId();
+            this.samples = new ScheduleSamples();
+        }
+
+        final var last = this.previous;
+        this.previous = completion;
+        if ((last == null) || !last.moduleProgressId().equals(completion.moduleProgressId())) {
+            return;
+        }
+        final var elapsed = Duration.between(last.reviewedAt(), completion.reviewedAt()).toMillis() / MILLIS_PER_DAY;
+        final var index = this.calculator.getOrderIndex(completion.repetitionOrder());
+        if ((elapsed <= 0) || (index < 0)) {
+            return;
+        }
+        this.samples.add(index,
+                this.calculator.getCycleStudiedCount(completion.cycle()) - 1.0,
+                last.score() / 100.0,
+                RepetitionDateCalculator.wordLoad(completion.wordCount()) - 1.0,
+                elapsed,
+                Math.min(1.0, Math.max(0.0, completion.score() / 100.0)));
+    }
+
+    /**
+     * Hand on the samples of the current learner. Called when the stream
+     * ends; a new learner in the stream finishes the previous one implicitly.
+     */
+    public void finish() {
+        if (this.userId != null) {
+            this.sink.accept(this.userId, this.samples);
+        }
+        this.userId = null;
+        this.samples = null;
+        this.previous = null;
+    }
+}
@@ -0,0 +1,107 @@
+package com.spacedlearning.service.impl.fitting;
+
+import java.util.Arrays;
+
+/**
+ * One learner's review outcomes in columnar primitive arrays, the layout
+ * {@link ScheduleLoss} scans. A sample is a completion that followed an
+ * earlier completion of the same progress: the time between them is the
+ * interval the learner actually waited and the score is how much of the
+ * module they still recalled.
+ * <p>
+ * The adjustment terms are stored already offset the way
+ * {@code RepetitionDateCalculator} applies them, so the factor of a sample is
+ * {@code 1 + cycleTerm * c + completionTerm * q + wordTerm * w}.
+ */
+public final class ScheduleSamples {
+
+    private static final int INITIAL_CAPACITY = 64;
+
+    private int size;
+    private byte[] indexes;
+    private float[] cycleTerms;
+    private float[] completionTerms;
+    private float[] wordTerms;
+    private float[] elapsedDays;
+    private float[] recalls;
+
+    public ScheduleSamples() {
+        this(INITIAL_CAPACITY);
+    }
+
+    public ScheduleSamples(int capacity) {
+        final var initial = Math.max(1, capacity);
+        this.indexes = new byte[initial];
+        this.cycleTerms = new float[initial];
+        this.completionTerms = new float[initial];
+        this.wordTerms = new float[initial];
+        this.elapsedDays = new float[initial];
+        this.recalls = new float[initial];
+    }
+
+    /**
+     * Add one sample.
+     *
+     * @param index          Repetition index the learner was scheduled for
+     * @param cycleTerm      Completed cycles minus one
+     * @param completionTerm Score of the preceding completion as a fraction
+     * @param wordTerm       Word load of the module minus one
+     * @param elapsed        Days since the preceding completion
+     * @param recall         Score of this completion as a fraction
+     */
+    public void add(int index, double cycleTerm, double completionTerm, double wordTerm, double elapsed,
+            double recall) {
+        if (this.size == this.indexes.length) {
+            grow();
+        }
+        this.indexes[this.size] = (byte) index;
+        this.cycleTerms[this.size] = (float) cycleTerm;
+        this.completionTerms[this.size] = (float) completionTerm;
+        this.wordTerms[this.size] = (float) wordTerm;
+        this.elapsedDays[this.size] = (float) elapsed;
+        this.recalls[this.size] = (float) recall;
+        this.size++;
+    }
+
+    float[] completionTerms() {
+        return this.completionTerms;
+    }
+
+    float[] cycleTerms() {
+        return this.cycleTerms;
+    }
+
+    float[] elapsedDays() {
+        return this.elapsedDays;
+    }
+
+    private void grow() {
+        final var capacity = this.indexes.length * 2;
+        this.indexes = Arrays.copyOf(this.indexes, capacity);
+        this.cycleTerms = Arrays.copyOf(this.cycleTerms, capacity);
+        this.completionTerms = Arrays.copyOf(this.completionTerms, capacity);
+        this.wordTerms = Arrays.copyOf(this.wordTerms, capacity);
+        this.elapsedDays = Arrays.copyOf(this.elapsedDays, capacity);
+        this.recalls = Arrays.copyOf(this.recalls, capacity);
+    }
+
+    byte[] indexes() {
+        return this.indexes;
+    }
+
+    public boolean isEmpty() {
+        return this.size == 0;
+    }
+
+    float[] recalls() {
+        return this.recalls;
+    }
+
+    public int size() {
+        return this.size;
+    }
+
+    float[] wordTerms() {
+        return this.wordTerms;
+    }
+}
@@ -0,0 +1,23 @@
+package com.spacedlearning.service.impl.job;
+
+/**
+ * Background task that must run on one node at a time. Implementations are
+ * started through {@link JobRunner}, either by their own schedule or from the
+ * admin API, and are listed there by name.
+ */
+public interface BackgroundJob {
+
+    /**
+     * Stable job name, used as lock key, state row and metrics tag.
+     */
+    String name();
+
+    /**
+     * Run the job. Long jobs work in chunks and call
+     * {@link JobContext#checkpoint} after each one.
+     *
+     * @param context Progress and resume position of this run
+     * @return Number of items processed
+     */
+    long execute(JobContext context);
+}
@@ -0,0 +1,87 @@
+package com.spacedlearning.service.impl.job;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import com.spacedlearning.repository.JobStateRepository;
+
+/**
+ * Handle a job uses to report progress. Every checkpoint is persisted with a
+ * heartbeat and first makes sure the node still holds the job's lock: if the
+ * lock connection dropped, another node may already have taken the job over,
+ * so the run is aborted rather than allowed to continue in parallel.
+ */
+public final class JobContext {
+
+    private static final int LOCK_CHECK_TIMEOUT_SECONDS = 5;
+
+    private final String jobName;
+    private final String resumeFrom;
+    private final Connection lockConnection;
+    private final JobStateRepository stateRepository;
+    private final Clock clock;
+    private String position;
+    private long processed;
+
+    JobContext(String jobName, String resumeFrom, Connection lockConnection, JobStateRepository stateRepository,
+            Clock clock) {
+        this.jobName = jobName;
+        this.resumeFrom = resumeFrom;
+        this.lockConnection = lockConnection;
+        this.stateRepository = stateRepository;
+        this.clock = clock;
+        this.position = resumeFrom;
+    }
+
+    /**
+     * Record a finished chunk without a resume position.
+     *
+     * @param items Items processed by the chunk
+     */
+    public void checkpoint(long items) {
+        checkpoint(this.position, items);
+    }
+
+    /**
+     * Record a finished chunk.
+     *
+     * @param position Position to resume from if the run does not complete
+     * @param items    Items processed by the chunk
+     */
+    public void checkpoint(String position, long items) {
+        ensureLockHeld();
+        this.position = position;
+        this.processed += items;
+        this.stateRepository.updateCheckpoint(this.jobName, position, this.processed,
+                LocalDateTime.now(this.clock));
+    }
+
+    private void ensureLockHeld() {
+        try {
+            if (this.lockConnection.isValid(LOCK_CHECK_TIMEOUT_SECONDS)) {
+                return;
+            }
+        } catch (final SQLException e) {
+            // falls through to the abort below
+        }
+        throw new IllegalStateException("Lost the lock of job " + this.jobName);
+    }
+
+    String position() {
+        return this.position;
+    }
+
+    public long processed() {
+        return this.processed;
+    }
+
+    /**
+     * Position left by a previous run that did not complete.
+     */
+    public Optional<String> resumeFrom() {
+        return Optional.ofNullable(this.resumeFrom);
+    }
+}
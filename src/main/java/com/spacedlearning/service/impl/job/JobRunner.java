@@ -0,0 +1,197 @@
+package com.spacedlearning.service.impl.job;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.stereotype.Component;
+
+import com.spacedlearning.entity.JobState;
+import com.spacedlearning.entity.enums.JobStatus;
+import com.spacedlearning.repository.JobStateRepository;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Runs background jobs so that exactly one node executes a given job at a
+ * time. Before running, the node opens a dedicated connection and takes a
+ * session-level {@code pg_try_advisory_lock} on the job name; a node that
+ * does not get the lock skips the run. The lock lives as long as the
+ * connection, so it is released when the job ends and also when the node
+ * dies mid-run. The connection is opened outside the pool so that a long
+ * job neither holds a pooled connection nor trips leak detection.
+ * <p>
+ * Each run is recorded in {@code background_jobs}; a run that fails keeps its
+ * last checkpoint so the next one resumes from there. Metrics:
+ * {@code jobs.duration} per job and outcome, {@code jobs.processed} and
+ * {@code jobs.skipped} per job.
+ */
+@Component
+@Slf4j
+public class JobRunner {
+
+    // Key space of the two-key advisory lock reserved for jobs ("JOB")
+    private static final int LOCK_NAMESPACE = 0x4A4F42;
+    private static final int MAX_ERROR_LENGTH = 1000;
+
+    private final Clock clock;
+    private final DataSourceProperties dataSourceProperties;
+    private final JobStateRepository stateRepository;
+    private final MeterRegistry meterRegistry;
+    private final String nodeId;
+
+    @Value("${app.jobs.enabled:true}")
+    private boolean enabled;
+
+    public JobRunner(Clock clock, DataSourceProperties dataSourceProperties, JobStateRepository stateRepository,
+            MeterRegistry meterRegistry) {
+        this.clock = clock;
+        this.dataSourceProperties = dataSourceProperties;
+        this.stateRepository = stateRepository;
+        this.meterRegistry = meterRegistry;
+        this.nodeId = hostName() + "/" + UUID.randomUUID().toString().substring(0, 8);
+    }
+
+    private static String hostName() {
+        try {
+            return InetAddress.getLocalHost().getHostName();
+        } catch (final UnknownHostException e) {
+            return "unknown";
+        }
+    }
+
+    private Timer durationTimer(String job, String outcome) {
+        return Timer.builder("jobs.duration")
+                .description("Duration of background job runs")
+                .tag("job", job)
+                .tag("outcome", outcome)
+                .register(this.meterRegistry);
+    }
+
+    private void execute(BackgroundJob job, Connection lockConnection) {
+        final var name = job.name();
+        final var now = LocalDateTime.now(this.clock);
+        final var state = this.stateRepository.findById(name)
+                .orElseGet(() -> JobState.builder().name(name).build());
+        final var resumeFrom = state.getStatus() == JobStatus.COMPLETED ? null : state.getCheckpoint();
+
+        state.setStatus(JobStatus.RUNNING);
+        state.setOwner(this.nodeId);
+        state.setCheckpoint(resumeFrom);
+        state.setProcessed(0);
+        state.setStartedAt(now);
+        state.setFinishedAt(null);
+        state.setHeartbeatAt(now);
+        state.setLastError(null);
+        this.stateRepository.save(state);
+
+        final var context = new JobContext(name, resumeFrom, lockConnection, this.stateRepository, this.clock);
+        final var sample = Timer.start(this.meterRegistry);
+        var outcome = "completed";
+        try {
+            if (resumeFrom != null) {
+                log.info("Job {} resuming from checkpoint {}", name, resumeFrom);
+            }
+            final var processed = Math.max(job.execute(context), context.processed());
+            this.stateRepository.finish(name, JobStatus.COMPLETED, null, processed, null,
+                    LocalDateTime.now(this.clock));
+            processedCounter(name).increment(processed);
+            log.info("Job {} completed, {} items processed", name, processed);
+        } catch (final RuntimeException e) {
+            outcome = "failed";
+            log.error("Job {} failed after {} items", name, context.processed(), e);
+            this.stateRepository.finish(name, JobStatus.FAILED, context.position(), context.processed(),
+                    StringUtils.abbreviate(String.valueOf(e.getMessage()), MAX_ERROR_LENGTH),
+                    LocalDateTime.now(this.clock));
+            processedCounter(name).increment(context.processed());
+        } finally {
+            sample.stop(durationTimer(name, outcome));
+        }
+    }
+
+    /**
+     * Identifier this node writes as owner of the jobs it runs.
+     */
+    public String nodeId() {
+        return this.nodeId;
+    }
+
+    private Connection openLockConnection() throws SQLException {
+        return DriverManager.getConnection(this.dataSourceProperties.determineUrl(),
+                this.dataSourceProperties.determineUsername(), this.dataSourceProperties.determinePassword());
+    }
+
+    private Counter processedCounter(String job) {
+        return Counter.builder("jobs.processed")
+                .description("Items processed by background jobs")
+                .tag("job", job)
+                .register(this.meterRegistry);
+    }
+
+    /**
+     * Run a job if no other node is running it.
+     *
+     * @param job Job to run
+     * @return false if the job was skipped because another node holds its lock
+     *         or jobs are disabled
+     */
+    public boolean run(BackgroundJob job) {
+        if (!this.enabled) {
+            log.debug("Background jobs are disabled, skipping {}", job.name());
+            return false;
+        }
+
+        try (var connection = openLockConnection()) {
+            if (!tryLock(connection, job.name())) {
+                log.debug("Job {} is running on another node, skipping", job.name());
+                Counter.builder("jobs.skipped")
+                        .description("Job runs skipped because another node held the lock")
+                        .tag("job", job.name())
+                        .register(this.meterRegistry)
+                        .increment();
+                return false;
+            }
+            try {
+                execute(job, connection);
+            } finally {
+                unlock(connection, job.name());
+            }
+            return true;
+        } catch (final SQLException e) {
+            log.warn("Could not take the lock of job {}: {}", job.name(), e.getMessage());
+            return false;
+        }
+    }
+
+    private boolean tryLock(Connection connection, String name) throws SQLException {
+        try (var statement = connection.prepareStatement("SELECT pg_try_advisory_lock(?, hashtext(?))")) {
+            statement.setInt(1, LOCK_NAMESPACE);
+            statement.setString(2, name);
+            try (var resultSet = statement.executeQuery()) {
+                return resultSet.next() && resultSet.getBoolean(1);
+            }
+        }
+    }
+
+    private void unlock(Connection connection, String name) {
+        try (var statement = connection.prepareStatement("SELECT pg_advisory_unlock(?, hashtext(?))")) {
+            statement.setInt(1, LOCK_NAMESPACE);
+            statement.setString(2, name);
+            statement.execute();
+        } catch (final SQLException e) {
+            // Closing the connection releases the lock anyway
+            log.debug("Could not release the lock of job {}: {}", name, e.getMessage());
+        }
+    }
+}
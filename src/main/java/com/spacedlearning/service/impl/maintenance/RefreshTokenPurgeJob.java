@@ -0,0 +1,37 @@
+package com.spacedlearning.service.impl.maintenance;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.spacedlearning.service.RefreshTokenService;
+import com.spacedlearning.service.impl.job.BackgroundJob;
+import com.spacedlearning.service.impl.job.JobContext;
+import com.spacedlearning.service.impl.job.JobRunner;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Deletes expired refresh tokens on one node per schedule.
+ */
+@Component
+@RequiredArgsConstructor
+public class RefreshTokenPurgeJob implements BackgroundJob {
+
+    private final JobRunner jobRunner;
+    private final RefreshTokenService refreshTokenService;
+
+    @Override
+    public long execute(JobContext context) {
+        return this.refreshTokenService.purgeExpired();
+    }
+
+    @Override
+    public String name() {
+        return "refresh-token-purge";
+    }
+
+    @Scheduled(cron = "${app.security.refresh-token.purge-cron:0 15 4 * * *}")
+    public void purgeExpired() {
+        this.jobRunner.run(this);
+    }
+}
@@ -0,0 +1,207 @@
+package com.spacedlearning.service.impl.maintenance;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.spacedlearning.config.cache.CacheConfig;
+import com.spacedlearning.event.CacheInvalidationEvent;
+import com.spacedlearning.repository.ModuleProgressRepository;
+import com.spacedlearning.repository.custom.SoftDeleteCascadeRepository;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Drives cascading soft deletes and restores for books and modules.
+ * <p>
+ * Small books are cascaded inside the caller's transaction. For books with
+ * more progress records than {@code app.soft-delete.cascade.async-threshold}
+ * only the book row is marked synchronously; once that commits the subtree is
+ * marked in batches on a background thread. A periodic sweep finishes any
+ * cascade that was interrupted.
+ */
+@Component
+@Slf4j
+public class SoftDeleteCascader {
+
+    private static final int SWEEP_BOOKS = 100;
+
+    private final Clock clock;
+    private final ApplicationEventPublisher eventPublisher;
+    private final SoftDeleteCascadeRepository cascadeRepository;
+    private final ModuleProgressRepository progressRepository;
+    private final Set<UUID> inFlight = ConcurrentHashMap.newKeySet();
+    private final ThreadPoolExecutor executor;
+
+    @Value("${app.soft-delete.cascade.async-threshold:5000}")
+    private long asyncThreshold;
+
+    @Value("${app.soft-delete.cascade.batch-size:20}")
+    private int batchSize;
+
+    public SoftDeleteCascader(Clock clock, ApplicationEventPublisher eventPublisher,
+            SoftDeleteCascadeRepository cascadeRepository, ModuleProgressRepository progressRepository,
+            @Value("${app.soft-delete.cascade.queue-capacity:64}") int queueCapacity) {
+        this.clock = clock;
+        this.eventPublisher = eventPublisher;
+        this.cascadeRepository = cascadeRepository;
+        this.progressRepository = progressRepository;
+        this.executor = new ThreadPoolExecutor(1, 1, 60L, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), new CustomizableThreadFactory("soft-delete-cascade-"),
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    /**
+     * Mark the book's modules batch by batch. Each batch only matches while
+     * the book still carries {@code deletedAt}, so a restore on another node
+     * ends the cascade. Other nodes are told to drop the book's module list
+     * once the batches that did run have committed.
+     */
+    private void cascadeInBatches(UUID bookId, LocalDateTime deletedAt) {
+        var total = 0;
+        try {
+            int marked;
+            do {
+                marked = this.cascadeRepository.softDeleteBookModules(bookId, deletedAt, this.batchSize);
+                total += marked;
+            } while (marked > 0);
+            log.info("Cascaded soft delete of book {} to {} modules", bookId, total);
+        } catch (final RuntimeException e) {
+            log.error("Cascading soft delete of book {} failed, the sweep will retry", bookId, e);
+        } finally {
+            this.inFlight.remove(bookId);
+            if (total > 0) {
+                this.eventPublisher.publishEvent(new CacheInvalidationEvent(CacheConfig.BOOK_MODULES, bookId));
+            }
+        }
+    }
+
+    /**
+     * Soft-delete a book and its subtree.
+     *
+     * @param bookId Book ID
+     * @return false if the book does not exist or is already deleted
+     */
+    public boolean deleteBook(UUID bookId) {
+        final var deletedAt = newStamp();
+        if (this.cascadeRepository.softDeleteBook(bookId, deletedAt) == 0) {
+            return false;
+        }
+
+        final var progressCount = this.progressRepository.countByBookId(bookId);
+        if (progressCount <= this.asyncThreshold) {
+            final var modules = this.cascadeRepository.softDeleteBookModules(bookId, deletedAt, Integer.MAX_VALUE);
+            log.debug("Cascaded soft delete of book {} to {} modules", bookId, modules);
+            return true;
+        }
+
+        log.info("Book {} has {} progress records, cascading its soft delete in the background", bookId,
+                progressCount);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    submit(bookId, deletedAt);
+                }
+            });
+        } else {
+            submit(bookId, deletedAt);
+        }
+        return true;
+    }
+
+    /**
+     * Soft-delete a module and its subtree.
+     *
+     * @param moduleId Module ID
+     * @return false if the module does not exist or is already deleted
+     */
+    public boolean deleteModule(UUID moduleId) {
+        return this.cascadeRepository.softDeleteModule(moduleId, newStamp()) > 0;
+    }
+
+    /**
+     * Whether a background cascade for the book is still running.
+     */
+    public boolean isCascading(UUID bookId) {
+        return this.inFlight.contains(bookId);
+    }
+
+    /**
+     * Deletion stamp shared by every row of one cascade, truncated to the
+     * column precision so that restores can match it exactly.
+     */
+    private LocalDateTime newStamp() {
+        return LocalDateTime.now(this.clock).truncatedTo(ChronoUnit.MICROS);
+    }
+
+    /**
+     * Restore a book and the part of its subtree removed by the same cascade.
+     *
+     * @param bookId    Book ID
+     * @param deletedAt Stamp the book was deleted with
+     * @return Number of modules restored
+     */
+    public int restoreBook(UUID bookId, LocalDateTime deletedAt) {
+        this.cascadeRepository.restoreBook(bookId, deletedAt);
+        final var modules = this.cascadeRepository.restoreBookModules(bookId, deletedAt, Integer.MAX_VALUE);
+        log.debug("Restored book {} with {} modules", bookId, modules);
+        return modules;
+    }
+
+    /**
+     * Restore a module and the part of its subtree removed by the same cascade.
+     *
+     * @param moduleId  Module ID
+     * @param deletedAt Stamp the module was deleted with
+     * @return false if the module's book is deleted
+     */
+    public boolean restoreModule(UUID moduleId, LocalDateTime deletedAt) {
+        return this.cascadeRepository.restoreModule(moduleId, deletedAt) > 0;
+    }
+
+    /**
+     * Finish cascades that were interrupted, and cascade books deleted before
+     * the cascade existed.
+     */
+    @Scheduled(fixedDelayString = "${app.soft-delete.cascade.sweep-ms:600000}",
+            initialDelayString = "${app.soft-delete.cascade.sweep-ms:600000}")
+    public void resumePending() {
+        for (final UUID bookId : this.cascadeRepository.findBooksPendingCascade(SWEEP_BOOKS)) {
+            this.cascadeRepository.findBookDeletedAt(bookId).ifPresent(deletedAt -> submit(bookId, deletedAt));
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        this.executor.shutdownNow();
+    }
+
+    private void submit(UUID bookId, LocalDateTime deletedAt) {
+        if (!this.inFlight.add(bookId)) {
+            return;
+        }
+        try {
+            this.executor.execute(() -> cascadeInBatches(bookId, deletedAt));
+        } catch (final RejectedExecutionException e) {
+            this.inFlight.remove(bookId);
+            log.warn("Cascade queue full, soft delete of book {} will be finished by the sweep", bookId);
+        }
+    }
+}
@@ -0,0 +1,92 @@
+package com.spacedlearning.service.impl.maintenance;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+
+import org.apache.commons.lang3.EnumUtils;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.spacedlearning.repository.custom.SoftDeletePurgeRepository;
+import com.spacedlearning.repository.custom.SoftDeletePurgeRepository.Level;
+import com.spacedlearning.service.impl.job.BackgroundJob;
+import com.spacedlearning.service.impl.job.JobContext;
+import com.spacedlearning.service.impl.job.JobRunner;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Hard-deletes rows that stayed soft-deleted longer than the retention period.
+ * Every batch commits on its own and only selects rows that are still
+ * eligible, so an interrupted run simply continues on the next schedule,
+ * starting at the level it had reached. Runs through {@link JobRunner}, so
+ * only one node purges at a time.
+ */
+@Component
+@ConditionalOnProperty(name = "app.soft-delete.purge.enabled", havingValue = "true", matchIfMissing = true)
+@RequiredArgsConstructor
+@Slf4j
+public class SoftDeletePurger implements BackgroundJob {
+
+    private final Clock clock;
+    private final JobRunner jobRunner;
+    private final SoftDeletePurgeRepository purgeRepository;
+
+    @Value("${app.soft-delete.purge.retention-days:30}")
+    private int retentionDays;
+
+    @Value("${app.soft-delete.purge.batch-size:500}")
+    private int batchSize;
+
+    @Value("${app.soft-delete.purge.max-batches:200}")
+    private int maxBatches;
+
+    /**
+     * Purge expired soft-deleted rows level by level.
+     *
+     * @return Total number of soft-deleted rows removed
+     */
+    @Override
+    public long execute(JobContext context) {
+        final var cutoff = LocalDateTime.now(this.clock).minusDays(this.retentionDays);
+        final var firstLevel = context.resumeFrom()
+                .map(position -> EnumUtils.getEnum(Level.class, position, Level.USERS))
+                .orElse(Level.USERS);
+        var total = 0;
+        for (final Level level : Level.values()) {
+            if (level.compareTo(firstLevel) >= 0) {
+                total += purgeLevel(context, level, cutoff);
+            }
+        }
+
+        log.info("Purged {} rows soft-deleted before {}", total, cutoff);
+        return total;
+    }
+
+    @Override
+    public String name() {
+        return "soft-delete-purge";
+    }
+
+    @Scheduled(cron = "${app.soft-delete.purge.cron:0 0 4 * * *}")
+    public void purgeExpired() {
+        this.jobRunner.run(this);
+    }
+
+    private int purgeLevel(JobContext context, Level level, LocalDateTime cutoff) {
+        var purged = 0;
+        for (var batch = 0; batch < this.maxBatches; batch++) {
+            final var removed = this.purgeRepository.purgeBatch(level, cutoff, this.batchSize);
+            if (removed == 0) {
+                break;
+            }
+            purged += removed;
+            context.checkpoint(level.name(), removed);
+            log.debug("Purged {} batch #{}: {} rows", level, batch + 1, removed);
+        }
+        return purged;
+    }
+}
@@ -0,0 +1,41 @@
+package com.spacedlearning.service.impl.outbox;
+
+import java.util.Set;
+import java.util.UUID;
+
+import org.springframework.stereotype.Component;
+
+import com.spacedlearning.event.ProgressChangeEvent;
+import com.spacedlearning.repository.custom.OutboxRepository.ClaimedEvent;
+import com.spacedlearning.service.DashboardStreamService;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Refreshes a learner's dashboard streams when their progress records are
+ * created, changed or removed. Events are keyed by learner, so a burst of
+ * changes costs one recomputation; marking a user dirty twice is harmless,
+ * which keeps redelivery idempotent.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class DashboardStreamOutboxSubscriber implements OutboxSubscriber {
+
+    private final DashboardStreamService dashboardStreamService;
+
+    @Override
+    public Set<String> eventTypes() {
+        return Set.of(ProgressChangeEvent.OUTBOX_TYPE);
+    }
+
+    @Override
+    public void handle(ClaimedEvent event) {
+        if (event.key() == null) {
+            log.debug("Ignoring unkeyed outbox event {} ({})", event.id(), event.type());
+            return;
+        }
+        this.dashboardStreamService.refresh(UUID.fromString(event.key()));
+    }
+}
@@ -0,0 +1,66 @@
+package com.spacedlearning.service.impl.outbox;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.spacedlearning.repository.custom.OutboxRepository;
+import com.spacedlearning.service.impl.job.BackgroundJob;
+import com.spacedlearning.service.impl.job.JobContext;
+import com.spacedlearning.service.impl.job.JobRunner;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Deletes delivered outbox events after the retention period, in batches that
+ * each commit on their own. Dead-lettered events are left in place.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class OutboxCleanupJob implements BackgroundJob {
+
+    private final Clock clock;
+    private final JobRunner jobRunner;
+    private final OutboxRepository outboxRepository;
+
+    @Value("${app.outbox.cleanup.retention-hours:24}")
+    private int retentionHours;
+
+    @Value("${app.outbox.cleanup.batch-size:5000}")
+    private int batchSize;
+
+    @Value("${app.outbox.cleanup.max-batches:200}")
+    private int maxBatches;
+
+    @Scheduled(cron = "${app.outbox.cleanup.cron:0 */15 * * * *}")
+    public void cleanup() {
+        this.jobRunner.run(this);
+    }
+
+    @Override
+    public long execute(JobContext context) {
+        final var cutoff = LocalDateTime.now(this.clock).minusHours(this.retentionHours);
+        var total = 0L;
+        for (var batch = 0; batch < this.maxBatches; batch++) {
+            final var deleted = this.outboxRepository.deleteDeliveredBefore(cutoff, this.batchSize);
+            if (deleted == 0) {
+                break;
+            }
+            total += deleted;
+            context.checkpoint(deleted);
+        }
+
+        log.debug("Deleted {} outbox events delivered before {}", total, cutoff);
+        return total;
+    }
+
+    @Override
+    public String name() {
+        return "outbox-cleanup";
+    }
+}
@@ -0,0 +1,154 @@
+package com.spacedlearning.service.impl.outbox;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.spacedlearning.repository.custom.OutboxRepository;
+import com.spacedlearning.repository.custom.OutboxRepository.ClaimedEvent;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Delivers outbox events to the in-process {@link OutboxSubscriber}s. Every
+ * node polls; batches are claimed with SKIP LOCKED and leased, so nodes work
+ * on disjoint batches and each event is handled by one node. Within a batch,
+ * events of the same type and key are coalesced into the latest one.
+ * Acknowledgements are written for the whole batch in one statement; a batch
+ * that is never acknowledged becomes claimable again when its lease expires.
+ */
+@Component
+@ConditionalOnProperty(name = "app.outbox.dispatch.enabled", havingValue = "true", matchIfMissing = true)
+@Slf4j
+public class OutboxDispatcher {
+
+    private static final int MAX_ERROR_LENGTH = 1000;
+
+    private final Clock clock;
+    private final OutboxRepository outboxRepository;
+    private final MeterRegistry meterRegistry;
+    private final Map<String, List<OutboxSubscriber>> subscribers = new HashMap<>();
+
+    @Value("${app.outbox.dispatch.batch-size:200}")
+    private int batchSize;
+
+    @Value("${app.outbox.dispatch.max-batches:20}")
+    private int maxBatches;
+
+    @Value("${app.outbox.dispatch.lease-ms:60000}")
+    private long leaseMs;
+
+    @Value("${app.outbox.dispatch.max-attempts:10}")
+    private int maxAttempts;
+
+    @Value("${app.outbox.dispatch.retry-base-ms:1000}")
+    private long retryBaseMs;
+
+    @Value("${app.outbox.dispatch.retry-max-ms:600000}")
+    private long retryMaxMs;
+
+    public OutboxDispatcher(Clock clock, OutboxRepository outboxRepository, MeterRegistry meterRegistry,
+            ObjectProvider<OutboxSubscriber> subscribers) {
+        this.clock = clock;
+        this.outboxRepository = outboxRepository;
+        this.meterRegistry = meterRegistry;
+        subscribers.orderedStream().forEach(subscriber -> subscriber.eventTypes().forEach(type -> this.subscribers
+                .computeIfAbsent(type, t -> new ArrayList<>()).add(subscriber)));
+    }
+
+    private Duration backoff(int attempts) {
+        final var shift = Math.min(Math.max(attempts - 1, 0), 30);
+        return Duration.ofMillis(Math.min(this.retryBaseMs << shift, this.retryMaxMs));
+    }
+
+    private void count(String outcome, long amount) {
+        if (amount > 0) {
+            Counter.builder("outbox.events")
+                    .description("Outbox events handled by the dispatcher")
+                    .tag("outcome", outcome)
+                    .register(this.meterRegistry)
+                    .increment(amount);
+        }
+    }
+
+    /**
+     * Drain claimable events, batch by batch.
+     */
+    @Scheduled(fixedDelayString = "${app.outbox.dispatch.poll-ms:1000}")
+    public void dispatch() {
+        for (var batch = 0; batch < this.maxBatches; batch++) {
+            final var now = LocalDateTime.now(this.clock);
+            final var claimed = this.outboxRepository.claim(this.batchSize, now, now.plus(Duration.ofMillis(
+                    this.leaseMs)));
+            if (claimed.isEmpty()) {
+                return;
+            }
+            deliver(claimed);
+            if (claimed.size() < this.batchSize) {
+                return;
+            }
+        }
+    }
+
+    private void deliver(List<ClaimedEvent> claimed) {
+        final List<Long> acknowledged = new ArrayList<>(claimed.size());
+        final Map<Object, ClaimedEvent> latest = new LinkedHashMap<>();
+        for (final ClaimedEvent event : claimed) {
+            final Object coalescingKey = event.key() != null ? event.type() + '\u0000' + event.key() : event.id();
+            final var superseded = latest.remove(coalescingKey);
+            if (superseded != null) {
+                acknowledged.add(superseded.id());
+            }
+            latest.put(coalescingKey, event);
+        }
+        final var coalesced = acknowledged.size();
+
+        var failed = 0;
+        for (final ClaimedEvent event : latest.values()) {
+            try {
+                for (final OutboxSubscriber subscriber : this.subscribers.getOrDefault(event.type(), List.of())) {
+                    subscriber.handle(event);
+                }
+                acknowledged.add(event.id());
+            } catch (final RuntimeException e) {
+                failed++;
+                fail(event, e);
+            }
+        }
+
+        this.outboxRepository.markDelivered(acknowledged, LocalDateTime.now(this.clock));
+        count("delivered", (long) acknowledged.size() - coalesced);
+        count("coalesced", coalesced);
+        log.debug("Outbox batch: {} claimed, {} coalesced, {} failed", claimed.size(), coalesced, failed);
+    }
+
+    private void fail(ClaimedEvent event, RuntimeException e) {
+        final var error = StringUtils.abbreviate(String.valueOf(e.getMessage()), MAX_ERROR_LENGTH);
+        final var now = LocalDateTime.now(this.clock);
+        if (event.attempts() >= this.maxAttempts) {
+            log.error("Giving up on outbox event {} ({}) after {} attempts", event.id(), event.type(),
+                    event.attempts(), e);
+            this.outboxRepository.markFailed(event.id(), now, error);
+            count("abandoned", 1);
+        } else {
+            log.warn("Outbox event {} ({}) failed on attempt {}, retrying: {}", event.id(), event.type(),
+                    event.attempts(), error);
+            this.outboxRepository.retryLater(event.id(), now.plus(backoff(event.attempts())), error);
+            count("retried", 1);
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package com.spacedlearning.service.impl.outbox;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.spacedlearning.repository.custom.OutboxRepository;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Writes domain events to the outbox in the caller's transaction, so an event
+ * exists exactly when the state change it describes has committed.
+ */
+@Component
+@RequiredArgsConstructor
+public class OutboxPublisher {
+
+    private final Clock clock;
+    private final ObjectMapper objectMapper;
+    private final OutboxRepository outboxRepository;
+
+    /**
+     * Append an event. Must be called inside a transaction.
+     *
+     * @param type    Event type
+     * @param key     Coalescing key, or null to never coalesce
+     * @param payload Payload, serialized as JSON
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void publish(String type, Object key, Object payload) {
+        final String json;
+        try {
+            json = this.objectMapper.writeValueAsString(payload);
+        } catch (final JsonProcessingException e) {
+            throw new IllegalArgumentException("Cannot serialize outbox payload of type " + type, e);
+        }
+        this.outboxRepository.append(type, key != null ? key.toString() : null, json,
+                LocalDateTime.now(this.clock));
+    }
+}
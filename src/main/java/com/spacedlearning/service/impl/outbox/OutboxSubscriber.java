@@ -0,0 +1,26 @@
+package com.spacedlearning.service.impl.outbox;
+
+import java.util.Set;
+
+import com.spacedlearning.repository.custom.OutboxRepository.ClaimedEvent;
+
+/**
+ * In-process consumer of outbox events. Delivery is at least once: an event
+ * is handed over again if the node crashes before acknowledging it or if any
+ * subscriber of its type fails, so handlers must be idempotent. Events with
+ * the same type and key that are pending together are coalesced into the
+ * latest one, so payloads should describe what changed rather than carry a
+ * delta that must not be skipped.
+ */
+public interface OutboxSubscriber {
+
+    /**
+     * Event types this subscriber receives.
+     */
+    Set<String> eventTypes();
+
+    /**
+     * Handle one event; throwing schedules a retry with backoff.
+     */
+    void handle(ClaimedEvent event);
+}
@@ -0,0 +1,210 @@
+package com.spacedlearning.service.impl.repetition;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import org.springframework.stereotype.Component;
+
+import com.spacedlearning.repository.custom.ScheduleShiftRepository.PendingRepetition;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Spreads a learner's overdue repetitions over the coming days under a daily
+ * word budget. Overdue repetitions are placed most urgent first: earlier
+ * cycle, then longest overdue, then fewest words. Each goes to the first day
+ * with budget left that keeps the minimum gap after the previous repetition
+ * of its progress; later pending repetitions of the same progress are pushed
+ * back only as far as their own gap requires.
+ * <p>
+ * Works on primitive arrays indexed by row and packed sort keys, so a backlog
+ * of a few thousand rows plans in well under a millisecond.
+ */
+@Component
+@RequiredArgsConstructor
+public class CatchUpPlanner {
+
+    private static final int UNPLACED = Integer.MIN_VALUE;
+    private static final int INDEX_BITS = 24;
+    private static final long INDEX_MASK = (1L << INDEX_BITS) - 1;
+    private static final int FIELD_MAX = 0xFFFF;
+
+    private final RepetitionDateCalculator calculator;
+
+    private static int clamp(int value) {
+        return Math.max(0, Math.min(value, FIELD_MAX));
+    }
+
+    /**
+     * Plan new review dates.
+     *
+     * @param rows        Every pending repetition of the progress records with
+     *                    a repetition due on or before {@code today}
+     * @param dailyWords  Words already scheduled per day from {@code today} by
+     *                    other progress records; its length is the window
+     * @param today       First day of the window
+     * @param wordBudget  Words per day the plan aims to stay under
+     * @param parameters  The learner's schedule parameters, which set the
+     *                    minimum gaps
+     * @return The repetitions whose review date changes
+     */
+    public Plan plan(List<PendingRepetition> rows, int[] dailyWords, LocalDate today, int wordBudget,
+            ScheduleParameters parameters) {
+        final var n = rows.size();
+        if (n == 0) {
+            return new Plan(0, new UUID[0], new UUID[0], new LocalDate[0]);
+        }
+        if (n > INDEX_MASK) {
+            throw new IllegalArgumentException("Backlog too large to plan: " + n);
+        }
+
+        final var window = dailyWords.length;
+        final var load = Arrays.copyOf(dailyWords, window);
+        final var progress = new int[n];
+        final var order = new int[n];
+        final var day = new int[n];
+        final var words = new int[n];
+        final var placed = new int[n];
+        final Map<UUID, Integer> progressIndex = new HashMap<>();
+        final var todayEpoch = today.toEpochDay();
+
+        // Dense arrays, plus the load of the not-overdue rows inside the window
+        for (var i = 0; i < n; i++) {
+            final var row = rows.get(i);
+            progress[i] = progressIndex.computeIfAbsent(row.progressId(), k -> progressIndex.size());
+            order[i] = row.orderIndex();
+            day[i] = (int) (row.reviewDate().toEpochDay() - todayEpoch);
+            words[i] = Math.max(0, row.wordCount());
+            placed[i] = UNPLACED;
+            if ((day[i] > 0) && (day[i] < window)) {
+                load[day[i]] += words[i];
+            }
+        }
+
+        // Chain each progress's rows by repetition order
+        final var byProgress = new long[n];
+        for (var i = 0; i < n; i++) {
+            byProgress[i] = ((long) progress[i] << 32) | ((long) order[i] << INDEX_BITS) | i;
+        }
+        Arrays.sort(byProgress);
+        final var previous = new int[n];
+        Arrays.fill(previous, -1);
+        for (var k = 1; k < n; k++) {
+            final var current = (int) (byProgress[k] & INDEX_MASK);
+            final var before = (int) (byProgress[k - 1] & INDEX_MASK);
+            if (progress[current] == progress[before]) {
+                previous[current] = before;
+            }
+        }
+
+        // Rank overdue rows by urgency
+        var overdue = 0;
+        final var ranked = new long[n];
+        for (var i = 0; i < n; i++) {
+            if (day[i] <= 0) {
+                final var cycle = rows.get(i).cycleIndex();
+                ranked[overdue++] = ((long) cycle << 56)
+                        | ((long) (FIELD_MAX - clamp(-day[i])) << 40)
+                        | ((long) clamp(words[i]) << INDEX_BITS)
+                        | i;
+            }
+        }
+        final var urgency = Arrays.copyOf(ranked, overdue);
+        Arrays.sort(urgency);
+
+        for (final long key : urgency) {
+            placeOverdue((int) (key & INDEX_MASK), previous, order, day, words, placed, load, wordBudget,
+                    parameters);
+        }
+
+        // Push later rows of the same progress back where a gap would break
+        var changed = 0;
+        for (final long key : byProgress) {
+            final var i = (int) (key & INDEX_MASK);
+            if (placed[i] == UNPLACED) {
+                final var prev = previous[i];
+                final var earliest = prev < 0 ? day[i]
+                        : placed[prev] + this.calculator.getMinRequiredGap(parameters, order[prev], order[i]);
+                placed[i] = Math.max(day[i], earliest);
+            }
+            if (placed[i] != day[i]) {
+                changed++;
+            }
+        }
+
+        final var ids = new UUID[changed];
+        final var progressIds = new UUID[changed];
+        final var dates = new LocalDate[changed];
+        var k = 0;
+        for (var i = 0; i < n; i++) {
+            if (placed[i] != day[i]) {
+                final var row = rows.get(i);
+                ids[k] = row.id();
+                progressIds[k] = row.progressId();
+                dates[k] = today.plusDays(placed[i]);
+                k++;
+            }
+        }
+        return new Plan(overdue, ids, progressIds, dates);
+    }
+
+    /**
+     * Place an overdue row, placing its overdue predecessors first so the
+     * order constraint always sees a fixed day.
+     */
+    private void placeOverdue(int i, int[] previous, int[] order, int[] day, int[] words, int[] placed,
+            int[] load, int wordBudget, ScheduleParameters parameters) {
+        if (placed[i] != UNPLACED) {
+            return;
+        }
+        final var prev = previous[i];
+        var earliest = 0;
+        if (prev >= 0) {
+            if (day[prev] <= 0) {
+                placeOverdue(prev, previous, order, day, words, placed, load, wordBudget, parameters);
+            }
+            final var prevDay = placed[prev] != UNPLACED ? placed[prev] : day[prev];
+            earliest = Math.max(0, prevDay + this.calculator.getMinRequiredGap(parameters, order[prev], order[i]));
+        }
+
+        final var window = load.length;
+        var target = -1;
+        var lightest = -1;
+        for (var d = earliest; d < window; d++) {
+            if ((load[d] == 0) || ((load[d] + words[i]) <= wordBudget)) {
+                target = d;
+                break;
+            }
+            if ((lightest < 0) || (load[d] < load[lightest])) {
+                lightest = d;
+            }
+        }
+        if (target < 0) {
+            target = lightest >= 0 ? lightest : earliest;
+        }
+
+        placed[i] = target;
+        if (target < window) {
+            load[target] += words[i];
+        }
+    }
+
+    /**
+     * Result of a plan; the arrays are aligned by index.
+     *
+     * @param overdue     Number of overdue repetitions considered
+     * @param ids         Repetitions to move
+     * @param progressIds Their progress records
+     * @param reviewDates Their new review dates
+     */
+    public record Plan(int overdue, UUID[] ids, UUID[] progressIds, LocalDate[] reviewDates) {
+
+        public int moved() {
+            return this.ids.length;
+        }
+    }
+}
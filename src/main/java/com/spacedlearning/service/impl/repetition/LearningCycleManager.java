@@ -1,18 +1,16 @@
 package com.spacedlearning.service.impl.repetition;
 
+import java.time.Clock;
 import java.time.LocalDate;
 import java.util.Optional;
 
 import org.springframework.context.MessageSource;
 import org.springframework.stereotype.Component;
 
-import com.spacedlearning.entity.ModuleProgress;
 import com.spacedlearning.entity.Repetition;
 import com.spacedlearning.entity.enums.CycleStudied;
 import com.spacedlearning.entity.enums.RepetitionStatus;
 import com.spacedlearning.exception.SpacedLearningException;
-import com.spacedlearning.repository.ModuleProgressRepository;
-import com.spacedlearning.repository.RepetitionRepository;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -22,25 +20,24 @@ import lombok.extern.slf4j.Slf4j;
 @Slf4j
 public class LearningCycleManager {
 
+    private final Clock clock;
     private final RepetitionDateOptimizer optimizer;
-    private final ModuleProgressRepository progressRepository;
     private final RepetitionFactory repetitionFactory;
-    private final RepetitionRepository repetitionRepository;
     private final RepetitionScheduleManager scheduleManager;
     private final MessageSource messageSource;
 
-    public void checkAndAdvanceCycle(ModuleProgress progress) {
+    public void checkAndAdvanceCycle(SchedulingContext context) {
+        final var progress = context.progress();
         final var progressId = progress.getId();
 
-        final var total = this.repetitionRepository.countByModuleProgressId(progressId);
+        final var total = context.count();
         if (total == 0) {
             throw SpacedLearningException.validationError(
                     this.messageSource, "error.progress.noRepetitions",
                     progressId);
         }
 
-        final var completed = this.repetitionRepository.countByModuleProgressIdAndStatus(
-                progressId, RepetitionStatus.COMPLETED);
+        final var completed = context.countByStatus(RepetitionStatus.COMPLETED);
 
         if (completed < total) {
             log.info("Not all repetitions completed yet for progress ID: {} ({} of {})", progressId, completed, total);
@@ -56,7 +53,7 @@ public class LearningCycleManager {
         case MORE_THAN_THREE_REVIEWS -> CycleStudied.MORE_THAN_THREE_REVIEWS;
         };
 
-        final var now = LocalDate.now();
+        final var now = LocalDate.now(this.clock);
 
         if ((current == next) && !CycleStudied.MORE_THAN_THREE_REVIEWS.equals(current)) {
             throw SpacedLearningException.validationError(
@@ -67,46 +64,42 @@ public class LearningCycleManager {
         if (CycleStudied.MORE_THAN_THREE_REVIEWS.equals(current)) {
             final int currentCount = Optional.ofNullable(progress.getExtendedReviewCount()).orElse(0);
             progress.setExtendedReviewCount(currentCount + 1);
-            this.progressRepository.save(progress);
+            context.markProgressChanged();
             log.info("Extended review cycle #{} for progress ID: {}", progress.getExtendedReviewCount(), progressId);
         }
 
         if (current != next) {
-            progress.addCycleStart(next, now);
-            progress.setCyclesStudied(next);
-            this.progressRepository.save(progress);
+            context.startCycle(next, now);
             log.info("Advanced cycle from {} to {} for progress ID: {}, starting on {}", current, next, progressId,
                     now);
         }
 
-        final var existing = this.repetitionRepository.findByModuleProgressIdOrderByRepetitionOrder(progressId);
         var updated = false;
-        for (final Repetition rep : existing) {
+        for (final Repetition rep : context.repetitions()) {
             if (rep.getStatus() != RepetitionStatus.COMPLETED) {
                 rep.setStatus(RepetitionStatus.COMPLETED);
+                context.markChanged(rep);
                 updated = true;
             }
         }
 
         if (updated) {
-            this.repetitionRepository.saveAll(existing);
             log.debug("Marked all unfinished repetitions as COMPLETED for progress ID: {}", progressId);
         }
 
-        createNextCycle(progress);
+        createNextCycle(context);
     }
 
-    private void createNextCycle(ModuleProgress progress) {
-        final var lastCompletedDate = this.repetitionRepository.findLastCompletedRepetitionDate(progress
-                .getId());
-        final var fallback = Optional.ofNullable(progress.getFirstLearningDate()).orElse(LocalDate.now());
+    private void createNextCycle(SchedulingContext context) {
+        final var progress = context.progress();
+        final var lastCompletedDate = context.lastCompletedDate();
+        final var fallback = Optional.ofNullable(progress.getFirstLearningDate()).orElse(LocalDate.now(this.clock));
         final var baseStart = lastCompletedDate.map(d -> d.plusDays(7)).orElse(fallback);
 
-        final var dateCounts = this.scheduleManager.loadReviewDateCounts(baseStart);
+        final var dateCounts = this.scheduleManager.loadReviewDateCounts(progress.getUserId(), baseStart);
         final var optimalStart = this.optimizer.findOptimalDate(baseStart, dateCounts);
 
-        progress.addCycleStart(progress.getCyclesStudied(), optimalStart);
-        this.progressRepository.save(progress);
+        context.startCycle(progress.getCyclesStudied(), optimalStart);
 
         final var newReps = this.repetitionFactory.generateSchedule(progress, optimalStart, dateCounts);
         if (newReps.isEmpty()) {
@@ -114,8 +107,7 @@ public class LearningCycleManager {
             return;
         }
 
-        this.repetitionRepository.saveAll(newReps);
-        this.scheduleManager.updateNextStudyDate(progress);
+        context.add(newReps);
         log.info("Created {} new repetitions for next cycle. Progress ID: {}", newReps.size(), progress.getId());
     }
 }
@@ -5,7 +5,9 @@ import java.time.LocalDate;
 import java.util.EnumMap;
 import java.util.Map;
 import java.util.Optional;
+import java.util.UUID;
 
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
 import com.spacedlearning.entity.Module;
@@ -15,13 +17,14 @@ import com.spacedlearning.entity.enums.RepetitionOrder;
 
 @Component
 public class RepetitionDateCalculator {
+    /**
+     * Lower bound on the combined adjustment factor, so that fitted factors
+     * cannot shrink or invert an interval beyond a tenth of its multiplier.
+     */
+    public static final double MIN_ADJUSTMENT = 0.1;
     private static final double BASE_DAILY_WORDS = 41.7;
-    private static final double COMPLETION_ADJUSTMENT_FACTOR = 0.5;
     private static final EnumMap<RepetitionOrder, Integer> ORDER_INDEX_MAP = new EnumMap<>(RepetitionOrder.class);
-    private static final int[] REVIEW_MULTIPLIERS = { 2, 4, 8, 13, 19, 26 };
-    private static final double STUDY_CYCLE_ADJUSTMENT_FACTOR = 0.2;
 
-    private static final double WORD_FACTOR_ADJUSTMENT = 0.3;
     static {
         final var values = RepetitionOrder.values();
         for (var i = 0; i < values.length; i++) {
@@ -29,28 +32,55 @@ public class RepetitionDateCalculator {
         }
     }
 
+    private final ScheduleParametersResolver parametersResolver;
+
+    /**
+     * Calculator that always uses {@link ScheduleParameters#DEFAULT}, for
+     * simulations that run without a database.
+     */
+    public RepetitionDateCalculator() {
+        this(userId -> ScheduleParameters.DEFAULT);
+    }
+
+    @Autowired
+    public RepetitionDateCalculator(ScheduleParametersResolver parametersResolver) {
+        this.parametersResolver = parametersResolver;
+    }
+
+    /**
+     * Interval scale for a module relative to one day's word load; the word
+     * term of the adjustment factor grows with {@code wordLoad(wordCount) - 1}.
+     */
+    public static double wordLoad(int wordCount) {
+        return Math.max(20, wordCount) / BASE_DAILY_WORDS;
+    }
+
     public LocalDate calculateAdjustedDate(ModuleProgress progress, int index, LocalDate baseDate,
             Map<LocalDate, Long> dateCounts) {
         final int wordCount = Optional.ofNullable(progress.getModule())
                 .map(Module::getWordCount)
                 .orElse(0);
-        final var wordFactor = Math.max(20, wordCount) / BASE_DAILY_WORDS;
-
         final double completedPercent = Optional.ofNullable(progress.getPercentComplete())
                 .map(BigDecimal::doubleValue)
                 .orElse(0.0);
-        final var cycleCount = getCycleStudiedCount(progress.getCyclesStudied());
+        return calculateAdjustedDate(resolve(progress.getUserId()), wordCount, completedPercent,
+                progress.getCyclesStudied(), index, baseDate);
+    }
 
-        final var factor = 1.0
-                + ((cycleCount - 1) * STUDY_CYCLE_ADJUSTMENT_FACTOR)
-                + ((completedPercent / 100.0) * COMPLETION_ADJUSTMENT_FACTOR)
-                + ((wordFactor - 1.0) * WORD_FACTOR_ADJUSTMENT);
+    /**
+     * Same rule as {@link #calculateAdjustedDate(ModuleProgress, int, LocalDate, Map)} on plain
+     * values, for callers that resolve a learner's parameters once and date many schedules.
+     */
+    public LocalDate calculateAdjustedDate(ScheduleParameters parameters, int wordCount, double completedPercent,
+            CycleStudied cyclesStudied, int index, LocalDate baseDate) {
+        final var cycleCount = getCycleStudiedCount(cyclesStudied);
 
-        final var baseMultiplier = index < REVIEW_MULTIPLIERS.length
-                ? REVIEW_MULTIPLIERS[index]
-                : REVIEW_MULTIPLIERS[REVIEW_MULTIPLIERS.length - 1];
+        final var factor = 1.0
+                + ((cycleCount - 1) * parameters.cycleFactor())
+                + ((completedPercent / 100.0) * parameters.completionFactor())
+                + ((wordLoad(wordCount) - 1.0) * parameters.wordFactor());
 
-        final var dayOffset = Math.round(baseMultiplier * factor);
+        final var dayOffset = Math.round(parameters.multiplier(index) * Math.max(MIN_ADJUSTMENT, factor));
         return baseDate.plusDays(dayOffset);
     }
 
@@ -63,11 +93,19 @@ public class RepetitionDateCalculator {
         };
     }
 
-    public int getMinRequiredGap(int fromIndex, int toIndex) {
-        if ((fromIndex >= REVIEW_MULTIPLIERS.length) || (toIndex >= REVIEW_MULTIPLIERS.length)) {
+    /**
+     * Minimum gap between two repetitions of a progress, using its learner's
+     * parameters.
+     */
+    public int getMinRequiredGap(ModuleProgress progress, int fromIndex, int toIndex) {
+        return getMinRequiredGap(resolve(progress.getUserId()), fromIndex, toIndex);
+    }
+
+    public int getMinRequiredGap(ScheduleParameters parameters, int fromIndex, int toIndex) {
+        if ((fromIndex >= parameters.size()) || (toIndex >= parameters.size())) {
             throw new IllegalArgumentException("Invalid repetition index for multiplier array.");
         }
-        return REVIEW_MULTIPLIERS[toIndex] - REVIEW_MULTIPLIERS[fromIndex];
+        return (int) (Math.round(parameters.multiplier(toIndex)) - Math.round(parameters.multiplier(fromIndex)));
     }
 
     public int getOrderIndex(RepetitionOrder order) {
@@ -77,4 +115,8 @@ public class RepetitionDateCalculator {
     public boolean isFinalRepetition(int index) {
         return index >= (RepetitionOrder.values().length - 1);
     }
+
+    private ScheduleParameters resolve(UUID userId) {
+        return userId != null ? this.parametersResolver.resolve(userId) : ScheduleParameters.DEFAULT;
+    }
 }
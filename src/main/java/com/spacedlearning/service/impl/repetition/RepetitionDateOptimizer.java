@@ -1,17 +1,31 @@
 package com.spacedlearning.service.impl.repetition;
 
+import java.time.Clock;
 import java.time.LocalDate;
 import java.util.Map;
 
 import org.springframework.stereotype.Component;
 
+import lombok.RequiredArgsConstructor;
+
 @Component
+@RequiredArgsConstructor
 public class RepetitionDateOptimizer {
     private static final long MAX_COUNT = 3;
     private static final int SEARCH_WINDOW_DAYS = 7;
 
+    private final Clock clock;
+
+    /**
+     * Reviews a day can take; a day is considered free while it has at most
+     * {@code MAX_COUNT} already.
+     */
+    public int dailyCapacity() {
+        return (int) RepetitionDateOptimizer.MAX_COUNT + 1;
+    }
+
     public LocalDate findOptimalDate(LocalDate proposedDate, Map<LocalDate, Long> dateCounts) {
-        final var today = LocalDate.now();
+        final var today = LocalDate.now(this.clock);
         if (proposedDate.isBefore(today)) {
             return today;
         }
@@ -29,4 +43,8 @@ public class RepetitionDateOptimizer {
         }
         return proposedDate.plusDays(1).isBefore(today) ? today : proposedDate.plusDays(1);
     }
+
+    public int searchWindowDays() {
+        return RepetitionDateOptimizer.SEARCH_WINDOW_DAYS;
+    }
 }
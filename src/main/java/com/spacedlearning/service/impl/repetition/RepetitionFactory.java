@@ -34,7 +34,7 @@ public class RepetitionFactory {
         for (var i = 0; i < 5; i++) {
             var rawDate = this.calculator.calculateAdjustedDate(progress, i, baseDate, dateCounts);
             if (prevDate != null) {
-                final var minGap = this.calculator.getMinRequiredGap(prevIndex, i);
+                final var minGap = this.calculator.getMinRequiredGap(progress, prevIndex, i);
                 rawDate = rawDate.isBefore(prevDate.plusDays(minGap)) ? prevDate.plusDays(minGap) : rawDate;
             }
             final var optimal = this.optimizer.findOptimalDate(rawDate, dateCounts);
@@ -0,0 +1,87 @@
+package com.spacedlearning.service.impl.repetition;
+
+import java.time.YearMonth;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.spacedlearning.entity.enums.RepetitionOrder;
+import com.spacedlearning.repository.custom.RepetitionArchiveRepository;
+import com.spacedlearning.service.impl.job.BackgroundJob;
+import com.spacedlearning.service.impl.job.JobContext;
+import com.spacedlearning.service.impl.job.JobRunner;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Moves completed repetitions older than the configured number of cycles into
+ * the history tier. Each batch commits on its own so a long run never holds
+ * locks on the active table for more than one batch. Runs through
+ * {@link JobRunner}, so only one node archives at a time.
+ */
+@Component
+@ConditionalOnProperty(name = "app.repetition.archive.enabled", havingValue = "true", matchIfMissing = true)
+@RequiredArgsConstructor
+@Slf4j
+public class RepetitionHistoryArchiver implements BackgroundJob {
+
+    private final RepetitionArchiveRepository archiveRepository;
+    private final JobRunner jobRunner;
+
+    @Value("${app.repetition.archive.keep-cycles:2}")
+    private int keepCycles;
+
+    @Value("${app.repetition.archive.batch-size:500}")
+    private int batchSize;
+
+    @Value("${app.repetition.archive.max-batches:200}")
+    private int maxBatches;
+
+    @Scheduled(cron = "${app.repetition.archive.cron:0 30 3 * * *}")
+    public void archiveCompletedRepetitions() {
+        this.jobRunner.run(this);
+    }
+
+    /**
+     * Archive completed repetitions in batches.
+     *
+     * @return Total number of repetitions moved
+     */
+    @Override
+    public long execute(JobContext context) {
+        final var range = this.archiveRepository.findCompletedReviewDateRange();
+        if (range.isEmpty()) {
+            log.debug("No completed repetitions to archive");
+            return 0;
+        }
+
+        final var min = YearMonth.from(range.get()[0]);
+        final var max = YearMonth.from(range.get()[1]);
+        for (var month = min; !month.isAfter(max); month = month.plusMonths(1)) {
+            this.archiveRepository.ensurePartition(month);
+        }
+
+        final var keepPerProgress = this.keepCycles * RepetitionOrder.values().length;
+        var total = 0;
+        for (var batch = 0; batch < this.maxBatches; batch++) {
+            final var moved = this.archiveRepository.archiveBatch(keepPerProgress, this.batchSize);
+            if (moved == 0) {
+                break;
+            }
+            total += moved;
+            context.checkpoint(moved);
+            log.debug("Archived batch #{}: {} repetitions", batch + 1, moved);
+        }
+
+        log.info("Archived {} completed repetitions into history", total);
+        return total;
+    }
+
+    @Override
+    public String name() {
+        return "repetition-archive";
+    }
+}
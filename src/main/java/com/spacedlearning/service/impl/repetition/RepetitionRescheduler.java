@@ -1,5 +1,6 @@
 package com.spacedlearning.service.impl.repetition;
 
+import java.time.Clock;
 import java.time.LocalDate;
 import java.util.Comparator;
 import java.util.List;
@@ -7,11 +8,9 @@ import java.util.List;
 import org.springframework.lang.NonNull;
 import org.springframework.stereotype.Component;
 
-import com.spacedlearning.entity.ModuleProgress;
 import com.spacedlearning.entity.Repetition;
 import com.spacedlearning.entity.enums.RepetitionOrder;
 import com.spacedlearning.entity.enums.RepetitionStatus;
-import com.spacedlearning.repository.RepetitionRepository;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -22,34 +21,34 @@ import lombok.extern.slf4j.Slf4j;
 public class RepetitionRescheduler {
 
     private final RepetitionDateCalculator calculator;
+    private final Clock clock;
     private final RepetitionDateOptimizer optimizer;
-    private final RepetitionRepository repetitionRepository;
     private final RepetitionScheduleManager scheduleManager;
 
-    private List<Repetition> getFutureRepetitions(ModuleProgress progress, int currentIndex) {
-        return this.repetitionRepository.findByModuleProgressIdAndStatusOrderByRepetitionOrder(
-                progress.getId(), RepetitionStatus.NOT_STARTED)
+    private List<Repetition> getFutureRepetitions(SchedulingContext context, int currentIndex) {
+        return context.withStatus(RepetitionStatus.NOT_STARTED)
                 .stream()
                 .filter(rep -> this.calculator.getOrderIndex(rep.getRepetitionOrder()) > currentIndex)
                 .sorted(Comparator.comparingInt(rep -> this.calculator.getOrderIndex(rep.getRepetitionOrder())))
                 .toList();
     }
 
-    public void rescheduleFutureRepetitions(@NonNull ModuleProgress progress,
+    public void rescheduleFutureRepetitions(@NonNull SchedulingContext context,
             @NonNull RepetitionOrder currentOrder,
             @NonNull LocalDate newStartDate) {
+        final var progress = context.progress();
         final var currentIndex = this.calculator.getOrderIndex(currentOrder);
         if ((currentIndex < 0) || this.calculator.isFinalRepetition(currentIndex)) {
             log.debug("No future repetitions to reschedule for progress ID: {}", progress.getId());
             return;
         }
 
-        final var futureReps = getFutureRepetitions(progress, currentIndex);
+        final var futureReps = getFutureRepetitions(context, currentIndex);
         if (futureReps.isEmpty()) {
             return;
         }
 
-        final var dateCounts = this.scheduleManager.loadReviewDateCounts(newStartDate);
+        final var dateCounts = this.scheduleManager.loadReviewDateCounts(progress.getUserId(), newStartDate);
         var changed = false;
 
         var prevDate = newStartDate;
@@ -63,12 +62,13 @@ public class RepetitionRescheduler {
 
             final var calculated = this.calculator.calculateAdjustedDate(progress, repIndex, newStartDate,
                     dateCounts);
-            final var minAllowed = prevDate.plusDays(this.calculator.getMinRequiredGap(prevIndex, repIndex));
+            final var minAllowed = prevDate.plusDays(this.calculator.getMinRequiredGap(progress, prevIndex, repIndex));
             final var adjusted = calculated.isBefore(minAllowed) ? minAllowed : calculated;
             final var optimal = this.optimizer.findOptimalDate(adjusted, dateCounts);
 
             if (!optimal.equals(rep.getReviewDate())) {
                 rep.setReviewDate(optimal);
+                context.markChanged(rep);
                 changed = true;
                 log.debug("Rescheduled repetition {} to {} for progress ID: {}",
                         rep.getRepetitionOrder(), optimal, progress.getId());
@@ -79,20 +79,18 @@ public class RepetitionRescheduler {
         }
 
         if (changed) {
-            this.repetitionRepository.saveAll(futureReps);
-            this.scheduleManager.updateNextStudyDate(progress);
-            log.info("Future repetitions rescheduled and saved for progress ID: {}", progress
-                    .getId());
+            log.info("Future repetitions rescheduled for progress ID: {}", progress.getId());
         }
     }
 
-    public void updateFollowingAfterCompletion(@NonNull ModuleProgress progress, @NonNull Repetition completed) {
+    public void updateFollowingAfterCompletion(@NonNull SchedulingContext context, @NonNull Repetition completed) {
+        final var progress = context.progress();
         final var currentIndex = this.calculator.getOrderIndex(completed.getRepetitionOrder());
         if ((currentIndex < 0) || this.calculator.isFinalRepetition(currentIndex)) {
             return;
         }
 
-        final var future = getFutureRepetitions(progress, currentIndex);
+        final var future = getFutureRepetitions(context, currentIndex);
         if (future.isEmpty()) {
             return;
         }
@@ -101,10 +99,10 @@ public class RepetitionRescheduler {
                 .getId());
         var changed = false;
 
-        final var baseDate = completed.getReviewDate().isAfter(LocalDate.now())
+        final var baseDate = completed.getReviewDate().isAfter(LocalDate.now(this.clock))
                 ? completed.getReviewDate()
-                : LocalDate.now();
-        final var dateCounts = this.scheduleManager.loadReviewDateCounts(baseDate);
+                : LocalDate.now(this.clock);
+        final var dateCounts = this.scheduleManager.loadReviewDateCounts(progress.getUserId(), baseDate);
 
         var prevDate = baseDate;
         var prevIndex = currentIndex;
@@ -116,14 +114,15 @@ public class RepetitionRescheduler {
             }
 
             final var calculated = this.calculator.calculateAdjustedDate(progress, index, baseDate, dateCounts);
-            final var minAllowed = prevDate.plusDays(this.calculator.getMinRequiredGap(prevIndex, index));
+            final var minAllowed = prevDate.plusDays(this.calculator.getMinRequiredGap(progress, prevIndex, index));
             final var newDate = calculated.isBefore(minAllowed) ? minAllowed : calculated;
 
             if (!newDate.equals(rep.getReviewDate())) {
-                rep.setReviewDate(newDate);
-                changed = true;
                 log.debug("Updated repetition {} to new review date: {} (previous: {})",
                         rep.getRepetitionOrder(), newDate, rep.getReviewDate());
+                rep.setReviewDate(newDate);
+                context.markChanged(rep);
+                changed = true;
             }
 
             prevDate = newDate;
@@ -131,9 +130,7 @@ public class RepetitionRescheduler {
         }
 
         if (changed) {
-            this.repetitionRepository.saveAll(future);
-            this.scheduleManager.updateNextStudyDate(progress);
-            log.info("Updated and saved future repetitions for progress ID: {}", progress.getId());
+            log.info("Updated future repetitions for progress ID: {}", progress.getId());
         }
     }
 }
@@ -1,9 +1,15 @@
 package com.spacedlearning.service.impl.repetition;
 
+import java.time.Clock;
 import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.UUID;
 import java.util.stream.Collectors;
 
 import org.springframework.lang.NonNull;
@@ -12,7 +18,9 @@ import org.springframework.stereotype.Component;
 import com.spacedlearning.entity.ModuleProgress;
 import com.spacedlearning.entity.Repetition;
 import com.spacedlearning.entity.enums.CycleStudied;
+import com.spacedlearning.entity.enums.RepetitionOrder;
 import com.spacedlearning.entity.enums.RepetitionStatus;
+import com.spacedlearning.repository.LearningCycleRepository;
 import com.spacedlearning.repository.ModuleProgressRepository;
 import com.spacedlearning.repository.RepetitionRepository;
 
@@ -23,6 +31,8 @@ import lombok.extern.slf4j.Slf4j;
 @RequiredArgsConstructor
 @Slf4j
 public class RepetitionScheduleManager {
+    private final Clock clock;
+    private final LearningCycleRepository cycleRepository;
     private final ModuleProgressRepository progressRepository;
     private final RepetitionFactory repetitionFactory;
     private final RepetitionRepository repetitionRepository;
@@ -30,13 +40,92 @@ public class RepetitionScheduleManager {
     public List<Repetition> createRepetitionsForProgress(@NonNull ModuleProgress progress) {
         initializeFirstCycle(progress);
         final var baseDate = getEffectiveStartDate(progress);
-        final var dateCounts = loadReviewDateCounts(baseDate);
+        final var dateCounts = loadReviewDateCounts(progress.getUserId(), baseDate);
         return this.repetitionFactory.generateSchedule(progress, baseDate, dateCounts);
     }
 
+    /**
+     * Schedule the first cycle of a batch of new progress records of one
+     * learner against a single read of their review load. Each record's
+     * repetitions are added to that load before the next record is scheduled,
+     * so the batch is balanced against itself as well. Nothing is written.
+     */
+    @NonNull
+    public List<Repetition> createRepetitionsForEnrollment(UUID userId, @NonNull List<ModuleProgress> progresses,
+            @NonNull LocalDate startDate) {
+        final Map<LocalDate, Long> dateCounts = new HashMap<>(loadReviewDateCounts(userId, startDate));
+        final List<Repetition> result = new ArrayList<>(progresses.size() * RepetitionOrder.values().length);
+
+        for (final ModuleProgress progress : progresses) {
+            final var repetitions = this.repetitionFactory.generateSchedule(progress, startDate, dateCounts);
+            for (final Repetition repetition : repetitions) {
+                progress.addRepetition(repetition);
+                dateCounts.merge(repetition.getReviewDate(), 1L, Long::sum);
+            }
+            progress.setNextStudyDate(repetitions.stream()
+                    .map(Repetition::getReviewDate)
+                    .min(Comparator.naturalOrder())
+                    .orElse(null));
+            result.addAll(repetitions);
+        }
+        return result;
+    }
+
+    /**
+     * Write back everything a scheduling operation changed: the touched
+     * repetitions, the progress with its recomputed next study date, and a
+     * single flush so the updates go out as JDBC batches. Study history is
+     * appended afterwards, as its native update would otherwise force an
+     * early flush of the whole session.
+     */
+    public void flush(@NonNull SchedulingContext context) {
+        final var progress = context.progress();
+        final var nextDate = context.nextStudyDate();
+        if (!Objects.equals(nextDate, progress.getNextStudyDate())) {
+            progress.setNextStudyDate(nextDate);
+            context.markProgressChanged();
+            RepetitionScheduleManager.log.debug("Next study date set to {} for progress ID: {}", nextDate, progress
+                    .getId());
+        }
+
+        final var changed = context.dirtyRepetitions();
+        if (!changed.isEmpty()) {
+            this.repetitionRepository.saveAll(changed);
+        }
+        final var cycles = context.startedCycles();
+        if (!cycles.isEmpty()) {
+            this.cycleRepository.saveAll(cycles);
+        }
+        if (context.isProgressDirty()) {
+            this.progressRepository.save(progress);
+        }
+        this.repetitionRepository.flush();
+
+        if (context.isStudyHistoryStale()) {
+            this.progressRepository.rebuildStudyHistory(progress.getId());
+            return;
+        }
+        for (final int epochDay : context.studiedDays()) {
+            this.progressRepository.appendStudyHistory(progress.getId(), epochDay);
+        }
+    }
+
+    /**
+     * Latest start of the progress's current cycle. Reads the denormalized
+     * pointer and only falls back to the cycle index for rows written before
+     * the pointer existed.
+     */
+    private LocalDate findCurrentCycleStart(@NonNull ModuleProgress progress) {
+        if ((progress.getCurrentCycleStart() != null) || (progress.getId() == null)) {
+            return progress.getCurrentCycleStart();
+        }
+        return this.cycleRepository.findLatestStartDate(progress.getId(), progress.getCyclesStudied())
+                .orElse(null);
+    }
+
     @NonNull
     private LocalDate getEffectiveStartDate(@NonNull ModuleProgress progress) {
-        final var cycleStart = progress.findLatestCycleStart(progress.getCyclesStudied());
+        final var cycleStart = findCurrentCycleStart(progress);
         if (cycleStart != null) {
             return cycleStart;
         }
@@ -45,18 +134,19 @@ public class RepetitionScheduleManager {
             return progress.getFirstLearningDate();
         }
 
-        return LocalDate.now();
+        return LocalDate.now(this.clock);
     }
 
     private void initializeFirstCycle(@NonNull ModuleProgress progress) {
-        if (progress.findLatestCycleStart(CycleStudied.FIRST_TIME) != null) {
+        if ((progress.getCyclesStudied() != CycleStudied.FIRST_TIME) || (findCurrentCycleStart(progress) != null)) {
             return;
         }
 
-        final var start = Optional.ofNullable(progress.getFirstLearningDate()).orElse(LocalDate.now());
+        final var start = Optional.ofNullable(progress.getFirstLearningDate()).orElse(LocalDate.now(this.clock));
         progress.setFirstLearningDate(start);
-        progress.addCycleStart(CycleStudied.FIRST_TIME, start);
+        final var cycle = progress.startCycle(CycleStudied.FIRST_TIME, start);
         this.progressRepository.save(progress);
+        this.cycleRepository.save(cycle);
     }
 
     public void initializeFirstLearningDate(@NonNull ModuleProgress progress) {
@@ -64,18 +154,26 @@ public class RepetitionScheduleManager {
             return;
         }
 
-        final var today = LocalDate.now();
+        final var today = LocalDate.now(this.clock);
         progress.setFirstLearningDate(today);
         this.progressRepository.save(progress);
         RepetitionScheduleManager.log.debug("Initialized first learning date to {} for progress ID: {}", today, progress
                 .getId());
     }
 
+    /**
+     * Loads the review load per day for the owner of a progress record. Without
+     * an owner there is no load to balance against, so the result is empty;
+     * other learners' reviews never shape a schedule.
+     */
     @NonNull
-    public Map<LocalDate, Long> loadReviewDateCounts(@NonNull LocalDate startDate) {
+    public Map<LocalDate, Long> loadReviewDateCounts(UUID userId, @NonNull LocalDate startDate) {
+        if (userId == null) {
+            return Map.of();
+        }
         final var MAX_DAYS = 60;
         final var end = startDate.plusDays(MAX_DAYS);
-        final var rawCounts = this.repetitionRepository.countReviewDatesBetween(startDate, end);
+        final var rawCounts = this.repetitionRepository.countReviewDatesBetweenForUser(userId, startDate, end);
         if ((rawCounts == null) || rawCounts.isEmpty()) {
             return Map.of();
         }
@@ -95,6 +193,40 @@ public class RepetitionScheduleManager {
                 (a, b) -> a));
     }
 
+    /**
+     * Start a scheduling operation on a progress record, loading its
+     * repetitions once.
+     */
+    @NonNull
+    public SchedulingContext openContext(@NonNull ModuleProgress progress) {
+        return new SchedulingContext(progress,
+                this.repetitionRepository.findByModuleProgressIdOrderByRepetitionOrder(progress.getId()));
+    }
+
+    /**
+     * Queue a completed repetition's review date for the progress study history;
+     * it is appended when the context is flushed.
+     */
+    public void recordStudyHistory(@NonNull SchedulingContext context, @NonNull Repetition completed) {
+        if (completed.getReviewDate() == null) {
+            return;
+        }
+        context.addStudiedDay((int) completed.getReviewDate().toEpochDay());
+    }
+
+    /**
+     * Rebuild the progress study history on flush when a repetition that was
+     * completed on {@code previousDate} is no longer completed or has moved.
+     */
+    public void correctStudyHistory(@NonNull SchedulingContext context, @NonNull Repetition repetition,
+            RepetitionStatus previousStatus, LocalDate previousDate) {
+        if ((previousStatus == RepetitionStatus.COMPLETED)
+                && ((repetition.getStatus() != RepetitionStatus.COMPLETED)
+                        || !Objects.equals(repetition.getReviewDate(), previousDate))) {
+            context.invalidateStudyHistory();
+        }
+    }
+
     public void updateNextStudyDate(ModuleProgress progress) {
         final var pending = this.repetitionRepository
                 .findByModuleProgressIdAndStatusOrderByReviewDate(progress.getId(), RepetitionStatus.NOT_STARTED);
@@ -0,0 +1,67 @@
+package com.spacedlearning.service.impl.repetition;
+
+import java.util.Arrays;
+
+/**
+ * Tunable inputs of the repetition date rule in
+ * {@link RepetitionDateCalculator}. {@link #DEFAULT} holds the hand-set values;
+ * per-learner sets are fitted from the review log.
+ *
+ * @param multipliers      Base days from the schedule start to each repetition, in repetition order
+ * @param cycleFactor      Interval growth per completed review cycle
+ * @param completionFactor Interval growth at a 100% score
+ * @param wordFactor       Interval growth per day's worth of words above one day
+ */
+public record ScheduleParameters(double[] multipliers, double cycleFactor, double completionFactor,
+        double wordFactor) {
+
+    public static final ScheduleParameters DEFAULT = new ScheduleParameters(new double[] { 2, 4, 8, 13, 19, 26 },
+            0.2, 0.5, 0.3);
+
+    public ScheduleParameters {
+        if ((multipliers == null) || (multipliers.length == 0)) {
+            throw new IllegalArgumentException("At least one multiplier is required.");
+        }
+        multipliers = multipliers.clone();
+    }
+
+    @Override
+    public double[] multipliers() {
+        return this.multipliers.clone();
+    }
+
+    /**
+     * Multiplier for a repetition index; indexes past the last one reuse it.
+     */
+    public double multiplier(int index) {
+        return this.multipliers[Math.min(index, this.multipliers.length - 1)];
+    }
+
+    public int size() {
+        return this.multipliers.length;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return (other instanceof final ScheduleParameters that)
+                && Arrays.equals(this.multipliers, that.multipliers)
+                && (Double.compare(this.cycleFactor, that.cycleFactor) == 0)
+                && (Double.compare(this.completionFactor, that.completionFactor) == 0)
+                && (Double.compare(this.wordFactor, that.wordFactor) == 0);
+    }
+
+    @Override
+    public int hashCode() {
+        var result = Arrays.hashCode(this.multipliers);
+        result = (31 * result) + Double.hashCode(this.cycleFactor);
+        result = (31 * result) + Double.hashCode(this.completionFactor);
+        return (31 * result) + Double.hashCode(this.wordFactor);
+    }
+
+    @Override
+    public String toString() {
+        return "ScheduleParameters[multipliers=" + Arrays.toString(this.multipliers) + ", cycleFactor="
+                + this.cycleFactor + ", completionFactor=" + this.completionFactor + ", wordFactor="
+                + this.wordFactor + "]";
+    }
+}
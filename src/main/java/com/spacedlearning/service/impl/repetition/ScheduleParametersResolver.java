@@ -0,0 +1,16 @@
+package com.spacedlearning.service.impl.repetition;
+
+import java.util.UUID;
+
+/**
+ * Looks up the schedule parameters to use for a learner.
+ */
+@FunctionalInterface
+public interface ScheduleParametersResolver {
+
+    /**
+     * Parameters fitted for the learner, or {@link ScheduleParameters#DEFAULT}
+     * when none have been fitted.
+     */
+    ScheduleParameters resolve(UUID userId);
+}
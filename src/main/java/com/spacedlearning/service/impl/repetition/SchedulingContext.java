@@ -0,0 +1,149 @@
+package com.spacedlearning.service.impl.repetition;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+
+import com.spacedlearning.entity.LearningCycle;
+import com.spacedlearning.entity.ModuleProgress;
+import com.spacedlearning.entity.Repetition;
+import com.spacedlearning.entity.enums.CycleStudied;
+import com.spacedlearning.entity.enums.RepetitionStatus;
+
+/**
+ * Unit of work for one scheduling operation on a progress record. The
+ * progress's repetitions are loaded once; the rescheduler and cycle manager
+ * read and change them here, and {@link RepetitionScheduleManager#flush}
+ * writes the changed rows and the derived next study date back in one go.
+ */
+public final class SchedulingContext {
+
+    private final ModuleProgress progress;
+    private final List<Repetition> repetitions;
+    private final Set<Repetition> dirty = Collections.newSetFromMap(new IdentityHashMap<>());
+    private final List<Integer> studiedDays = new ArrayList<>();
+    private final List<LearningCycle> startedCycles = new ArrayList<>();
+    private boolean progressDirty;
+    private boolean studyHistoryStale;
+
+    SchedulingContext(ModuleProgress progress, List<Repetition> repetitions) {
+        this.progress = progress;
+        this.repetitions = new ArrayList<>(repetitions);
+    }
+
+    /**
+     * Register newly generated repetitions; they are inserted on flush.
+     */
+    public void add(List<Repetition> created) {
+        this.repetitions.addAll(created);
+        this.dirty.addAll(created);
+    }
+
+    void addStudiedDay(int epochDay) {
+        this.studiedDays.add(epochDay);
+    }
+
+    public long count() {
+        return this.repetitions.size();
+    }
+
+    public long countByStatus(RepetitionStatus status) {
+        return this.repetitions.stream().filter(rep -> rep.getStatus() == status).count();
+    }
+
+    List<Repetition> dirtyRepetitions() {
+        return List.copyOf(this.dirty);
+    }
+
+    /**
+     * Mark the progress study history as no longer matching its repetitions;
+     * it is rebuilt on flush instead of appended to.
+     */
+    void invalidateStudyHistory() {
+        this.studyHistoryStale = true;
+    }
+
+    boolean isProgressDirty() {
+        return this.progressDirty;
+    }
+
+    boolean isStudyHistoryStale() {
+        return this.studyHistoryStale;
+    }
+
+    public Optional<LocalDate> lastCompletedDate() {
+        return this.repetitions.stream()
+                .filter(rep -> rep.getStatus() == RepetitionStatus.COMPLETED)
+                .map(Repetition::getReviewDate)
+                .filter(Objects::nonNull)
+                .max(Comparator.naturalOrder());
+    }
+
+    /**
+     * Mark a repetition of this progress as changed.
+     */
+    public void markChanged(Repetition repetition) {
+        this.dirty.add(repetition);
+    }
+
+    /**
+     * Mark the progress itself as changed.
+     */
+    public void markProgressChanged() {
+        this.progressDirty = true;
+    }
+
+    /**
+     * Earliest review date among the pending repetitions, or {@code null} when
+     * nothing is pending.
+     */
+    public LocalDate nextStudyDate() {
+        return this.repetitions.stream()
+                .filter(rep -> rep.getStatus() == RepetitionStatus.NOT_STARTED)
+                .map(Repetition::getReviewDate)
+                .filter(Objects::nonNull)
+                .min(Comparator.naturalOrder())
+                .orElse(null);
+    }
+
+    public ModuleProgress progress() {
+        return this.progress;
+    }
+
+    public List<Repetition> repetitions() {
+        return Collections.unmodifiableList(this.repetitions);
+    }
+
+    /**
+     * Start a cycle on the progress; the cycle row is inserted on flush.
+     * Restarting the current cycle on its current start date is a no-op.
+     */
+    public void startCycle(CycleStudied cycle, LocalDate date) {
+        if ((cycle == this.progress.getCyclesStudied()) && date.equals(this.progress.getCurrentCycleStart())) {
+            return;
+        }
+        this.startedCycles.add(this.progress.startCycle(cycle, date));
+        this.progressDirty = true;
+    }
+
+    List<LearningCycle> startedCycles() {
+        return List.copyOf(this.startedCycles);
+    }
+
+    List<Integer> studiedDays() {
+        return List.copyOf(this.studiedDays);
+    }
+
+    public List<Repetition> withStatus(RepetitionStatus status) {
+        return this.repetitions.stream()
+                .filter(rep -> rep.getStatus() == status)
+                .sorted(Comparator.comparing(Repetition::getRepetitionOrder))
+                .toList();
+    }
+}
@@ -0,0 +1,36 @@
+package com.spacedlearning.service.impl.repetition;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * SQL statements issued per scheduling operation (completion, reschedule,
+ * update), as counted by {@code StatementCounter}.
+ */
+@Component
+public class SchedulingMetrics {
+
+    private static final String STATEMENTS_SUMMARY = "scheduling.statements";
+
+    private final MeterRegistry meterRegistry;
+    private final Map<String, DistributionSummary> summaries = new ConcurrentHashMap<>();
+
+    public SchedulingMetrics(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    public void recordStatements(String operation, long statements) {
+        this.summaries.computeIfAbsent(operation, op -> DistributionSummary.builder(STATEMENTS_SUMMARY)
+                .description("SQL statements issued by one scheduling operation")
+                .baseUnit("statements")
+                .tag("operation", op)
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(this.meterRegistry))
+                .record(statements);
+    }
+}
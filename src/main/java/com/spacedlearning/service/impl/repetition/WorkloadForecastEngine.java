@@ -0,0 +1,142 @@
+package com.spacedlearning.service.impl.repetition;
+
+import java.time.LocalDate;
+import java.util.Collection;
+
+import org.springframework.stereotype.Component;
+
+import com.spacedlearning.entity.enums.CycleStudied;
+import com.spacedlearning.entity.enums.RepetitionOrder;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Projects future review load by replaying the scheduling rules in memory.
+ * Pending repetitions are assumed to be completed on their review date (or
+ * today when overdue); each finished cycle then starts the next one a week
+ * later, advancing the cycle as {@link LearningCycleManager} does and dating
+ * its repetitions with {@link RepetitionDateCalculator} and the owner's
+ * schedule parameters. The same-day load
+ * levelling of {@link RepetitionDateOptimizer} is left out because it depends
+ * on every other schedule, which would force a sequential simulation; it only
+ * moves dates by a few days.
+ */
+@Component
+@RequiredArgsConstructor
+public class WorkloadForecastEngine {
+
+    /**
+     * Pending schedule and scheduling inputs of one progress record.
+     *
+     * @param wordCount        Module word count
+     * @param percentComplete  Latest completion percentage
+     * @param cyclesStudied    Current cycle
+     * @param pendingEpochDays Review dates of the pending repetitions as epoch days
+     * @param parameters       The owner's schedule parameters
+     */
+    public record ProgressState(int wordCount, double percentComplete, CycleStudied cyclesStudied,
+            int[] pendingEpochDays, ScheduleParameters parameters) {
+    }
+
+    /**
+     * Projected load per day, index 0 being the start date.
+     *
+     * @param repetitions Repetitions due per day
+     * @param words       Words to review per day
+     */
+    public record Forecast(int[] repetitions, long[] words) {
+    }
+
+    private static final class Histogram {
+        private final long startEpochDay;
+        private final int[] repetitions;
+        private final long[] words;
+
+        private Histogram(long startEpochDay, int days) {
+            this.startEpochDay = startEpochDay;
+            this.repetitions = new int[days];
+            this.words = new long[days];
+        }
+
+        private void add(long epochDay, int wordCount) {
+            final var index = (int) Math.max(0, epochDay - this.startEpochDay);
+            if (index < this.repetitions.length) {
+                this.repetitions[index]++;
+                this.words[index] += wordCount;
+            }
+        }
+
+        private void merge(Histogram other) {
+            for (var i = 0; i < this.repetitions.length; i++) {
+                this.repetitions[i] += other.repetitions[i];
+                this.words[i] += other.words[i];
+            }
+        }
+    }
+
+    private static final int CYCLE_GAP_DAYS = 7;
+
+    private final RepetitionDateCalculator calculator;
+
+    /**
+     * Simulate all progress records in parallel and sum their daily load.
+     *
+     * @param progresses Progress records to simulate
+     * @param startDate  First day of the forecast
+     * @param days       Number of days to forecast
+     * @return Daily load histogram
+     */
+    public Forecast forecast(Collection<ProgressState> progresses, LocalDate startDate, int days) {
+        final var startEpochDay = startDate.toEpochDay();
+        final var histogram = progresses.parallelStream().collect(
+                () -> new Histogram(startEpochDay, days),
+                (h, state) -> simulate(state, h, startDate, days),
+                Histogram::merge);
+        return new Forecast(histogram.repetitions, histogram.words);
+    }
+
+    private CycleStudied nextCycle(CycleStudied current) {
+        return switch (current) {
+        case FIRST_TIME -> CycleStudied.FIRST_REVIEW;
+        case FIRST_REVIEW -> CycleStudied.SECOND_REVIEW;
+        case SECOND_REVIEW -> CycleStudied.THIRD_REVIEW;
+        case THIRD_REVIEW, MORE_THAN_THREE_REVIEWS -> CycleStudied.MORE_THAN_THREE_REVIEWS;
+        };
+    }
+
+    private void simulate(ProgressState state, Histogram histogram, LocalDate startDate, int days) {
+        if (state.pendingEpochDays().length == 0) {
+            return;
+        }
+
+        final var startEpochDay = startDate.toEpochDay();
+        final var endEpochDay = startEpochDay + days;
+        var lastEpochDay = startEpochDay;
+        for (final int pending : state.pendingEpochDays()) {
+            final long effective = Math.max(pending, startEpochDay);
+            histogram.add(effective, state.wordCount());
+            lastEpochDay = Math.max(lastEpochDay, effective);
+        }
+
+        final var cyclesLength = RepetitionOrder.values().length;
+        var cycle = state.cyclesStudied() != null ? state.cyclesStudied() : CycleStudied.FIRST_TIME;
+        while (lastEpochDay + CYCLE_GAP_DAYS < endEpochDay) {
+            cycle = nextCycle(cycle);
+            final var baseDate = LocalDate.ofEpochDay(lastEpochDay + CYCLE_GAP_DAYS);
+
+            LocalDate prevDate = null;
+            for (var i = 0; i < cyclesLength; i++) {
+                var date = this.calculator.calculateAdjustedDate(state.parameters(), state.wordCount(),
+                        state.percentComplete(), cycle, i, baseDate);
+                if (prevDate != null) {
+                    final var minDate = prevDate.plusDays(
+                            this.calculator.getMinRequiredGap(state.parameters(), i - 1, i));
+                    date = date.isBefore(minDate) ? minDate : date;
+                }
+                histogram.add(date.toEpochDay(), state.wordCount());
+                prevDate = date;
+            }
+            lastEpochDay = prevDate.toEpochDay();
+        }
+    }
+}
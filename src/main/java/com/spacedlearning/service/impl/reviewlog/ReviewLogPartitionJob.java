@@ -0,0 +1,80 @@
+package com.spacedlearning.service.impl.reviewlog;
+
+import java.time.Clock;
+import java.time.YearMonth;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.spacedlearning.repository.custom.ReviewLogRepository;
+import com.spacedlearning.service.impl.job.BackgroundJob;
+import com.spacedlearning.service.impl.job.JobContext;
+import com.spacedlearning.service.impl.job.JobRunner;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Keeps the monthly partitions of the review log ahead of the clock and, when
+ * a retention is configured, drops whole months that fall out of it.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ReviewLogPartitionJob implements BackgroundJob {
+
+    private final Clock clock;
+    private final JobRunner jobRunner;
+    private final ReviewLogRepository reviewLogRepository;
+
+    @Value("${app.review-log.partitions.months-ahead:2}")
+    private int monthsAhead;
+
+    @Value("${app.review-log.partitions.retention-months:0}")
+    private int retentionMonths;
+
+    @Override
+    public long execute(JobContext context) {
+        if (!this.reviewLogRepository.isPartitioned()) {
+            log.debug("Review log is not partitioned, nothing to maintain");
+            return 0;
+        }
+
+        final var current = YearMonth.now(this.clock);
+        var changed = 0L;
+        for (var i = 0; i <= this.monthsAhead; i++) {
+            final var month = current.plusMonths(i);
+            if (this.reviewLogRepository.createPartition(month)) {
+                log.info("Created review log partition for {}", month);
+                changed++;
+                context.checkpoint(1);
+            }
+        }
+
+        if (this.retentionMonths > 0) {
+            final var oldest = current.minusMonths(this.retentionMonths);
+            for (final YearMonth month : this.reviewLogRepository.findPartitionMonths()) {
+                if (month.isBefore(oldest) && this.reviewLogRepository.dropPartition(month)) {
+                    log.info("Dropped review log partition for {}", month);
+                    changed++;
+                    context.checkpoint(1);
+                }
+            }
+        }
+        return changed;
+    }
+
+    @Scheduled(cron = "${app.review-log.partitions.cron:0 30 3 * * *}")
+    @EventListener(ApplicationReadyEvent.class)
+    public void maintain() {
+        this.jobRunner.run(this);
+    }
+
+    @Override
+    public String name() {
+        return "review-log-partitions";
+    }
+}
@@ -0,0 +1,148 @@
+package com.spacedlearning.service.impl.reviewlog;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.spacedlearning.repository.custom.ReviewLogRepository;
+import com.spacedlearning.repository.custom.ReviewLogRepository.Entry;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Writes review log entries off the request path. Entries of a transaction
+ * are buffered once it commits and a periodic flush writes them with one COPY
+ * per batch; a batch that fails is retried on the next flush before anything
+ * newer. The buffer is bounded: when it is full, entries are dropped and
+ * counted rather than slowing completions down.
+ * <p>
+ * With {@code app.review-log.durable=true} every entry is instead written in
+ * the completion's own transaction, so it commits or rolls back with it.
+ */
+@Component
+@Slf4j
+public class ReviewLogWriter {
+
+    private final ReviewLogRepository reviewLogRepository;
+    private final MeterRegistry meterRegistry;
+    private final BlockingQueue<Entry> buffer;
+    private List<Entry> failedBatch = List.of();
+
+    @Value("${app.review-log.enabled:true}")
+    private boolean enabled;
+
+    @Value("${app.review-log.durable:false}")
+    private boolean durable;
+
+    @Value("${app.review-log.batch-size:1000}")
+    private int batchSize;
+
+    public ReviewLogWriter(ReviewLogRepository reviewLogRepository, MeterRegistry meterRegistry,
+            @Value("${app.review-log.buffer-capacity:20000}") int bufferCapacity) {
+        this.reviewLogRepository = reviewLogRepository;
+        this.meterRegistry = meterRegistry;
+        this.buffer = new ArrayBlockingQueue<>(bufferCapacity);
+    }
+
+    /**
+     * Log a completion. Inside a transaction the entry is only buffered once
+     * the transaction commits.
+     */
+    public void append(Entry entry) {
+        if (!this.enabled) {
+            return;
+        }
+        if (this.durable) {
+            count("written", this.reviewLogRepository.append(List.of(entry)));
+            return;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            enqueue(entry);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                enqueue(entry);
+            }
+        });
+    }
+
+    private void count(String outcome, long amount) {
+        if (amount > 0) {
+            Counter.builder("review_log.entries")
+                    .description("Review log entries by outcome")
+                    .tag("outcome", outcome)
+                    .register(this.meterRegistry)
+                    .increment(amount);
+        }
+    }
+
+    private void enqueue(Entry entry) {
+        if (!this.buffer.offer(entry)) {
+            count("dropped", 1);
+            log.debug("Review log buffer full, dropping entry for repetition ID: {}", entry.repetitionId());
+        }
+    }
+
+    /**
+     * Write buffered entries in batches until the buffer is drained or a write
+     * fails.
+     */
+    @Scheduled(fixedDelayString = "${app.review-log.flush-interval-ms:1000}")
+    public synchronized void flush() {
+        if (!this.failedBatch.isEmpty()) {
+            if (!write(this.failedBatch)) {
+                return;
+            }
+            this.failedBatch = List.of();
+        }
+
+        while (true) {
+            final List<Entry> batch = new ArrayList<>(Math.min(this.batchSize, this.buffer.size()));
+            this.buffer.drainTo(batch, this.batchSize);
+            if (batch.isEmpty()) {
+                return;
+            }
+            if (!write(batch)) {
+                this.failedBatch = batch;
+                return;
+            }
+            if (batch.size() < this.batchSize) {
+                return;
+            }
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        flush();
+        final var lost = this.failedBatch.size() + this.buffer.size();
+        if (lost > 0) {
+            log.warn("Shutting down with {} review log entries unwritten", lost);
+        }
+    }
+
+    private boolean write(List<Entry> batch) {
+        try {
+            count("written", this.reviewLogRepository.append(batch));
+            return true;
+        } catch (final DataAccessException e) {
+            count("failed", batch.size());
+            log.warn("Failed to write {} review log entries, retrying on next flush: {}", batch.size(),
+                    e.getMessage());
+            return false;
+        }
+    }
+}
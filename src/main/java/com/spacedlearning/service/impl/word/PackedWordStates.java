@@ -0,0 +1,264 @@
+package com.spacedlearning.service.impl.word;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.UUID;
+import java.util.function.Predicate;
+
+/**
+ * Read-only view over the packed review state of a module's words.
+ * <p>
+ * Layout: a format byte and the word count, followed by one column per field
+ * in word order: vocabulary id (most then least significant bits), due day
+ * (int), then interval, ease, lapses and repetitions (unsigned shorts). Words
+ * are sorted by vocabulary id, so a word is found by binary search and a
+ * batch of updates is applied in one merge pass. Because fields are stored
+ * column by column, a due scan reads the due column alone; nothing is decoded
+ * up front.
+ */
+public final class PackedWordStates {
+
+    private static final byte FORMAT = 1;
+    private static final int HEADER_BYTES = 5;
+    private static final int BYTES_PER_WORD = 16 + 4 + 2 + 2 + 2 + 2;
+    private static final int UNSIGNED_SHORT_MAX = 0xFFFF;
+
+    private static final PackedWordStates EMPTY = encode(new long[0], new long[0], new int[0], new int[0],
+            new int[0], new int[0], new int[0], 0);
+
+    private final ByteBuffer buffer;
+    private final int size;
+
+    private PackedWordStates(ByteBuffer buffer, int size) {
+        this.buffer = buffer;
+        this.size = size;
+    }
+
+    private static int clamp(int value) {
+        return Math.max(0, Math.min(value, UNSIGNED_SHORT_MAX));
+    }
+
+    /**
+     * Wrap stored bytes without copying them.
+     *
+     * @throws IllegalArgumentException if the bytes are not a valid state
+     */
+    public static PackedWordStates decode(byte[] bytes) {
+        if ((bytes == null) || (bytes.length == 0)) {
+            return EMPTY;
+        }
+        if ((bytes.length < HEADER_BYTES) || (bytes[0] != FORMAT)) {
+            throw new IllegalArgumentException("Unsupported word state format");
+        }
+        final var buffer = ByteBuffer.wrap(bytes);
+        final var size = buffer.getInt(1);
+        if ((size < 0) || (bytes.length != (HEADER_BYTES + ((long) size * BYTES_PER_WORD)))) {
+            throw new IllegalArgumentException("Corrupt word state: " + size + " words in " + bytes.length + " bytes");
+        }
+        return new PackedWordStates(buffer, size);
+    }
+
+    public static PackedWordStates empty() {
+        return EMPTY;
+    }
+
+    private static PackedWordStates encode(long[] msb, long[] lsb, int[] due, int[] interval, int[] ease,
+            int[] lapses, int[] repetitions, int size) {
+        final var buffer = ByteBuffer.allocate(HEADER_BYTES + (size * BYTES_PER_WORD));
+        buffer.put(FORMAT).putInt(size);
+        for (var i = 0; i < size; i++) {
+            buffer.putLong(msb[i]);
+        }
+        for (var i = 0; i < size; i++) {
+            buffer.putLong(lsb[i]);
+        }
+        for (var i = 0; i < size; i++) {
+            buffer.putInt(due[i]);
+        }
+        for (final int[] column : new int[][] { interval, ease, lapses, repetitions }) {
+            for (var i = 0; i < size; i++) {
+                buffer.putShort((short) clamp(column[i]));
+            }
+        }
+        return new PackedWordStates(buffer, size);
+    }
+
+    /**
+     * Number of words due on or before the given day.
+     */
+    public int countDue(int day) {
+        var count = 0;
+        for (var i = 0; i < this.size; i++) {
+            if (dueDay(i) <= day) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    public int dueDay(int index) {
+        return this.buffer.getInt(HEADER_BYTES + (16 * this.size) + (4 * index));
+    }
+
+    /**
+     * Indexes of the words due on or before the given day, earliest first.
+     * Reads the due column only.
+     */
+    public int[] dueIndexes(int day) {
+        final var keys = new long[this.size];
+        var count = 0;
+        for (var i = 0; i < this.size; i++) {
+            final var due = dueDay(i);
+            if (due <= day) {
+                keys[count++] = ((long) due << 32) | i;
+            }
+        }
+        Arrays.sort(keys, 0, count);
+        final var indexes = new int[count];
+        for (var k = 0; k < count; k++) {
+            indexes[k] = (int) keys[k];
+        }
+        return indexes;
+    }
+
+    /**
+     * Index of a word, or a negative value when it has no state yet.
+     */
+    public int indexOf(UUID vocabularyId) {
+        final var msb = vocabularyId.getMostSignificantBits();
+        final var lsb = vocabularyId.getLeastSignificantBits();
+        var low = 0;
+        var high = this.size - 1;
+        while (low <= high) {
+            final var mid = (low + high) >>> 1;
+            var cmp = Long.compare(msb(mid), msb);
+            if (cmp == 0) {
+                cmp = Long.compare(lsb(mid), lsb);
+            }
+            if (cmp < 0) {
+                low = mid + 1;
+            } else if (cmp > 0) {
+                high = mid - 1;
+            } else {
+                return mid;
+            }
+        }
+        return -(low + 1);
+    }
+
+    public boolean isEmpty() {
+        return this.size == 0;
+    }
+
+    private long lsb(int index) {
+        return this.buffer.getLong(HEADER_BYTES + (8 * this.size) + (8 * index));
+    }
+
+    /**
+     * Apply a batch of word states in one pass. Words with an update take the
+     * new state; other words are kept only if {@code retain} accepts them, so
+     * words removed from the module are dropped on the next write.
+     *
+     * @param updates New states keyed by vocabulary id, in {@link UUID} order
+     * @param retain  Whether an existing word without an update is kept
+     * @return The merged states
+     */
+    public PackedWordStates merge(SortedMap<UUID, WordState> updates, Predicate<UUID> retain) {
+        final var capacity = this.size + updates.size();
+        final var msb = new long[capacity];
+        final var lsb = new long[capacity];
+        final var due = new int[capacity];
+        final var interval = new int[capacity];
+        final var ease = new int[capacity];
+        final var lapses = new int[capacity];
+        final var repetitions = new int[capacity];
+
+        var n = 0;
+        var i = 0;
+        final var pending = updates.entrySet().iterator();
+        Map.Entry<UUID, WordState> update = pending.hasNext() ? pending.next() : null;
+        while ((i < this.size) || (update != null)) {
+            final var existing = i < this.size ? vocabularyId(i) : null;
+            final var cmp = existing == null ? 1 : update == null ? -1 : existing.compareTo(update.getKey());
+            if (cmp < 0) {
+                if (retain.test(existing)) {
+                    msb[n] = msb(i);
+                    lsb[n] = lsb(i);
+                    final var state = state(i);
+                    due[n] = state.dueDay();
+                    interval[n] = state.intervalDays();
+                    ease[n] = state.easePermille();
+                    lapses[n] = state.lapses();
+                    repetitions[n] = state.repetitions();
+                    n++;
+                }
+                i++;
+                continue;
+            }
+
+            final var id = update.getKey();
+            final var state = update.getValue();
+            msb[n] = id.getMostSignificantBits();
+            lsb[n] = id.getLeastSignificantBits();
+            due[n] = state.dueDay();
+            interval[n] = state.intervalDays();
+            ease[n] = state.easePermille();
+            lapses[n] = state.lapses();
+            repetitions[n] = state.repetitions();
+            n++;
+            if (cmp == 0) {
+                i++;
+            }
+            update = pending.hasNext() ? pending.next() : null;
+        }
+        return encode(msb, lsb, due, interval, ease, lapses, repetitions, n);
+    }
+
+    private long msb(int index) {
+        return this.buffer.getLong(HEADER_BYTES + (8 * index));
+    }
+
+    /**
+     * Earliest due day, or null when no word has a state.
+     */
+    public Integer nextDueDay() {
+        if (this.size == 0) {
+            return null;
+        }
+        var min = Integer.MAX_VALUE;
+        for (var i = 0; i < this.size; i++) {
+            min = Math.min(min, dueDay(i));
+        }
+        return min;
+    }
+
+    public int size() {
+        return this.size;
+    }
+
+    public WordState state(int index) {
+        final var shorts = HEADER_BYTES + (20 * this.size);
+        return new WordState(dueDay(index),
+                unsignedShort(shorts + (2 * index)),
+                unsignedShort(shorts + (2 * this.size) + (2 * index)),
+                unsignedShort(shorts + (4 * this.size) + (2 * index)),
+                unsignedShort(shorts + (6 * this.size) + (2 * index)));
+    }
+
+    /**
+     * The encoded bytes. The array backs this view and must not be modified.
+     */
+    public byte[] toBytes() {
+        return this.buffer.array();
+    }
+
+    private int unsignedShort(int offset) {
+        return Short.toUnsignedInt(this.buffer.getShort(offset));
+    }
+
+    public UUID vocabularyId(int index) {
+        return new UUID(msb(index), lsb(index));
+    }
+}
@@ -0,0 +1,64 @@
+package com.spacedlearning.service.impl.word;
+
+import org.springframework.stereotype.Component;
+
+/**
+ * SM-2 scheduling of single words. A recall graded 3 or better grows the
+ * interval by the word's ease; a lower grade sends the word back to a one-day
+ * interval and counts a lapse if it had been learned. Every grade adjusts the
+ * ease, which never falls below 1.3.
+ */
+@Component
+public class WordReviewScheduler {
+
+    public static final int MIN_QUALITY = 0;
+    public static final int MAX_QUALITY = 5;
+    public static final int PASSING_QUALITY = 3;
+
+    private static final int DEFAULT_EASE_PERMILLE = 2500;
+    private static final int MIN_EASE_PERMILLE = 1300;
+    private static final int SECOND_INTERVAL_DAYS = 6;
+    private static final int MAX_INTERVAL_DAYS = 3650;
+
+    /**
+     * State of a word that has never been reviewed, due on the given day.
+     */
+    public WordState initial(int today) {
+        return new WordState(today, 0, DEFAULT_EASE_PERMILLE, 0, 0);
+    }
+
+    /**
+     * Apply one review.
+     *
+     * @param current State before the review
+     * @param quality Recall grade from {@value #MIN_QUALITY} to {@value #MAX_QUALITY}
+     * @param today   Review date as an epoch day
+     * @return State after the review
+     */
+    public WordState review(WordState current, int quality, int today) {
+        if ((quality < MIN_QUALITY) || (quality > MAX_QUALITY)) {
+            throw new IllegalArgumentException("Quality must be between " + MIN_QUALITY + " and " + MAX_QUALITY);
+        }
+
+        final var miss = MAX_QUALITY - quality;
+        final var ease = Math.max(MIN_EASE_PERMILLE,
+                current.easePermille() + 100 - (miss * (80 + (miss * 20))));
+
+        if (quality < PASSING_QUALITY) {
+            final var lapses = current.repetitions() > 0 ? current.lapses() + 1 : current.lapses();
+            return new WordState(today + 1, 1, ease, lapses, 0);
+        }
+
+        final var repetitions = current.repetitions() + 1;
+        final int interval;
+        if (repetitions == 1) {
+            interval = 1;
+        } else if (repetitions == 2) {
+            interval = SECOND_INTERVAL_DAYS;
+        } else {
+            interval = (int) Math.min(MAX_INTERVAL_DAYS,
+                    Math.round((current.intervalDays() * (double) current.easePermille()) / 1000));
+        }
+        return new WordState(today + interval, interval, ease, current.lapses(), repetitions);
+    }
+}
@@ -0,0 +1,13 @@
+package com.spacedlearning.service.impl.word;
+
+/**
+ * Review state of one word.
+ *
+ * @param dueDay       Next review date as an epoch day
+ * @param intervalDays Current interval between reviews
+ * @param easePermille Ease factor in thousandths, 2500 meaning 2.5
+ * @param lapses       Times the word was forgotten after being learned
+ * @param repetitions  Successful reviews in a row
+ */
+public record WordState(int dueDay, int intervalDays, int easePermille, int lapses, int repetitions) {
+}
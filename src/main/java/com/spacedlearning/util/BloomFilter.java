@@ -0,0 +1,77 @@
+package com.spacedlearning.util;
+
+/**
+ * Minimal Bloom filter over strings using double hashing of a 64-bit FNV-1a
+ * hash. Writes are not synchronized: populate the filter first, then publish it
+ * to readers.
+ */
+public final class BloomFilter {
+
+    private static final long FNV_OFFSET = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+
+    private final long[] words;
+    private final int bitCount;
+    private final int hashCount;
+
+    private BloomFilter(int bitCount, int hashCount) {
+        this.words = new long[(bitCount + 63) >>> 6];
+        this.bitCount = bitCount;
+        this.hashCount = hashCount;
+    }
+
+    /**
+     * Create a filter sized for the expected number of entries.
+     *
+     * @param expectedInsertions Expected number of entries
+     * @param falsePositiveRate  Target false positive probability, in (0, 1)
+     * @return Empty filter
+     */
+    public static BloomFilter create(int expectedInsertions, double falsePositiveRate) {
+        if ((falsePositiveRate <= 0) || (falsePositiveRate >= 1)) {
+            throw new IllegalArgumentException("False positive rate must be in (0, 1)");
+        }
+        final var n = Math.max(1, expectedInsertions);
+        final var ln2 = Math.log(2);
+        final var bits = (int) Math.min(Integer.MAX_VALUE - 63L,
+                Math.max(64L, (long) Math.ceil((-n * Math.log(falsePositiveRate)) / (ln2 * ln2))));
+        final var hashes = Math.max(1, (int) Math.round(((double) bits / n) * ln2));
+        return new BloomFilter(bits, hashes);
+    }
+
+    private static long hash(String value) {
+        var h = FNV_OFFSET;
+        for (var i = 0; i < value.length(); i++) {
+            h ^= value.charAt(i);
+            h *= FNV_PRIME;
+        }
+        // final avalanche so both halves are usable as independent hashes
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        return h;
+    }
+
+    public boolean mightContain(String value) {
+        final var h = hash(value);
+        final var h1 = (int) h;
+        final var h2 = (int) (h >>> 32);
+        for (var i = 1; i <= this.hashCount; i++) {
+            final var bit = Math.floorMod(h1 + (i * h2), this.bitCount);
+            if ((this.words[bit >>> 6] & (1L << bit)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public void put(String value) {
+        final var h = hash(value);
+        final var h1 = (int) h;
+        final var h2 = (int) (h >>> 32);
+        for (var i = 1; i <= this.hashCount; i++) {
+            final var bit = Math.floorMod(h1 + (i * h2), this.bitCount);
+            this.words[bit >>> 6] |= 1L << bit;
+        }
+    }
+}
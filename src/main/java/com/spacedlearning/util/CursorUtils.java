@@ -0,0 +1,91 @@
+package com.spacedlearning.util;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.UUID;
+
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+
+import com.spacedlearning.exception.SpacedLearningException;
+
+/**
+ * Utility class for opaque keyset cursors. A cursor encodes the sort key and
+ * ID of the last row of a page so the next page can seek past it instead of
+ * using OFFSET.
+ */
+public class CursorUtils {
+
+    public static final int DEFAULT_SIZE = 20;
+    public static final int MAX_SIZE = 100;
+
+    /**
+     * Position before the first row: earlier than any stored date and the
+     * lowest possible UUID.
+     */
+    public static final DateCursor START = new DateCursor(LocalDate.of(1900, 1, 1), new UUID(0L, 0L));
+
+    private static final String SEPARATOR = "|";
+
+    /**
+     * Position after which a keyset page starts, ordered by (date, id).
+     *
+     * @param date Sort key of the last row seen
+     * @param id   ID of the last row seen
+     */
+    public record DateCursor(LocalDate date, UUID id) {
+    }
+
+    private CursorUtils() {
+        throw new UnsupportedOperationException("Utility class should not be instantiated");
+    }
+
+    /**
+     * Decodes a cursor from a request parameter.
+     *
+     * @param cursor Encoded cursor, blank for the first page
+     * @return Decoded cursor, or {@link #START} when blank
+     * @throws SpacedLearningException if the cursor is malformed
+     */
+    public static DateCursor decodeDateCursor(final String cursor) {
+        if (StringUtils.isBlank(cursor)) {
+            return START;
+        }
+        try {
+            final var raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            final var parts = StringUtils.split(raw, SEPARATOR);
+            if (parts.length != 2) {
+                throw SpacedLearningException.validationError("Invalid pagination cursor");
+            }
+            return new DateCursor(LocalDate.parse(parts[0]), UUID.fromString(parts[1]));
+        } catch (final IllegalArgumentException | DateTimeParseException e) {
+            throw SpacedLearningException.validationError("Invalid pagination cursor");
+        }
+    }
+
+    /**
+     * Encodes the position of a row as an opaque cursor.
+     *
+     * @param date Sort key of the row
+     * @param id   ID of the row
+     * @return URL-safe cursor string
+     */
+    public static String encode(final LocalDate date, final UUID id) {
+        final var raw = date + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Builds the slice request for a keyset page. Keyset pages always start at
+     * page 0; the cursor does the seeking.
+     *
+     * @param size Requested page size, clamped to [1, {@link #MAX_SIZE}]
+     * @return Pageable for the slice query
+     */
+    public static Pageable slice(final int size) {
+        return PageRequest.of(0, Math.min(Math.max(size, 1), MAX_SIZE));
+    }
+}
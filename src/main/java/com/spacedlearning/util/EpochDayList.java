@@ -0,0 +1,78 @@
+package com.spacedlearning.util;
+
+import java.sql.Array;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.util.AbstractList;
+import java.util.List;
+import java.util.RandomAccess;
+
+/**
+ * Read-only list of dates backed by a primitive array of epoch days. Dates are
+ * materialized only when an element is read.
+ */
+public final class EpochDayList extends AbstractList<LocalDate> implements RandomAccess {
+
+    private static final int[] EMPTY = new int[0];
+
+    /**
+     * Decode a Postgres integer array column as returned by the JDBC driver or
+     * Hibernate ({@code int[]}, {@code Integer[]} or {@link Array}).
+     *
+     * @param value Column value, may be null
+     * @return List of dates, never null
+     */
+    public static List<LocalDate> decode(Object value) {
+        return new EpochDayList(toEpochDays(value));
+    }
+
+    private static int[] toEpochDays(Object value) {
+        if (value == null) {
+            return EMPTY;
+        }
+        if (value instanceof final int[] days) {
+            return days;
+        }
+        if (value instanceof final Number[] numbers) {
+            final var days = new int[numbers.length];
+            for (var i = 0; i < numbers.length; i++) {
+                days[i] = numbers[i].intValue();
+            }
+            return days;
+        }
+        if (value instanceof final Array array) {
+            try {
+                return toEpochDays(array.getArray());
+            } catch (final SQLException e) {
+                throw new IllegalStateException("Failed to read epoch day array", e);
+            } finally {
+                free(array);
+            }
+        }
+        throw new IllegalArgumentException("Unsupported epoch day array type: " + value.getClass().getName());
+    }
+
+    private static void free(Array array) {
+        try {
+            array.free();
+        } catch (final SQLException ignored) {
+            // Driver-managed arrays may not support free()
+        }
+    }
+
+    private final int[] days;
+
+    private EpochDayList(int[] days) {
+        this.days = days;
+    }
+
+    @Override
+    public LocalDate get(int index) {
+        return LocalDate.ofEpochDay(this.days[index]);
+    }
+
+    @Override
+    public int size() {
+        return this.days.length;
+    }
+}
@@ -1,9 +1,11 @@
 package com.spacedlearning.util;
 
+import com.spacedlearning.dto.common.CursorPageResponse;
 import com.spacedlearning.dto.common.PageResponse;
 import org.apache.commons.collections4.CollectionUtils;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 
 import java.util.List;
 import java.util.Objects;
@@ -96,6 +98,29 @@ public class PageUtils {
                 .totalPages(page.getTotalPages()).first(page.isFirst()).last(page.isLast()).build();
     }
 
+    /**
+     * Creates a CursorPageResponse from a keyset Slice. The next cursor is taken from the last
+     * element when more rows follow.
+     *
+     * @param <R>      The DTO type
+     * @param slice    The Slice fetched after the request cursor
+     * @param cursorOf The function encoding an element's position as a cursor
+     * @return A CursorPageResponse containing the DTOs
+     */
+    public static <R> CursorPageResponse<R> createCursorPageResponse(final Slice<R> slice,
+                                                                     final Function<R, String> cursorOf) {
+        Objects.requireNonNull(slice, "Slice must not be null");
+        Objects.requireNonNull(cursorOf, "Cursor function must not be null");
+
+        final List<R> content = slice.getContent();
+        final String nextCursor = slice.hasNext() && !content.isEmpty()
+                ? cursorOf.apply(content.get(content.size() - 1))
+                : null;
+
+        return CursorPageResponse.<R>builder().content(content).size(slice.getSize())
+                .nextCursor(nextCursor).hasNext(slice.hasNext()).build();
+    }
+
     /**
      * Creates an empty PageResponse.
      *
@@ -0,0 +1,36 @@
+package com.spacedlearning.util;
+
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Time-ordered UUID version 7 (RFC 9562): 48-bit Unix millisecond timestamp,
+ * 12-bit counter, 62 random bits. Values are strictly increasing within a JVM:
+ * the timestamp and counter share one atomic word advanced with a CAS, so a
+ * counter overflow or a clock step backwards borrows from the next millisecond
+ * instead of going back in time.
+ */
+public final class UuidV7 {
+
+    private static final int COUNTER_BITS = 12;
+    private static final long VERSION = 0x7000L;
+    private static final long VARIANT = 0x8000000000000000L;
+    private static final long RANDOM_MASK = 0x3FFFFFFFFFFFFFFFL;
+
+    private static final AtomicLong lastState = new AtomicLong();
+
+    private UuidV7() {
+    }
+
+    public static UUID next() {
+        final var candidate = System.currentTimeMillis() << COUNTER_BITS;
+        final var state = lastState.updateAndGet(last -> Math.max(last + 1, candidate));
+
+        final var timestamp = state >>> COUNTER_BITS;
+        final var counter = state & ((1L << COUNTER_BITS) - 1);
+        final var mostSigBits = (timestamp << 16) | VERSION | counter;
+        final var leastSigBits = (ThreadLocalRandom.current().nextLong() & RANDOM_MASK) | VARIANT;
+        return new UUID(mostSigBits, leastSigBits);
+    }
+}
@@ -0,0 +1,34 @@
+-- V10__add_repetition_history.sql
+-- History tier for completed repetitions. Old completed rows are moved here by the
+-- scheduled archiver so the active repetitions table only holds recent cycles.
+
+-- ===============================
+-- Archive summary on module progress
+-- ===============================
+ALTER TABLE spaced_learning.module_progress
+ADD COLUMN IF NOT EXISTS archived_review_count INT NOT NULL DEFAULT 0;
+
+ALTER TABLE spaced_learning.module_progress
+ADD COLUMN IF NOT EXISTS last_archived_review_date date NULL;
+
+COMMENT ON COLUMN spaced_learning.module_progress.archived_review_count IS 'Number of completed repetitions moved to repetition_history';
+COMMENT ON COLUMN spaced_learning.module_progress.last_archived_review_date IS 'Latest review date among archived repetitions';
+
+-- ===============================
+-- Range-partitioned history table
+-- ===============================
+-- Monthly partitions (repetition_history_yYYYYmMM) are created on demand by the archiver.
+CREATE TABLE spaced_learning.repetition_history (
+    id uuid NOT NULL,
+    module_progress_id uuid NOT NULL,
+    repetition_order varchar(20) NOT NULL,
+    review_date date NOT NULL,
+    created_at timestamp(6) NULL,
+    archived_at timestamp(6) NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    CONSTRAINT repetition_history_pkey PRIMARY KEY (id, review_date)
+) PARTITION BY RANGE (review_date);
+
+CREATE INDEX IF NOT EXISTS idx_repetition_history_progress_date
+    ON spaced_learning.repetition_history(module_progress_id, review_date);
+
+COMMENT ON TABLE spaced_learning.repetition_history IS 'Archived completed repetitions, range-partitioned by month of review_date';
@@ -0,0 +1,26 @@
+-- V11__add_study_history_to_module_progress.sql
+-- Completed review dates kept on module_progress as epoch days (newest first), appended
+-- on completion so the learning-module listing no longer aggregates repetitions.
+
+ALTER TABLE spaced_learning.module_progress
+ADD COLUMN IF NOT EXISTS study_history integer[] NOT NULL DEFAULT '{}';
+
+-- Backfill from both the active and the history tier
+UPDATE spaced_learning.module_progress mp
+SET study_history = h.days
+FROM (
+    SELECT module_progress_id,
+        ARRAY_AGG(review_date - DATE '1970-01-01' ORDER BY review_date DESC) AS days
+    FROM (
+        SELECT module_progress_id, review_date
+        FROM spaced_learning.repetitions
+        WHERE status = 'COMPLETED' AND review_date IS NOT NULL AND deleted_at IS NULL
+        UNION ALL
+        SELECT module_progress_id, review_date
+        FROM spaced_learning.repetition_history
+    ) completed
+    GROUP BY module_progress_id
+) h
+WHERE mp.id = h.module_progress_id;
+
+COMMENT ON COLUMN spaced_learning.module_progress.study_history IS 'Completed review dates as days since 1970-01-01, newest first';
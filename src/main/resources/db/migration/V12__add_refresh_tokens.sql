@@ -0,0 +1,31 @@
+-- V12__add_refresh_tokens.sql
+-- Issued refresh tokens, one row per jti. Tokens of one login share a session_id;
+-- each refresh marks the presented token as used and issues a new one in the same
+-- session, so presenting a used token again revokes the whole session.
+
+CREATE TABLE spaced_learning.refresh_tokens (
+    jti varchar(64) NOT NULL,
+    session_id uuid NOT NULL,
+    user_id uuid NOT NULL,
+    issued_at timestamp(6) NOT NULL,
+    expires_at timestamp(6) NOT NULL,
+    used_at timestamp(6) NULL,
+    revoked_at timestamp(6) NULL,
+    CONSTRAINT refresh_tokens_pkey PRIMARY KEY (jti),
+    CONSTRAINT fk_refresh_tokens_user FOREIGN KEY (user_id) REFERENCES spaced_learning.users(id)
+);
+
+CREATE INDEX IF NOT EXISTS idx_refresh_tokens_session
+    ON spaced_learning.refresh_tokens(session_id);
+
+-- Revoked sessions still within their lifetime seed the in-memory revocation filter
+CREATE INDEX IF NOT EXISTS idx_refresh_tokens_revoked_expires
+    ON spaced_learning.refresh_tokens(expires_at)
+    WHERE revoked_at IS NOT NULL;
+
+CREATE INDEX IF NOT EXISTS idx_refresh_tokens_expires
+    ON spaced_learning.refresh_tokens(expires_at);
+
+COMMENT ON TABLE spaced_learning.refresh_tokens IS 'Issued refresh tokens for rotation, reuse detection and revocation';
+COMMENT ON COLUMN spaced_learning.refresh_tokens.session_id IS 'Login session shared by all rotated tokens; also carried as sid in access tokens';
+COMMENT ON COLUMN spaced_learning.refresh_tokens.used_at IS 'Set when the token was exchanged; a second exchange is treated as reuse';
@@ -0,0 +1,85 @@
+-- V13__partial_indexes_for_soft_delete.sql
+-- Every entity query filters on deleted_at IS NULL, so the hot lookup indexes are
+-- rebuilt as partial indexes over live rows only. Small deleted_at indexes on the
+-- soft-deleted rows let the purge job find expired rows without scanning.
+-- Flyway runs this in a transaction, so indexes are built without CONCURRENTLY
+-- (partitioned parents do not support it anyway).
+
+-- ===============================
+-- Books and modules
+-- ===============================
+DROP INDEX IF EXISTS spaced_learning.idx_books_status;
+CREATE INDEX IF NOT EXISTS idx_books_status_live
+    ON spaced_learning.books(status) WHERE deleted_at IS NULL;
+
+DROP INDEX IF EXISTS spaced_learning.idx_modules_book_id;
+CREATE INDEX IF NOT EXISTS idx_modules_book_module_no_live
+    ON spaced_learning.modules(book_id, module_no) WHERE deleted_at IS NULL;
+
+DROP INDEX IF EXISTS spaced_learning.idx_vocabularies_module_id;
+CREATE INDEX IF NOT EXISTS idx_vocabularies_module_live
+    ON spaced_learning.vocabularies(module_id) WHERE deleted_at IS NULL;
+
+DROP INDEX IF EXISTS spaced_learning.idx_grammars_module_id;
+CREATE INDEX IF NOT EXISTS idx_grammars_module_live
+    ON spaced_learning.grammars(module_id) WHERE deleted_at IS NULL;
+
+-- ===============================
+-- Module progress and learning cycles
+-- ===============================
+DROP INDEX IF EXISTS spaced_learning.idx_module_progress_module_id;
+CREATE INDEX IF NOT EXISTS idx_module_progress_module_live
+    ON spaced_learning.module_progress(module_id) WHERE deleted_at IS NULL;
+
+DROP INDEX IF EXISTS spaced_learning.idx_module_progress_user_next_study;
+CREATE INDEX IF NOT EXISTS idx_module_progress_user_next_study_live
+    ON spaced_learning.module_progress(user_id, next_study_date) WHERE deleted_at IS NULL;
+
+DROP INDEX IF EXISTS spaced_learning.idx_learning_cycles_progress_id;
+CREATE INDEX IF NOT EXISTS idx_learning_cycles_progress_live
+    ON spaced_learning.learning_cycles(module_progress_id) WHERE deleted_at IS NULL;
+
+-- ===============================
+-- Repetitions (partitioned: indexes cascade to every partition)
+-- ===============================
+DROP INDEX IF EXISTS spaced_learning.idx_repetitions_progress_status_date;
+CREATE INDEX IF NOT EXISTS idx_repetitions_progress_status_date_live
+    ON spaced_learning.repetitions(module_progress_id, status, review_date) WHERE deleted_at IS NULL;
+
+DROP INDEX IF EXISTS spaced_learning.idx_repetitions_progress_order;
+CREATE INDEX IF NOT EXISTS idx_repetitions_progress_order_live
+    ON spaced_learning.repetitions(module_progress_id, repetition_order) WHERE deleted_at IS NULL;
+
+DROP INDEX IF EXISTS spaced_learning.idx_repetitions_review_date_status;
+CREATE INDEX IF NOT EXISTS idx_repetitions_review_date_status_live
+    ON spaced_learning.repetitions(review_date, status) WHERE deleted_at IS NULL;
+
+-- ===============================
+-- Users
+-- ===============================
+DROP INDEX IF EXISTS spaced_learning.idx_users_status;
+CREATE INDEX IF NOT EXISTS idx_users_status_live
+    ON spaced_learning.users(status) WHERE deleted_at IS NULL;
+
+-- ===============================
+-- Purge candidates
+-- ===============================
+CREATE INDEX IF NOT EXISTS idx_books_deleted_at
+    ON spaced_learning.books(deleted_at) WHERE deleted_at IS NOT NULL;
+CREATE INDEX IF NOT EXISTS idx_modules_deleted_at
+    ON spaced_learning.modules(deleted_at) WHERE deleted_at IS NOT NULL;
+CREATE INDEX IF NOT EXISTS idx_vocabularies_deleted_at
+    ON spaced_learning.vocabularies(deleted_at) WHERE deleted_at IS NOT NULL;
+CREATE INDEX IF NOT EXISTS idx_grammars_deleted_at
+    ON spaced_learning.grammars(deleted_at) WHERE deleted_at IS NOT NULL;
+CREATE INDEX IF NOT EXISTS idx_module_progress_deleted_at
+    ON spaced_learning.module_progress(deleted_at) WHERE deleted_at IS NOT NULL;
+CREATE INDEX IF NOT EXISTS idx_learning_cycles_deleted_at
+    ON spaced_learning.learning_cycles(deleted_at) WHERE deleted_at IS NOT NULL;
+CREATE INDEX IF NOT EXISTS idx_repetitions_deleted_at
+    ON spaced_learning.repetitions(deleted_at) WHERE deleted_at IS NOT NULL;
+CREATE INDEX IF NOT EXISTS idx_users_deleted_at
+    ON spaced_learning.users(deleted_at) WHERE deleted_at IS NOT NULL;
+CREATE INDEX IF NOT EXISTS idx_user_statistics_deleted_at
+    ON spaced_learning.user_statistics(deleted_at) WHERE deleted_at IS NOT NULL;
+
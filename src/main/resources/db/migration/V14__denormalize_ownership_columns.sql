@@ -0,0 +1,77 @@
+-- V14__denormalize_ownership_columns.sql
+-- Copy the owning book, the module word count and a liveness flag onto
+-- module_progress and repetitions so the per-user statistics read a single
+-- table instead of joining repetitions -> module_progress -> modules -> books.
+-- The columns are written on insert by the entities and kept in sync by
+-- set-based updates when a module or book changes or is soft-deleted.
+
+-- ===============================
+-- Module progress
+-- ===============================
+ALTER TABLE spaced_learning.module_progress
+ADD COLUMN IF NOT EXISTS book_id uuid NULL;
+
+ALTER TABLE spaced_learning.module_progress
+ADD COLUMN IF NOT EXISTS word_count INT NOT NULL DEFAULT 0;
+
+ALTER TABLE spaced_learning.module_progress
+ADD COLUMN IF NOT EXISTS active BOOLEAN NOT NULL DEFAULT TRUE;
+
+UPDATE spaced_learning.module_progress mp
+SET book_id = m.book_id,
+    word_count = COALESCE(m.word_count, 0),
+    active = (m.deleted_at IS NULL AND b.deleted_at IS NULL)
+FROM spaced_learning.modules m
+JOIN spaced_learning.books b ON b.id = m.book_id
+WHERE m.id = mp.module_id;
+
+COMMENT ON COLUMN spaced_learning.module_progress.book_id IS 'Copy of modules.book_id';
+COMMENT ON COLUMN spaced_learning.module_progress.word_count IS 'Copy of modules.word_count';
+COMMENT ON COLUMN spaced_learning.module_progress.active IS 'False once the module or its book is soft-deleted';
+
+-- ===============================
+-- Repetitions (partitioned: columns cascade to every partition)
+-- ===============================
+ALTER TABLE spaced_learning.repetitions
+ADD COLUMN IF NOT EXISTS user_id uuid NULL;
+
+ALTER TABLE spaced_learning.repetitions
+ADD COLUMN IF NOT EXISTS book_id uuid NULL;
+
+ALTER TABLE spaced_learning.repetitions
+ADD COLUMN IF NOT EXISTS word_count INT NOT NULL DEFAULT 0;
+
+ALTER TABLE spaced_learning.repetitions
+ADD COLUMN IF NOT EXISTS active BOOLEAN NOT NULL DEFAULT TRUE;
+
+UPDATE spaced_learning.repetitions r
+SET user_id = mp.user_id,
+    book_id = mp.book_id,
+    word_count = mp.word_count,
+    active = (mp.active AND mp.deleted_at IS NULL)
+FROM spaced_learning.module_progress mp
+WHERE mp.id = r.module_progress_id;
+
+COMMENT ON COLUMN spaced_learning.repetitions.user_id IS 'Copy of module_progress.user_id';
+COMMENT ON COLUMN spaced_learning.repetitions.book_id IS 'Copy of modules.book_id';
+COMMENT ON COLUMN spaced_learning.repetitions.word_count IS 'Copy of modules.word_count';
+COMMENT ON COLUMN spaced_learning.repetitions.active IS 'False once the progress, module or book is soft-deleted';
+
+-- ===============================
+-- Covering indexes for the per-user statistics
+-- ===============================
+CREATE INDEX IF NOT EXISTS idx_repetitions_user_review_live
+    ON spaced_learning.repetitions(user_id, review_date)
+    INCLUDE (status, module_progress_id, word_count)
+    WHERE active AND deleted_at IS NULL;
+
+CREATE INDEX IF NOT EXISTS idx_module_progress_user_stats_live
+    ON spaced_learning.module_progress(user_id)
+    INCLUDE (word_count, first_learning_date, cycles_studied, percent_complete)
+    WHERE active AND deleted_at IS NULL;
+
+-- Used by the set-based updates when a book is soft-deleted
+CREATE INDEX IF NOT EXISTS idx_module_progress_book_id
+    ON spaced_learning.module_progress(book_id);
+CREATE INDEX IF NOT EXISTS idx_repetitions_book_id
+    ON spaced_learning.repetitions(book_id);
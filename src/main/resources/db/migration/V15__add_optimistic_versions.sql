@@ -0,0 +1,14 @@
+-- V15__add_optimistic_versions.sql
+-- Optimistic-locking version columns for the rows written by concurrent
+-- completions. Set-based updates that change these rows also bump the version
+-- so that a stale entity cannot overwrite them.
+
+ALTER TABLE spaced_learning.module_progress
+ADD COLUMN IF NOT EXISTS version BIGINT NOT NULL DEFAULT 0;
+
+-- Partitioned: the column cascades to every partition
+ALTER TABLE spaced_learning.repetitions
+ADD COLUMN IF NOT EXISTS version BIGINT NOT NULL DEFAULT 0;
+
+COMMENT ON COLUMN spaced_learning.module_progress.version IS 'Optimistic lock version';
+COMMENT ON COLUMN spaced_learning.repetitions.version IS 'Optimistic lock version';
@@ -0,0 +1,28 @@
+-- V16__add_current_cycle_start.sql
+-- Denormalized start date of the current learning cycle, so scheduling reads a
+-- column instead of loading the progress's whole cycle history.
+
+ALTER TABLE spaced_learning.module_progress
+ADD COLUMN IF NOT EXISTS current_cycle_start date NULL;
+
+UPDATE spaced_learning.module_progress mp
+SET current_cycle_start = latest.start_date
+FROM (
+    SELECT c.module_progress_id, c.cycles_studied, MAX(c.start_date) AS start_date
+    FROM spaced_learning.learning_cycles c
+    WHERE c.deleted_at IS NULL
+    GROUP BY c.module_progress_id, c.cycles_studied
+) latest
+WHERE latest.module_progress_id = mp.id
+  AND latest.cycles_studied = mp.cycles_studied
+  AND mp.current_cycle_start IS NULL;
+
+COMMENT ON COLUMN spaced_learning.module_progress.current_cycle_start IS 'Latest start date of the cycle in cycles_studied';
+
+-- Latest start of a given cycle is a single index probe; the leading column also
+-- serves the plain per-progress lookups of the index it replaces.
+CREATE INDEX IF NOT EXISTS idx_learning_cycles_progress_cycle_start
+    ON spaced_learning.learning_cycles(module_progress_id, cycles_studied, start_date DESC)
+    WHERE deleted_at IS NULL;
+
+DROP INDEX IF EXISTS spaced_learning.idx_learning_cycles_progress_live;
@@ -0,0 +1,22 @@
+-- V17__add_background_jobs.sql
+-- State of the cluster-wide background jobs, one row per job. Exclusivity comes from a
+-- session-level advisory lock held by the running node; this table only records the last
+-- run, its progress checkpoint and a heartbeat for inspection.
+
+CREATE TABLE spaced_learning.background_jobs (
+    name varchar(100) NOT NULL,
+    status varchar(20) NOT NULL,
+    owner varchar(255) NULL,
+    checkpoint varchar(255) NULL,
+    processed bigint NOT NULL DEFAULT 0,
+    started_at timestamp(6) NULL,
+    finished_at timestamp(6) NULL,
+    heartbeat_at timestamp(6) NULL,
+    last_error varchar(1000) NULL,
+    CONSTRAINT background_jobs_pkey PRIMARY KEY (name),
+    CONSTRAINT background_jobs_status_check CHECK (((status)::text = ANY ((ARRAY['RUNNING'::character varying, 'COMPLETED'::character varying, 'FAILED'::character varying])::text[])))
+);
+
+COMMENT ON TABLE spaced_learning.background_jobs IS 'Last run of each background job; the run itself is guarded by pg_try_advisory_lock';
+COMMENT ON COLUMN spaced_learning.background_jobs.checkpoint IS 'Position reached by an unfinished run; the next run resumes from it';
+COMMENT ON COLUMN spaced_learning.background_jobs.heartbeat_at IS 'Refreshed at every checkpoint while the job runs';
@@ -0,0 +1,40 @@
+-- V18__add_outbox_events.sql
+-- Transactional outbox. Services append events in the transaction that changes the state;
+-- the dispatcher claims pending rows with FOR UPDATE SKIP LOCKED, hands them to in-process
+-- subscribers and marks them delivered. Delivered rows are deleted in bulk by a cleanup job;
+-- events that exhaust their attempts are dead-lettered with failed_at and kept for inspection.
+
+CREATE TABLE spaced_learning.outbox_events (
+    id bigint GENERATED BY DEFAULT AS IDENTITY,
+    event_type varchar(100) NOT NULL,
+    event_key varchar(100) NULL,
+    payload text NOT NULL,
+    created_at timestamp(6) NOT NULL,
+    available_at timestamp(6) NOT NULL,
+    delivered_at timestamp(6) NULL,
+    failed_at timestamp(6) NULL,
+    attempts int NOT NULL DEFAULT 0,
+    last_error varchar(1000) NULL,
+    CONSTRAINT outbox_events_pkey PRIMARY KEY (id)
+);
+
+-- Pending rows in claim order; stays small because delivered rows drop out of it
+CREATE INDEX IF NOT EXISTS idx_outbox_events_pending
+    ON spaced_learning.outbox_events(id)
+    WHERE delivered_at IS NULL AND failed_at IS NULL;
+
+CREATE INDEX IF NOT EXISTS idx_outbox_events_delivered
+    ON spaced_learning.outbox_events(delivered_at)
+    WHERE delivered_at IS NOT NULL;
+
+CREATE INDEX IF NOT EXISTS idx_outbox_events_failed
+    ON spaced_learning.outbox_events(failed_at)
+    WHERE failed_at IS NOT NULL;
+
+-- Queue table with constant insert/delete churn: vacuum it early
+ALTER TABLE spaced_learning.outbox_events SET (autovacuum_vacuum_scale_factor = 0.01, autovacuum_vacuum_threshold = 1000);
+
+COMMENT ON TABLE spaced_learning.outbox_events IS 'Domain events written with the state change and delivered at least once by the outbox dispatcher';
+COMMENT ON COLUMN spaced_learning.outbox_events.event_key IS 'Coalescing key: among pending events of one type and key only the latest is delivered';
+COMMENT ON COLUMN spaced_learning.outbox_events.available_at IS 'Earliest next claim; pushed forward as a lease while claimed and as backoff after a failure';
+COMMENT ON COLUMN spaced_learning.outbox_events.failed_at IS 'Set when the event was abandoned after its last attempt; dead letters are never claimed or cleaned up'
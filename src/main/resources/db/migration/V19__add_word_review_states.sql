@@ -0,0 +1,27 @@
+-- V19__add_word_review_states.sql
+-- Per-word spaced repetition state, one row per module progress. The state of every
+-- reviewed word of the module is packed column-wise into a single bytea, so a learner's
+-- vocabulary costs one row per module instead of one row per word and review.
+
+CREATE TABLE spaced_learning.word_review_states (
+    module_progress_id uuid NOT NULL,
+    user_id uuid NOT NULL,
+    module_id uuid NOT NULL,
+    word_count integer NOT NULL DEFAULT 0,
+    next_due_day integer NULL,
+    states bytea NOT NULL,
+    version bigint NOT NULL DEFAULT 0,
+    updated_at timestamp(6) NULL,
+    CONSTRAINT word_review_states_pkey PRIMARY KEY (module_progress_id),
+    CONSTRAINT fk_word_review_states_module_progress FOREIGN KEY (module_progress_id)
+        REFERENCES spaced_learning.module_progress(id) ON DELETE CASCADE
+);
+
+CREATE INDEX IF NOT EXISTS idx_word_review_states_user_due
+    ON spaced_learning.word_review_states(user_id, next_due_day)
+    WHERE next_due_day IS NOT NULL;
+
+COMMENT ON TABLE spaced_learning.word_review_states IS 'Packed per-word review state of a module progress record';
+COMMENT ON COLUMN spaced_learning.word_review_states.word_count IS 'Number of words packed in states';
+COMMENT ON COLUMN spaced_learning.word_review_states.next_due_day IS 'Earliest due date among the packed words, as days since 1970-01-01';
+COMMENT ON COLUMN spaced_learning.word_review_states.states IS 'Format byte, word count, then one column per field: vocabulary ids, due day, interval, ease, lapses, repetitions';
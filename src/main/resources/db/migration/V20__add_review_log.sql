@@ -0,0 +1,50 @@
+-- V20__add_review_log.sql
+-- Append-only log of every repetition completion, range-partitioned by month on
+-- reviewed_at. Rows are written in batches with COPY and never updated, so analytics reads
+-- whole immutable partitions and old months can be dropped without a bulk DELETE. Upcoming
+-- partitions are created ahead of time by the review-log-partitions job; the default
+-- partition only catches rows for a month that was not created in time.
+
+CREATE SEQUENCE IF NOT EXISTS spaced_learning.review_log_id_seq CACHE 100;
+
+CREATE TABLE spaced_learning.review_log (
+    id bigint NOT NULL DEFAULT nextval('spaced_learning.review_log_id_seq'),
+    reviewed_at timestamp(6) NOT NULL,
+    user_id uuid NOT NULL,
+    module_progress_id uuid NOT NULL,
+    repetition_id uuid NOT NULL,
+    repetition_order varchar(20) NOT NULL,
+    cycle varchar(30) NOT NULL,
+    status varchar(20) NOT NULL,
+    score numeric(5, 2) NULL,
+    scheduled_date date NULL,
+    duration_ms integer NULL
+) PARTITION BY RANGE (reviewed_at);
+
+ALTER SEQUENCE spaced_learning.review_log_id_seq OWNED BY spaced_learning.review_log.id;
+
+CREATE TABLE spaced_learning.review_log_default PARTITION OF spaced_learning.review_log DEFAULT;
+
+DO $$
+DECLARE
+    month_start date := date_trunc('month', now())::date;
+BEGIN
+    FOR i IN 0..2 LOOP
+        EXECUTE format(
+            'CREATE TABLE IF NOT EXISTS spaced_learning.%I PARTITION OF spaced_learning.review_log '
+                || 'FOR VALUES FROM (%L) TO (%L)',
+            'review_log_' || to_char(month_start + make_interval(months => i), 'YYYY_MM'),
+            month_start + make_interval(months => i),
+            month_start + make_interval(months => i + 1));
+    END LOOP;
+END $$;
+
+-- Per-learner history reads; BRIN keeps time-range scans cheap on an append-only table
+CREATE INDEX IF NOT EXISTS idx_review_log_progress_reviewed
+    ON spaced_learning.review_log(module_progress_id, reviewed_at);
+CREATE INDEX IF NOT EXISTS idx_review_log_reviewed_brin
+    ON spaced_learning.review_log USING brin (reviewed_at);
+
+COMMENT ON TABLE spaced_learning.review_log IS 'Append-only repetition completions, range-partitioned by month on reviewed_at';
+COMMENT ON COLUMN spaced_learning.review_log.scheduled_date IS 'Review date the repetition was scheduled for when it was completed';
+COMMENT ON COLUMN spaced_learning.review_log.duration_ms IS 'Time the learner spent on the review as reported by the client';
@@ -0,0 +1,25 @@
+-- V21__add_user_schedule_parameters.sql
+-- Repetition schedule parameters fitted per learner from the review log by the
+-- schedule-parameter-fit job. Learners without a row are scheduled with the default
+-- multipliers and factors.
+
+CREATE TABLE spaced_learning.user_schedule_parameters (
+    user_id uuid NOT NULL,
+    multipliers double precision[] NOT NULL,
+    cycle_factor double precision NOT NULL,
+    completion_factor double precision NOT NULL,
+    word_factor double precision NOT NULL,
+    sample_count integer NOT NULL,
+    loss double precision NOT NULL,
+    default_loss double precision NOT NULL,
+    fitted_at timestamp(6) NOT NULL,
+    CONSTRAINT user_schedule_parameters_pkey PRIMARY KEY (user_id),
+    CONSTRAINT fk_user_schedule_parameters_user FOREIGN KEY (user_id)
+        REFERENCES spaced_learning.users(id) ON DELETE CASCADE
+);
+
+COMMENT ON TABLE spaced_learning.user_schedule_parameters IS 'Per-learner repetition schedule parameters fitted from the review log';
+COMMENT ON COLUMN spaced_learning.user_schedule_parameters.multipliers IS 'Base days to each repetition, in repetition order';
+COMMENT ON COLUMN spaced_learning.user_schedule_parameters.sample_count IS 'Review intervals the parameters were fitted on';
+COMMENT ON COLUMN spaced_learning.user_schedule_parameters.loss IS 'Mean squared recall error of the fitted parameters';
+COMMENT ON COLUMN spaced_learning.user_schedule_parameters.default_loss IS 'Mean squared recall error of the default parameters on the same samples';
@@ -0,0 +1,131 @@
+-- V9__add_user_ownership_and_partition_repetitions.sql
+-- Reintroduce per-user ownership of module progress and hash-partition repetitions
+-- so that every progress-scoped lookup touches a single partition.
+
+-- ===============================
+-- Module progress ownership
+-- ===============================
+ALTER TABLE spaced_learning.module_progress
+ADD COLUMN IF NOT EXISTS user_id uuid NULL;
+
+ALTER TABLE spaced_learning.module_progress
+ADD CONSTRAINT fk_module_progress_user
+FOREIGN KEY (user_id) REFERENCES spaced_learning.users(id);
+
+-- Backfill legacy rows. Progress used to be shared by every user of the book, so the
+-- first user (by ID) takes over the existing row and every other user of the book gets
+-- a copy of it, with its learning cycles and repetitions copied further down.
+CREATE TEMPORARY TABLE progress_owners ON COMMIT DROP AS
+SELECT mp.id AS source_id,
+       ub.user_id,
+       ROW_NUMBER() OVER (PARTITION BY mp.id ORDER BY ub.user_id) AS owner_rank,
+       gen_random_uuid() AS copy_id
+FROM spaced_learning.module_progress mp
+JOIN spaced_learning.modules m ON m.id = mp.module_id
+JOIN spaced_learning.user_books ub ON ub.book_id = m.book_id
+WHERE mp.user_id IS NULL;
+
+UPDATE spaced_learning.module_progress mp
+SET user_id = po.user_id
+FROM progress_owners po
+WHERE po.source_id = mp.id
+  AND po.owner_rank = 1;
+
+INSERT INTO spaced_learning.module_progress (
+    id, module_id, user_id, cycles_studied, first_learning_date, next_study_date, percent_complete,
+    extended_review_count, created_at, updated_at, deleted_at)
+SELECT po.copy_id, mp.module_id, po.user_id, mp.cycles_studied, mp.first_learning_date, mp.next_study_date,
+    mp.percent_complete, mp.extended_review_count, mp.created_at, mp.updated_at, mp.deleted_at
+FROM progress_owners po
+JOIN spaced_learning.module_progress mp ON mp.id = po.source_id
+WHERE po.owner_rank > 1;
+
+INSERT INTO spaced_learning.learning_cycles (
+    id, module_progress_id, cycles_studied, start_date, description, created_at, updated_at, deleted_at)
+SELECT gen_random_uuid(), po.copy_id, lc.cycles_studied, lc.start_date, lc.description, lc.created_at,
+    lc.updated_at, lc.deleted_at
+FROM progress_owners po
+JOIN spaced_learning.learning_cycles lc ON lc.module_progress_id = po.source_id
+WHERE po.owner_rank > 1;
+
+-- Progress of a book nobody has access to any more cannot be attributed: stop the
+-- migration rather than leave rows that no user-scoped query can see
+DO $$
+DECLARE
+    orphaned bigint;
+BEGIN
+    SELECT COUNT(*) INTO orphaned FROM spaced_learning.module_progress WHERE user_id IS NULL;
+    IF orphaned > 0 THEN
+        RAISE EXCEPTION 'V9: % module_progress rows belong to books without any user in user_books', orphaned
+            USING HINT = 'Grant the book to its learner in user_books, or delete the progress rows, then rerun.';
+    END IF;
+END $$;
+
+ALTER TABLE spaced_learning.module_progress ALTER COLUMN user_id SET NOT NULL;
+
+CREATE INDEX IF NOT EXISTS idx_module_progress_user_next_study
+    ON spaced_learning.module_progress(user_id, next_study_date);
+
+CREATE UNIQUE INDEX IF NOT EXISTS uk_module_progress_user_module
+    ON spaced_learning.module_progress(user_id, module_id)
+    WHERE deleted_at IS NULL;
+
+COMMENT ON COLUMN spaced_learning.module_progress.user_id IS 'Learner who owns this progress record';
+
+-- ===============================
+-- Hash-partitioned repetitions
+-- ===============================
+ALTER TABLE spaced_learning.repetitions RENAME TO repetitions_legacy;
+ALTER TABLE spaced_learning.repetitions_legacy RENAME CONSTRAINT repetitions_pkey TO repetitions_legacy_pkey;
+
+CREATE TABLE spaced_learning.repetitions (
+    id uuid NOT NULL,
+    module_progress_id uuid NOT NULL,
+    repetition_order varchar(20) NOT NULL,
+    status varchar(50) NULL DEFAULT 'NOT_STARTED',
+    review_date date NULL,
+    created_at timestamp(6) NULL,
+    updated_at timestamp(6) NULL,
+    deleted_at timestamp(6) NULL,
+    -- A partitioned table's keys must include the partition key; see Repetition for why id alone identifies a row
+    CONSTRAINT repetitions_pkey PRIMARY KEY (id, module_progress_id),
+    CONSTRAINT repetitions_repetition_order_check CHECK (((repetition_order)::text = ANY ((ARRAY['FIRST_REPETITION'::character varying, 'SECOND_REPETITION'::character varying, 'THIRD_REPETITION'::character varying, 'FOURTH_REPETITION'::character varying, 'FIFTH_REPETITION'::character varying])::text[]))),
+    CONSTRAINT repetitions_status_check CHECK (((status)::text = ANY ((ARRAY['NOT_STARTED'::character varying, 'COMPLETED'::character varying, 'SKIPPED'::character varying])::text[]))),
+    CONSTRAINT fk_repetitions_module_progress FOREIGN KEY (module_progress_id)
+        REFERENCES spaced_learning.module_progress(id)
+) PARTITION BY HASH (module_progress_id);
+
+CREATE TABLE spaced_learning.repetitions_p0 PARTITION OF spaced_learning.repetitions FOR VALUES WITH (MODULUS 8, REMAINDER 0);
+CREATE TABLE spaced_learning.repetitions_p1 PARTITION OF spaced_learning.repetitions FOR VALUES WITH (MODULUS 8, REMAINDER 1);
+CREATE TABLE spaced_learning.repetitions_p2 PARTITION OF spaced_learning.repetitions FOR VALUES WITH (MODULUS 8, REMAINDER 2);
+CREATE TABLE spaced_learning.repetitions_p3 PARTITION OF spaced_learning.repetitions FOR VALUES WITH (MODULUS 8, REMAINDER 3);
+CREATE TABLE spaced_learning.repetitions_p4 PARTITION OF spaced_learning.repetitions FOR VALUES WITH (MODULUS 8, REMAINDER 4);
+CREATE TABLE spaced_learning.repetitions_p5 PARTITION OF spaced_learning.repetitions FOR VALUES WITH (MODULUS 8, REMAINDER 5);
+CREATE TABLE spaced_learning.repetitions_p6 PARTITION OF spaced_learning.repetitions FOR VALUES WITH (MODULUS 8, REMAINDER 6);
+CREATE TABLE spaced_learning.repetitions_p7 PARTITION OF spaced_learning.repetitions FOR VALUES WITH (MODULUS 8, REMAINDER 7);
+
+INSERT INTO spaced_learning.repetitions (
+    id, module_progress_id, repetition_order, status, review_date, created_at, updated_at, deleted_at)
+SELECT id, module_progress_id, repetition_order, status, review_date, created_at, updated_at, deleted_at
+FROM spaced_learning.repetitions_legacy;
+
+-- Schedules of the per-user progress copies made above
+INSERT INTO spaced_learning.repetitions (
+    id, module_progress_id, repetition_order, status, review_date, created_at, updated_at, deleted_at)
+SELECT gen_random_uuid(), po.copy_id, r.repetition_order, r.status, r.review_date, r.created_at, r.updated_at,
+    r.deleted_at
+FROM progress_owners po
+JOIN spaced_learning.repetitions_legacy r ON r.module_progress_id = po.source_id
+WHERE po.owner_rank > 1;
+
+DROP TABLE spaced_learning.repetitions_legacy;
+
+-- Indexes are created on the parent and cascade to every partition
+CREATE INDEX IF NOT EXISTS idx_repetitions_progress_status_date
+    ON spaced_learning.repetitions(module_progress_id, status, review_date);
+CREATE INDEX IF NOT EXISTS idx_repetitions_progress_order
+    ON spaced_learning.repetitions(module_progress_id, repetition_order);
+CREATE INDEX IF NOT EXISTS idx_repetitions_review_date_status
+    ON spaced_learning.repetitions(review_date, status);
+
+COMMENT ON TABLE spaced_learning.repetitions IS 'Repetition schedule, hash-partitioned by module_progress_id';
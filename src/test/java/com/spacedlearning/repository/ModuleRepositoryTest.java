@@ -0,0 +1,51 @@
+package com.spacedlearning.repository;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+class ModuleRepositoryTest {
+
+    private static List<Method> statsQueries() {
+        return Arrays.stream(ModuleRepository.class.getDeclaredMethods())
+                .filter(method -> method.isAnnotationPresent(Query.class))
+                .filter(method -> method.getAnnotation(Query.class).nativeQuery())
+                .toList();
+    }
+
+    private static boolean hasUserIdParameter(Method method) {
+        return Arrays.stream(method.getParameters())
+                .map(parameter -> parameter.getAnnotation(Param.class))
+                .anyMatch(param -> (param != null) && "userId".equals(param.value()));
+    }
+
+    @Test
+    void everyStatsQueryIsScopedToOneUser() {
+        final var queries = statsQueries();
+
+        assertFalse(queries.isEmpty());
+        for (final Method method : queries) {
+            assertTrue(hasUserIdParameter(method), method.getName() + " takes no userId");
+            assertTrue(method.getAnnotation(Query.class).value().contains("user_id = :userId"),
+                    method.getName() + " does not filter on user_id");
+        }
+    }
+
+    @Test
+    void repetitionStatsFilterOnTheDenormalizedOwner() {
+        for (final Method method : statsQueries()) {
+            final var sql = method.getAnnotation(Query.class).value();
+            if (sql.contains("spaced_learning.repetitions r")) {
+                assertTrue(sql.contains("r.user_id = :userId"),
+                        method.getName() + " scans every learner's repetitions");
+            }
+        }
+    }
+}
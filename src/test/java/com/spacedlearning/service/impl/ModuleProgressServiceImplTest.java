@@ -0,0 +1,174 @@
+package com.spacedlearning.service.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpStatus;
+
+import com.spacedlearning.dto.progress.ModuleProgressCreateRequest;
+import com.spacedlearning.dto.progress.ModuleProgressDetailResponse;
+import com.spacedlearning.dto.progress.ModuleProgressUpdateRequest;
+import com.spacedlearning.entity.Module;
+import com.spacedlearning.entity.ModuleProgress;
+import com.spacedlearning.entity.User;
+import com.spacedlearning.exception.SpacedLearningException;
+import com.spacedlearning.mapper.ModuleProgressMapper;
+import com.spacedlearning.repository.BookRepository;
+import com.spacedlearning.repository.LearningCycleRepository;
+import com.spacedlearning.repository.ModuleProgressRepository;
+import com.spacedlearning.repository.ModuleRepository;
+import com.spacedlearning.repository.RepetitionRepository;
+import com.spacedlearning.repository.UserRepository;
+import com.spacedlearning.service.RepetitionService;
+import com.spacedlearning.service.impl.outbox.OutboxPublisher;
+import com.spacedlearning.service.impl.repetition.RepetitionScheduleManager;
+
+class ModuleProgressServiceImplTest {
+
+    private static final Clock CLOCK = Clock.fixed(Instant.parse("2025-03-10T08:00:00Z"), ZoneOffset.UTC);
+    private static final UUID OWNER = UUID.randomUUID();
+    private static final UUID OTHER = UUID.randomUUID();
+
+    private final ModuleProgressRepository progressRepository = mock(ModuleProgressRepository.class);
+    private final ModuleRepository moduleRepository = mock(ModuleRepository.class);
+    private final RepetitionRepository repetitionRepository = mock(RepetitionRepository.class);
+    private final UserRepository userRepository = mock(UserRepository.class);
+    private final ModuleProgressMapper progressMapper = mock(ModuleProgressMapper.class);
+    private final RepetitionService repetitionService = mock(RepetitionService.class);
+    private ModuleProgressServiceImpl service;
+
+    private static ModuleProgress progressOwnedBy(UUID userId) {
+        final var user = new User();
+        user.setId(userId);
+        final var progress = ModuleProgress.builder().user(user).build();
+        progress.setId(UUID.randomUUID());
+        return progress;
+    }
+
+    private static void assertNotFound(Runnable call) {
+        final var e = assertThrows(SpacedLearningException.class, call::run);
+        assertEquals(HttpStatus.NOT_FOUND, e.getStatus());
+    }
+
+    @BeforeEach
+    void setUp() {
+        this.service = new ModuleProgressServiceImpl(mock(BookRepository.class), CLOCK,
+                mock(LearningCycleRepository.class), this.progressRepository, this.moduleRepository,
+                this.repetitionRepository, this.userRepository, this.progressMapper, mock(OutboxPublisher.class),
+                this.repetitionService, mock(RepetitionScheduleManager.class));
+    }
+
+    @Test
+    void createAssignsTheCallerAsOwner() {
+        final var moduleId = UUID.randomUUID();
+        final var module = new Module();
+        final var caller = new User();
+        caller.setId(OWNER);
+        final var request = ModuleProgressCreateRequest.builder().moduleId(moduleId).build();
+        final var progress = progressOwnedBy(OWNER);
+        when(this.moduleRepository.findById(moduleId)).thenReturn(Optional.of(module));
+        when(this.userRepository.findById(OWNER)).thenReturn(Optional.of(caller));
+        when(this.progressMapper.toEntity(request, module, caller)).thenReturn(progress);
+        when(this.progressRepository.save(progress)).thenReturn(progress);
+
+        this.service.create(request, OWNER);
+
+        verify(this.progressRepository).existsByModuleIdAndUserId(moduleId, OWNER);
+        verify(this.progressMapper).toEntity(request, module, caller);
+        verify(this.repetitionService).createDefaultSchedule(progress.getId());
+    }
+
+    @Test
+    void createRejectsAMissingCaller() {
+        final var request = ModuleProgressCreateRequest.builder().moduleId(UUID.randomUUID()).build();
+
+        assertThrows(NullPointerException.class, () -> this.service.create(request, null));
+        verify(this.progressRepository, never()).save(any());
+    }
+
+    @Test
+    void findByIdReturnsTheCallersProgress() {
+        final var progress = progressOwnedBy(OWNER);
+        final var response = new ModuleProgressDetailResponse();
+        when(this.progressRepository.findWithRepetitionsByIdAndUserId(progress.getId(), OWNER))
+                .thenReturn(Optional.of(progress));
+        when(this.progressMapper.toDto(progress)).thenReturn(response);
+
+        assertSame(response, this.service.findById(progress.getId(), OWNER));
+    }
+
+    @Test
+    void findByIdHidesProgressOfOtherUsers() {
+        final var id = UUID.randomUUID();
+        when(this.progressRepository.findWithRepetitionsByIdAndUserId(id, OTHER)).thenReturn(Optional.empty());
+
+        assertNotFound(() -> this.service.findById(id, OTHER));
+    }
+
+    @Test
+    void updateOfAnotherUsersProgressChangesNothing() {
+        final var id = UUID.randomUUID();
+        when(this.progressRepository.findByIdAndUserId(id, OTHER)).thenReturn(Optional.empty());
+
+        assertNotFound(() -> this.service.update(id, OTHER, new ModuleProgressUpdateRequest()));
+        verify(this.progressRepository, never()).save(any());
+    }
+
+    @Test
+    void deleteOfAnotherUsersProgressChangesNothing() {
+        final var id = UUID.randomUUID();
+        when(this.progressRepository.findByIdAndUserId(id, OTHER)).thenReturn(Optional.empty());
+
+        assertNotFound(() -> this.service.delete(id, OTHER));
+        verify(this.progressRepository, never()).save(any());
+        verify(this.repetitionRepository, never()).deactivateByModuleProgressId(any());
+    }
+
+    @Test
+    void deleteSoftDeletesTheCallersProgress() {
+        final var progress = progressOwnedBy(OWNER);
+        when(this.progressRepository.findByIdAndUserId(progress.getId(), OWNER)).thenReturn(Optional.of(progress));
+
+        this.service.delete(progress.getId(), OWNER);
+
+        verify(this.progressRepository).save(progress);
+        verify(this.repetitionRepository).deactivateByModuleProgressId(progress.getId());
+    }
+
+    @Test
+    void listsByBookAndModuleAreScopedToTheCaller() {
+        final var bookId = UUID.randomUUID();
+        final var moduleId = UUID.randomUUID();
+        final var pageable = PageRequest.of(0, 20);
+        when(this.progressRepository.findByBookIdAndUserId(bookId, OWNER, pageable))
+                .thenReturn(new PageImpl<>(List.of()));
+        when(this.moduleRepository.existsById(moduleId)).thenReturn(true);
+        when(this.progressRepository.findByModuleIdAndUserId(moduleId, OWNER, pageable))
+                .thenReturn(new PageImpl<>(List.of()));
+
+        this.service.findByBookId(bookId, OWNER, pageable);
+        this.service.findByModuleId(moduleId, OWNER, pageable);
+
+        verify(this.progressRepository).findByBookIdAndUserId(bookId, OWNER, pageable);
+        verify(this.progressRepository).findByModuleIdAndUserId(moduleId, OWNER, pageable);
+        verify(this.progressRepository, never()).findAll(any(Pageable.class));
+    }
+}
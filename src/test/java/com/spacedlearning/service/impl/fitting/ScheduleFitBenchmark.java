@@ -0,0 +1,129 @@
+package com.spacedlearning.service.impl.fitting;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.spacedlearning.service.impl.repetition.ScheduleParameters;
+
+/**
+ * JMH benchmarks of the schedule parameter fit on synthetic learners, without
+ * a database: the inner loss and gradient loop per sample on one thread, and
+ * fitting a batch of learners on a fork/join pool as the fit job does.
+ * <p>
+ * Lives with the test sources so it never ships in the application jar. Run it
+ * on the test classpath with
+ * {@code mvn test-compile exec:java -Dexec.classpathScope=test
+ * -Dexec.mainClass=org.openjdk.jmh.Main -Dexec.args="ScheduleFitBenchmark"}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class ScheduleFitBenchmark {
+
+    private static final int LOSS_SAMPLES = 1_000_000;
+    private static final double NOISE = 0.05;
+    private static final double RETENTION = 0.9;
+
+    @State(Scope.Thread)
+    public static class LossState {
+
+        ScheduleLoss loss;
+        ScheduleSamples samples;
+        double[] theta;
+
+        @Setup(Level.Trial)
+        public void setUp() {
+            final var random = new Random(42);
+            this.loss = new ScheduleLoss(RETENTION);
+            this.samples = SyntheticSchedules.samples(random, ScheduleParameters.DEFAULT, LOSS_SAMPLES, RETENTION,
+                    NOISE);
+            this.theta = ScheduleLoss.toVector(SyntheticSchedules.hiddenParameters(random));
+        }
+    }
+
+    @State(Scope.Benchmark)
+    public static class FitState {
+
+        @Param({ "1000" })
+        int learners;
+
+        @Param({ "300" })
+        int samples;
+
+        @Param({ "0" })
+        int threads;
+
+        ScheduleParameterOptimizer optimizer;
+        List<ScheduleSamples> histories;
+        ForkJoinPool pool;
+
+        @Setup(Level.Trial)
+        public void setUp() {
+            final var random = new Random(42);
+            this.optimizer = new ScheduleParameterOptimizer(
+                    new ScheduleParameterOptimizer.Settings(RETENTION, 0.5, 100, 16384));
+            this.histories = new ArrayList<>(this.learners);
+            for (var i = 0; i < this.learners; i++) {
+                this.histories.add(SyntheticSchedules.samples(random, SyntheticSchedules.hiddenParameters(random),
+                        this.samples, RETENTION, NOISE));
+            }
+            this.pool = new ForkJoinPool(
+                    this.threads > 0 ? this.threads : Runtime.getRuntime().availableProcessors());
+        }
+
+        @TearDown(Level.Trial)
+        public void tearDown() {
+            this.pool.shutdownNow();
+        }
+    }
+
+    /**
+     * Inner loop of the fit; the result is returned so the loop is not
+     * optimized away.
+     */
+    @Benchmark
+    @OperationsPerInvocation(LOSS_SAMPLES)
+    @OutputTimeUnit(TimeUnit.NANOSECONDS)
+    public double[] accumulate(LossState state) {
+        final var out = new double[ScheduleLoss.PARAMETERS + 1];
+        state.loss.accumulate(state.samples, state.theta, 0, LOSS_SAMPLES, out);
+        return out;
+    }
+
+    /**
+     * Fits every learner of the batch in parallel and returns the summed loss.
+     */
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public double fitLearners(FitState state) {
+        final List<ForkJoinTask<ScheduleParameterOptimizer.Fit>> tasks = new ArrayList<>(state.learners);
+        for (final ScheduleSamples history : state.histories) {
+            tasks.add(state.pool.submit(() -> state.optimizer.fit(history)));
+        }
+        var loss = 0.0;
+        for (final ForkJoinTask<ScheduleParameterOptimizer.Fit> task : tasks) {
+            loss += task.join().loss();
+        }
+        return loss;
+    }
+}
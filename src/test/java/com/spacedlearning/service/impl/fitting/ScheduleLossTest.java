@@ -0,0 +1,103 @@
+package com.spacedlearning.service.impl.fitting;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import com.spacedlearning.service.impl.repetition.ScheduleParameters;
+
+class ScheduleLossTest {
+
+    private static final double RETENTION = 0.9;
+
+    private final ScheduleLoss loss = new ScheduleLoss(RETENTION);
+
+    private double[] accumulate(ScheduleSamples samples, double[] theta, int from, int to) {
+        final var out = new double[ScheduleLoss.PARAMETERS + 1];
+        this.loss.accumulate(samples, theta, from, to, out);
+        return out;
+    }
+
+    @Test
+    void retentionMustBeAProbability() {
+        assertThrows(IllegalArgumentException.class, () -> new ScheduleLoss(0.0));
+        assertThrows(IllegalArgumentException.class, () -> new ScheduleLoss(1.0));
+    }
+
+    @Test
+    void vectorRoundTrip() {
+        final var parameters = SyntheticSchedules.hiddenParameters(new Random(3));
+
+        assertEquals(parameters, ScheduleLoss.toParameters(ScheduleLoss.toVector(parameters)));
+    }
+
+    @Test
+    void reviewOnScheduleAtTargetRetentionHasNoError() {
+        final var theta = ScheduleLoss.toVector(ScheduleParameters.DEFAULT);
+        final var samples = new ScheduleSamples();
+        // Interval of the third repetition with no adjustment terms is its multiplier
+        samples.add(2, 0.0, 0.0, 0.0, theta[2], RETENTION);
+
+        final var out = accumulate(samples, theta, 0, samples.size());
+
+        for (final double value : out) {
+            assertEquals(0.0, value, 1e-6);
+        }
+    }
+
+    @Test
+    void gradientMatchesFiniteDifferences() {
+        final var random = new Random(11);
+        final var samples = SyntheticSchedules.samples(random, SyntheticSchedules.hiddenParameters(random), 200,
+                RETENTION, 0.05);
+        final var theta = ScheduleLoss.toVector(ScheduleParameters.DEFAULT);
+        final var gradient = accumulate(samples, theta, 0, samples.size());
+
+        for (var j = 0; j < ScheduleLoss.PARAMETERS; j++) {
+            final var h = 1e-6 * Math.max(1.0, Math.abs(theta[j]));
+            final var up = theta.clone();
+            final var down = theta.clone();
+            up[j] += h;
+            down[j] -= h;
+            final var numeric = (accumulate(samples, up, 0, samples.size())[ScheduleLoss.ERROR]
+                    - accumulate(samples, down, 0, samples.size())[ScheduleLoss.ERROR]) / (2 * h);
+
+            assertEquals(numeric, gradient[j], 1e-5 * Math.max(1.0, Math.abs(numeric)));
+        }
+    }
+
+    @Test
+    void clampedFactorHasNoFactorGradient() {
+        final var theta = ScheduleLoss.toVector(ScheduleParameters.DEFAULT);
+        theta[ScheduleLoss.COMPLETION] = 2.0;
+        final var samples = new ScheduleSamples();
+        // A strongly negative completion term drives the factor below its floor
+        samples.add(0, 0.0, -5.0, 0.0, 1.0, 0.2);
+
+        final var out = accumulate(samples, theta, 0, samples.size());
+
+        assertEquals(0.0, out[ScheduleLoss.CYCLE], 0.0);
+        assertEquals(0.0, out[ScheduleLoss.COMPLETION], 0.0);
+        assertEquals(0.0, out[ScheduleLoss.WORD], 0.0);
+        assertTrue(out[0] != 0.0);
+    }
+
+    @Test
+    void rangesAddUpToTheWholeHistory() {
+        final var random = new Random(5);
+        final var samples = SyntheticSchedules.samples(random, ScheduleParameters.DEFAULT, 101, RETENTION, 0.1);
+        final var theta = ScheduleLoss.toVector(ScheduleParameters.DEFAULT);
+
+        final var whole = accumulate(samples, theta, 0, samples.size());
+        final var split = accumulate(samples, theta, 0, 40);
+        this.loss.accumulate(samples, theta, 40, samples.size(), split);
+
+        for (var j = 0; j < whole.length; j++) {
+            assertEquals(whole[j], split[j], 1e-9 * Math.max(1.0, Math.abs(whole[j])));
+        }
+    }
+}
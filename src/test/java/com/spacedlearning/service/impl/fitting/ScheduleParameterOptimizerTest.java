@@ -0,0 +1,80 @@
+package com.spacedlearning.service.impl.fitting;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import com.spacedlearning.service.impl.repetition.ScheduleParameters;
+
+class ScheduleParameterOptimizerTest {
+
+    private static final double RETENTION = 0.9;
+
+    private final ScheduleParameterOptimizer optimizer = new ScheduleParameterOptimizer(
+            new ScheduleParameterOptimizer.Settings(RETENTION, 0.5, 200, 16384));
+
+    @Test
+    void fitRecoversHiddenMultipliers() {
+        final var random = new Random(7);
+        final var hidden = SyntheticSchedules.hiddenParameters(random);
+        final var samples = SyntheticSchedules.samples(random, hidden, 20_000, RETENTION, 0.02);
+
+        final var fit = this.optimizer.fit(samples);
+
+        assertTrue(fit.loss() < fit.defaultLoss());
+        for (var i = 0; i < SyntheticSchedules.REPETITIONS; i++) {
+            assertEquals(hidden.multiplier(i), fit.parameters().multiplier(i), 0.1 * hidden.multiplier(i));
+        }
+    }
+
+    @Test
+    void fitKeepsMultipliersIncreasing() {
+        final var random = new Random(11);
+        final var samples = SyntheticSchedules.samples(random, SyntheticSchedules.hiddenParameters(random), 50,
+                RETENTION, 0.3);
+
+        final var fitted = this.optimizer.fit(samples).parameters();
+
+        for (var i = 1; i < SyntheticSchedules.REPETITIONS; i++) {
+            assertTrue(fitted.multiplier(i) >= fitted.multiplier(i - 1) + 1.0);
+        }
+    }
+
+    @Test
+    void fitStaysAtDefaultsWhenTheyMatch() {
+        final var samples = SyntheticSchedules.samples(new Random(3), ScheduleParameters.DEFAULT, 5_000, RETENTION,
+                0.0);
+
+        final var fit = this.optimizer.fit(samples);
+
+        for (var i = 0; i < SyntheticSchedules.REPETITIONS; i++) {
+            assertEquals(ScheduleParameters.DEFAULT.multiplier(i), fit.parameters().multiplier(i),
+                    0.01 * ScheduleParameters.DEFAULT.multiplier(i));
+        }
+    }
+
+    @Test
+    void fitRejectsEmptySamples() {
+        assertThrows(IllegalArgumentException.class, () -> this.optimizer.fit(new ScheduleSamples()));
+    }
+
+    @Test
+    void splitGradientMatchesSequential() {
+        final var random = new Random(5);
+        final var samples = SyntheticSchedules.samples(random, ScheduleParameters.DEFAULT, 10_000, RETENTION, 0.05);
+        final var theta = ScheduleLoss.toVector(SyntheticSchedules.hiddenParameters(random));
+        final var split = new ScheduleParameterOptimizer(
+                new ScheduleParameterOptimizer.Settings(RETENTION, 0.5, 100, 1_000));
+
+        final var expected = this.optimizer.accumulate(samples, theta);
+        final var actual = split.accumulate(samples, theta);
+
+        for (var j = 0; j < expected.length; j++) {
+            assertEquals(expected[j], actual[j], 1e-9 * Math.max(1.0, Math.abs(expected[j])));
+        }
+    }
+}
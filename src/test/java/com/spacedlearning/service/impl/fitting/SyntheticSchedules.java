@@ -0,0 +1,54 @@
+package com.spacedlearning.service.impl.fitting;
+
+import java.util.Random;
+
+import com.spacedlearning.entity.enums.RepetitionOrder;
+import com.spacedlearning.service.impl.repetition.RepetitionDateCalculator;
+import com.spacedlearning.service.impl.repetition.ScheduleParameters;
+
+/**
+ * Synthetic learners for the fitting tests and benchmarks. Each learner gets
+ * hidden parameters around the defaults and a history of reviews taken early
+ * or late around the intervals they produce, scored by the same recall model
+ * the fit assumes plus noise.
+ */
+final class SyntheticSchedules {
+
+    static final int REPETITIONS = RepetitionOrder.values().length;
+
+    private static final double TIMING_SPREAD = 0.5;
+
+    private SyntheticSchedules() {
+    }
+
+    static ScheduleParameters hiddenParameters(Random random) {
+        final var multipliers = ScheduleParameters.DEFAULT.multipliers();
+        var floor = 1.0;
+        for (var i = 0; i < multipliers.length; i++) {
+            multipliers[i] = Math.max(floor, multipliers[i] * (0.7 + (0.7 * random.nextDouble())));
+            floor = multipliers[i] + 1.0;
+        }
+        return new ScheduleParameters(multipliers, 0.4 * random.nextDouble(), random.nextDouble(),
+                0.5 * random.nextDouble());
+    }
+
+    static ScheduleSamples samples(Random random, ScheduleParameters parameters, int size, double retention,
+            double noise) {
+        final var samples = new ScheduleSamples(size);
+        final var decay = Math.log(retention);
+        for (var i = 0; i < size; i++) {
+            final var index = random.nextInt(REPETITIONS);
+            final var cycleTerm = random.nextInt(3);
+            final var completionTerm = 0.5 + (0.5 * random.nextDouble());
+            final var wordTerm = RepetitionDateCalculator.wordLoad(20 + random.nextInt(80)) - 1.0;
+            final var factor = Math.max(RepetitionDateCalculator.MIN_ADJUSTMENT,
+                    1.0 + (cycleTerm * parameters.cycleFactor()) + (completionTerm * parameters.completionFactor())
+                            + (wordTerm * parameters.wordFactor()));
+            final var interval = parameters.multiplier(index) * factor;
+            final var elapsed = Math.max(0.5, interval * Math.exp(random.nextGaussian() * TIMING_SPREAD));
+            final var recall = Math.exp((decay * elapsed) / interval) + (random.nextGaussian() * noise);
+            samples.add(index, cycleTerm, completionTerm, wordTerm, elapsed, Math.min(1.0, Math.max(0.0, recall)));
+        }
+        return samples;
+    }
+}
@@ -0,0 +1,44 @@
+package com.spacedlearning.service.impl.outbox;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import java.util.Set;
+import java.util.UUID;
+
+import org.junit.jupiter.api.Test;
+
+import com.spacedlearning.event.ProgressChangeEvent;
+import com.spacedlearning.repository.custom.OutboxRepository.ClaimedEvent;
+import com.spacedlearning.service.DashboardStreamService;
+
+class DashboardStreamOutboxSubscriberTest {
+
+    private final DashboardStreamService dashboardStreamService = mock(DashboardStreamService.class);
+    private final DashboardStreamOutboxSubscriber subscriber = new DashboardStreamOutboxSubscriber(
+            this.dashboardStreamService);
+
+    @Test
+    void subscribesToProgressChanges() {
+        assertEquals(Set.of(ProgressChangeEvent.OUTBOX_TYPE), this.subscriber.eventTypes());
+    }
+
+    @Test
+    void refreshesTheLearnerTheEventIsKeyedBy() {
+        final var userId = UUID.randomUUID();
+
+        this.subscriber.handle(new ClaimedEvent(1L, ProgressChangeEvent.OUTBOX_TYPE, userId.toString(), "{}", 1));
+
+        verify(this.dashboardStreamService).refresh(userId);
+    }
+
+    @Test
+    void ignoresUnkeyedEvents() {
+        this.subscriber.handle(new ClaimedEvent(1L, ProgressChangeEvent.OUTBOX_TYPE, null, "{}", 1));
+
+        verify(this.dashboardStreamService, never()).refresh(any());
+    }
+}
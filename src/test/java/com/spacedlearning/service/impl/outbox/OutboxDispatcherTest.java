@@ -0,0 +1,138 @@
+package com.spacedlearning.service.impl.outbox;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.spacedlearning.repository.custom.OutboxRepository;
+import com.spacedlearning.repository.custom.OutboxRepository.ClaimedEvent;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class OutboxDispatcherTest {
+
+    private static final Clock CLOCK = Clock.fixed(Instant.parse("2025-03-10T08:00:00Z"), ZoneOffset.UTC);
+    private static final LocalDateTime NOW = LocalDateTime.now(CLOCK);
+    private static final int MAX_ATTEMPTS = 3;
+
+    private final OutboxRepository outboxRepository = mock(OutboxRepository.class);
+    private final RecordingSubscriber subscriber = new RecordingSubscriber();
+    private OutboxDispatcher dispatcher;
+
+    private static ClaimedEvent event(long id, String type, String key, int attempts) {
+        return new ClaimedEvent(id, type, key, "{}", attempts);
+    }
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        final ObjectProvider<OutboxSubscriber> subscribers = mock(ObjectProvider.class);
+        when(subscribers.orderedStream()).thenReturn(Stream.of(this.subscriber));
+        this.dispatcher = new OutboxDispatcher(CLOCK, this.outboxRepository, new SimpleMeterRegistry(),
+                subscribers);
+        ReflectionTestUtils.setField(this.dispatcher, "batchSize", 100);
+        ReflectionTestUtils.setField(this.dispatcher, "maxBatches", 1);
+        ReflectionTestUtils.setField(this.dispatcher, "leaseMs", 60_000L);
+        ReflectionTestUtils.setField(this.dispatcher, "maxAttempts", MAX_ATTEMPTS);
+        ReflectionTestUtils.setField(this.dispatcher, "retryBaseMs", 1_000L);
+        ReflectionTestUtils.setField(this.dispatcher, "retryMaxMs", 60_000L);
+    }
+
+    private void claim(ClaimedEvent... events) {
+        when(this.outboxRepository.claim(anyInt(), any(), any())).thenReturn(List.of(events));
+    }
+
+    @Test
+    void eventsWithTheSameTypeAndKeyAreCoalescedIntoTheLatest() {
+        claim(event(1, "progress", "a", 1), event(2, "progress", "a", 1), event(3, "progress", "a", 1));
+
+        this.dispatcher.dispatch();
+
+        assertEquals(List.of(3L), this.subscriber.handled);
+        verify(this.outboxRepository).markDelivered(List.of(1L, 2L, 3L), NOW);
+    }
+
+    @Test
+    void eventsWithoutKeyAreNotCoalesced() {
+        claim(event(1, "progress", null, 1), event(2, "progress", null, 1));
+
+        this.dispatcher.dispatch();
+
+        assertEquals(List.of(1L, 2L), this.subscriber.handled);
+        verify(this.outboxRepository).markDelivered(List.of(1L, 2L), NOW);
+    }
+
+    @Test
+    void eventsWithTheSameKeyButAnotherTypeAreNotCoalesced() {
+        claim(event(1, "progress", "a", 1), event(2, "repetition", "a", 1), event(3, "progress", "b", 1));
+
+        this.dispatcher.dispatch();
+
+        assertEquals(List.of(1L, 2L, 3L), this.subscriber.handled);
+        verify(this.outboxRepository).markDelivered(List.of(1L, 2L, 3L), NOW);
+    }
+
+    @Test
+    void failedEventIsRetriedWhileSupersededOnesAreAcknowledged() {
+        this.subscriber.failing.add(2L);
+        claim(event(1, "progress", "a", 1), event(2, "progress", "a", MAX_ATTEMPTS - 1));
+
+        this.dispatcher.dispatch();
+
+        verify(this.outboxRepository).retryLater(eq(2L), eq(NOW.plusSeconds(2)), anyString());
+        verify(this.outboxRepository, never()).markFailed(eq(2L), any(), anyString());
+        verify(this.outboxRepository).markDelivered(List.of(1L), NOW);
+    }
+
+    @Test
+    void eventIsDeadLetteredAfterTheLastAttempt() {
+        this.subscriber.failing.add(1L);
+        claim(event(1, "progress", "a", MAX_ATTEMPTS));
+
+        this.dispatcher.dispatch();
+
+        verify(this.outboxRepository).markFailed(eq(1L), eq(NOW), anyString());
+        verify(this.outboxRepository, never()).retryLater(eq(1L), any(), anyString());
+        verify(this.outboxRepository).markDelivered(List.of(), NOW);
+    }
+
+    private static final class RecordingSubscriber implements OutboxSubscriber {
+
+        private final List<Long> handled = new ArrayList<>();
+        private final Set<Long> failing = new HashSet<>();
+
+        @Override
+        public Set<String> eventTypes() {
+            return Set.of("progress", "repetition");
+        }
+
+        @Override
+        public void handle(ClaimedEvent event) {
+            if (this.failing.contains(event.id())) {
+                throw new IllegalStateException("Subscriber failed");
+            }
+            this.handled.add(event.id());
+        }
+    }
+}
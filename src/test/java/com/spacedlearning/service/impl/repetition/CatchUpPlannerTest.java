@@ -0,0 +1,154 @@
+package com.spacedlearning.service.impl.repetition;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import org.junit.jupiter.api.Test;
+
+import com.spacedlearning.repository.custom.ScheduleShiftRepository.PendingRepetition;
+
+class CatchUpPlannerTest {
+
+    private static final LocalDate TODAY = LocalDate.of(2025, 3, 10);
+    private static final int WINDOW = 14;
+
+    private final CatchUpPlanner planner = new CatchUpPlanner(new RepetitionDateCalculator());
+
+    private static PendingRepetition row(UUID progressId, int orderIndex, int dayOffset, int words, int cycle) {
+        return new PendingRepetition(UUID.randomUUID(), progressId, orderIndex, TODAY.plusDays(dayOffset), words,
+                cycle);
+    }
+
+    private CatchUpPlanner.Plan plan(List<PendingRepetition> rows, int[] dailyWords, int wordBudget) {
+        return this.planner.plan(rows, dailyWords, TODAY, wordBudget, ScheduleParameters.DEFAULT);
+    }
+
+    private static Map<UUID, LocalDate> moves(CatchUpPlanner.Plan plan) {
+        final Map<UUID, LocalDate> moves = new HashMap<>();
+        for (var i = 0; i < plan.moved(); i++) {
+            moves.put(plan.ids()[i], plan.reviewDates()[i]);
+        }
+        return moves;
+    }
+
+    @Test
+    void planWithoutBacklogMovesNothing() {
+        final var plan = plan(List.of(), new int[WINDOW], 100);
+
+        assertEquals(0, plan.overdue());
+        assertEquals(0, plan.moved());
+    }
+
+    @Test
+    void overdueRowMovesToToday() {
+        final var overdue = row(UUID.randomUUID(), 0, -3, 20, 0);
+
+        final var plan = plan(List.of(overdue), new int[WINDOW], 100);
+
+        assertEquals(1, plan.overdue());
+        assertEquals(Map.of(overdue.id(), TODAY), moves(plan));
+    }
+
+    @Test
+    void rowDueTodayStaysWhenBudgetAllows() {
+        final var dueToday = row(UUID.randomUUID(), 0, 0, 20, 0);
+
+        final var plan = plan(List.of(dueToday), new int[WINDOW], 100);
+
+        assertEquals(1, plan.overdue());
+        assertEquals(0, plan.moved());
+    }
+
+    @Test
+    void backlogIsSpreadUnderTheDailyBudget() {
+        final var first = row(UUID.randomUUID(), 0, -1, 100, 0);
+        final var second = row(UUID.randomUUID(), 0, -1, 100, 0);
+        final var third = row(UUID.randomUUID(), 0, -1, 100, 0);
+
+        final var moves = moves(plan(List.of(first, second, third), new int[WINDOW], 150));
+
+        assertEquals(TODAY, moves.get(first.id()));
+        assertEquals(TODAY.plusDays(1), moves.get(second.id()));
+        assertEquals(TODAY.plusDays(2), moves.get(third.id()));
+    }
+
+    @Test
+    void existingLoadCountsAgainstTheBudget() {
+        final var overdue = row(UUID.randomUUID(), 0, -1, 100, 0);
+        final var dailyWords = new int[WINDOW];
+        dailyWords[0] = 200;
+
+        final var moves = moves(plan(List.of(overdue), dailyWords, 150));
+
+        assertEquals(TODAY.plusDays(1), moves.get(overdue.id()));
+    }
+
+    @Test
+    void earlierCycleIsPlacedFirst() {
+        final var later = row(UUID.randomUUID(), 0, -5, 100, 1);
+        final var earlier = row(UUID.randomUUID(), 0, -1, 100, 0);
+
+        final var moves = moves(plan(List.of(later, earlier), new int[WINDOW], 150));
+
+        assertEquals(TODAY, moves.get(earlier.id()));
+        assertEquals(TODAY.plusDays(1), moves.get(later.id()));
+    }
+
+    @Test
+    void longerOverdueIsPlacedFirstWithinACycle() {
+        final var recent = row(UUID.randomUUID(), 0, -1, 100, 0);
+        final var old = row(UUID.randomUUID(), 0, -6, 100, 0);
+
+        final var moves = moves(plan(List.of(recent, old), new int[WINDOW], 150));
+
+        assertEquals(TODAY, moves.get(old.id()));
+        assertEquals(TODAY.plusDays(1), moves.get(recent.id()));
+    }
+
+    @Test
+    void followingRowsKeepTheMinimumGap() {
+        final var progressId = UUID.randomUUID();
+        final var overdue = row(progressId, 0, -2, 20, 0);
+        // Default multipliers 2 and 4 require two days between the first and second repetition
+        final var next = row(progressId, 1, 1, 20, 0);
+        final var farAway = row(progressId, 2, 10, 20, 0);
+
+        final var plan = plan(List.of(next, farAway, overdue), new int[WINDOW], 100);
+        final var moves = moves(plan);
+
+        assertEquals(1, plan.overdue());
+        assertEquals(TODAY, moves.get(overdue.id()));
+        assertEquals(TODAY.plusDays(2), moves.get(next.id()));
+        assertEquals(2, plan.moved());
+    }
+
+    @Test
+    void overduePredecessorIsPlacedBeforeItsSuccessor() {
+        final var progressId = UUID.randomUUID();
+        final var first = row(progressId, 0, -9, 20, 0);
+        final var second = row(progressId, 1, -1, 20, 0);
+
+        final var moves = moves(plan(List.of(second, first), new int[WINDOW], 100));
+
+        assertEquals(TODAY, moves.get(first.id()));
+        assertEquals(TODAY.plusDays(2), moves.get(second.id()));
+    }
+
+    @Test
+    void gapsComeFromTheLearnersParameters() {
+        final var progressId = UUID.randomUUID();
+        final var overdue = row(progressId, 0, -2, 20, 0);
+        final var next = row(progressId, 1, 1, 20, 0);
+        final var fitted = new ScheduleParameters(new double[] { 2, 7, 12, 18, 25, 33 }, 0.2, 0.5, 0.2);
+
+        final var moves = moves(this.planner.plan(List.of(overdue, next), new int[WINDOW], TODAY, 100, fitted));
+
+        assertEquals(TODAY, moves.get(overdue.id()));
+        assertEquals(TODAY.plusDays(5), moves.get(next.id()));
+    }
+}
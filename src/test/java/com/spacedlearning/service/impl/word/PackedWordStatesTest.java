@@ -0,0 +1,126 @@
+package com.spacedlearning.service.impl.word;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.UUID;
+
+import org.junit.jupiter.api.Test;
+
+class PackedWordStatesTest {
+
+    private static final UUID FIRST = UUID.fromString("00000000-0000-0001-0000-000000000000");
+    private static final UUID SECOND = UUID.fromString("00000000-0000-0002-0000-000000000000");
+    private static final UUID THIRD = UUID.fromString("00000000-0000-0003-0000-000000000000");
+    private static final UUID NEGATIVE = UUID.fromString("f0000000-0000-0000-0000-000000000000");
+
+    private static SortedMap<UUID, WordState> states(Map<UUID, WordState> states) {
+        return new TreeMap<>(states);
+    }
+
+    private static WordState due(int day) {
+        return new WordState(day, 1, 2500, 0, 1);
+    }
+
+    @Test
+    void decodeOfNothingIsEmpty() {
+        assertTrue(PackedWordStates.decode(null).isEmpty());
+        assertTrue(PackedWordStates.decode(new byte[0]).isEmpty());
+        assertNull(PackedWordStates.empty().nextDueDay());
+        assertEquals(-1, PackedWordStates.empty().indexOf(FIRST));
+    }
+
+    @Test
+    void decodeRejectsCorruptBytes() {
+        final var bytes = PackedWordStates.empty().merge(states(Map.of(FIRST, due(1))), id -> true).toBytes();
+
+        assertThrows(IllegalArgumentException.class, () -> PackedWordStates.decode(new byte[] { 9, 0, 0, 0, 0 }));
+        assertThrows(IllegalArgumentException.class,
+                () -> PackedWordStates.decode(Arrays.copyOf(bytes, bytes.length - 1)));
+    }
+
+    @Test
+    void mergeIntoEmptyKeepsUuidOrder() {
+        final var merged = PackedWordStates.empty()
+                .merge(states(Map.of(THIRD, due(3), NEGATIVE, due(9), FIRST, due(1))), id -> true);
+
+        assertEquals(3, merged.size());
+        assertEquals(NEGATIVE, merged.vocabularyId(0));
+        assertEquals(FIRST, merged.vocabularyId(1));
+        assertEquals(THIRD, merged.vocabularyId(2));
+        assertEquals(due(3), merged.state(merged.indexOf(THIRD)));
+    }
+
+    @Test
+    void mergeReplacesAddsAndKeeps() {
+        final var base = PackedWordStates.empty().merge(states(Map.of(FIRST, due(1), THIRD, due(3))), id -> true);
+        final var updated = new WordState(10, 6, 2600, 1, 2);
+
+        final var merged = base.merge(states(Map.of(SECOND, due(2), THIRD, updated)), id -> true);
+
+        assertEquals(3, merged.size());
+        assertEquals(due(1), merged.state(merged.indexOf(FIRST)));
+        assertEquals(due(2), merged.state(merged.indexOf(SECOND)));
+        assertEquals(updated, merged.state(merged.indexOf(THIRD)));
+    }
+
+    @Test
+    void mergeDropsWordsNotRetained() {
+        final var base = PackedWordStates.empty().merge(states(Map.of(FIRST, due(1), SECOND, due(2))), id -> true);
+
+        final var merged = base.merge(states(Map.of(THIRD, due(3))), SECOND::equals);
+
+        assertEquals(2, merged.size());
+        assertTrue(merged.indexOf(FIRST) < 0);
+        assertEquals(0, merged.indexOf(SECOND));
+        assertEquals(1, merged.indexOf(THIRD));
+    }
+
+    @Test
+    void mergeClampsShortFields() {
+        final var merged = PackedWordStates.empty()
+                .merge(states(Map.of(FIRST, new WordState(5, 70_000, -1, 3, 4))), id -> true);
+
+        assertEquals(new WordState(5, 0xFFFF, 0, 3, 4), merged.state(0));
+    }
+
+    @Test
+    void indexOfMissingGivesInsertionPoint() {
+        final var states = PackedWordStates.empty().merge(states(Map.of(FIRST, due(1), THIRD, due(3))), id -> true);
+
+        assertEquals(-2, states.indexOf(SECOND));
+        assertEquals(-1, states.indexOf(NEGATIVE));
+        assertEquals(-3, states.indexOf(UUID.fromString("00000000-0000-0004-0000-000000000000")));
+    }
+
+    @Test
+    void bytesRoundTrip() {
+        final var states = PackedWordStates.empty()
+                .merge(states(Map.of(FIRST, due(4), SECOND, due(2), THIRD, due(7))), id -> true);
+
+        final var decoded = PackedWordStates.decode(states.toBytes());
+
+        assertEquals(3, decoded.size());
+        for (var i = 0; i < 3; i++) {
+            assertEquals(states.vocabularyId(i), decoded.vocabularyId(i));
+            assertEquals(states.state(i), decoded.state(i));
+        }
+    }
+
+    @Test
+    void dueQueriesReadTheDueColumn() {
+        final var states = PackedWordStates.empty()
+                .merge(states(Map.of(FIRST, due(4), SECOND, due(2), THIRD, due(7))), id -> true);
+
+        assertEquals(2, states.countDue(4));
+        assertArrayEquals(new int[] { 1, 0 }, states.dueIndexes(4));
+        assertEquals(Integer.valueOf(2), states.nextDueDay());
+    }
+}
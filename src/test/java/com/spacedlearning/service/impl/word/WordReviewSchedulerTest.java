@@ -0,0 +1,75 @@
+package com.spacedlearning.service.impl.word;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+class WordReviewSchedulerTest {
+
+    private static final int TODAY = 20_000;
+
+    private final WordReviewScheduler scheduler = new WordReviewScheduler();
+
+    @Test
+    void initialIsDueTodayWithDefaultEase() {
+        assertEquals(new WordState(TODAY, 0, 2500, 0, 0), this.scheduler.initial(TODAY));
+    }
+
+    @Test
+    void passingReviewsGrowTheInterval() {
+        final var first = this.scheduler.review(this.scheduler.initial(TODAY), 5, TODAY);
+        final var second = this.scheduler.review(first, 5, TODAY + 1);
+        final var third = this.scheduler.review(second, 5, TODAY + 7);
+
+        assertEquals(new WordState(TODAY + 1, 1, 2600, 0, 1), first);
+        assertEquals(new WordState(TODAY + 7, 6, 2700, 0, 2), second);
+        // round(6 * 2.7) days, using the ease before this review
+        assertEquals(new WordState(TODAY + 7 + 16, 16, 2800, 0, 3), third);
+    }
+
+    @Test
+    void gradeAdjustsEase() {
+        final var initial = this.scheduler.initial(TODAY);
+
+        assertEquals(2500, this.scheduler.review(initial, 4, TODAY).easePermille());
+        assertEquals(2360, this.scheduler.review(initial, 3, TODAY).easePermille());
+        assertEquals(1700, this.scheduler.review(initial, 0, TODAY).easePermille());
+    }
+
+    @Test
+    void easeNeverFallsBelowFloor() {
+        final var hard = new WordState(TODAY, 10, 1400, 0, 4);
+
+        assertEquals(1300, this.scheduler.review(hard, 0, TODAY).easePermille());
+    }
+
+    @Test
+    void failingResetsAndCountsLapseOnlyWhenLearned() {
+        final var learned = new WordState(TODAY, 30, 2500, 2, 5);
+        final var fresh = this.scheduler.initial(TODAY);
+
+        final var relearn = this.scheduler.review(learned, 2, TODAY);
+        assertEquals(TODAY + 1, relearn.dueDay());
+        assertEquals(1, relearn.intervalDays());
+        assertEquals(3, relearn.lapses());
+        assertEquals(0, relearn.repetitions());
+
+        assertEquals(0, this.scheduler.review(fresh, 1, TODAY).lapses());
+    }
+
+    @Test
+    void intervalIsCapped() {
+        final var mature = new WordState(TODAY, 3000, 2500, 0, 10);
+
+        assertEquals(3650, this.scheduler.review(mature, 5, TODAY).intervalDays());
+    }
+
+    @Test
+    void reviewRejectsQualityOutOfRange() {
+        final var initial = this.scheduler.initial(TODAY);
+
+        assertThrows(IllegalArgumentException.class, () -> this.scheduler.review(initial, -1, TODAY));
+        assertThrows(IllegalArgumentException.class, () -> this.scheduler.review(initial, 6, TODAY));
+    }
+}
@@ -0,0 +1,264 @@
+package com.spacedlearning.simulation;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.IntStream;
+
+import com.spacedlearning.entity.BaseEntity;
+import com.spacedlearning.entity.LearningCycle;
+import com.spacedlearning.entity.ModuleProgress;
+import com.spacedlearning.entity.Repetition;
+import com.spacedlearning.entity.enums.RepetitionStatus;
+import com.spacedlearning.repository.LearningCycleRepository;
+import com.spacedlearning.repository.ModuleProgressRepository;
+import com.spacedlearning.repository.RepetitionRepository;
+
+/**
+ * In-memory stand-in for the progress and repetition repositories used by the
+ * scheduling components. Only the queries those components issue are
+ * implemented; any other repository method fails fast so a new database
+ * dependency in the scheduler shows up in the simulation instead of being
+ * silently ignored. Every call is counted per method name.
+ */
+public final class InMemoryScheduleStore {
+
+    private final Map<String, LongAdder> calls = new ConcurrentHashMap<>();
+    private final Map<UUID, ModuleProgress> progresses = new HashMap<>();
+    private final Map<UUID, Map<UUID, Repetition>> repetitionsByProgress = new HashMap<>();
+    private final Map<UUID, Repetition> repetitionsById = new HashMap<>();
+    private final Map<UUID, LocalDate> indexedDates = new HashMap<>();
+    private final TreeMap<LocalDate, Map<UUID, Repetition>> repetitionsByDate = new TreeMap<>();
+    private final Map<UUID, TreeMap<LocalDate, Long>> userDateCounts = new HashMap<>();
+    private final Map<UUID, List<LearningCycle>> cyclesByProgress = new HashMap<>();
+
+    private final LearningCycleRepository cycleRepository;
+    private final ModuleProgressRepository progressRepository;
+    private final RepetitionRepository repetitionRepository;
+
+    public InMemoryScheduleStore() {
+        this.cycleRepository = proxy(LearningCycleRepository.class, this::handleCycle);
+        this.progressRepository = proxy(ModuleProgressRepository.class, this::handleProgress);
+        this.repetitionRepository = proxy(RepetitionRepository.class, this::handleRepetition);
+    }
+
+    private static <T> T proxy(Class<T> type, RepositoryHandler handler) {
+        final InvocationHandler invocation = (proxy, method, args) -> {
+            if (method.getDeclaringClass() == Object.class) {
+                return switch (method.getName()) {
+                case "equals" -> proxy == args[0];
+                case "hashCode" -> System.identityHashCode(proxy);
+                default -> "InMemory" + type.getSimpleName();
+                };
+            }
+            return handler.handle(method, args == null ? new Object[0] : args);
+        };
+        return type.cast(Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[] { type }, invocation));
+    }
+
+    private static UUID assignId(BaseEntity entity) {
+        if (entity.getId() == null) {
+            entity.setId(UUID.randomUUID());
+        }
+        return entity.getId();
+    }
+
+    private static List<Object[]> toRows(Map<LocalDate, Long> counts) {
+        final List<Object[]> rows = new ArrayList<>(counts.size());
+        counts.forEach((date, count) -> {
+            if (count > 0) {
+                rows.add(new Object[] { date, count });
+            }
+        });
+        return rows;
+    }
+
+    private static UnsupportedOperationException unsupported(Method method) {
+        return new UnsupportedOperationException(
+                "Repository method not supported by the scheduler simulation: " + method.getName());
+    }
+
+    /**
+     * Snapshot of repository calls per method since the store was created.
+     */
+    public Map<String, Long> callCounts() {
+        final Map<String, Long> snapshot = new TreeMap<>();
+        this.calls.forEach((name, counter) -> snapshot.put(name, counter.sum()));
+        return snapshot;
+    }
+
+    /**
+     * Not-started repetitions scheduled exactly on the given day.
+     */
+    public List<Repetition> findScheduledOn(LocalDate day) {
+        return this.repetitionsByDate.getOrDefault(day, Map.of()).values().stream()
+                .filter(rep -> rep.getStatus() == RepetitionStatus.NOT_STARTED)
+                .toList();
+    }
+
+    public LearningCycleRepository cycleRepository() {
+        return this.cycleRepository;
+    }
+
+    public ModuleProgressRepository progressRepository() {
+        return this.progressRepository;
+    }
+
+    public RepetitionRepository repetitionRepository() {
+        return this.repetitionRepository;
+    }
+
+    public int repetitionCount() {
+        return this.repetitionsById.size();
+    }
+
+    public long totalCalls() {
+        return this.calls.values().stream().mapToLong(LongAdder::sum).sum();
+    }
+
+    private Object handleCycle(Method method, Object[] args) {
+        this.calls.computeIfAbsent("cycle." + method.getName(), k -> new LongAdder()).increment();
+        return switch (method.getName()) {
+        case "save" -> saveCycle((LearningCycle) args[0]);
+        case "saveAll" -> {
+            final List<LearningCycle> saved = new ArrayList<>();
+            for (final Object cycle : (Iterable<?>) args[0]) {
+                saved.add(saveCycle((LearningCycle) cycle));
+            }
+            yield saved;
+        }
+        case "findLatestStartDate" -> this.cyclesByProgress.getOrDefault((UUID) args[0], List.of()).stream()
+                .filter(c -> c.getCycle() == args[1])
+                .map(LearningCycle::getStartDate)
+                .max(Comparator.naturalOrder());
+        default -> throw unsupported(method);
+        };
+    }
+
+    private Object handleProgress(Method method, Object[] args) {
+        this.calls.computeIfAbsent("progress." + method.getName(), k -> new LongAdder()).increment();
+        return switch (method.getName()) {
+        case "save" -> {
+            final var progress = (ModuleProgress) args[0];
+            this.progresses.put(assignId(progress), progress);
+            yield progress;
+        }
+        case "findById" -> Optional.ofNullable(this.progresses.get((UUID) args[0]));
+        case "appendStudyHistory" -> {
+            final var progress = this.progresses.get((UUID) args[0]);
+            if (progress == null) {
+                yield 0;
+            }
+            final var history = progress.getStudyHistory() == null ? new int[0] : progress.getStudyHistory();
+            final var appended = Arrays.copyOf(history, history.length + 1);
+            appended[history.length] = (Integer) args[1];
+            progress.setStudyHistory(IntStream.of(appended).boxed()
+                    .sorted(Comparator.reverseOrder()).mapToInt(Integer::intValue).toArray());
+            yield 1;
+        }
+        default -> throw unsupported(method);
+        };
+    }
+
+    private Object handleRepetition(Method method, Object[] args) {
+        this.calls.computeIfAbsent("repetition." + method.getName(), k -> new LongAdder()).increment();
+        return switch (method.getName()) {
+        case "save" -> saveRepetition((Repetition) args[0]);
+        case "saveAll" -> {
+            final List<Repetition> saved = new ArrayList<>();
+            for (final Object rep : (Iterable<?>) args[0]) {
+                saved.add(saveRepetition((Repetition) rep));
+            }
+            yield saved;
+        }
+        case "findById" -> Optional.ofNullable(this.repetitionsById.get((UUID) args[0]));
+        case "flush" -> null;
+        case "countByModuleProgressId" -> (long) repetitions((UUID) args[0]).size();
+        case "countByModuleProgressIdAndStatus" -> repetitions((UUID) args[0]).stream()
+                .filter(r -> r.getStatus() == args[1]).count();
+        case "existsByModuleProgressIdAndRepetitionOrder" -> repetitions((UUID) args[0]).stream()
+                .anyMatch(r -> r.getRepetitionOrder() == args[1]);
+        case "findByModuleProgressIdOrderByRepetitionOrder" -> repetitions((UUID) args[0]).stream()
+                .sorted(Comparator.comparing(Repetition::getRepetitionOrder)).toList();
+        case "findByModuleProgressIdAndStatusOrderByRepetitionOrder" -> repetitions((UUID) args[0]).stream()
+                .filter(r -> r.getStatus() == args[1])
+                .sorted(Comparator.comparing(Repetition::getRepetitionOrder)).toList();
+        case "findByModuleProgressIdAndStatusOrderByReviewDate" -> repetitions((UUID) args[0]).stream()
+                .filter(r -> r.getStatus() == args[1])
+                .sorted(Comparator.comparing(Repetition::getReviewDate)).toList();
+        case "findLastCompletedRepetitionDate" -> repetitions((UUID) args[0]).stream()
+                .filter(r -> r.getStatus() == RepetitionStatus.COMPLETED)
+                .map(Repetition::getReviewDate)
+                .max(Comparator.naturalOrder());
+        case "countReviewDatesBetween" -> {
+            final Map<LocalDate, Long> counts = new LinkedHashMap<>();
+            this.repetitionsByDate.subMap((LocalDate) args[0], true, (LocalDate) args[1], true)
+                    .forEach((date, bucket) -> counts.put(date, (long) bucket.size()));
+            yield toRows(counts);
+        }
+        case "countReviewDatesBetweenForUser" -> toRows(this.userDateCounts
+                .getOrDefault((UUID) args[0], new TreeMap<>())
+                .subMap((LocalDate) args[1], true, (LocalDate) args[2], true));
+        default -> throw unsupported(method);
+        };
+    }
+
+    private List<Repetition> repetitions(UUID progressId) {
+        return new ArrayList<>(this.repetitionsByProgress.getOrDefault(progressId, Map.of()).values());
+    }
+
+    private LearningCycle saveCycle(LearningCycle cycle) {
+        assignId(cycle);
+        this.cyclesByProgress.computeIfAbsent(cycle.getModuleProgress().getId(), k -> new ArrayList<>()).add(cycle);
+        return cycle;
+    }
+
+    /**
+     * Stores a repetition and moves it between the date indexes when its review
+     * date changed since the last save, mirroring a row update.
+     */
+    private Repetition saveRepetition(Repetition repetition) {
+        final var id = assignId(repetition);
+        final var progress = repetition.getModuleProgress();
+        this.repetitionsById.put(id, repetition);
+        this.repetitionsByProgress.computeIfAbsent(progress.getId(), k -> new LinkedHashMap<>()).put(id, repetition);
+
+        final var previous = this.indexedDates.put(id, repetition.getReviewDate());
+        if ((previous != null) && previous.equals(repetition.getReviewDate())) {
+            return repetition;
+        }
+
+        final var userCounts = this.userDateCounts.computeIfAbsent(progress.getUserId(), k -> new TreeMap<>());
+        if (previous != null) {
+            final var bucket = this.repetitionsByDate.get(previous);
+            if (bucket != null) {
+                bucket.remove(id);
+            }
+            userCounts.merge(previous, -1L, Long::sum);
+        }
+        if (repetition.getReviewDate() != null) {
+            this.repetitionsByDate.computeIfAbsent(repetition.getReviewDate(), k -> new LinkedHashMap<>())
+                    .put(id, repetition);
+            userCounts.merge(repetition.getReviewDate(), 1L, Long::sum);
+        }
+        return repetition;
+    }
+
+    @FunctionalInterface
+    private interface RepositoryHandler {
+        Object handle(Method method, Object[] args);
+    }
+}
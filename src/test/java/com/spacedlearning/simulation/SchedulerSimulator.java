@@ -0,0 +1,254 @@
+package com.spacedlearning.simulation;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.UUID;
+
+import org.slf4j.LoggerFactory;
+import org.springframework.context.support.StaticMessageSource;
+
+import com.spacedlearning.entity.Module;
+import com.spacedlearning.entity.ModuleProgress;
+import com.spacedlearning.entity.Repetition;
+import com.spacedlearning.entity.User;
+import com.spacedlearning.entity.enums.RepetitionStatus;
+import com.spacedlearning.service.impl.repetition.LearningCycleManager;
+import com.spacedlearning.service.impl.repetition.RepetitionDateCalculator;
+import com.spacedlearning.service.impl.repetition.RepetitionDateOptimizer;
+import com.spacedlearning.service.impl.repetition.RepetitionFactory;
+import com.spacedlearning.service.impl.repetition.RepetitionRescheduler;
+import com.spacedlearning.service.impl.repetition.RepetitionScheduleManager;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+
+/**
+ * Headless driver for the repetition scheduler. Synthetic learners enrol in
+ * modules over time and complete their due reviews day by day, running the
+ * same component flow as {@code RepetitionServiceImpl} against an in-memory
+ * store and a simulated clock.
+ * <p>
+ * Lives with the test sources so it never ships in the application jar. Run
+ * it on the test classpath with
+ * {@code mvn test-compile exec:java -Dexec.classpathScope=test
+ * -Dexec.mainClass=com.spacedlearning.simulation.SchedulerSimulator -Dexec.args="learners=2000 days=180"}.
+ */
+public final class SchedulerSimulator {
+
+    private final Settings settings;
+    private final SimulationClock clock;
+    private final InMemoryScheduleStore store;
+    private final RepetitionScheduleManager scheduleManager;
+    private final RepetitionRescheduler rescheduler;
+    private final LearningCycleManager cycleManager;
+    private final Random random;
+
+    public SchedulerSimulator(Settings settings) {
+        this.settings = settings;
+        this.clock = new SimulationClock(settings.startDate(), ZoneOffset.UTC);
+        this.store = new InMemoryScheduleStore();
+        this.random = new Random(settings.seed());
+
+        final var messageSource = new StaticMessageSource();
+        messageSource.setUseCodeAsDefaultMessage(true);
+
+        final var calculator = new RepetitionDateCalculator();
+        final var optimizer = new RepetitionDateOptimizer(this.clock);
+        final var factory = new RepetitionFactory(calculator, optimizer);
+        this.scheduleManager = new RepetitionScheduleManager(this.clock, this.store.cycleRepository(),
+                this.store.progressRepository(), factory, this.store.repetitionRepository());
+        this.rescheduler = new RepetitionRescheduler(calculator, this.clock, optimizer, this.scheduleManager);
+        this.cycleManager = new LearningCycleManager(this.clock, optimizer, factory, this.scheduleManager,
+                messageSource);
+    }
+
+    public static void main(String[] args) {
+        final var level = Level.toLevel(System.getProperty("simulation.log-level"), Level.WARN);
+        if (LoggerFactory.getLogger("com.spacedlearning") instanceof final Logger logger) {
+            logger.setLevel(level);
+        }
+
+        final var report = new SchedulerSimulator(Settings.parse(args)).run();
+        System.out.print(report.format());
+    }
+
+    private static long percentile(long[] sorted, double fraction) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        final var index = (int) Math.ceil(fraction * sorted.length) - 1;
+        return sorted[Math.max(0, Math.min(index, sorted.length - 1))];
+    }
+
+    /**
+     * Mirrors the completion path of {@code RepetitionServiceImpl.updateCompletion}.
+     */
+    private void complete(Repetition repetition) {
+        final var progress = repetition.getModuleProgress();
+        final var score = 60 + this.random.nextInt(41);
+        final var context = this.scheduleManager.openContext(progress);
+
+        repetition.setStatus(RepetitionStatus.COMPLETED);
+        progress.setPercentComplete(BigDecimal.valueOf(score));
+        context.markChanged(repetition);
+        context.markProgressChanged();
+
+        this.scheduleManager.recordStudyHistory(context, repetition);
+        this.rescheduler.updateFollowingAfterCompletion(context, repetition);
+        this.cycleManager.checkAndAdvanceCycle(context);
+
+        this.scheduleManager.flush(context);
+    }
+
+    /**
+     * Mirrors module progress creation followed by schedule generation.
+     */
+    private void enrol(User learner) {
+        final var wordCount = this.settings.minWords()
+                + this.random.nextInt(this.settings.maxWords() - this.settings.minWords() + 1);
+        final var module = Module.builder().title("Simulated module").wordCount(wordCount).build();
+        module.setId(UUID.randomUUID());
+
+        final var progress = ModuleProgress.builder()
+                .module(module)
+                .user(learner)
+                .firstLearningDate(this.clock.today())
+                .studyHistory(new int[0])
+                .build();
+        this.store.progressRepository().save(progress);
+
+        final var repetitions = this.scheduleManager.createRepetitionsForProgress(progress);
+        this.store.repetitionRepository().saveAll(repetitions);
+        this.scheduleManager.updateNextStudyDate(progress);
+    }
+
+    public SimulationReport run() {
+        final List<User> learners = new ArrayList<>(this.settings.learners());
+        for (var i = 0; i < this.settings.learners(); i++) {
+            final var learner = User.builder().name("learner-" + i).build();
+            learner.setId(UUID.randomUUID());
+            learners.add(learner);
+        }
+
+        final var enrolled = new int[learners.size()];
+        final Map<UUID, Repetition> overdue = new LinkedHashMap<>();
+        final List<SimulationReport.DayStats> days = new ArrayList<>(this.settings.days());
+
+        for (var day = 0; day < this.settings.days(); day++) {
+            final var today = this.clock.today();
+            final var callsBefore = this.store.totalCalls();
+            var latencies = new long[learners.size() + 1];
+            var samples = 0;
+            var enrolments = 0;
+
+            for (var i = 0; i < learners.size(); i++) {
+                if ((enrolled[i] < this.settings.modulesPerLearner())
+                        && (((day + i) % this.settings.enrolIntervalDays()) == 0)) {
+                    final var start = System.nanoTime();
+                    enrol(learners.get(i));
+                    latencies[samples++] = System.nanoTime() - start;
+                    enrolled[i]++;
+                    enrolments++;
+                }
+            }
+
+            final Map<UUID, Repetition> due = new LinkedHashMap<>();
+            overdue.values().stream()
+                    .filter(rep -> (rep.getStatus() == RepetitionStatus.NOT_STARTED)
+                            && !rep.getReviewDate().isAfter(today))
+                    .forEach(rep -> due.put(rep.getId(), rep));
+            this.store.findScheduledOn(today).forEach(rep -> due.put(rep.getId(), rep));
+            overdue.clear();
+
+            var completed = 0;
+            for (final Repetition repetition : due.values()) {
+                if (repetition.getStatus() != RepetitionStatus.NOT_STARTED) {
+                    // closed early by a cycle advance earlier today
+                    continue;
+                }
+                if (this.random.nextDouble() >= this.settings.adherence()) {
+                    overdue.put(repetition.getId(), repetition);
+                    continue;
+                }
+                final var start = System.nanoTime();
+                complete(repetition);
+                if (samples == latencies.length) {
+                    latencies = Arrays.copyOf(latencies, samples * 2);
+                }
+                latencies[samples++] = System.nanoTime() - start;
+                completed++;
+            }
+
+            final var sorted = Arrays.copyOf(latencies, samples);
+            Arrays.sort(sorted);
+            days.add(new SimulationReport.DayStats(today, enrolments, due.size(), completed, overdue.size(),
+                    this.store.totalCalls() - callsBefore,
+                    percentile(sorted, 0.50) / 1_000, percentile(sorted, 0.95) / 1_000,
+                    percentile(sorted, 1.0) / 1_000));
+            this.clock.advanceDays(1);
+        }
+
+        return new SimulationReport(this.settings, days, this.store.callCounts(), this.store.repetitionCount());
+    }
+
+    /**
+     * Simulation parameters.
+     *
+     * @param learners          Number of synthetic learners
+     * @param modulesPerLearner Modules each learner eventually enrols in
+     * @param enrolIntervalDays Days between two enrolments of the same learner
+     * @param days              Number of simulated days
+     * @param adherence         Probability that a due review is done on a given day
+     * @param minWords          Smallest module word count
+     * @param maxWords          Largest module word count
+     * @param startDate         First simulated day
+     * @param seed              Random seed, fixed for reproducible runs
+     */
+    public record Settings(int learners, int modulesPerLearner, int enrolIntervalDays, int days, double adherence,
+            int minWords, int maxWords, LocalDate startDate, long seed) {
+
+        public Settings {
+            if ((learners <= 0) || (modulesPerLearner <= 0) || (enrolIntervalDays <= 0) || (days <= 0)) {
+                throw new IllegalArgumentException("learners, modules, interval and days must be positive");
+            }
+            if ((adherence <= 0) || (adherence > 1)) {
+                throw new IllegalArgumentException("adherence must be in (0, 1]");
+            }
+            if ((minWords <= 0) || (maxWords < minWords)) {
+                throw new IllegalArgumentException("word count range is invalid");
+            }
+        }
+
+        /**
+         * Parse {@code key=value} arguments; unspecified keys keep their defaults.
+         */
+        public static Settings parse(String... args) {
+            final Map<String, String> values = new LinkedHashMap<>();
+            for (final String arg : args) {
+                final var separator = arg.indexOf('=');
+                if (separator <= 0) {
+                    throw new IllegalArgumentException("Expected key=value but got: " + arg);
+                }
+                values.put(arg.substring(0, separator), arg.substring(separator + 1));
+            }
+
+            return new Settings(
+                    Integer.parseInt(values.getOrDefault("learners", "1000")),
+                    Integer.parseInt(values.getOrDefault("modules", "10")),
+                    Integer.parseInt(values.getOrDefault("interval", "7")),
+                    Integer.parseInt(values.getOrDefault("days", "180")),
+                    Double.parseDouble(values.getOrDefault("adherence", "0.85")),
+                    Integer.parseInt(values.getOrDefault("min-words", "20")),
+                    Integer.parseInt(values.getOrDefault("max-words", "120")),
+                    LocalDate.parse(values.getOrDefault("start", "2025-01-01")),
+                    Long.parseLong(values.getOrDefault("seed", "42")));
+        }
+    }
+}
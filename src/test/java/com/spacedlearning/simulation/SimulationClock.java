@@ -0,0 +1,45 @@
+package com.spacedlearning.simulation;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+
+/**
+ * Mutable clock advanced one day at a time by the scheduler simulator.
+ */
+public final class SimulationClock extends Clock {
+
+    private final ZoneId zone;
+    private volatile Instant instant;
+
+    public SimulationClock(LocalDate start, ZoneId zone) {
+        this.zone = zone;
+        this.instant = start.atStartOfDay(zone).toInstant();
+    }
+
+    public void advanceDays(long days) {
+        this.instant = today().plusDays(days).atStartOfDay(this.zone).toInstant();
+    }
+
+    @Override
+    public ZoneId getZone() {
+        return this.zone;
+    }
+
+    @Override
+    public Instant instant() {
+        return this.instant;
+    }
+
+    public LocalDate today() {
+        return LocalDate.ofInstant(this.instant, this.zone);
+    }
+
+    @Override
+    public Clock withZone(ZoneId zone) {
+        final var clock = new SimulationClock(today(), zone);
+        clock.instant = this.instant;
+        return clock;
+    }
+}
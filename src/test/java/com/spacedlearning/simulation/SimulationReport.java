@@ -0,0 +1,55 @@
+package com.spacedlearning.simulation;
+
+import java.time.LocalDate;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Outcome of a scheduler simulation run.
+ *
+ * @param settings        Settings the run was started with
+ * @param days            Statistics per simulated day
+ * @param callCounts      Repository calls per method over the whole run
+ * @param repetitionCount Repetitions created over the whole run
+ */
+public record SimulationReport(SchedulerSimulator.Settings settings, List<DayStats> days,
+        Map<String, Long> callCounts, int repetitionCount) {
+
+    /**
+     * Statistics for one simulated day. Latencies are in microseconds and cover a
+     * single enrolment or completion, including all repository calls.
+     */
+    public record DayStats(LocalDate date, int enrolments, int due, int completed, int overdue, long dbCalls,
+            long p50Micros, long p95Micros, long maxMicros) {
+    }
+
+    public String format() {
+        final var sb = new StringBuilder();
+        sb.append(String.format("Simulated %d learners x %d modules over %d days (adherence %.0f%%, seed %d)%n",
+                this.settings.learners(), this.settings.modulesPerLearner(), this.settings.days(),
+                this.settings.adherence() * 100, this.settings.seed()));
+        sb.append(String.format("%-10s %6s %6s %6s %7s %8s %8s %8s %8s%n",
+                "date", "enrol", "due", "done", "overdue", "db_calls", "p50_us", "p95_us", "max_us"));
+        for (final DayStats day : this.days) {
+            sb.append(String.format("%-10s %6d %6d %6d %7d %8d %8d %8d %8d%n",
+                    day.date(), day.enrolments(), day.due(), day.completed(), day.overdue(), day.dbCalls(),
+                    day.p50Micros(), day.p95Micros(), day.maxMicros()));
+        }
+
+        peakDay().ifPresent(peak -> sb.append(String.format("Peak load: %d due on %s%n", peak.due(), peak.date())));
+        sb.append(String.format("Repetitions created: %d, repository calls: %d%n", this.repetitionCount,
+                totalCalls()));
+        this.callCounts.forEach((name, count) -> sb.append(String.format("  %-60s %10d%n", name, count)));
+        return sb.toString();
+    }
+
+    public Optional<DayStats> peakDay() {
+        return this.days.stream().max(Comparator.comparingInt(DayStats::due));
+    }
+
+    public long totalCalls() {
+        return this.callCounts.values().stream().mapToLong(Long::longValue).sum();
+    }
+}
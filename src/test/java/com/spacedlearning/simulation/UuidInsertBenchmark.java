@@ -0,0 +1,155 @@
+package com.spacedlearning.simulation;
+
+import java.sql.Connection;
+import java.sql.Date;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+import com.spacedlearning.entity.enums.RepetitionOrder;
+import com.spacedlearning.util.UuidV7;
+
+/**
+ * Insert-throughput benchmark comparing random (v4) and time-ordered (v7) UUID
+ * primary keys on a table shaped like {@code repetitions}. Each variant fills
+ * its own table in committed batches and reports throughput per window, so the
+ * slowdown of v4 as the primary key index outgrows shared buffers is visible,
+ * followed by the final index size. Review dates are spread over the year
+ * after the {@code start} setting, so runs are reproducible.
+ * <p>
+ * Lives with the test sources so it never ships in the application jar. Run
+ * it against a scratch database on the test classpath, for example
+ * {@code mvn test-compile exec:java -Dexec.classpathScope=test
+ * -Dexec.mainClass=com.spacedlearning.simulation.UuidInsertBenchmark
+ * -Dexec.args="url=jdbc:postgresql://localhost:5432/bench?reWriteBatchedInserts=true user=postgres rows=5000000"}.
+ */
+public final class UuidInsertBenchmark {
+
+    private static final RepetitionOrder[] ORDERS = RepetitionOrder.values();
+
+    private final Map<String, String> settings;
+
+    private UuidInsertBenchmark(Map<String, String> settings) {
+        this.settings = settings;
+    }
+
+    public static void main(String[] args) throws SQLException {
+        final Map<String, String> settings = new LinkedHashMap<>();
+        settings.put("url", "jdbc:postgresql://localhost:5432/spaced_learning?reWriteBatchedInserts=true");
+        settings.put("user", "postgres");
+        settings.put("password", "");
+        settings.put("rows", "5000000");
+        settings.put("batch", "1000");
+        settings.put("window", "500000");
+        settings.put("keep", "false");
+        settings.put("start", "2025-01-01");
+        settings.put("seed", "42");
+        for (final String arg : args) {
+            final var separator = arg.indexOf('=');
+            if (separator <= 0) {
+                throw new IllegalArgumentException("Expected key=value but got: " + arg);
+            }
+            settings.put(arg.substring(0, separator), arg.substring(separator + 1));
+        }
+
+        new UuidInsertBenchmark(settings).run();
+    }
+
+    private int intSetting(String key) {
+        return Integer.parseInt(this.settings.get(key));
+    }
+
+    private void run() throws SQLException {
+        try (Connection connection = DriverManager.getConnection(this.settings.get("url"),
+                this.settings.get("user"), this.settings.get("password"))) {
+            connection.setAutoCommit(false);
+            runVariant(connection, "v4", UUID::randomUUID);
+            runVariant(connection, "v7", UuidV7::next);
+        }
+    }
+
+    private void runVariant(Connection connection, String variant, Supplier<UUID> ids) throws SQLException {
+        final var table = "bench_repetitions_" + variant;
+        final var rows = intSetting("rows");
+        final var batch = intSetting("batch");
+        final var window = intSetting("window");
+
+        try (var statement = connection.createStatement()) {
+            statement.execute("DROP TABLE IF EXISTS " + table);
+            statement.execute("CREATE TABLE " + table + " ("
+                    + "id uuid PRIMARY KEY, "
+                    + "module_progress_id uuid NOT NULL, "
+                    + "repetition_order varchar(20) NOT NULL, "
+                    + "status varchar(50) NOT NULL, "
+                    + "review_date date NOT NULL, "
+                    + "created_at timestamp(6) NOT NULL)");
+            connection.commit();
+        }
+
+        System.out.printf("%s: inserting %d rows in batches of %d%n", variant, rows, batch);
+        final var sql = "INSERT INTO " + table
+                + " (id, module_progress_id, repetition_order, status, review_date, created_at)"
+                + " VALUES (?, ?, ?, 'NOT_STARTED', ?, ?)";
+        final var random = new Random(Long.parseLong(this.settings.get("seed")));
+        final var start = LocalDate.parse(this.settings.get("start"));
+        final var createdAt = Timestamp.valueOf(start.atStartOfDay());
+        final var started = System.nanoTime();
+        var windowStarted = started;
+
+        try (var insert = connection.prepareStatement(sql)) {
+            var progressId = UUID.randomUUID();
+            for (var i = 0; i < rows; i++) {
+                if ((i % ORDERS.length) == 0) {
+                    progressId = UUID.randomUUID();
+                }
+                insert.setObject(1, ids.get());
+                insert.setObject(2, progressId);
+                insert.setString(3, ORDERS[i % ORDERS.length].name());
+                insert.setDate(4, Date.valueOf(start.plusDays(random.nextInt(365))));
+                insert.setTimestamp(5, createdAt);
+                insert.addBatch();
+
+                if (((i + 1) % batch) == 0) {
+                    insert.executeBatch();
+                    connection.commit();
+                }
+                if (((i + 1) % window) == 0) {
+                    final var now = System.nanoTime();
+                    System.out.printf("%s: %,d rows, %,.0f rows/s in last window%n", variant, i + 1,
+                            window / ((now - windowStarted) / 1e9));
+                    windowStarted = now;
+                }
+            }
+            insert.executeBatch();
+            connection.commit();
+        }
+
+        final var seconds = (System.nanoTime() - started) / 1e9;
+        System.out.printf("%s: %,d rows in %.1fs (%,.0f rows/s)%n", variant, rows, seconds, rows / seconds);
+        reportIndexSize(connection, table);
+
+        if (!Boolean.parseBoolean(this.settings.get("keep"))) {
+            try (var statement = connection.createStatement()) {
+                statement.execute("DROP TABLE " + table);
+                connection.commit();
+            }
+        }
+    }
+
+    private void reportIndexSize(Connection connection, String table) throws SQLException {
+        try (var statement = connection.createStatement();
+                var result = statement.executeQuery("SELECT pg_size_pretty(pg_relation_size('" + table
+                        + "_pkey')), pg_size_pretty(pg_relation_size('" + table + "'))")) {
+            if (result.next()) {
+                System.out.printf("%s: primary key index %s, heap %s%n", table, result.getString(1),
+                        result.getString(2));
+            }
+        }
+    }
+}
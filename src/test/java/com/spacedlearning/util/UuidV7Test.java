@@ -0,0 +1,70 @@
+package com.spacedlearning.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.jupiter.api.Test;
+
+class UuidV7Test {
+
+    @Test
+    void nextHasVersionSevenAndIetfVariant() {
+        final var uuid = UuidV7.next();
+
+        assertEquals(7, uuid.version());
+        assertEquals(2, uuid.variant());
+    }
+
+    @Test
+    void nextCarriesTheCurrentTime() {
+        final var before = System.currentTimeMillis();
+        final var timestamp = UuidV7.next().getMostSignificantBits() >>> 16;
+        final var after = System.currentTimeMillis();
+
+        // The counter may borrow a few milliseconds ahead after a burst from other tests
+        assertTrue(timestamp >= before);
+        assertTrue(timestamp <= after + 1000);
+    }
+
+    @Test
+    void nextIsStrictlyIncreasing() {
+        var previous = UuidV7.next();
+        for (var i = 0; i < 100_000; i++) {
+            final var current = UuidV7.next();
+            assertTrue(Long.compareUnsigned(previous.getMostSignificantBits(), current.getMostSignificantBits()) < 0);
+            previous = current;
+        }
+    }
+
+    @Test
+    void nextIsUniqueAcrossThreads() throws Exception {
+        final Set<UUID> seen = ConcurrentHashMap.newKeySet();
+        final ExecutorService pool = Executors.newFixedThreadPool(4);
+        try {
+            final List<Future<?>> tasks = new ArrayList<>();
+            for (var t = 0; t < 4; t++) {
+                tasks.add(pool.submit(() -> {
+                    for (var i = 0; i < 25_000; i++) {
+                        seen.add(UuidV7.next());
+                    }
+                }));
+            }
+            for (final Future<?> task : tasks) {
+                task.get();
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+
+        assertEquals(100_000, seen.size());
+    }
+}